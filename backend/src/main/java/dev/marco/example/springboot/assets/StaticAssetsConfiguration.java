@@ -0,0 +1,54 @@
+package dev.marco.example.springboot.assets;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the content-hashed bundles of the Angular production build with the brotli or gzip
+ * variant that {@code frontend/compress.js} wrote next to them, picked by {@code Accept-Encoding}.
+ * Their names change with their content, so browsers may keep them for a year without asking
+ * again. Everything else under {@code static/}, index.html first, goes through Spring Boot's
+ * default handler and is revalidated on every load.
+ */
+@Configuration
+public class StaticAssetsConfiguration implements WebMvcConfigurer {
+
+    static final String STATIC_LOCATION = "classpath:/static/";
+
+    /**
+     * Root files named {@code <name>.<hash>.<ext>}, as {@code ng build --prod} writes them.
+     */
+    static final String[] HASHED_BUNDLES = {
+            "/*.*.js", "/*.*.css", "/*.*.svg",
+            "/*.*.woff", "/*.*.woff2", "/*.*.ttf", "/*.*.eot",
+            "/*.*.png", "/*.*.jpg", "/*.*.gif"
+    };
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(HASHED_BUNDLES)
+                .addResourceLocations(STATIC_LOCATION)
+                .setCacheControl(new Immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+    }
+
+    /**
+     * One year, public and {@code immutable}, which {@link CacheControl} cannot express before Spring 6.
+     */
+    static final class Immutable extends CacheControl {
+
+        private static final String HEADER_VALUE =
+                CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().getHeaderValue() + ", immutable";
+
+        @Override
+        public String getHeaderValue() {
+            return HEADER_VALUE;
+        }
+    }
+}
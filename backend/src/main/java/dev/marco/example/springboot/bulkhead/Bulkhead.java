@@ -0,0 +1,196 @@
+package dev.marco.example.springboot.bulkhead;
+
+import dev.marco.example.springboot.deadline.Deadline;
+import dev.marco.example.springboot.exception.BulkheadFullException;
+import dev.marco.example.springboot.exception.DeadlineExceededException;
+import dev.marco.example.springboot.threads.VirtualThreads;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool that runs the handlers of one endpoint group off the servlet container's threads.
+ * Once its threads are busy and its queue is full, new work is refused with a 503 instead of
+ * taking threads the other groups need.
+ *
+ * <p>In virtual-thread mode every task gets its own virtual thread, and the bulkhead only
+ * bounds how many tasks it has admitted. How many of them reach the database at once is then
+ * bounded by the connection pool and the JDBC gate, not by threads.
+ */
+public class Bulkhead {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final ExecutorService executor;
+    private final ThreadPoolExecutor pool;
+    private final Semaphore slots;
+    private final int capacity;
+    private final int queueCapacity;
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public Bulkhead(String name, int threads, int queueCapacity) {
+        this.pool = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("bulkhead-" + name + "-"));
+        this.pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+        this.slots = null;
+        this.capacity = threads;
+        this.queueCapacity = queueCapacity;
+    }
+
+    private Bulkhead(String name, int capacity) {
+        this.executor = VirtualThreads.newThreadPerTaskExecutor("bulkhead-" + name + "-");
+        this.pool = null;
+        this.slots = new Semaphore(capacity);
+        this.capacity = capacity;
+        this.queueCapacity = 0;
+    }
+
+    /**
+     * Bulkhead that admits up to {@code capacity} tasks at once, each on its own virtual thread.
+     * Only call this when {@link VirtualThreads#isAvailable()}.
+     */
+    public static Bulkhead virtual(String name, int capacity) {
+        return new Bulkhead(name, capacity);
+    }
+
+    /**
+     * Runs the work on this bulkhead with the caller's security context, request attributes and
+     * request deadline. Work that waited in the queue past its deadline is not started.
+     */
+    public <T> DeferredResult<T> submit(Callable<T> work) {
+        DeferredResult<T> result = new DeferredResult<>();
+        Long deadline = Deadline.current();
+        RequestAttributes attributes = requestAttributes();
+        Runnable task = new DelegatingSecurityContextRunnable(() -> {
+            try {
+                run(work, result, deadline, attributes);
+            } finally {
+                completed.incrementAndGet();
+                if (slots != null) {
+                    slots.release();
+                }
+            }
+        });
+        if (slots != null && !slots.tryAcquire()) {
+            throw reject(null);
+        }
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (slots != null) {
+                slots.release();
+            }
+            throw reject(e);
+        }
+        return result;
+    }
+
+    /**
+     * The caller's attributes are marked completed as soon as its handler has returned the
+     * deferred result, and then refuse request-scoped access, so the work gets its own view of
+     * the same servlet request.
+     */
+    private static RequestAttributes requestAttributes() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            ServletRequestAttributes servlet = (ServletRequestAttributes) attributes;
+            return new ServletRequestAttributes(servlet.getRequest(), servlet.getResponse());
+        }
+        return attributes;
+    }
+
+    private static <T> void run(Callable<T> work, DeferredResult<T> result, Long deadline,
+                                RequestAttributes attributes) {
+        if (result.isSetOrExpired()) {
+            return;
+        }
+        if (deadline != null && System.nanoTime() - deadline >= 0) {
+            result.setErrorResult(new DeadlineExceededException());
+            return;
+        }
+        Deadline.resume(deadline);
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            result.setResult(work.call());
+        } catch (Exception e) {
+            result.setErrorResult(e);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            Deadline.clear();
+        }
+    }
+
+    private BulkheadFullException reject(RejectedExecutionException cause) {
+        rejected.incrementAndGet();
+        return new BulkheadFullException(cause);
+    }
+
+    public Stats getStats() {
+        if (pool == null) {
+            return new Stats(capacity, capacity - slots.availablePermits(), 0, 0, completed.get(), rejected.get());
+        }
+        return new Stats(capacity, pool.getActiveCount(), pool.getQueue().size(), queueCapacity,
+                completed.get(), rejected.get());
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public static final class Stats {
+
+        private final int threads;
+        private final int active;
+        private final int queued;
+        private final int queueCapacity;
+        private final long completed;
+        private final long rejected;
+
+        Stats(int threads, int active, int queued, int queueCapacity, long completed, long rejected) {
+            this.threads = threads;
+            this.active = active;
+            this.queued = queued;
+            this.queueCapacity = queueCapacity;
+            this.completed = completed;
+            this.rejected = rejected;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public int getActive() {
+            return active;
+        }
+
+        public int getQueued() {
+            return queued;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dev.marco.example.springboot.bulkhead;
+
+import dev.marco.example.springboot.limit.EndpointGroup;
+import dev.marco.example.springboot.threads.ThreadMode;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * One {@link Bulkhead} per {@link EndpointGroup}, sized by {@code bulkhead.<group>.threads} and
+ * {@code bulkhead.<group>.queue}, so that slow mail delivery or a burst of logins cannot starve
+ * game submissions of threads. In virtual-thread mode a group admits as many tasks as it would
+ * otherwise run and queue, each on its own virtual thread.
+ */
+@Component
+public class Bulkheads {
+
+    private static final int DEFAULT_THREADS = 8;
+    private static final int DEFAULT_QUEUE = 32;
+
+    private final Map<EndpointGroup, Bulkhead> bulkheads = new EnumMap<>(EndpointGroup.class);
+
+    public Bulkheads(Environment environment, ThreadMode threadMode) {
+        for (EndpointGroup group : EndpointGroup.values()) {
+            String name = group.name().toLowerCase();
+            int threads = environment.getProperty("bulkhead." + name + ".threads", Integer.class, DEFAULT_THREADS);
+            int queue = environment.getProperty("bulkhead." + name + ".queue", Integer.class, DEFAULT_QUEUE);
+            bulkheads.put(group, threadMode.isVirtual()
+                    ? Bulkhead.virtual(name, threads + queue)
+                    : new Bulkhead(name, threads, queue));
+        }
+    }
+
+    public <T> DeferredResult<T> submit(EndpointGroup group, Callable<T> work) {
+        return bulkheads.get(group).submit(work);
+    }
+
+    public Map<EndpointGroup, Bulkhead.Stats> getStats() {
+        Map<EndpointGroup, Bulkhead.Stats> stats = new EnumMap<>(EndpointGroup.class);
+        bulkheads.forEach((group, bulkhead) -> stats.put(group, bulkhead.getStats()));
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bulkheads.values().forEach(Bulkhead::shutdown);
+    }
+}
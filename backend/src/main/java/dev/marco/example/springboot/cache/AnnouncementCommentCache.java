@@ -0,0 +1,96 @@
+package dev.marco.example.springboot.cache;
+
+import dev.marco.example.springboot.exception.DAOLogicException;
+import dev.marco.example.springboot.model.AnnouncementComment;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a bounded ring of the latest comments for the most recently used announcements.
+ * Lookups return null whenever the ring cannot answer exactly; callers then fall through
+ * to the keyset queries of AnnouncementDAO.
+ */
+@Component
+public class AnnouncementCommentCache {
+
+    public static final String CAPACITY_PROPERTY = "${announcement.comments.cache.capacity:50}";
+    public static final String ANNOUNCEMENTS_PROPERTY = "${announcement.comments.cache.announcements:500}";
+
+    private final int capacity;
+    private final Map<Long, CommentRing> rings;
+
+    @FunctionalInterface
+    public interface CommentLoader {
+        /**
+         * Loads up to count newest comments of the announcement, newest first.
+         */
+        List<AnnouncementComment> load(int count) throws DAOLogicException;
+    }
+
+    @Autowired
+    public AnnouncementCommentCache(@Value(CAPACITY_PROPERTY) int capacity,
+                                    @Value(ANNOUNCEMENTS_PROPERTY) int announcements) {
+        this.capacity = capacity;
+        this.rings = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CommentRing> eldest) {
+                return size() > announcements;
+            }
+        });
+    }
+
+    public List<AnnouncementComment> getNewerThan(long announcementId, long lastCommentId,
+                                                  int count, CommentLoader loader) throws DAOLogicException {
+        return warmRing(announcementId, loader).newerThan(lastCommentId, count);
+    }
+
+    public List<AnnouncementComment> getOlderThan(long announcementId, long beforeCommentId,
+                                                  int count, CommentLoader loader) throws DAOLogicException {
+        return warmRing(announcementId, loader).olderThan(beforeCommentId, count);
+    }
+
+    /**
+     * Appends a freshly created comment. Announcements nobody has read yet are not cached.
+     */
+    public void add(long announcementId, AnnouncementComment comment) {
+        CommentRing ring = rings.get(announcementId);
+        if (ring != null) {
+            ring.add(comment);
+        }
+    }
+
+    /**
+     * Millis of the last change seen by the ring, or -1 when the announcement is not cached.
+     */
+    public long getLastModified(long announcementId) {
+        CommentRing ring = rings.get(announcementId);
+        return ring == null || !ring.isWarmed() ? -1 : ring.getLastModified();
+    }
+
+    /**
+     * Whether comments of the announcement are cached, which means the announcement exists.
+     */
+    public boolean hasComments(long announcementId) {
+        CommentRing ring = rings.get(announcementId);
+        return ring != null && !ring.isEmpty();
+    }
+
+    public void evict(long announcementId) {
+        rings.remove(announcementId);
+    }
+
+    private CommentRing warmRing(long announcementId, CommentLoader loader) throws DAOLogicException {
+        CommentRing ring = rings.computeIfAbsent(announcementId, id -> new CommentRing(capacity));
+        if (!ring.isWarmed()) {
+            List<AnnouncementComment> newest = loader.load(capacity);
+            ring.warm(newest, newest.size() < capacity);
+        }
+        return ring;
+    }
+}
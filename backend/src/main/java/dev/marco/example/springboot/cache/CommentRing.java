@@ -0,0 +1,129 @@
+package dev.marco.example.springboot.cache;
+
+import dev.marco.example.springboot.model.AnnouncementComment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-size ring of the most recent comments of one announcement, kept in ascending id order.
+ * The ring always holds a contiguous suffix of the thread: every comment newer than the oldest
+ * buffered one is present. {@code complete} additionally means nothing older exists.
+ */
+class CommentRing {
+
+    private final AnnouncementComment[] comments;
+    private int head;
+    private int size;
+    private boolean warmed;
+    private boolean complete = true;
+    private long lastModified = System.currentTimeMillis();
+
+    CommentRing(int capacity) {
+        this.comments = new AnnouncementComment[capacity];
+    }
+
+    synchronized boolean isWarmed() {
+        return warmed;
+    }
+
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    synchronized long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Merges the newest comments read from the database. Comments added while the read was
+     * in flight are kept, so a concurrent createComment is never lost.
+     */
+    synchronized void warm(List<AnnouncementComment> newestFirst, boolean wholeThread) {
+        if (!wholeThread) {
+            complete = false;
+        }
+        for (AnnouncementComment comment : newestFirst) {
+            insert(comment);
+        }
+        warmed = true;
+        lastModified = System.currentTimeMillis();
+    }
+
+    synchronized void add(AnnouncementComment comment) {
+        insert(comment);
+        lastModified = System.currentTimeMillis();
+    }
+
+    /**
+     * Newest comments with id greater than lastId, or null when the ring cannot answer exactly.
+     */
+    synchronized List<AnnouncementComment> newerThan(long lastId, int count) {
+        List<AnnouncementComment> result = new ArrayList<>(Math.min(count, size));
+        for (int i = size - 1; i >= 0 && result.size() < count; i--) {
+            AnnouncementComment comment = get(i);
+            if (id(comment) <= lastId) {
+                break;
+            }
+            result.add(comment);
+        }
+        if (result.size() == count || complete || (size > 0 && lastId >= id(get(0)))) {
+            return result;
+        }
+        return null;
+    }
+
+    /**
+     * Newest comments with id less than beforeId, or null when the page reaches past the ring.
+     */
+    synchronized List<AnnouncementComment> olderThan(long beforeId, int count) {
+        List<AnnouncementComment> result = new ArrayList<>(Math.min(count, size));
+        for (int i = size - 1; i >= 0 && result.size() < count; i--) {
+            AnnouncementComment comment = get(i);
+            if (id(comment) < beforeId) {
+                result.add(comment);
+            }
+        }
+        if (result.size() == count || complete) {
+            return result;
+        }
+        return null;
+    }
+
+    private void insert(AnnouncementComment comment) {
+        long id = id(comment);
+        int position = size;
+        while (position > 0 && id(get(position - 1)) > id) {
+            position--;
+        }
+        if (position > 0 && id(get(position - 1)) == id) {
+            return;
+        }
+        if (size == comments.length) {
+            complete = false;
+            if (position == 0) {
+                return;
+            }
+            head = (head + 1) % comments.length;
+            size--;
+            position--;
+        }
+        for (int i = size; i > position; i--) {
+            set(i, get(i - 1));
+        }
+        set(position, comment);
+        size++;
+    }
+
+    private AnnouncementComment get(int index) {
+        return comments[(head + index) % comments.length];
+    }
+
+    private void set(int index, AnnouncementComment comment) {
+        comments[(head + index) % comments.length] = comment;
+    }
+
+    private static long id(AnnouncementComment comment) {
+        return comment.getId();
+    }
+}
@@ -0,0 +1,99 @@
+package dev.marco.example.springboot.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized JSON of the most requested quiz payloads, so a repeat view is a byte copy instead
+ * of a Jackson run over the whole question graph. Clients that asked for CBOR or Smile get their
+ * encoding cached the same way. Keys carry the {@link ResourceVersions} ETag of the payload: a
+ * change gives the next request a new key, and entries of older stamps age out of the bounded map.
+ */
+@Component
+public class JsonPayloadCache {
+
+    public static final String ENTRIES_PROPERTY = "${quiz.json-cache.entries:200}";
+    public static final String GZIP_MIN_BYTES_PROPERTY = "${quiz.json-cache.gzip-min-bytes:1024}";
+
+    private final ObjectMapper objectMapper;
+    private final int gzipMinBytes;
+    private final Map<String, Payload> payloads;
+
+    /**
+     * Rendered JSON, plus its gzip form when the JSON is big enough for compression to pay.
+     */
+    public static final class Payload {
+
+        private final byte[] json;
+        private final byte[] gzipped;
+
+        Payload(byte[] json, byte[] gzipped) {
+            this.json = json;
+            this.gzipped = gzipped;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public byte[] getGzipped() {
+            return gzipped;
+        }
+    }
+
+    @Autowired
+    public JsonPayloadCache(ObjectMapper objectMapper,
+                            @Value(ENTRIES_PROPERTY) int entries,
+                            @Value(GZIP_MIN_BYTES_PROPERTY) int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.gzipMinBytes = gzipMinBytes;
+        this.payloads = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Payload> eldest) {
+                return size() > entries;
+            }
+        });
+    }
+
+    public Payload get(String key) {
+        return payloads.get(key);
+    }
+
+    /**
+     * Serializes the value with the same mapper Spring MVC uses and keeps the bytes under key.
+     */
+    public Payload put(String key, Object value) throws JsonProcessingException {
+        return put(key, value, objectMapper);
+    }
+
+    /**
+     * Same for another encoding, such as CBOR; the key has to tell the encodings apart.
+     */
+    public Payload put(String key, Object value, ObjectMapper mapper) throws JsonProcessingException {
+        byte[] json = mapper.writeValueAsBytes(value);
+        Payload payload = new Payload(json, json.length >= gzipMinBytes ? gzip(json) : null);
+        payloads.put(key, payload);
+        return payload;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
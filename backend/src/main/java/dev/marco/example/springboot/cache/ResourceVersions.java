@@ -0,0 +1,118 @@
+package dev.marco.example.springboot.cache;
+
+import dev.marco.example.springboot.transaction.AfterCommit;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version stamps of the resources clients revalidate with {@code If-None-Match}. Services
+ * {@link #touch touch} a resource when they change it, and controllers build strong ETags from
+ * the stamps, so an unchanged resource is answered with 304 without asking the database.
+ *
+ * <p>Stamps live in memory, like {@link AnnouncementCommentCache}, and restart from zero with
+ * the application. The start time is part of every ETag so that tags handed out by an earlier
+ * run never match.
+ *
+ * <p>Read-only units of work may read a replica that has not caught up with the last change.
+ * For the replication window after a change, taken as {@code datasource.read-your-writes-millis},
+ * a resource is not {@link #settled settled} and its reads must not be tagged.
+ */
+@Component
+public class ResourceVersions {
+
+    /**
+     * Quiz lists: pages, search and the full stream.
+     */
+    public static final String QUIZZES = "quizzes";
+    /**
+     * Questions and answers of all quizzes. Questions do not know their quiz once loaded, so
+     * changing one moves every quiz.
+     */
+    public static final String QUESTIONS = "questions";
+    /**
+     * Announcement cards: pages and search.
+     */
+    public static final String ANNOUNCEMENTS = "announcements";
+
+    private static final String QUIZ_PREFIX = "quiz-";
+
+    private final String instance = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<String, Long> changedAt = new ConcurrentHashMap<>();
+    private final long replicationWindowMillis;
+
+    public ResourceVersions(@Value("${datasource.replicas.urls:}") String[] replicaUrls,
+                            @Value("${datasource.read-your-writes-millis:5000}") long replicationWindowMillis) {
+        // Without replicas every read-only unit of work runs on the primary.
+        this.replicationWindowMillis = Arrays.stream(replicaUrls).anyMatch(StringUtils::isNotBlank)
+                ? replicationWindowMillis : 0;
+    }
+
+    public static String quiz(long id) {
+        return QUIZ_PREFIX + id;
+    }
+
+    /**
+     * Moves the stamps once the current unit of work has committed. A reader that takes a stamp
+     * before the change and reads the rows after it tags new data with an old stamp, which only
+     * costs one more full response; the other way round would hide the change.
+     */
+    public void touch(String... resources) {
+        AfterCommit.run(() -> {
+            long now = System.currentTimeMillis();
+            for (String resource : resources) {
+                versions.computeIfAbsent(resource, key -> new AtomicLong()).incrementAndGet();
+                changedAt.put(resource, now);
+            }
+        });
+    }
+
+    /**
+     * Whether the replicas have had the replication window to catch up with the last change of
+     * every given resource. Until then a replica may answer with the rows of the old version, so
+     * the response must not carry the stamp of the new one.
+     */
+    public boolean settled(String... resources) {
+        if (replicationWindowMillis <= 0) {
+            return true;
+        }
+        long settledBefore = System.currentTimeMillis() - replicationWindowMillis;
+        for (String resource : resources) {
+            Long changed = changedAt.get(resource);
+            if (changed != null && changed > settledBefore) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long get(String resource) {
+        AtomicLong version = versions.get(resource);
+        return version == null ? 0 : version.get();
+    }
+
+    /**
+     * Strong ETag over the given resources. Take it before loading them.
+     */
+    public String eTag(String... resources) {
+        StringBuilder eTag = new StringBuilder("\"").append(instance);
+        for (String resource : resources) {
+            eTag.append('-').append(get(resource));
+        }
+        return eTag.append('"').toString();
+    }
+
+    /**
+     * ETag of a representation that also depends on who asks, such as cards with the user's likes.
+     */
+    public String eTag(long idUser, String... resources) {
+        String eTag = eTag(resources);
+        return eTag.substring(0, eTag.length() - 1) + "-u" + idUser + "\"";
+    }
+}
@@ -5,11 +5,12 @@ import dev.marco.example.springboot.exception.AnnouncementException;
 import dev.marco.example.springboot.exception.DAOConfigException;
 import dev.marco.example.springboot.exception.DAOLogicException;
 import dev.marco.example.springboot.model.Announcement;
+import dev.marco.example.springboot.model.AnnouncementCard;
 import dev.marco.example.springboot.model.AnnouncementComment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.math.BigInteger;
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 
@@ -29,7 +30,10 @@ public interface AnnouncementDAO {
   String GET_ANNOUNCEMENT_BY_ID = "GET_ANNOUNCEMENT_BY_ID";
   String SET_LIKE = "SET_LIKE";
   String UNSET_LIKE = "UNSET_LIKE";
+  String SELECT_LIKES = "SELECT_LIKES";
   String GET_ANNOUNCEMENT_COMMENTARIES_DESC = "GET_ANNOUNCEMENT_COMMENTARIES_DESC";
+  String GET_ANNOUNCEMENT_COMMENTARIES_BEFORE = "GET_ANNOUNCEMENT_COMMENTARIES_BEFORE";
+  String GET_COMMENTARY_BY_ID = "GET_COMMENTARY_BY_ID";
   String CREATE_COMMENTARY = "CREATE_COMMENTARY";
   String SELECT_ANNOUNCEMENTS_BY_PAGE = "SELECT_ANNOUNCEMENTS_BY_PAGE";
   String SELECT_NUMBER_OF_ANNOUNCEMENT = "SELECT_NUMBER_OF_ANNOUNCEMENT";
@@ -52,49 +56,64 @@ public interface AnnouncementDAO {
   String MESSAGE_FOR_GET_BY_TITLE = " in getByTitle";
   String MESSAGE_FOR_CREATE_ANNOUNCEMENT = " in createAnnouncement";
   String MESSAGE_FOR_GET_ANNOUNCEMENT_BY_ID = " in createAnnouncement";
+  String MESSAGE_FOR_CREATE_COMMENT = " in createComment";
+  String MESSAGE_FOR_GET_LIKES = " in getLikes";
   String TEST = "_TEST";
 
   void setTestConnection() throws DAOConfigException;
 
-  Announcement getAnnouncementById(BigInteger idAnnouncement)
+  Announcement getAnnouncementById(long idAnnouncement)
       throws AnnouncementDoesNotExistException, DAOLogicException;
 
-  void deleteAnnouncement(BigInteger idAnnouncement) throws DAOLogicException;
+  void deleteAnnouncement(long idAnnouncement) throws DAOLogicException;
 
-  BigInteger createAnnouncement(Announcement newAnnouncement) throws DAOLogicException;
+  long createAnnouncement(Announcement newAnnouncement) throws DAOLogicException;
 
   void editAnnouncement(Announcement newAnnouncement) throws DAOLogicException;
 
   Announcement getByTitle(String title) throws AnnouncementDoesNotExistException, DAOLogicException;
 
-  Set<Announcement> getSetByTitle(String title, BigInteger idUser) throws DAOLogicException;
+  Set<AnnouncementCard> getSetByTitle(String title, long idUser) throws DAOLogicException;
 
-  List<Announcement> getAllAnnouncements(BigInteger idUser)
+  List<AnnouncementCard> getAllAnnouncements(long idUser)
       throws AnnouncementDoesNotExistException, DAOLogicException, AnnouncementException;
 
-  List<Announcement> getPopular(int number, BigInteger idUser)
+  void streamAllAnnouncements(long idUser, RowHandler<AnnouncementCard> handler)
+      throws DAOLogicException, IOException;
+
+  List<AnnouncementCard> getPopular(int number, long idUser)
       throws DAOLogicException, AnnouncementDoesNotExistException;
 
   boolean isAnnouncementByTitle(String title) throws DAOLogicException;
 
-  boolean isAnnouncementById(BigInteger idAnnouncement) throws DAOLogicException;
+  boolean isAnnouncementById(long idAnnouncement) throws DAOLogicException;
+
+  void toLike(long idAnnouncement) throws DAOLogicException;
 
-  void toLike(BigInteger idAnnouncement) throws DAOLogicException;
+  void toDisLike(long idAnnouncement) throws DAOLogicException;
 
-  void toDisLike(BigInteger idAnnouncement) throws DAOLogicException;
+  int getLikes(long idAnnouncement) throws DAOLogicException, AnnouncementDoesNotExistException;
 
-  List<AnnouncementComment> getComments(BigInteger announcementId, BigInteger lastCommentId,
+  List<AnnouncementComment> getComments(long announcementId, long lastCommentId,
       int count) throws AnnouncementDoesNotExistException, DAOLogicException;
 
-  void createComment(String commentContent, BigInteger announcementId, BigInteger userId)
+  /**
+   * Keyset page of comments strictly older than beforeCommentId, newest first.
+   * Returns an empty list once the beginning of the thread is reached.
+   */
+  List<AnnouncementComment> getCommentsBefore(long announcementId, long beforeCommentId,
+      int count) throws DAOLogicException;
+
+  AnnouncementComment createComment(String commentContent, long announcementId, long userId)
       throws DAOLogicException;
 
-  Page<Announcement> getAnnouncementsByPage(BigInteger idUser, Pageable pageable)
+  Page<AnnouncementCard> getAnnouncementsByPage(long idUser, Pageable pageable, Projection projection)
           throws DAOLogicException;
 
   long countOfAnnouncements() throws DAOLogicException;
 
-  Page<Announcement> getAnnouncementsByTitle(String title, BigInteger idUser, Pageable pageable)
+  Page<AnnouncementCard> getAnnouncementsByTitle(String title, long idUser, Pageable pageable,
+      Projection projection)
           throws DAOLogicException;
 
   long countOfAnnouncementsByTitle(String title) throws DAOLogicException;
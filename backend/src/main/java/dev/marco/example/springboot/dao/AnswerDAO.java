@@ -6,8 +6,9 @@ import dev.marco.example.springboot.exception.DAOLogicException;
 import dev.marco.example.springboot.model.Answer;
 import dev.marco.example.springboot.model.impl.AnswerImpl;
 
-import java.math.BigInteger;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface AnswerDAO {
 
@@ -27,22 +28,30 @@ public interface AnswerDAO {
   String DELETE_ANSWER = "DELETE_ANSWER";
   String UPDATE_ANSWER = "UPDATE_ANSWER";
   String GET_ANSWERS_BY_QUESTION_ID = "GET_ANSWERS_BY_QUESTION_ID";
+  String GET_ANSWERS_BY_QUESTION_IDS = "GET_ANSWERS_BY_QUESTION_IDS";
   String TEST = "_TEST";
 
   void setTestConnection() throws DAOConfigException;
 
-  AnswerImpl getAnswerById(BigInteger id) throws DAOLogicException, AnswerDoesNotExistException;
+  AnswerImpl getAnswerById(long id) throws DAOLogicException, AnswerDoesNotExistException;
 
-  BigInteger getLastAnswerIdByTitle(String title)
+  long getLastAnswerIdByTitle(String title)
       throws DAOLogicException, AnswerDoesNotExistException;
 
-  BigInteger createAnswer(Answer answer) throws DAOLogicException, AnswerDoesNotExistException;
+  long createAnswer(Answer answer) throws DAOLogicException, AnswerDoesNotExistException;
 
-  void deleteAnswer(BigInteger id) throws DAOLogicException;
+  void deleteAnswer(long id) throws DAOLogicException;
 
-  BigInteger updateAnswer(Answer answer) throws DAOLogicException;
+  long updateAnswer(Answer answer) throws DAOLogicException;
 
-  List<AnswerImpl> getAnswersByQuestionId(BigInteger questionId)
+  List<AnswerImpl> getAnswersByQuestionId(long questionId)
       throws DAOLogicException, AnswerDoesNotExistException;
 
+  /**
+   * Answers grouped by question id. Every requested question is a key, with an empty list
+   * when it has no answers.
+   */
+  Map<Long, List<AnswerImpl>> getAnswersByQuestionIds(Collection<Long> questionIds)
+      throws DAOLogicException;
+
 }
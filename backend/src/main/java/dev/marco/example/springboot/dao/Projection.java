@@ -0,0 +1,109 @@
+package dev.marco.example.springboot.dao;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * The fields of a list item a client asked for with {@code fields=}, and the SELECT list that
+ * reads only their columns. A column nobody asked for is selected as NULL under its own label,
+ * so the generated row mappers and column positions stay as they are. The rows of a narrowed
+ * list are then replaced by their {@code projected()} copies, which leave the nulls out of the
+ * JSON; without {@code fields=} a null is written as before. Unknown field names are ignored.
+ */
+public final class Projection {
+
+  public static final Projection ALL = new Projection(null);
+
+  private final Set<String> fields;
+
+  /**
+   * A column of a SELECT list: read when its field is asked for, or always when it has none.
+   */
+  public static final class Column {
+
+    private final String field;
+    private final String expression;
+    private final String label;
+
+    private Column(String field, String expression) {
+      this.field = field;
+      this.expression = expression;
+      this.label = expression.substring(expression.lastIndexOf('.') + 1);
+    }
+  }
+
+  private Projection(Set<String> fields) {
+    this.fields = fields;
+  }
+
+  public static Projection of(String fields) {
+    if (StringUtils.isBlank(fields)) {
+      return ALL;
+    }
+    Set<String> names = new LinkedHashSet<>();
+    for (String field : fields.split(",")) {
+      if (StringUtils.isNotBlank(field)) {
+        names.add(field.trim());
+      }
+    }
+    return names.isEmpty() ? ALL : new Projection(Collections.unmodifiableSet(names));
+  }
+
+  /**
+   * Key columns and columns the mappers cannot read as null, such as enums and primitives.
+   */
+  public static Column always(String expression) {
+    return new Column(null, expression);
+  }
+
+  public static Column field(String field, String expression) {
+    return new Column(field, expression);
+  }
+
+  public boolean isAll() {
+    return fields == null;
+  }
+
+  public boolean includes(String field) {
+    return fields == null || fields.contains(field);
+  }
+
+  public String select(List<Column> columns) {
+    StringJoiner select = new StringJoiner(", ");
+    for (Column column : columns) {
+      if (column.field == null || includes(column.field)) {
+        select.add(column.expression);
+      } else {
+        select.add("NULL AS " + column.label);
+      }
+    }
+    return select.toString();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Objects.equals(fields, ((Projection) o).fields);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(fields);
+  }
+
+  @Override
+  public String toString() {
+    return fields == null ? "Projection{all}" : "Projection" + fields;
+  }
+}
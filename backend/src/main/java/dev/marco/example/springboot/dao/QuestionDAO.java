@@ -7,7 +7,6 @@ import dev.marco.example.springboot.model.Question;
 import dev.marco.example.springboot.model.impl.AnswerImpl;
 import dev.marco.example.springboot.model.impl.QuestionImpl;
 
-import java.math.BigInteger;
 import java.util.List;
 
 public interface QuestionDAO {
@@ -31,18 +30,18 @@ public interface QuestionDAO {
 
   void setTestConnection() throws DAOConfigException;
 
-  Question getQuestionById(BigInteger id, List<AnswerImpl> answers)
+  Question getQuestionById(long id, List<AnswerImpl> answers)
       throws QuestionDoesNotExistException, DAOLogicException;
 
-  Question getQuestionByData(String questionText, BigInteger quizId)
+  Question getQuestionByData(String questionText, long quizId)
       throws QuestionDoesNotExistException, DAOLogicException;
 
-  Question createQuestion(Question question, BigInteger id)
+  Question createQuestion(Question question, long id)
       throws QuestionDoesNotExistException, DAOLogicException;
 
   void deleteQuestion(Question question) throws QuestionDoesNotExistException, DAOLogicException;
 
-  List<QuestionImpl> getAllQuestions(BigInteger id)
+  List<QuestionImpl> getAllQuestions(long id)
       throws QuestionDoesNotExistException, DAOLogicException;
 
   void updateQuestion(Question question) throws DAOLogicException;
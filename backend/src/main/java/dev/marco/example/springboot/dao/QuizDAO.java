@@ -2,13 +2,16 @@ package dev.marco.example.springboot.dao;
 
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.Quiz;
+import dev.marco.example.springboot.model.QuizSummary;
 import dev.marco.example.springboot.model.QuizType;
 import dev.marco.example.springboot.model.impl.QuizImpl;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.math.BigInteger;
+import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface QuizDAO {
 
@@ -28,6 +31,7 @@ public interface QuizDAO {
     String UPDATE_QUIZ = "UPDATE_QUIZ";
     String DELETE_QUIZ = "DELETE_QUIZ";
     String SELECT_QUIZ_BY_ID = "SELECT_QUIZ_BY_ID";
+    String SELECT_QUIZZES_BY_IDS = "SELECT_QUIZZES_BY_IDS";
     String SELECT_ALL_QUIZZES = "SELECT_ALL_QUIZZES";
     String SELECT_QUIZ_BY_TITLE = "SELECT_QUIZ_BY_TITLE";
     String SELECT_QUIZZES_BY_TYPE = "SELECT_QUIZZES_BY_TYPE";
@@ -40,19 +44,26 @@ public interface QuizDAO {
 
     Quiz createQuiz(Quiz quiz) throws DAOLogicException, UserDoesNotExistException;
 
-    void updateQuiz(BigInteger id, Quiz quiz) throws QuizDoesNotExistException, DAOLogicException;
+    void updateQuiz(long id, Quiz quiz) throws QuizDoesNotExistException, DAOLogicException;
 
     void deleteQuiz(Quiz quiz) throws QuizDoesNotExistException, DAOLogicException;
 
-    QuizImpl getQuizById(BigInteger id) throws QuizDoesNotExistException, DAOLogicException;
+    QuizImpl getQuizById(long id) throws QuizDoesNotExistException, DAOLogicException;
+
+    /**
+     * Quizzes keyed by id; ids without a quiz are left out of the map.
+     */
+    Map<Long, QuizImpl> getQuizzesByIds(Collection<Long> ids) throws DAOLogicException;
 
     boolean existQuizByTitle(String title) throws DAOLogicException;
 
-    List<Quiz> getQuizzesByType(QuizType quizType) throws QuizDoesNotExistException, DAOLogicException;
+    List<QuizSummary> getQuizzesByType(QuizType quizType) throws QuizDoesNotExistException, DAOLogicException;
+
+    List<QuizSummary> getAllQuizzes() throws QuizDoesNotExistException, DAOLogicException;
 
-    List<Quiz> getAllQuizzes() throws QuizDoesNotExistException, DAOLogicException;
+    void streamAllQuizzes(RowHandler<QuizSummary> handler) throws DAOLogicException, IOException;
 
-    List<Quiz> getLastCreatedQuizzes(int count) throws DAOLogicException, QuizDoesNotExistException;
+    List<QuizSummary> getLastCreatedQuizzes(int count) throws DAOLogicException, QuizDoesNotExistException;
 
     Quiz getQuizByTitle(String title) throws QuizDoesNotExistException, DAOLogicException;
 
@@ -60,10 +71,10 @@ public interface QuizDAO {
 
     int countOfQuizzesLikeTitle(String title) throws QuizException;
 
-    Page<Quiz> getQuizzesLikeTitle(Pageable pageable, String title) throws QuizException;
+    Page<QuizSummary> getQuizzesLikeTitle(Pageable pageable, String title, Projection projection) throws QuizException;
 
     int countOfQuizzes() throws QuizException;
 
-    Page<Quiz> getQuizzesByPage(Pageable pageable) throws QuizException;
+    Page<QuizSummary> getQuizzesByPage(Pageable pageable, Projection projection) throws QuizException;
 
 }
@@ -0,0 +1,13 @@
+package dev.marco.example.springboot.dao;
+
+import java.io.IOException;
+
+/**
+ * Receives rows one by one while a DAO walks a forward-only cursor, so callers can write
+ * each row out without materialising the whole result.
+ */
+@FunctionalInterface
+public interface RowHandler<T> {
+
+  void handle(T row) throws IOException;
+}
@@ -5,7 +5,6 @@ import dev.marco.example.springboot.exception.DAOLogicException;
 import dev.marco.example.springboot.exception.QuizDoesNotExistException;
 import dev.marco.example.springboot.model.impl.QuizAccomplishedImpl;
 
-import java.math.BigInteger;
 import java.util.Set;
 
 public interface UserAccomplishedQuizDAO {
@@ -37,23 +36,23 @@ public interface UserAccomplishedQuizDAO {
 
   void setTestConnection() throws DAOConfigException;
 
-  Set<QuizAccomplishedImpl> getAccomplishedQuizesByUser(BigInteger id)
+  Set<QuizAccomplishedImpl> getAccomplishedQuizesByUser(long id)
       throws DAOLogicException, QuizDoesNotExistException;
 
-  Set<QuizAccomplishedImpl> getFavoriteQuizesByUser(BigInteger id) throws DAOLogicException;
+  Set<QuizAccomplishedImpl> getFavoriteQuizesByUser(long id) throws DAOLogicException;
 
-  void editAccomplishedQuiz(BigInteger idUser, QuizAccomplishedImpl newQuiz)
+  void editAccomplishedQuiz(long idUser, QuizAccomplishedImpl newQuiz)
       throws DAOLogicException;
 
-  void setIsFavoriteQuiz(BigInteger idUser, BigInteger idQuiz, int isFavourite)
+  void setIsFavoriteQuiz(long idUser, long idQuiz, int isFavourite)
       throws DAOLogicException;
 
-  void addAccomplishedQuiz(BigInteger id, QuizAccomplishedImpl quiz) throws DAOLogicException;
+  void addAccomplishedQuiz(long id, QuizAccomplishedImpl quiz) throws DAOLogicException;
 
-  QuizAccomplishedImpl getAccomplishedQuizById(BigInteger idUser, BigInteger idQuiz)
+  QuizAccomplishedImpl getAccomplishedQuizById(long idUser, long idQuiz)
       throws QuizDoesNotExistException, DAOLogicException;
 
-  boolean isAccomplishedQuiz(BigInteger idUser, BigInteger idQuiz)
+  boolean isAccomplishedQuiz(long idUser, long idQuiz)
       throws DAOLogicException;
 
 }
@@ -1,9 +1,8 @@
 package dev.marco.example.springboot.dao;
 
 import dev.marco.example.springboot.exception.*;
-import dev.marco.example.springboot.model.Announcement;
-import dev.marco.example.springboot.model.User;
-import java.math.BigInteger;
+import dev.marco.example.springboot.model.AnnouncementCard;
+import dev.marco.example.springboot.model.UserSummary;
 import java.util.Set;
 
 public interface UserAnnouncementDAO {
@@ -28,16 +27,16 @@ public interface UserAnnouncementDAO {
 
   void setTestConnection() throws DAOConfigException;
 
-  Set<Announcement> getAnnouncementsLikedByUser(BigInteger idUser)
+  Set<AnnouncementCard> getAnnouncementsLikedByUser(long idUser)
       throws AnnouncementDoesNotExistException, DAOLogicException, AnnouncementException;
 
-  Set<User> getUsersLikedAnnouncement(BigInteger idAnnouncement)
+  Set<UserSummary> getUsersLikedAnnouncement(long idAnnouncement)
       throws UserDoesNotExistException, DAOLogicException;
 
-  boolean isParticipant(BigInteger idAnnouncement, BigInteger idUser) throws DAOLogicException;
+  boolean isParticipant(long idAnnouncement, long idUser) throws DAOLogicException;
 
-  void addParticipant(BigInteger idAnnouncement, BigInteger idUser) throws DAOLogicException;
+  void addParticipant(long idAnnouncement, long idUser) throws DAOLogicException;
 
-  void deleteParticipant(BigInteger idAnnouncement, BigInteger idUser) throws DAOLogicException;
+  void deleteParticipant(long idAnnouncement, long idUser) throws DAOLogicException;
 
 }
@@ -4,7 +4,10 @@ import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.User;
 
 import dev.marco.example.springboot.model.UserRoles;
-import java.math.BigInteger;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
 
 public interface UserDAO {
 
@@ -12,6 +15,7 @@ public interface UserDAO {
   String USERNAME_PROPERTY = "${spring.datasource.username}";
   String PASSWORD_PROPERTY = "${spring.datasource.password}";
   String SEARCH_USER_BY_ID = "SEARCH_USER_BY_ID";
+  String SEARCH_USERS_BY_IDS = "SEARCH_USERS_BY_IDS";
   String USER_FIRST_NAME = "USER_FIRST_NAME";
   String USER_LAST_NAME = "USER_LAST_NAME";
   String USER_EMAIL = "USER_EMAIL";
@@ -40,40 +44,53 @@ public interface UserDAO {
 
   void setTestConnection() throws DAOConfigException;
 
-  User getUserById(BigInteger id) throws UserDoesNotExistException, DAOLogicException;
+  User getUserById(long id) throws UserDoesNotExistException, DAOLogicException;
+
+  /**
+   * Users keyed by id; ids without a user are left out of the map.
+   */
+  Map<Long, User> getUsersByIds(Collection<Long> ids) throws DAOLogicException;
 
   User getUserByEmail(String email) throws UserDoesNotExistException, DAOLogicException;
 
-  void deleteUser(BigInteger id) throws DAOLogicException;
+  /**
+   * For callers to whom a missing user is an ordinary answer, such as a sign up checking that
+   * the email is free.
+   */
+  Optional<User> findUserByEmail(String email) throws DAOLogicException;
 
-  BigInteger createUser(User user) throws DAOLogicException;
+  void deleteUser(long id) throws DAOLogicException;
 
-  void updateUsersFullName(BigInteger id, String newFirstName, String newLastName)
+  long createUser(User user) throws DAOLogicException;
+
+  void updateUsersFullName(long id, String newFirstName, String newLastName)
       throws DAOLogicException, UserDoesNotExistException;
 
-  void updateUsersPassword(BigInteger id, String newPassword)
+  void updateUsersPassword(long id, String newPassword)
       throws DAOLogicException, UserDoesNotExistException;
 
   User getAuthorizeUser(String email, String password)
           throws UserDoesNotExistException, UserDoesNotConfirmedEmailException, DAOLogicException, UserException;
 
-  void updateUsersDescription(BigInteger id, String newDescription)
+  void updateUsersDescription(long id, String newDescription)
       throws DAOLogicException, UserDoesNotExistException;
 
   User getUserByEmailCode(String code) throws UserDoesNotExistException, DAOLogicException;
 
+  Optional<User> findUserByEmailCode(String code) throws DAOLogicException;
+
   String getUserPasswordByEmail(String email) throws UserDoesNotExistException, DAOLogicException;
 
-  void updateUsersEmailCode(BigInteger id, String newCode)
+  void updateUsersEmailCode(long id, String newCode)
       throws DAOLogicException, UserDoesNotExistException;
 
-  boolean comparisonOfPasswords(BigInteger id, String checkPassword) throws DAOLogicException;
+  boolean comparisonOfPasswords(long id, String checkPassword) throws DAOLogicException;
 
-  boolean activateUser(BigInteger id) throws DAOLogicException, UserDoesNotExistException;
+  boolean activateUser(long id) throws DAOLogicException, UserDoesNotExistException;
 
-  boolean disactivateUser(BigInteger id) throws DAOLogicException, UserDoesNotExistException;
+  boolean disactivateUser(long id) throws DAOLogicException, UserDoesNotExistException;
 
-  void updateUserRole(BigInteger id, UserRoles role)
+  void updateUserRole(long id, UserRoles role)
       throws UserDoesNotExistException, DAOLogicException;
 
 }
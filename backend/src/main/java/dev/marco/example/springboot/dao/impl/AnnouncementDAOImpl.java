@@ -1,13 +1,23 @@
 package dev.marco.example.springboot.dao.impl;
 
 import dev.marco.example.springboot.dao.AnnouncementDAO;
+import dev.marco.example.springboot.dao.Projection;
+import dev.marco.example.springboot.dao.RowHandler;
+import dev.marco.example.springboot.dao.mapper.AnnouncementCardRowMapper;
+import dev.marco.example.springboot.dao.mapper.AnnouncementInsertBinder;
+import dev.marco.example.springboot.dao.mapper.AnnouncementUpdateBinder;
+import dev.marco.example.springboot.dao.mapper.CommentRowMapper;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.Announcement;
+import dev.marco.example.springboot.model.AnnouncementCard;
 import dev.marco.example.springboot.model.AnnouncementComment;
 import dev.marco.example.springboot.model.impl.AnnouncementCommentImpl;
 import dev.marco.example.springboot.model.impl.AnnouncementImpl;
 import dev.marco.example.springboot.model.impl.UserImpl;
+import dev.marco.example.springboot.transaction.HedgedReads;
+import dev.marco.example.springboot.transaction.UnitOfWorkDataSource;
 import dev.marco.example.springboot.util.DAOUtil;
+import dev.marco.example.springboot.util.SqlCatalog;
 import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,7 +26,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigInteger;
+import java.io.IOException;
 import java.sql.Date;
 import java.sql.*;
 import java.util.*;
@@ -27,9 +37,27 @@ import static dev.marco.example.springboot.exception.MessagesForException.*;
 public class AnnouncementDAOImpl implements AnnouncementDAO {
 
     private Connection connection;
-    private final Properties properties = new Properties();
+    private final UnitOfWorkDataSource unitOfWorkDataSource;
+    private final HedgedReads hedgedReads;
     private static final Logger log = Logger.getLogger(AnnouncementDAOImpl.class);
 
+    /**
+     * The columns of {@link AnnouncementCard} by the fields a list may ask for. The owner id, the
+     * likes and the participant id are primitives and always read; the participant id has to
+     * stay the eighth column.
+     */
+    private static final List<Projection.Column> CARD_COLUMNS = List.of(
+            Projection.always("ANNOUNCEMENT.id_announcement"),
+            Projection.field("title", "ANNOUNCEMENT.title"),
+            Projection.field("description", "ANNOUNCEMENT.description"),
+            Projection.always("ANNOUNCEMENT.ownr"),
+            Projection.field("date", "ANNOUNCEMENT.date_create"),
+            Projection.field("address", "ANNOUNCEMENT.address"),
+            Projection.always("ANNOUNCEMENT.likes"),
+            Projection.always("PARTICIPANT.id_usr"),
+            Projection.field("user", "usr.first_name"),
+            Projection.field("user", "usr.last_name"));
+
     private final String URL;
     private final String USERNAME;
     private final String PASSWORD;
@@ -38,40 +66,48 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     public AnnouncementDAOImpl(
             @Value(URL_PROPERTY) String URL,
             @Value(USERNAME_PROPERTY) String USERNAME,
-            @Value(PASSWORD_PROPERTY) String PASSWORD
+            @Value(PASSWORD_PROPERTY) String PASSWORD,
+            UnitOfWorkDataSource unitOfWorkDataSource,
+            HedgedReads hedgedReads
     ) throws DAOConfigException {
         this.URL = URL;
         this.USERNAME = USERNAME;
         this.PASSWORD = PASSWORD;
+        this.unitOfWorkDataSource = unitOfWorkDataSource;
+        this.hedgedReads = hedgedReads;
 
-        connection = DAOUtil.getDataSource(URL, USERNAME , PASSWORD, properties);
+        connection = DAOUtil.getDataSource(URL, USERNAME , PASSWORD);
     }
 
     public void setTestConnection() throws DAOConfigException {
         try {
-            connection = DAOUtil.getDataSource(URL, USERNAME + TEST, PASSWORD, properties);
+            connection = DAOUtil.getDataSource(URL, USERNAME + TEST, PASSWORD);
+            unitOfWorkDataSource.useTestSchema();
         } catch (DAOConfigException e) {
             log.error(ERROR_TEST_CONNECTION + e.getMessage());
             throw new DAOConfigException(ERROR_TEST_CONNECTION, e);
         }
     }
 
+    private Connection connection() {
+        return DAOUtil.currentConnection(unitOfWorkDataSource, connection);
+    }
+
     @Override
     public Announcement getByTitle(String title) throws AnnouncementDoesNotExistException, DAOLogicException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(SELECT_ANNOUNCEMENT_BY_TITLE))){
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(SELECT_ANNOUNCEMENT_BY_TITLE))){
             preparedStatement.setString(1, title);
             ResultSet resultSet = preparedStatement.executeQuery();
 
             if(!resultSet.isBeforeFirst()){
-                log.error(ANNOUNCEMENT_HAS_NOT_BEEN_RECEIVED + MESSAGE_FOR_GET_BY_TITLE);
                 throw new AnnouncementDoesNotExistException(ANNOUNCEMENT_NOT_FOUND_EXCEPTION);
             }
             resultSet.next();
             return new AnnouncementImpl.AnnouncementBuilder()
-                    .setId(BigInteger.valueOf(resultSet.getLong(ID_ANNOUNCEMENT)))
+                    .setId(resultSet.getLong(ID_ANNOUNCEMENT))
                     .setTitle(resultSet.getString(TITLE))
                     .setDescription(resultSet.getString(DESCRIPTION))
-                    .setIdUser(BigInteger.valueOf(resultSet.getLong(OWNER)))
+                    .setIdUser(resultSet.getLong(OWNER))
                     .setDate(resultSet.getDate(DATE_CREATE))
                     .setAddress(resultSet.getString(ADDRESS))
                     .setParticipantsCap(resultSet.getInt(LIKES))
@@ -85,7 +121,7 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
 
     @Override
     public boolean isAnnouncementByTitle(String title) throws DAOLogicException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(SELECT_ANNOUNCEMENT_BY_TITLE))){
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(SELECT_ANNOUNCEMENT_BY_TITLE))){
             preparedStatement.setString(1, title);
             ResultSet resultSet = preparedStatement.executeQuery();
             return resultSet.isBeforeFirst();
@@ -96,55 +132,40 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     }
 
     @Override
-    public Set<Announcement> getSetByTitle(String title, BigInteger idUser) throws DAOLogicException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(SELECT_SET_ANNOUNCEMENT_BY_TITLE))){
-            preparedStatement.setLong(1, idUser.longValue());
+    public Set<AnnouncementCard> getSetByTitle(String title, long idUser) throws DAOLogicException {
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(SELECT_SET_ANNOUNCEMENT_BY_TITLE))){
+            preparedStatement.setLong(1, idUser);
             preparedStatement.setString(2, "%" + title + "%");
             ResultSet resultSet = preparedStatement.executeQuery();
-            Set<Announcement> announcements = new HashSet<>();
+            Set<AnnouncementCard> announcements = new HashSet<>();
             if(!resultSet.isBeforeFirst())
                 return announcements;
+            AnnouncementCardRowMapper mapper = new AnnouncementCardRowMapper(resultSet);
             while (resultSet.next()) {
-                Announcement announcement = new AnnouncementImpl.AnnouncementBuilder()
-                        .setId(BigInteger.valueOf(resultSet.getLong(ID_ANNOUNCEMENT)))
-                        .setTitle(resultSet.getString(TITLE))
-                        .setDescription(resultSet.getString(DESCRIPTION))
-                        .setUser(new UserImpl.UserBuilder()
-                                .setId(BigInteger.valueOf(resultSet.getLong(OWNER)))
-                                .setFirstName(resultSet.getString(FIRST_NAME))
-                                .setLastName(resultSet.getString(LAST_NAME))
-                                .build())
-                        .setDate(resultSet.getDate(DATE_CREATE))
-                        .setAddress(resultSet.getString(ADDRESS))
-                        .setParticipantsCap(resultSet.getInt(LIKES))
-                        .setBlank(BigInteger.valueOf(resultSet.getLong(COLUMN_IS_LIKED)))
-                        .setIsLiked(!resultSet.wasNull())
-                        .build();
+                AnnouncementCard announcement = mapper.mapRow(resultSet);
                 announcements.add(announcement);
             }
             return announcements;
-        } catch (SQLException | AnnouncementException | UserException e) {
+        } catch (SQLException e) {
             log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
             throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
         }
     }
 
     @Override
-    public BigInteger createAnnouncement(Announcement newAnnouncement) throws DAOLogicException {
+    public long createAnnouncement(Announcement newAnnouncement) throws DAOLogicException {
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(CREATE_ANNOUNCEMENT),
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(CREATE_ANNOUNCEMENT),
                 new String[]{ID_ANNOUNCEMENT})){
-            preparedStatement.setString(1, newAnnouncement.getTitle());
-            preparedStatement.setString(2, newAnnouncement.getDescription());
-            preparedStatement.setLong(3, newAnnouncement.getIdUser().longValue());
-            preparedStatement.setDate(4,  new Date(System.currentTimeMillis()));
-            preparedStatement.setString(5, newAnnouncement.getAddress());
+            int index = AnnouncementInsertBinder.bind(preparedStatement, newAnnouncement);
+            preparedStatement.setDate(index++, new Date(System.currentTimeMillis()));
+            preparedStatement.setString(index, newAnnouncement.getAddress());
             int idAnnouncement = preparedStatement.executeUpdate();
             if (idAnnouncement > 0)
             {
                 ResultSet resultSets = preparedStatement.getGeneratedKeys();
                 resultSets.next();
-                return BigInteger.valueOf(resultSets.getLong(1));
+                return resultSets.getLong(1);
             }
             throw new DAOLogicException(DAO_LOGIC_EXCEPTION + MESSAGE_FOR_CREATE_ANNOUNCEMENT);
         } catch (SQLException e) {
@@ -156,11 +177,8 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     @Override
     public void editAnnouncement(Announcement newAnnouncement) throws DAOLogicException {
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(UPDATE_ANNOUNCEMENT))){
-            preparedStatement.setString(1, newAnnouncement.getTitle());
-            preparedStatement.setString(2, newAnnouncement.getDescription());
-            preparedStatement.setString(3, newAnnouncement.getAddress());
-            preparedStatement.setLong(4, newAnnouncement.getId().longValue());
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(UPDATE_ANNOUNCEMENT))){
+            AnnouncementUpdateBinder.bind(preparedStatement, newAnnouncement);
             preparedStatement.executeUpdate();
 
         } catch (SQLException e) {
@@ -170,9 +188,9 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     }
 
     @Override
-    public void deleteAnnouncement(BigInteger idAnnouncement) throws DAOLogicException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(DELETE_ANNOUNCEMENT_BY_ID))){
-            preparedStatement.setLong(1, idAnnouncement.longValue());
+    public void deleteAnnouncement(long idAnnouncement) throws DAOLogicException {
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(DELETE_ANNOUNCEMENT_BY_ID))){
+            preparedStatement.setLong(1, idAnnouncement);
             preparedStatement.executeUpdate();
         } catch (SQLException e) {
             log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
@@ -181,90 +199,82 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     }
 
     @Override
-    public List<Announcement> getAllAnnouncements(BigInteger idUser)
+    public List<AnnouncementCard> getAllAnnouncements(long idUser)
             throws DAOLogicException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(
-                properties.getProperty(SELECT_ALL_ANNOUNCEMENT))){
-            preparedStatement.setLong(1, idUser.longValue());
+        try (PreparedStatement preparedStatement = connection().prepareStatement(
+                SqlCatalog.get(SELECT_ALL_ANNOUNCEMENT))){
+            preparedStatement.setLong(1, idUser);
             ResultSet resultSet = preparedStatement.executeQuery();
-            List<Announcement> announcements = new ArrayList<>();
-            if(!resultSet.isBeforeFirst())
-                return announcements;
+            List<AnnouncementCard> announcements = new ArrayList<>();
+            AnnouncementCardRowMapper mapper = new AnnouncementCardRowMapper(resultSet);
             while (resultSet.next()) {
-                Announcement announcement = new AnnouncementImpl.AnnouncementBuilder()
-                        .setId(BigInteger.valueOf(resultSet.getLong(ID_ANNOUNCEMENT)))
-                        .setTitle(resultSet.getString(TITLE))
-                        .setDescription(resultSet.getString(DESCRIPTION))
-                        .setUser(new UserImpl.UserBuilder()
-                                .setId(BigInteger.valueOf(resultSet.getLong(OWNER)))
-                                .setFirstName(resultSet.getString(FIRST_NAME))
-                                .setLastName(resultSet.getString(LAST_NAME))
-                                .build())
-                        .setDate(resultSet.getDate(DATE_CREATE))
-                        .setAddress(resultSet.getString(ADDRESS))
-                        .setParticipantsCap(resultSet.getInt(LIKES))
-                        .setBlank(BigInteger.valueOf(resultSet.getLong(COLUMN_IS_LIKED)))
-                        .setIsLiked(resultSet.wasNull())
-                        .build();
-                announcements.add(announcement);
+                announcements.add(mapper.mapRow(resultSet));
             }
             return announcements;
-        } catch (SQLException | AnnouncementException | UserException e) {
+        } catch (SQLException e) {
             log.error(e.getMessage(), e);
             throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
         }
     }
 
     @Override
-    public List<Announcement> getPopular(int number, BigInteger idUser) throws DAOLogicException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(GET_POPULAR_ANNOUNCEMENT))){
-            preparedStatement.setLong(1, idUser.longValue());
-            preparedStatement.setInt(2, number);
-            ResultSet resultSet = preparedStatement.executeQuery();
-            List<Announcement> popularAnnouncement = new ArrayList<>();
-            if(!resultSet.isBeforeFirst()){
-                return popularAnnouncement;
-            }
-            while (resultSet.next()) {
-                Announcement announcement = new AnnouncementImpl.AnnouncementBuilder()
-                        .setId(BigInteger.valueOf(resultSet.getLong(ID_ANNOUNCEMENT)))
-                        .setTitle(resultSet.getString(TITLE))
-                        .setDescription(resultSet.getString(DESCRIPTION))
-                        .setUser(new UserImpl.UserBuilder()
-                                .setId(BigInteger.valueOf(resultSet.getLong(OWNER)))
-                                .setFirstName(resultSet.getString(FIRST_NAME))
-                                .setLastName(resultSet.getString(LAST_NAME))
-                                .build())
-                        .setDate(resultSet.getDate(DATE_CREATE))
-                        .setAddress(resultSet.getString(ADDRESS))
-                        .setParticipantsCap(resultSet.getInt(LIKES))
-                        .setBlank(BigInteger.valueOf(resultSet.getLong(COLUMN_IS_LIKED)))
-                        .setIsLiked(!resultSet.wasNull())
-                        .build();
-                popularAnnouncement.add(announcement);
+    public void streamAllAnnouncements(long idUser, RowHandler<AnnouncementCard> handler)
+            throws DAOLogicException, IOException {
+        try (PreparedStatement preparedStatement = DAOUtil.prepareStreamingStatement(connection(),
+                SqlCatalog.get(SELECT_ALL_ANNOUNCEMENT))){
+            preparedStatement.setLong(1, idUser);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                AnnouncementCardRowMapper mapper = new AnnouncementCardRowMapper(resultSet);
+                while (resultSet.next()) {
+                    handler.handle(mapper.mapRow(resultSet));
+                }
             }
-            return popularAnnouncement;
-        } catch (SQLException | AnnouncementException | UserException e) {
+        } catch (SQLException e) {
+            log.error(e.getMessage(), e);
+            throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
+        }
+    }
+
+    @Override
+    public List<AnnouncementCard> getPopular(int number, long idUser) throws DAOLogicException {
+        try {
+            return hedgedReads.query(connection(), SqlCatalog.get(GET_POPULAR_ANNOUNCEMENT),
+                    preparedStatement -> {
+                        preparedStatement.setLong(1, idUser);
+                        preparedStatement.setInt(2, number);
+                    },
+                    resultSet -> {
+                        List<AnnouncementCard> popularAnnouncement = new ArrayList<>();
+                        if(!resultSet.isBeforeFirst()){
+                            return popularAnnouncement;
+                        }
+                        AnnouncementCardRowMapper mapper = new AnnouncementCardRowMapper(resultSet);
+                        while (resultSet.next()) {
+                            AnnouncementCard announcement = mapper.mapRow(resultSet);
+                            popularAnnouncement.add(announcement);
+                        }
+                        return popularAnnouncement;
+                    });
+        } catch (SQLException e) {
             log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
             throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
         }
     }
 
     @Override
-    public Announcement getAnnouncementById(BigInteger idAnnouncement) throws AnnouncementDoesNotExistException, DAOLogicException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(GET_ANNOUNCEMENT_BY_ID))){
-            preparedStatement.setLong(1, idAnnouncement.longValue());
+    public Announcement getAnnouncementById(long idAnnouncement) throws AnnouncementDoesNotExistException, DAOLogicException {
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(GET_ANNOUNCEMENT_BY_ID))){
+            preparedStatement.setLong(1, idAnnouncement);
             ResultSet resultSet = preparedStatement.executeQuery();
             if(!resultSet.isBeforeFirst()){
-                log.error(ANNOUNCEMENT_HAS_NOT_BEEN_RECEIVED + MESSAGE_FOR_GET_ANNOUNCEMENT_BY_ID);
                 throw new AnnouncementDoesNotExistException(ANNOUNCEMENT_NOT_FOUND_EXCEPTION);
             }
             resultSet.next();
             return new AnnouncementImpl.AnnouncementBuilder()
-                    .setId(BigInteger.valueOf(resultSet.getLong(ID_ANNOUNCEMENT)))
+                    .setId(resultSet.getLong(ID_ANNOUNCEMENT))
                     .setTitle(resultSet.getString(TITLE))
                     .setDescription(resultSet.getString(DESCRIPTION))
-                    .setIdUser(BigInteger.valueOf(resultSet.getLong(OWNER)))
+                    .setIdUser(resultSet.getLong(OWNER))
                     .setDate(resultSet.getDate(DATE_CREATE))
                     .setAddress(resultSet.getString(ADDRESS))
                     .setParticipantsCap(resultSet.getInt(LIKES))
@@ -276,9 +286,9 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     }
 
     @Override
-    public boolean isAnnouncementById(BigInteger idAnnouncement) throws DAOLogicException {
-        try ( PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(GET_ANNOUNCEMENT_BY_ID))){
-            preparedStatement.setLong(1, idAnnouncement.longValue());
+    public boolean isAnnouncementById(long idAnnouncement) throws DAOLogicException {
+        try ( PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(GET_ANNOUNCEMENT_BY_ID))){
+            preparedStatement.setLong(1, idAnnouncement);
             ResultSet resultSet = preparedStatement.executeQuery();
             return resultSet.isBeforeFirst();
         } catch (SQLException e) {
@@ -288,9 +298,9 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     }
 
     @Override
-    public void toLike(BigInteger idAnnouncement) throws DAOLogicException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(SET_LIKE))){
-            preparedStatement.setLong(1, idAnnouncement.longValue());
+    public void toLike(long idAnnouncement) throws DAOLogicException {
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(SET_LIKE))){
+            preparedStatement.setLong(1, idAnnouncement);
             preparedStatement.executeUpdate();
         } catch (SQLException e) {
             log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
@@ -299,9 +309,9 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     }
 
     @Override
-    public void toDisLike(BigInteger idAnnouncement) throws DAOLogicException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(UNSET_LIKE))){
-            preparedStatement.setLong(1, idAnnouncement.longValue());
+    public void toDisLike(long idAnnouncement) throws DAOLogicException {
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(UNSET_LIKE))){
+            preparedStatement.setLong(1, idAnnouncement);
             preparedStatement.executeUpdate();
         } catch (SQLException e) {
             log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
@@ -310,28 +320,37 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     }
 
     @Override
-    public List<AnnouncementComment> getComments(BigInteger announcementId, BigInteger lastCommentId, int count) throws AnnouncementDoesNotExistException, DAOLogicException {
+    public int getLikes(long idAnnouncement) throws DAOLogicException, AnnouncementDoesNotExistException {
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(SELECT_LIKES))){
+            preparedStatement.setLong(1, idAnnouncement);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            if (!resultSet.next()) {
+                throw new AnnouncementDoesNotExistException(ANNOUNCEMENT_NOT_FOUND_EXCEPTION);
+            }
+            return resultSet.getInt(LIKES);
+        } catch (SQLException e) {
+            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
+            throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
+        }
+    }
+
+    @Override
+    public List<AnnouncementComment> getComments(long announcementId, long lastCommentId, int count) throws AnnouncementDoesNotExistException, DAOLogicException {
         try (PreparedStatement preparedStatement
-                     = connection.prepareStatement(properties.getProperty(GET_ANNOUNCEMENT_COMMENTARIES_DESC))) {
-            preparedStatement.setLong(1, announcementId.longValue());
-            preparedStatement.setLong(2, lastCommentId.longValue());
+                     = connection().prepareStatement(SqlCatalog.get(GET_ANNOUNCEMENT_COMMENTARIES_DESC))) {
+            preparedStatement.setLong(1, announcementId);
+            preparedStatement.setLong(2, lastCommentId);
             preparedStatement.setInt(3, count);
             ResultSet resultSet = preparedStatement.executeQuery();
 
             if (!resultSet.isBeforeFirst()) {
-                log.error(ANNOUNCEMENT_HAS_NOT_BEEN_RECEIVED + MESSAGE_FOR_GET_ANNOUNCEMENT_BY_ID);
                 throw new AnnouncementDoesNotExistException(ANNOUNCEMENT_NOT_FOUND_EXCEPTION);
             }
 
             List<AnnouncementComment> comments = new ArrayList<>();
+            CommentRowMapper mapper = new CommentRowMapper(resultSet);
             while (resultSet.next()) {
-                AnnouncementComment comment = new AnnouncementCommentImpl(
-                        BigInteger.valueOf(resultSet.getLong(ID_COMMENTARY)),
-                        resultSet.getString(DESCRIPTION),
-                        resultSet.getString(FIRST_NAME) + " " + resultSet.getString(LAST_NAME),
-                        resultSet.getTime(DATE_CREATE)
-                        );
-                comments.add(comment);
+                comments.add(mapper.mapRow(resultSet));
             }
             return comments;
         } catch (SQLException e) {
@@ -341,50 +360,77 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     }
 
     @Override
-    public void createComment(String commentContent, BigInteger announcementId, BigInteger userId) throws DAOLogicException {
+    public List<AnnouncementComment> getCommentsBefore(long announcementId, long beforeCommentId, int count) throws DAOLogicException {
         try (PreparedStatement preparedStatement
-                     = connection.prepareStatement(properties.getProperty(CREATE_COMMENTARY))){
-            preparedStatement.setLong(1, announcementId.longValue());
-            preparedStatement.setLong(2, userId.longValue());
+                     = connection().prepareStatement(SqlCatalog.get(GET_ANNOUNCEMENT_COMMENTARIES_BEFORE))) {
+            preparedStatement.setLong(1, announcementId);
+            preparedStatement.setLong(2, beforeCommentId);
+            preparedStatement.setInt(3, count);
+            ResultSet resultSet = preparedStatement.executeQuery();
+
+            List<AnnouncementComment> comments = new ArrayList<>();
+            CommentRowMapper mapper = new CommentRowMapper(resultSet);
+            while (resultSet.next()) {
+                comments.add(mapper.mapRow(resultSet));
+            }
+            return comments;
+        } catch (SQLException e) {
+            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
+            throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
+        }
+    }
+
+    @Override
+    public AnnouncementComment createComment(String commentContent, long announcementId, long userId) throws DAOLogicException {
+        try (PreparedStatement preparedStatement
+                     = connection().prepareStatement(SqlCatalog.get(CREATE_COMMENTARY), new String[]{ID_COMMENTARY})){
+            preparedStatement.setLong(1, announcementId);
+            preparedStatement.setLong(2, userId);
             preparedStatement.setString(3, commentContent);
             preparedStatement.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
             preparedStatement.executeUpdate();
+
+            ResultSet generatedKeys = preparedStatement.getGeneratedKeys();
+            if (!generatedKeys.next()) {
+                throw new DAOLogicException(DAO_LOGIC_EXCEPTION + MESSAGE_FOR_CREATE_COMMENT);
+            }
+            return getCommentById(generatedKeys.getLong(1));
         } catch (SQLException e) {
             log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
             throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
         }
     }
 
+    private AnnouncementComment getCommentById(long commentId) throws SQLException, DAOLogicException {
+        try (PreparedStatement preparedStatement
+                     = connection().prepareStatement(SqlCatalog.get(GET_COMMENTARY_BY_ID))) {
+            preparedStatement.setLong(1, commentId);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            if (!resultSet.next()) {
+                throw new DAOLogicException(DAO_LOGIC_EXCEPTION + MESSAGE_FOR_CREATE_COMMENT);
+            }
+            return new CommentRowMapper(resultSet).mapRow(resultSet);
+        }
+    }
+
     @Override
-    public Page<Announcement> getAnnouncementsByPage(BigInteger idUser, Pageable pageable)
+    public Page<AnnouncementCard> getAnnouncementsByPage(long idUser, Pageable pageable, Projection projection)
             throws DAOLogicException {
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_ANNOUNCEMENTS_BY_PAGE))) {
-            preparedStatement.setLong(1, idUser.longValue());
+                     connection().prepareStatement(
+                             String.format(SqlCatalog.get(SELECT_ANNOUNCEMENTS_BY_PAGE), projection.select(CARD_COLUMNS)))) {
+            preparedStatement.setLong(1, idUser);
             preparedStatement.setLong(2, pageable.getOffset());
             preparedStatement.setInt(3, pageable.getPageSize());
             ResultSet resultSet = preparedStatement.executeQuery();
-            List<Announcement> announcements = new ArrayList<>();
+            List<AnnouncementCard> announcements = new ArrayList<>();
+            AnnouncementCardRowMapper mapper = new AnnouncementCardRowMapper(resultSet);
             while (resultSet.next()) {
-                Announcement announcement = new AnnouncementImpl.AnnouncementBuilder()
-                        .setId(BigInteger.valueOf(resultSet.getLong(ID_ANNOUNCEMENT)))
-                        .setTitle(resultSet.getString(TITLE))
-                        .setDescription(resultSet.getString(DESCRIPTION))
-                        .setUser(new UserImpl.UserBuilder()
-                                .setId(BigInteger.valueOf(resultSet.getLong(OWNER)))
-                                .setFirstName(resultSet.getString(FIRST_NAME))
-                                .setLastName(resultSet.getString(LAST_NAME))
-                                .build())
-                        .setDate(resultSet.getDate(DATE_CREATE))
-                        .setAddress(resultSet.getString(ADDRESS))
-                        .setParticipantsCap(resultSet.getInt(LIKES))
-                        .setBlank(BigInteger.valueOf(resultSet.getLong(COLUMN_IS_LIKED)))
-                        .setIsLiked(!resultSet.wasNull())
-                        .build();
-                announcements.add(announcement);
+                AnnouncementCard announcement = mapper.mapRow(resultSet);
+                announcements.add(projection.isAll() ? announcement : announcement.projected());
             }
             return new PageImpl<>(announcements, pageable, countOfAnnouncements());
-        } catch (SQLException | AnnouncementException | UserException e) {
+        } catch (SQLException e) {
             log.error(DAO_LOGIC_EXCEPTION);
             throw new DAOLogicException(DAO_LOGIC_EXCEPTION + e.getMessage());
         }
@@ -393,7 +439,7 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     @Override
     public long countOfAnnouncements() throws DAOLogicException {
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_NUMBER_OF_ANNOUNCEMENT))) {
+                     connection().prepareStatement(SqlCatalog.get(SELECT_NUMBER_OF_ANNOUNCEMENT))) {
             ResultSet resultSet = preparedStatement.executeQuery();
             if (resultSet.next()) {
                 return resultSet.getLong(1);
@@ -406,37 +452,25 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     }
 
     @Override
-    public Page<Announcement> getAnnouncementsByTitle(String title, BigInteger idUser, Pageable pageable)
-            throws DAOLogicException {
+    public Page<AnnouncementCard> getAnnouncementsByTitle(String title, long idUser, Pageable pageable,
+                                                           Projection projection) throws DAOLogicException {
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_ANNOUNCEMENTS_BY_TITLE))){
-            preparedStatement.setLong(1, idUser.longValue());
+                     connection().prepareStatement(
+                             String.format(SqlCatalog.get(SELECT_ANNOUNCEMENTS_BY_TITLE), projection.select(CARD_COLUMNS)))){
+            preparedStatement.setLong(1, idUser);
             preparedStatement.setString(2, "%" + title + "%");
             preparedStatement.setLong(3, pageable.getOffset());
             preparedStatement.setInt(4, pageable.getPageSize());
             ResultSet resultSet = preparedStatement.executeQuery();
-            List<Announcement> announcements = new ArrayList<>();
+            List<AnnouncementCard> announcements = new ArrayList<>();
 
+            AnnouncementCardRowMapper mapper = new AnnouncementCardRowMapper(resultSet);
             while (resultSet.next()) {
-                Announcement announcement = new AnnouncementImpl.AnnouncementBuilder()
-                        .setId(BigInteger.valueOf(resultSet.getLong(ID_ANNOUNCEMENT)))
-                        .setTitle(resultSet.getString(TITLE))
-                        .setDescription(resultSet.getString(DESCRIPTION))
-                        .setUser(new UserImpl.UserBuilder()
-                                .setId(BigInteger.valueOf(resultSet.getLong(OWNER)))
-                                .setFirstName(resultSet.getString(FIRST_NAME))
-                                .setLastName(resultSet.getString(LAST_NAME))
-                                .build())
-                        .setDate(resultSet.getDate(DATE_CREATE))
-                        .setAddress(resultSet.getString(ADDRESS))
-                        .setParticipantsCap(resultSet.getInt(LIKES))
-                        .setBlank(BigInteger.valueOf(resultSet.getLong(COLUMN_IS_LIKED)))
-                        .setIsLiked(!resultSet.wasNull())
-                        .build();
-                announcements.add(announcement);
+                AnnouncementCard announcement = mapper.mapRow(resultSet);
+                announcements.add(projection.isAll() ? announcement : announcement.projected());
             }
             return new PageImpl<>(announcements, pageable, countOfAnnouncementsByTitle(title));
-        } catch (SQLException | AnnouncementException | UserException e) {
+        } catch (SQLException e) {
             log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
             throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
         }
@@ -445,7 +479,7 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     @Override
     public long countOfAnnouncementsByTitle(String title) throws DAOLogicException {
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_NUMBER_OF_ANNOUNCEMENT_BY_TITLE))) {
+                     connection().prepareStatement(SqlCatalog.get(SELECT_NUMBER_OF_ANNOUNCEMENT_BY_TITLE))) {
             preparedStatement.setString(1, "%" + title + "%");
             ResultSet resultSet = preparedStatement.executeQuery();
             if (resultSet.next()) {
@@ -6,25 +6,31 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import dev.marco.example.springboot.dao.AnswerDAO;
+import dev.marco.example.springboot.dao.mapper.AnswerRowMapper;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.Answer;
 import dev.marco.example.springboot.model.impl.AnswerImpl;
+import dev.marco.example.springboot.transaction.HedgedReads;
+import dev.marco.example.springboot.transaction.UnitOfWorkDataSource;
 import dev.marco.example.springboot.util.DAOUtil;
+import dev.marco.example.springboot.util.SqlCatalog;
 
-import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Properties;
+import java.util.Map;
 
 @Repository
 public class AnswerDAOImpl implements AnswerDAO, MessagesForException {
 
     private Connection connection;
-    private final Properties properties = new Properties();
+    private final UnitOfWorkDataSource unitOfWorkDataSource;
+    private final HedgedReads hedgedReads;
     private static final Logger log = Logger.getLogger(AnswerDAOImpl.class);
     private final int SQL_TRUE = 1;
     private final int SQL_FALSE = 0;
@@ -37,41 +43,45 @@ public class AnswerDAOImpl implements AnswerDAO, MessagesForException {
     AnswerDAOImpl(
             @Value(URL_PROPERTY) String URL,
             @Value(USER_PROPERTY) String USERNAME,
-            @Value(PASSWORD_PROPERTY) String PASSWORD
+            @Value(PASSWORD_PROPERTY) String PASSWORD,
+            UnitOfWorkDataSource unitOfWorkDataSource,
+            HedgedReads hedgedReads
     ) throws DAOConfigException {
         this.URL = URL;
         this.USERNAME = USERNAME;
         this.PASSWORD = PASSWORD;
+        this.unitOfWorkDataSource = unitOfWorkDataSource;
+        this.hedgedReads = hedgedReads;
 
-       connection = DAOUtil.getDataSource(URL, USERNAME, PASSWORD, properties);
+       connection = DAOUtil.getDataSource(URL, USERNAME, PASSWORD);
     }
 
     @Override
     public void setTestConnection() throws DAOConfigException {
         try {
-            connection = DAOUtil.getDataSource(URL, USERNAME + TEST, PASSWORD, properties);
+            connection = DAOUtil.getDataSource(URL, USERNAME + TEST, PASSWORD);
+            unitOfWorkDataSource.useTestSchema();
         } catch (DAOConfigException e) {
             log.error(String.format(TEST_CONNECTION_ERR, e.getMessage()));
             throw new DAOConfigException(TEST_CONNECTION_EXC, e);
         }
     }
 
+    private Connection connection() {
+        return DAOUtil.currentConnection(unitOfWorkDataSource, connection);
+    }
+
     @Override
-    public AnswerImpl getAnswerById(BigInteger answerId) throws DAOLogicException, AnswerDoesNotExistException {
-        try  {
-            PreparedStatement preparedStatement =
-                    connection.prepareStatement(properties.getProperty(GET_ANSWER_BY_ID));
-            preparedStatement.setLong(1, answerId.longValue());
+    public AnswerImpl getAnswerById(long answerId) throws DAOLogicException, AnswerDoesNotExistException {
+        try (PreparedStatement preparedStatement =
+                     connection().prepareStatement(SqlCatalog.get(GET_ANSWER_BY_ID))) {
+            preparedStatement.setLong(1, answerId);
             ResultSet resultSet = preparedStatement.executeQuery();
             if(!resultSet.next()) {
                 log.error(String.format(getAnswerByIdNotFoundErr, answerId));
                 throw new AnswerDoesNotExistException(String.format(getAnswerByIdNotFoundExc, answerId));
             }
-            return new AnswerImpl(
-                    answerId,
-                    resultSet.getString(SQL_ANSWER_TEXT),
-                    AnswerResult.convertBooleanToAnswer(resultSet.getInt(SQL_ANSWER_IS_TRUE) == SQL_TRUE),
-                    BigInteger.valueOf(resultSet.getLong(SQL_ANSWER_QUESTION)));
+            return new AnswerRowMapper(resultSet).mapRow(resultSet);
         } catch (SQLException throwable) {
             log.error(getAnswerByIdLogicErr, throwable);
             throw new DAOLogicException(String.format(getAnswerByIdLogicExc ,answerId), throwable);
@@ -80,16 +90,15 @@ public class AnswerDAOImpl implements AnswerDAO, MessagesForException {
     }
 
     @Override
-    public BigInteger getLastAnswerIdByTitle(String title) throws DAOLogicException, AnswerDoesNotExistException {
-        try {
-            PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(GET_LAST_ANSWER_ID_BY_TITLE));
+    public long getLastAnswerIdByTitle(String title) throws DAOLogicException, AnswerDoesNotExistException {
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(GET_LAST_ANSWER_ID_BY_TITLE))) {
             preparedStatement.setString(1, title);
             ResultSet resultSet = preparedStatement.executeQuery();
             if(!resultSet.next()) {
                 log.error(String.format(getLastAnswerIdByTitleNotFoundErr, title));
                 throw new AnswerDoesNotExistException(String.format(getLastAnswerIdByTitleNotFoundExc, title));
             }
-            return BigInteger.valueOf(resultSet.getLong(SQL_MAX_ID_ANSWER));
+            return resultSet.getLong(SQL_MAX_ID_ANSWER);
         } catch (SQLException throwable) {
             log.error(getLastAnswerIdByTitleLogicErr, throwable);
             throw new DAOLogicException(String.format(getLastAnswerIdByTitleLogicExc, title), throwable);
@@ -97,16 +106,15 @@ public class AnswerDAOImpl implements AnswerDAO, MessagesForException {
     }
 
     @Override
-    public BigInteger createAnswer(Answer answer) throws DAOLogicException, AnswerDoesNotExistException {
-        try {
-            String title = answer.getValue();
-            PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(CREATE_ANSWER));
+    public long createAnswer(Answer answer) throws DAOLogicException, AnswerDoesNotExistException {
+        String title = answer.getValue();
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(CREATE_ANSWER))) {
             preparedStatement.setString(1, title);
             if (answer.getAnswer().equals(AnswerResult.TRUE))
                 preparedStatement.setInt(2, SQL_TRUE);
             else if (answer.getAnswer().equals(AnswerResult.FALSE))
                 preparedStatement.setInt(2, SQL_FALSE);
-            preparedStatement.setLong(3, answer.getQuestionId().longValue());
+            preparedStatement.setLong(3, answer.getQuestionId());
             preparedStatement.executeUpdate();
             return getLastAnswerIdByTitle(title);
         } catch (SQLException throwable) {
@@ -116,10 +124,9 @@ public class AnswerDAOImpl implements AnswerDAO, MessagesForException {
     }
 
     @Override
-    public void deleteAnswer(BigInteger id) throws DAOLogicException {
-        try {
-            PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(DELETE_ANSWER));
-            preparedStatement.setLong(1, id.longValue());
+    public void deleteAnswer(long id) throws DAOLogicException {
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(DELETE_ANSWER))) {
+            preparedStatement.setLong(1, id);
             preparedStatement.executeUpdate();
         } catch (SQLException throwable) {
             log.error(deleteAnswerLogicExc, throwable);
@@ -128,17 +135,16 @@ public class AnswerDAOImpl implements AnswerDAO, MessagesForException {
     }
 
     @Override
-    public BigInteger updateAnswer(Answer answer) throws DAOLogicException {
-        try {
-            BigInteger id = answer.getId();
-            PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(UPDATE_ANSWER));
+    public long updateAnswer(Answer answer) throws DAOLogicException {
+        long id = answer.getId();
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(UPDATE_ANSWER))) {
             preparedStatement.setString(1, answer.getValue());
             if (answer.getAnswer().equals(AnswerResult.TRUE))
                 preparedStatement.setInt(2, SQL_TRUE);
             else if (answer.getAnswer().equals(AnswerResult.FALSE))
                 preparedStatement.setInt(2, SQL_FALSE);
-            preparedStatement.setLong(3, answer.getQuestionId().longValue());
-            preparedStatement.setLong(4, id.longValue());
+            preparedStatement.setLong(3, answer.getQuestionId());
+            preparedStatement.setLong(4, id);
             preparedStatement.executeUpdate();
             return id;
         } catch (SQLException throwable) {
@@ -148,19 +154,15 @@ public class AnswerDAOImpl implements AnswerDAO, MessagesForException {
     }
 
     @Override
-    public List<AnswerImpl> getAnswersByQuestionId(BigInteger questionId) throws DAOLogicException, AnswerDoesNotExistException {
-        try {
-            PreparedStatement preparedStatement = connection.prepareStatement(properties.getProperty(GET_ANSWERS_BY_QUESTION_ID));
-            preparedStatement.setLong(1, questionId.longValue());
+    public List<AnswerImpl> getAnswersByQuestionId(long questionId) throws DAOLogicException, AnswerDoesNotExistException {
+        try (PreparedStatement preparedStatement = connection().prepareStatement(SqlCatalog.get(GET_ANSWERS_BY_QUESTION_ID))) {
+            preparedStatement.setLong(1, questionId);
             ResultSet resultSet = preparedStatement.executeQuery();
 
             List<AnswerImpl> answers = new ArrayList<>();
+            AnswerRowMapper mapper = new AnswerRowMapper(resultSet);
             while (resultSet.next()) {
-                answers.add(new AnswerImpl(
-                        BigInteger.valueOf(resultSet.getLong(SQL_ANSWER_ID)),
-                        resultSet.getString(SQL_ANSWER_TEXT),
-                        AnswerResult.convertBooleanToAnswer(resultSet.getInt(SQL_ANSWER_IS_TRUE) == SQL_TRUE),
-                        questionId));
+                answers.add(mapper.mapRow(resultSet));
             }
             return answers;
         } catch (SQLException throwable) {
@@ -169,4 +171,32 @@ public class AnswerDAOImpl implements AnswerDAO, MessagesForException {
         }
     }
 
+    @Override
+    public Map<Long, List<AnswerImpl>> getAnswersByQuestionIds(Collection<Long> questionIds) throws DAOLogicException {
+        Map<Long, List<AnswerImpl>> answers = new HashMap<>();
+        for (long questionId : questionIds) {
+            answers.put(questionId, new ArrayList<>());
+        }
+        String script = SqlCatalog.get(GET_ANSWERS_BY_QUESTION_IDS);
+        for (long[] chunk : DAOUtil.inListChunks(questionIds)) {
+            try {
+                hedgedReads.query(connection(), DAOUtil.expandInList(script, chunk.length),
+                        preparedStatement -> DAOUtil.bindInList(preparedStatement, chunk),
+                        resultSet -> {
+                            List<AnswerImpl> rows = new ArrayList<>();
+                            AnswerRowMapper mapper = new AnswerRowMapper(resultSet);
+                            while (resultSet.next()) {
+                                rows.add(mapper.mapRow(resultSet));
+                            }
+                            return rows;
+                        })
+                        .forEach(answer -> answers.get(answer.getQuestionId()).add(answer));
+            } catch (SQLException throwable) {
+                log.error(getAnswersByQuestionIdsLogicErr, throwable);
+                throw new DAOLogicException(getAnswersByQuestionIdsLogicErr, throwable);
+            }
+        }
+        return answers;
+    }
+
 }
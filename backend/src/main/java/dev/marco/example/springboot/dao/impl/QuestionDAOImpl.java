@@ -6,29 +6,33 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import dev.marco.example.springboot.dao.QuestionDAO;
+import dev.marco.example.springboot.dao.mapper.QuestionInsertBinder;
+import dev.marco.example.springboot.dao.mapper.QuestionRowMapper;
+import dev.marco.example.springboot.dao.mapper.QuestionUpdateBinder;
 import dev.marco.example.springboot.exception.DAOConfigException;
 import dev.marco.example.springboot.exception.DAOLogicException;
 import dev.marco.example.springboot.exception.MessagesForException;
 import dev.marco.example.springboot.exception.QuestionDoesNotExistException;
 import dev.marco.example.springboot.model.Question;
-import dev.marco.example.springboot.model.QuestionType;
 import dev.marco.example.springboot.model.impl.QuestionImpl;
+import dev.marco.example.springboot.transaction.HedgedReads;
+import dev.marco.example.springboot.transaction.UnitOfWorkDataSource;
 import dev.marco.example.springboot.util.DAOUtil;
+import dev.marco.example.springboot.util.SqlCatalog;
 
-import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Properties;
 
 @Repository
 public class QuestionDAOImpl implements QuestionDAO, MessagesForException {
 
   private Connection connection;
-  private final Properties properties = new Properties();
+  private final UnitOfWorkDataSource unitOfWorkDataSource;
+  private final HedgedReads hedgedReads;
   private static final Logger log = Logger.getLogger(QuestionDAOImpl.class);
 
   private final String URL;
@@ -39,43 +43,49 @@ public class QuestionDAOImpl implements QuestionDAO, MessagesForException {
   QuestionDAOImpl(
       @Value(URL_PROPERTY) String URL,
       @Value(USERNAME_PROPERTY) String USERNAME,
-      @Value(PASSWORD_PROPERTY) String PASSWORD
+      @Value(PASSWORD_PROPERTY) String PASSWORD,
+      UnitOfWorkDataSource unitOfWorkDataSource,
+      HedgedReads hedgedReads
   ) throws DAOConfigException {
     this.URL = URL;
     this.USERNAME = USERNAME;
     this.PASSWORD = PASSWORD;
+    this.unitOfWorkDataSource = unitOfWorkDataSource;
+    this.hedgedReads = hedgedReads;
 
-    connection = DAOUtil.getDataSource(URL, USERNAME, PASSWORD, properties);
+    connection = DAOUtil.getDataSource(URL, USERNAME, PASSWORD);
   }
 
   @Override
   public void setTestConnection() throws DAOConfigException {
     try {
-      connection = DAOUtil.getDataSource(URL, USERNAME + TEST, PASSWORD, properties);
+      connection = DAOUtil.getDataSource(URL, USERNAME + TEST, PASSWORD);
+      unitOfWorkDataSource.useTestSchema();
     } catch (DAOConfigException e) {
       log.error(String.format(TEST_CONNECTION_ERR, e.getMessage()));
       throw new DAOConfigException(TEST_CONNECTION_EXC, e);
     }
   }
 
+  private Connection connection() {
+    return DAOUtil.currentConnection(unitOfWorkDataSource, connection);
+  }
+
   @Override
-  public Question getQuestionById(BigInteger questionId, List<AnswerImpl> answers)
+  public Question getQuestionById(long questionId, List<AnswerImpl> answers)
       throws QuestionDoesNotExistException, DAOLogicException {
     try (PreparedStatement preparedStatement =
-        connection.prepareStatement(properties.getProperty(PROPERTY_GET_QUESTION_BY_ID))) {
-      preparedStatement.setLong(1, questionId.intValue());
+        connection().prepareStatement(SqlCatalog.get(PROPERTY_GET_QUESTION_BY_ID))) {
+      preparedStatement.setLong(1, questionId);
       ResultSet resultSet = preparedStatement.executeQuery();
       if (!resultSet.next()) {
         log.error(QUESTION_NOT_FOUND + questionId);
         throw new QuestionDoesNotExistException(QUESTION_NOT_FOUND);
       }
 
-      return new QuestionImpl(
-          questionId,
-          resultSet.getString(QUESTION_NAME_COLUMN),
-          QuestionType.convertToRole(resultSet.getInt(QUESTION_TYPE_COLUMN)),
-          answers
-      );
+      QuestionImpl question = new QuestionRowMapper(resultSet).mapRow(resultSet);
+      question.setAnswers(answers);
+      return question;
     } catch (SQLException e) {
       log.error(DAO_LOGIC_EXCEPTION + questionId);
       throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
@@ -83,24 +93,20 @@ public class QuestionDAOImpl implements QuestionDAO, MessagesForException {
   }
 
   @Override
-  public Question getQuestionByData(String questionText, BigInteger quizId)
+  public Question getQuestionByData(String questionText, long quizId)
       throws DAOLogicException, QuestionDoesNotExistException {
     try (PreparedStatement preparedStatement =
-        connection.prepareStatement(properties.getProperty(PROPERTY_GET_QUESTION_BY_DATA))) {
+        connection().prepareStatement(SqlCatalog.get(PROPERTY_GET_QUESTION_BY_DATA))) {
 
       preparedStatement.setString(1, questionText);
-      preparedStatement.setLong(2, quizId.longValue());
+      preparedStatement.setLong(2, quizId);
       ResultSet resultSet = preparedStatement.executeQuery();
       if (!resultSet.next()) {
         log.error(QUESTION_NOT_FOUND + questionText + quizId);
         throw new QuestionDoesNotExistException(QUESTION_NOT_FOUND);
       }
 
-      return new QuestionImpl(
-          BigInteger.valueOf(resultSet.getLong(QUESTION_ID_COLUMN)),
-          resultSet.getString(QUESTION_NAME_COLUMN),
-          QuestionType.convertToRole(resultSet.getInt(QUESTION_TYPE_COLUMN))
-      );
+      return new QuestionRowMapper(resultSet).mapRow(resultSet);
     } catch (SQLException e) {
       log.error(DAO_LOGIC_EXCEPTION + questionText + quizId, e);
       throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
@@ -108,29 +114,29 @@ public class QuestionDAOImpl implements QuestionDAO, MessagesForException {
   }
 
   @Override
-  public Question createQuestion(Question question, BigInteger quizId)
+  public Question createQuestion(Question question, long quizId)
       throws QuestionDoesNotExistException, DAOLogicException {
     try {
-      PreparedStatement preparedStatement =
-          connection.prepareStatement(properties.getProperty(PROPERTY_CREATE_QUESTION));
-      preparedStatement.setString(1, question.getQuestion());
-      preparedStatement.setInt(2, question.getQuestionType().ordinal());
-      preparedStatement.setLong(3, quizId.longValue());
-      preparedStatement.executeUpdate();
-
-      preparedStatement.clearParameters();
-      preparedStatement = connection.prepareStatement(
-          properties.getProperty(PROPERTY_GET_QUESTION_ID_BY_DATA));
-      preparedStatement.setString(1, question.getQuestion());
-      preparedStatement.setLong(2, quizId.longValue());
-      ResultSet resultSet = preparedStatement.executeQuery();
-      if (!resultSet.next()) {
-        log.error(QUESTION_NOT_FOUND + question.getQuestion() + quizId);
-        throw new QuestionDoesNotExistException(QUESTION_NOT_FOUND);
+      try (PreparedStatement preparedStatement =
+          connection().prepareStatement(SqlCatalog.get(PROPERTY_CREATE_QUESTION))) {
+        int index = QuestionInsertBinder.bind(preparedStatement, question);
+        preparedStatement.setLong(index, quizId);
+        preparedStatement.executeUpdate();
       }
 
-      long questionId = resultSet.getLong(QUESTION_ID_COLUMN);
-      question.setId(BigInteger.valueOf(questionId));
+      try (PreparedStatement preparedStatement = connection().prepareStatement(
+          SqlCatalog.get(PROPERTY_GET_QUESTION_ID_BY_DATA))) {
+        preparedStatement.setString(1, question.getQuestion());
+        preparedStatement.setLong(2, quizId);
+        ResultSet resultSet = preparedStatement.executeQuery();
+        if (!resultSet.next()) {
+          log.error(QUESTION_NOT_FOUND + question.getQuestion() + quizId);
+          throw new QuestionDoesNotExistException(QUESTION_NOT_FOUND);
+        }
+
+        long questionId = resultSet.getLong(QUESTION_ID_COLUMN);
+        question.setId(questionId);
+      }
 
       return question;
     } catch (SQLException e) {
@@ -143,21 +149,21 @@ public class QuestionDAOImpl implements QuestionDAO, MessagesForException {
   public void deleteQuestion(Question question)
       throws QuestionDoesNotExistException, DAOLogicException {
     try {
-      PreparedStatement preparedStatement =
-          connection.prepareStatement(properties.getProperty(PROPERTY_GET_QUESTION_BY_ID));
-      preparedStatement.setLong(1, question.getId().longValue());
-      preparedStatement.executeQuery();
-      ResultSet resultSet = preparedStatement.executeQuery();
-      if (!resultSet.next()) {
-        log.error(QUESTION_NOT_FOUND + question.getId());
-        throw new QuestionDoesNotExistException(QUESTION_NOT_FOUND);
+      try (PreparedStatement preparedStatement =
+          connection().prepareStatement(SqlCatalog.get(PROPERTY_GET_QUESTION_BY_ID))) {
+        preparedStatement.setLong(1, question.getId());
+        ResultSet resultSet = preparedStatement.executeQuery();
+        if (!resultSet.next()) {
+          log.error(QUESTION_NOT_FOUND + question.getId());
+          throw new QuestionDoesNotExistException(QUESTION_NOT_FOUND);
+        }
       }
 
-      preparedStatement.clearParameters();
-      preparedStatement = connection.prepareStatement(
-          properties.getProperty(PROPERTY_DELETE_QUESTION));
-      preparedStatement.setLong(1, question.getId().longValue());
-      preparedStatement.executeUpdate();
+      try (PreparedStatement preparedStatement = connection().prepareStatement(
+          SqlCatalog.get(PROPERTY_DELETE_QUESTION))) {
+        preparedStatement.setLong(1, question.getId());
+        preparedStatement.executeUpdate();
+      }
     } catch (SQLException e) {
       log.error(
           DAO_LOGIC_EXCEPTION + question.getId(),
@@ -167,42 +173,37 @@ public class QuestionDAOImpl implements QuestionDAO, MessagesForException {
   }
 
   @Override
-  public List<QuestionImpl> getAllQuestions(BigInteger quizId)
+  public List<QuestionImpl> getAllQuestions(long quizId)
       throws QuestionDoesNotExistException, DAOLogicException {
-    try (PreparedStatement preparedStatement =
-        connection.prepareStatement(properties.getProperty(PROPERTY_GET_ALL_QUESTIONS))) {
-      preparedStatement.setLong(1, quizId.longValue());
-      preparedStatement.executeQuery();
-      ResultSet resultSet = preparedStatement.executeQuery();
-
-      List<QuestionImpl> questions = new ArrayList<>();
-      while (resultSet.next()) {
-        questions.add(new QuestionImpl(
-            BigInteger.valueOf(resultSet.getLong(QUESTION_ID_COLUMN)),
-            resultSet.getString(QUESTION_NAME_COLUMN),
-            QuestionType.convertToRole(resultSet.getInt(QUESTION_TYPE_COLUMN))
-        ));
-      }
-
-      if (questions.isEmpty()) {
-        log.error(QUESTION_NOT_FOUND + quizId);
-        throw new QuestionDoesNotExistException(QUESTION_NOT_FOUND);
-      }
-
-      return questions;
+    List<QuestionImpl> questions;
+    try {
+      questions = hedgedReads.query(connection(), SqlCatalog.get(PROPERTY_GET_ALL_QUESTIONS),
+          preparedStatement -> preparedStatement.setLong(1, quizId),
+          resultSet -> {
+            List<QuestionImpl> rows = new ArrayList<>();
+            QuestionRowMapper mapper = new QuestionRowMapper(resultSet);
+            while (resultSet.next()) {
+              rows.add(mapper.mapRow(resultSet));
+            }
+            return rows;
+          });
     } catch (SQLException e) {
       log.error(DAO_LOGIC_EXCEPTION + quizId, e);
       throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
     }
+
+    if (questions.isEmpty()) {
+      log.error(QUESTION_NOT_FOUND + quizId);
+      throw new QuestionDoesNotExistException(QUESTION_NOT_FOUND);
+    }
+    return questions;
   }
 
   @Override
   public void updateQuestion(Question question) throws DAOLogicException {
     try (PreparedStatement preparedStatement =
-        connection.prepareStatement(properties.getProperty(PROPERTY_UPDATE_QUESTION))) {
-      preparedStatement.setString(1, question.getQuestion());
-      preparedStatement.setInt(2, question.getQuestionType().ordinal());
-      preparedStatement.setLong(3, question.getId().longValue());
+        connection().prepareStatement(SqlCatalog.get(PROPERTY_UPDATE_QUESTION))) {
+      QuestionUpdateBinder.bind(preparedStatement, question);
       preparedStatement.executeUpdate();
     } catch (SQLException e) {
       log.error(
@@ -7,18 +7,30 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import dev.marco.example.springboot.dao.Projection;
 import dev.marco.example.springboot.dao.QuizDAO;
+import dev.marco.example.springboot.dao.RowHandler;
+import dev.marco.example.springboot.dao.mapper.QuizInsertBinder;
+import dev.marco.example.springboot.dao.mapper.QuizLookupBinder;
+import dev.marco.example.springboot.dao.mapper.QuizRowMapper;
+import dev.marco.example.springboot.dao.mapper.QuizSummaryRowMapper;
+import dev.marco.example.springboot.dao.mapper.QuizUpdateBinder;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.*;
 import dev.marco.example.springboot.model.QuizType;
 import dev.marco.example.springboot.model.impl.QuizImpl;
+import dev.marco.example.springboot.transaction.HedgedReads;
+import dev.marco.example.springboot.transaction.UnitOfWorkDataSource;
 import dev.marco.example.springboot.util.DAOUtil;
+import dev.marco.example.springboot.util.SqlCatalog;
 
-import java.math.BigInteger;
+import java.io.IOException;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Properties;
+import java.util.Map;
 
 import static dev.marco.example.springboot.exception.MessagesForException.*;
 
@@ -26,9 +38,20 @@ import static dev.marco.example.springboot.exception.MessagesForException.*;
 public class QuizDAOImpl implements QuizDAO {
 
     private Connection connection;
-    private final Properties properties = new Properties();
+    private final UnitOfWorkDataSource unitOfWorkDataSource;
+    private final HedgedReads hedgedReads;
     private static final Logger log = Logger.getLogger(QuizDAOImpl.class);
 
+    /**
+     * The columns of {@link QuizSummary} by the fields a list may ask for; the quiz type is an
+     * enum ordinal and is always read.
+     */
+    private static final List<Projection.Column> SUMMARY_COLUMNS = List.of(
+            Projection.always(ID_QUIZ),
+            Projection.field("title", TITLE),
+            Projection.field("description", DESCRIPTION),
+            Projection.always(QUIZ_TYPE));
+
     private final String URL;
     private final String USERNAME;
     private final String PASSWORD;
@@ -37,52 +60,56 @@ public class QuizDAOImpl implements QuizDAO {
     QuizDAOImpl(
             @Value(URL_PROPERTY) String URL,
             @Value(USERNAME_PROPERTY) String USERNAME,
-            @Value(PASSWORD_PROPERTY) String PASSWORD
+            @Value(PASSWORD_PROPERTY) String PASSWORD,
+            UnitOfWorkDataSource unitOfWorkDataSource,
+            HedgedReads hedgedReads
     ) throws DAOConfigException {
         this.URL = URL;
         this.USERNAME = USERNAME;
         this.PASSWORD = PASSWORD;
+        this.unitOfWorkDataSource = unitOfWorkDataSource;
+        this.hedgedReads = hedgedReads;
 
-        connection = DAOUtil.getDataSource(URL, USERNAME, PASSWORD, properties);
+        connection = DAOUtil.getDataSource(URL, USERNAME, PASSWORD);
     }
 
     public void setTestConnection() throws DAOConfigException {
         try {
-            connection = DAOUtil.getDataSource(URL, USERNAME + TEST, PASSWORD, properties);
+            connection = DAOUtil.getDataSource(URL, USERNAME + TEST, PASSWORD);
+            unitOfWorkDataSource.useTestSchema();
         } catch (DAOConfigException e) {
             log.error(ERROR_WHILE_SETTING_TEST_CONNECTION + e.getMessage());
             throw new DAOConfigException(ERROR_WHILE_SETTING_TEST_CONNECTION, e);
         }
     }
 
+    private Connection connection() {
+        return DAOUtil.currentConnection(unitOfWorkDataSource, connection);
+    }
+
 
     @Override
     public Quiz createQuiz(Quiz quiz) throws DAOLogicException {
         try {
-            PreparedStatement preparedStatement =
-                    connection.prepareStatement(properties.getProperty(INSERT_INTO_QUIZ));
-
-            preparedStatement.setString(1, quiz.getTitle());
-            preparedStatement.setString(2, quiz.getDescription());
-            preparedStatement.setDate(3, (Date) quiz.getCreationDate());
-            preparedStatement.setLong(4, quiz.getQuizType().ordinal());
-            preparedStatement.setLong(5, quiz.getCreatorId().longValue());
-            preparedStatement.executeUpdate();
+            try (PreparedStatement preparedStatement =
+                         connection().prepareStatement(SqlCatalog.get(INSERT_INTO_QUIZ))) {
+                QuizInsertBinder.bind(preparedStatement, quiz);
+                preparedStatement.executeUpdate();
+            }
 
-            preparedStatement.clearParameters();
-            preparedStatement = connection.prepareStatement(properties.getProperty(GET_QUIZ_ID_BY_DATA));
-            preparedStatement.setString(1, quiz.getTitle());
-            preparedStatement.setString(2, quiz.getDescription());
-            preparedStatement.setLong(3, quiz.getQuizType().ordinal());
+            try (PreparedStatement preparedStatement =
+                         connection().prepareStatement(SqlCatalog.get(GET_QUIZ_ID_BY_DATA))) {
+                QuizLookupBinder.bind(preparedStatement, quiz);
 
-            ResultSet resultSet = preparedStatement.executeQuery();
-            if (!resultSet.next()) {
-                log.error(CREATE_QUIZ_EXCEPTION);
-                throw new DAOLogicException(CREATE_QUIZ_EXCEPTION);
-            }
+                ResultSet resultSet = preparedStatement.executeQuery();
+                if (!resultSet.next()) {
+                    log.error(CREATE_QUIZ_EXCEPTION);
+                    throw new DAOLogicException(CREATE_QUIZ_EXCEPTION);
+                }
 
-            long quizId = resultSet.getLong(ID_QUIZ);
-            quiz.setId(BigInteger.valueOf(quizId));
+                long quizId = resultSet.getLong(ID_QUIZ);
+                quiz.setId(quizId);
+            }
 
             return quiz;
 
@@ -93,16 +120,13 @@ public class QuizDAOImpl implements QuizDAO {
     }
 
     @Override
-    public void updateQuiz(BigInteger id, Quiz quiz)
+    public void updateQuiz(long id, Quiz quiz)
             throws QuizDoesNotExistException, DAOLogicException {
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(UPDATE_QUIZ))) {
+                     connection().prepareStatement(SqlCatalog.get(UPDATE_QUIZ))) {
 
-            preparedStatement.setString(1, quiz.getTitle());
-            preparedStatement.setString(2, quiz.getDescription());
-            preparedStatement.setLong(3, quiz.getQuizType().ordinal());
-            preparedStatement.setLong(4, quiz.getCreatorId().longValue());
-            preparedStatement.setLong(5, id.longValue());
+            int index = QuizUpdateBinder.bind(preparedStatement, quiz);
+            preparedStatement.setLong(index, id);
 
             preparedStatement.executeUpdate();
 
@@ -115,8 +139,8 @@ public class QuizDAOImpl implements QuizDAO {
     @Override
     public void deleteQuiz(Quiz quiz) throws QuizDoesNotExistException, DAOLogicException {
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(DELETE_QUIZ))) {
-            preparedStatement.setLong(1, quiz.getId().longValue());
+                     connection().prepareStatement(SqlCatalog.get(DELETE_QUIZ))) {
+            preparedStatement.setLong(1, quiz.getId());
 
             preparedStatement.executeUpdate();
 
@@ -127,25 +151,17 @@ public class QuizDAOImpl implements QuizDAO {
     }
 
     @Override
-    public QuizImpl getQuizById(BigInteger id) throws QuizDoesNotExistException, DAOLogicException {
+    public QuizImpl getQuizById(long id) throws QuizDoesNotExistException, DAOLogicException {
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_QUIZ_BY_ID))) {
-            preparedStatement.setLong(1, id.longValue());
+                     connection().prepareStatement(SqlCatalog.get(SELECT_QUIZ_BY_ID))) {
+            preparedStatement.setLong(1, id);
             ResultSet resultSet = preparedStatement.executeQuery();
 
             if (!resultSet.next()) {
-                log.error(QUIZ_HAS_NOT_BEEN_RECEIVED);
                 throw new QuizDoesNotExistException(QUIZ_HAS_NOT_BEEN_RECEIVED);
             }
 
-            return QuizImpl.QuizBuilder()
-                    .setId(id)
-                    .setTitle(resultSet.getString(TITLE))
-                    .setDescription(resultSet.getString(DESCRIPTION))
-                    .setQuizType(QuizType.values()[resultSet.getInt(QUIZ_TYPE)])
-                    .setCreationDate(resultSet.getDate(CREATION_DATE))
-                    .setCreatorId(BigInteger.valueOf(resultSet.getInt(CREATOR)))
-                    .build();
+            return new QuizRowMapper(resultSet).mapRow(resultSet);
 
         } catch (SQLException | QuizException e) {
             log.error(GET_QUIZ_BY_ID_EXCEPTION + e.getMessage());
@@ -153,10 +169,33 @@ public class QuizDAOImpl implements QuizDAO {
         }
     }
 
+    @Override
+    public Map<Long, QuizImpl> getQuizzesByIds(Collection<Long> ids) throws DAOLogicException {
+        Map<Long, QuizImpl> quizzes = new HashMap<>();
+        String script = SqlCatalog.get(SELECT_QUIZZES_BY_IDS);
+        for (long[] chunk : DAOUtil.inListChunks(ids)) {
+            try (PreparedStatement preparedStatement =
+                         connection().prepareStatement(DAOUtil.expandInList(script, chunk.length))) {
+                DAOUtil.bindInList(preparedStatement, chunk);
+                ResultSet resultSet = preparedStatement.executeQuery();
+
+                QuizRowMapper mapper = new QuizRowMapper(resultSet);
+                while (resultSet.next()) {
+                    QuizImpl quiz = mapper.mapRow(resultSet);
+                    quizzes.put(quiz.getId(), quiz);
+                }
+            } catch (SQLException | QuizException e) {
+                log.error(GET_QUIZZES_BY_IDS_EXCEPTION + e.getMessage());
+                throw new DAOLogicException(GET_QUIZZES_BY_IDS_EXCEPTION, e);
+            }
+        }
+        return quizzes;
+    }
+
     @Override
     public boolean existQuizByTitle(String title) throws DAOLogicException {
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_QUIZ_BY_TITLE))) {
+                     connection().prepareStatement(SqlCatalog.get(SELECT_QUIZ_BY_TITLE))) {
 
             preparedStatement.setString(1, title);
             ResultSet resultSet = preparedStatement.executeQuery();
@@ -169,60 +208,60 @@ public class QuizDAOImpl implements QuizDAO {
     }
 
     @Override
-    public List<Quiz> getAllQuizzes() throws QuizDoesNotExistException, DAOLogicException {
+    public List<QuizSummary> getAllQuizzes() throws QuizDoesNotExistException, DAOLogicException {
 
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_ALL_QUIZZES))) {
+                     connection().prepareStatement(SqlCatalog.get(SELECT_ALL_QUIZZES))) {
 
             ResultSet resultSet = preparedStatement.executeQuery();
 
-            List<Quiz> quizzes = new ArrayList<>();
+            List<QuizSummary> quizzes = new ArrayList<>();
 
+            QuizSummaryRowMapper mapper = new QuizSummaryRowMapper(resultSet);
             while (resultSet.next()) {
-
-                Quiz quiz = QuizImpl.QuizBuilder()
-                        .setId(BigInteger.valueOf(resultSet.getLong(ID_QUIZ)))
-                        .setTitle(resultSet.getString(TITLE))
-                        .setDescription(resultSet.getString(DESCRIPTION))
-                        .setQuizType(QuizType.values()[resultSet.getInt(QUIZ_TYPE)])
-                        .setCreationDate(resultSet.getDate(CREATION_DATE))
-                        .setCreatorId(BigInteger.valueOf(resultSet.getInt(CREATOR)))
-                        .build();
-
-                quizzes.add(quiz);
+                quizzes.add(mapper.mapRow(resultSet));
             }
 
             return quizzes;
-        } catch (SQLException | QuizException e) {
+        } catch (SQLException e) {
             log.error(GET_ALL_QUIZZES_EXCEPTION + e.getMessage());
             throw new DAOLogicException(GET_ALL_QUIZZES_EXCEPTION, e);
         }
     }
 
     @Override
-    public List<Quiz> getLastCreatedQuizzes(int count) throws DAOLogicException {
+    public void streamAllQuizzes(RowHandler<QuizSummary> handler) throws DAOLogicException, IOException {
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_LAST_CREATED_QUIZZES))) {
-
-            preparedStatement.setInt(1, count);
-            ResultSet resultSet = preparedStatement.executeQuery();
-
-            List<Quiz> quizzes = new ArrayList<>();
+                     DAOUtil.prepareStreamingStatement(connection(), SqlCatalog.get(SELECT_ALL_QUIZZES));
+             ResultSet resultSet = preparedStatement.executeQuery()) {
 
+            QuizSummaryRowMapper mapper = new QuizSummaryRowMapper(resultSet);
             while (resultSet.next()) {
-                Quiz quiz = QuizImpl.QuizBuilder()
-                        .setId(BigInteger.valueOf(resultSet.getLong(ID_QUIZ)))
-                        .setTitle(resultSet.getString(TITLE))
-                        .setDescription(resultSet.getString(DESCRIPTION))
-                        .setQuizType(QuizType.values()[resultSet.getInt(QUIZ_TYPE)])
-                        .setCreationDate(resultSet.getDate(CREATION_DATE))
-                        .setCreatorId(BigInteger.valueOf(resultSet.getInt(CREATOR)))
-                        .build();
-                quizzes.add(quiz);
+                handler.handle(mapper.mapRow(resultSet));
             }
-            return quizzes;
+        } catch (SQLException e) {
+            log.error(GET_ALL_QUIZZES_EXCEPTION + e.getMessage());
+            throw new DAOLogicException(GET_ALL_QUIZZES_EXCEPTION, e);
+        }
+    }
 
-        } catch (SQLException | QuizException e) {
+    @Override
+    public List<QuizSummary> getLastCreatedQuizzes(int count) throws DAOLogicException {
+        try {
+            return hedgedReads.query(connection(), SqlCatalog.get(SELECT_LAST_CREATED_QUIZZES),
+                    preparedStatement -> preparedStatement.setInt(1, count),
+                    resultSet -> {
+                        List<QuizSummary> quizzes = new ArrayList<>();
+
+                        QuizSummaryRowMapper mapper = new QuizSummaryRowMapper(resultSet);
+                        while (resultSet.next()) {
+                            QuizSummary quiz = mapper.mapRow(resultSet);
+                            quizzes.add(quiz);
+                        }
+                        return quizzes;
+                    });
+
+        } catch (SQLException e) {
             log.error(GET_LAST_CREATED_QUIZZES_EXCEPTION + e.getMessage());
             throw new DAOLogicException(GET_LAST_CREATED_QUIZZES_EXCEPTION, e);
         }
@@ -230,61 +269,46 @@ public class QuizDAOImpl implements QuizDAO {
 
     @Override
     public Quiz getQuizByTitle(String title) throws QuizDoesNotExistException, DAOLogicException {
-        try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_QUIZ_BY_TITLE))) {
-
-            preparedStatement.setString(1, title);
-            ResultSet resultSet = preparedStatement.executeQuery();
-
-            if (!resultSet.next()) {
-                log.error(QUIZ_HAS_NOT_BEEN_RECEIVED);
-                throw new QuizDoesNotExistException(QUIZ_HAS_NOT_BEEN_RECEIVED);
-            }
-
-            return QuizImpl.QuizBuilder()
-                    .setId(BigInteger.valueOf(resultSet.getLong(ID_QUIZ)))
-                    .setTitle(resultSet.getString(TITLE))
-                    .setDescription(resultSet.getString(DESCRIPTION))
-                    .setQuizType(QuizType.values()[resultSet.getInt(QUIZ_TYPE)])
-                    .setCreationDate(resultSet.getDate(CREATION_DATE))
-                    .setCreatorId(BigInteger.valueOf(resultSet.getInt(CREATOR)))
-                    .build();
+        Quiz quiz;
+        try {
+            quiz = hedgedReads.query(connection(), SqlCatalog.get(SELECT_QUIZ_BY_TITLE),
+                    preparedStatement -> preparedStatement.setString(1, title),
+                    resultSet -> resultSet.next() ? new QuizRowMapper(resultSet).mapRow(resultSet) : null);
 
         } catch (SQLException | QuizException e) {
             log.error(GET_QUIZ_BY_TITLE_EXCEPTION + e.getMessage());
             throw new DAOLogicException(GET_QUIZ_BY_TITLE_EXCEPTION, e);
         }
+
+        if (quiz == null) {
+            throw new QuizDoesNotExistException(QUIZ_HAS_NOT_BEEN_RECEIVED);
+        }
+        return quiz;
     }
 
     @Override
-    public List<Quiz> getQuizzesByType(QuizType quizType)
+    public List<QuizSummary> getQuizzesByType(QuizType quizType)
             throws QuizDoesNotExistException, DAOLogicException {
 
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_QUIZZES_BY_TYPE))) {
+                     connection().prepareStatement(SqlCatalog.get(SELECT_QUIZZES_BY_TYPE))) {
 
             preparedStatement.setLong(1, quizType.ordinal());
 
             ResultSet resultSet = preparedStatement.executeQuery();
 
-            List<Quiz> quizzes = new ArrayList<>();
+            List<QuizSummary> quizzes = new ArrayList<>();
 
+            QuizSummaryRowMapper mapper = new QuizSummaryRowMapper(resultSet);
             while (resultSet.next()) {
-                Quiz quiz = QuizImpl.QuizBuilder()
-                        .setId(BigInteger.valueOf(resultSet.getLong(ID_QUIZ)))
-                        .setTitle(resultSet.getString(TITLE))
-                        .setDescription(resultSet.getString(DESCRIPTION))
-                        .setQuizType(QuizType.values()[resultSet.getInt(QUIZ_TYPE)])
-                        .setCreationDate(resultSet.getDate(CREATION_DATE))
-                        .setCreatorId(BigInteger.valueOf(resultSet.getInt(CREATOR)))
-                        .build();
+                QuizSummary quiz = mapper.mapRow(resultSet);
 
                 quizzes.add(quiz);
             }
 
             return quizzes;
 
-        } catch (SQLException | QuizException e) {
+        } catch (SQLException e) {
             log.error(GET_QUIZZES_BY_TYPE_EXCEPTION + e.getMessage());
             throw new DAOLogicException(GET_QUIZZES_BY_TYPE_EXCEPTION, e);
         }
@@ -293,7 +317,7 @@ public class QuizDAOImpl implements QuizDAO {
     @Override
     public int countOfQuizzesLikeTitle(String title) throws QuizException {
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_COUNT_OF_QUIZZES_BY_TITLE))) {
+                     connection().prepareStatement(SqlCatalog.get(SELECT_COUNT_OF_QUIZZES_BY_TITLE))) {
             preparedStatement.setString(1, "%" + title.toLowerCase() + "%");
             ResultSet resultSet = preparedStatement.executeQuery();
             if (resultSet.next()) {
@@ -307,10 +331,12 @@ public class QuizDAOImpl implements QuizDAO {
     }
 
     @Override
-    public Page<Quiz> getQuizzesLikeTitle(Pageable pageable, String title) throws QuizException {
+    public Page<QuizSummary> getQuizzesLikeTitle(Pageable pageable, String title, Projection projection)
+            throws QuizException {
 
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_QUIZZES_LIKE_TITLE))) {
+                     connection().prepareStatement(
+                             String.format(SqlCatalog.get(SELECT_QUIZZES_LIKE_TITLE), projection.select(SUMMARY_COLUMNS)))) {
 
             preparedStatement.setString(1, "%" + title.toLowerCase() + "%");
             preparedStatement.setLong(2, pageable.getOffset());
@@ -318,24 +344,17 @@ public class QuizDAOImpl implements QuizDAO {
 
             ResultSet resultSet = preparedStatement.executeQuery();
 
-            List<Quiz> quizzes = new ArrayList<>();
+            List<QuizSummary> quizzes = new ArrayList<>();
 
+            QuizSummaryRowMapper mapper = new QuizSummaryRowMapper(resultSet);
             while (resultSet.next()) {
+                QuizSummary quiz = mapper.mapRow(resultSet);
 
-                Quiz quiz = QuizImpl.QuizBuilder()
-                        .setId(BigInteger.valueOf(resultSet.getLong(ID_QUIZ)))
-                        .setTitle(resultSet.getString(TITLE))
-                        .setDescription(resultSet.getString(DESCRIPTION))
-                        .setQuizType(QuizType.values()[resultSet.getInt(QUIZ_TYPE)])
-                        .setCreationDate(resultSet.getDate(CREATION_DATE))
-                        .setCreatorId(BigInteger.valueOf(resultSet.getInt(CREATOR)))
-                        .build();
-
-                quizzes.add(quiz);
+                quizzes.add(projection.isAll() ? quiz : quiz.projected());
             }
 
             return new PageImpl<>(quizzes, pageable, countOfQuizzesLikeTitle(title));
-        } catch (SQLException | QuizException e) {
+        } catch (SQLException e) {
             log.error(QUIZ_NOT_FOUND_EXCEPTION);
             throw new QuizException(QUIZ_NOT_FOUND_EXCEPTION + e.getMessage());
         }
@@ -345,7 +364,7 @@ public class QuizDAOImpl implements QuizDAO {
     @Override
     public int countOfQuizzes() throws QuizException {
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_COUNT_OF_QUIZZES))) {
+                     connection().prepareStatement(SqlCatalog.get(SELECT_COUNT_OF_QUIZZES))) {
             ResultSet resultSet = preparedStatement.executeQuery();
             if (resultSet.next()) {
                 return resultSet.getInt(1);
@@ -358,32 +377,26 @@ public class QuizDAOImpl implements QuizDAO {
     }
 
     @Override
-    public Page<Quiz> getQuizzesByPage(Pageable pageable) throws QuizException {
+    public Page<QuizSummary> getQuizzesByPage(Pageable pageable, Projection projection) throws QuizException {
         try (PreparedStatement preparedStatement =
-                     connection.prepareStatement(properties.getProperty(SELECT_QUIZZES_BY_ROWS))) {
+                     connection().prepareStatement(
+                             String.format(SqlCatalog.get(SELECT_QUIZZES_BY_ROWS), projection.select(SUMMARY_COLUMNS)))) {
 
             preparedStatement.setLong(1, pageable.getOffset());
             preparedStatement.setInt(2, pageable.getPageSize());
             ResultSet resultSet = preparedStatement.executeQuery();
 
-            List<Quiz> quizzes = new ArrayList<>();
+            List<QuizSummary> quizzes = new ArrayList<>();
 
+            QuizSummaryRowMapper mapper = new QuizSummaryRowMapper(resultSet);
             while (resultSet.next()) {
+                QuizSummary quiz = mapper.mapRow(resultSet);
 
-                Quiz quiz = QuizImpl.QuizBuilder()
-                        .setId(BigInteger.valueOf(resultSet.getLong(ID_QUIZ)))
-                        .setTitle(resultSet.getString(TITLE))
-                        .setDescription(resultSet.getString(DESCRIPTION))
-                        .setQuizType(QuizType.values()[resultSet.getInt(QUIZ_TYPE)])
-                        .setCreationDate(resultSet.getDate(CREATION_DATE))
-                        .setCreatorId(BigInteger.valueOf(resultSet.getInt(CREATOR)))
-                        .build();
-
-                quizzes.add(quiz);
+                quizzes.add(projection.isAll() ? quiz : quiz.projected());
             }
 
             return new PageImpl<>(quizzes, pageable, countOfQuizzes());
-        } catch (SQLException | QuizException e) {
+        } catch (SQLException e) {
             log.error(QUIZ_NOT_FOUND_EXCEPTION);
             throw new QuizException(QUIZ_NOT_FOUND_EXCEPTION + e.getMessage());
         }
@@ -2,8 +2,6 @@ package dev.marco.example.springboot.dao.impl;
 
 import java.util.stream.Collectors;
 
-import dev.marco.example.springboot.model.QuizType;
-import dev.marco.example.springboot.model.impl.QuizImpl;
 import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,13 +9,14 @@ import org.springframework.stereotype.Repository;
 import dev.marco.example.springboot.dao.UserAccomplishedQuizDAO;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.impl.QuizAccomplishedImpl;
+import dev.marco.example.springboot.dao.mapper.QuizAccomplishedRowMapper;
+import dev.marco.example.springboot.transaction.UnitOfWorkDataSource;
 import dev.marco.example.springboot.util.DAOUtil;
+import dev.marco.example.springboot.util.SqlCatalog;
 
-import java.math.BigInteger;
 import java.sql.*;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Properties;
 import java.util.Set;
 
 import static dev.marco.example.springboot.exception.MessagesForException.*;
@@ -26,7 +25,7 @@ import static dev.marco.example.springboot.exception.MessagesForException.*;
 public class UserAccomplishedQuizDAOImpl implements UserAccomplishedQuizDAO {
 
   private Connection connection;
-  private final Properties properties = new Properties();
+  private final UnitOfWorkDataSource unitOfWorkDataSource;
   private static final Logger log = Logger.getLogger(UserAccomplishedQuizDAOImpl.class);
 
   private final String URL;
@@ -37,50 +36,46 @@ public class UserAccomplishedQuizDAOImpl implements UserAccomplishedQuizDAO {
   UserAccomplishedQuizDAOImpl(
       @Value(URL_PROPERTY) String URL,
       @Value(USERNAME_PROPERTY) String USERNAME,
-      @Value(PASSWORD_PROPERTY) String PASSWORD
+      @Value(PASSWORD_PROPERTY) String PASSWORD,
+      UnitOfWorkDataSource unitOfWorkDataSource
   ) throws DAOConfigException {
     this.URL = URL;
     this.USERNAME = USERNAME;
     this.PASSWORD = PASSWORD;
+    this.unitOfWorkDataSource = unitOfWorkDataSource;
 
-    connection = DAOUtil.getDataSource(URL, USERNAME, PASSWORD, properties);
+    connection = DAOUtil.getDataSource(URL, USERNAME, PASSWORD);
   }
 
   public void setTestConnection()
       throws DAOConfigException {
     try {
-      connection = DAOUtil.getDataSource(URL, USERNAME + TEST, PASSWORD, properties);
+      connection = DAOUtil.getDataSource(URL, USERNAME + TEST, PASSWORD);
+      unitOfWorkDataSource.useTestSchema();
     } catch (DAOConfigException e) {
       log.error(TEST_CONNECTION_ERR + e.getMessage());
       throw new DAOConfigException(TEST_CONNECTION_ERR, e);
     }
   }
 
+  private Connection connection() {
+    return DAOUtil.currentConnection(unitOfWorkDataSource, connection);
+  }
+
   @Override
-  public Set<QuizAccomplishedImpl> getAccomplishedQuizesByUser(BigInteger idUser)
+  public Set<QuizAccomplishedImpl> getAccomplishedQuizesByUser(long idUser)
       throws DAOLogicException, QuizDoesNotExistException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(SEARCH_ACCOMPLISHED_QUIZES_BY_USER_ID))) {
-      statement.setLong(1, idUser.longValue());
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(SEARCH_ACCOMPLISHED_QUIZES_BY_USER_ID))) {
+      statement.setLong(1, idUser);
       ResultSet resultSet = statement.executeQuery();
       Set<QuizAccomplishedImpl> quizzes = new HashSet<>();
       if (!resultSet.isBeforeFirst()) {
         return quizzes;
       }
+      QuizAccomplishedRowMapper mapper = new QuizAccomplishedRowMapper(resultSet);
       while (resultSet.next()) {
-        QuizAccomplishedImpl quiz = new QuizAccomplishedImpl(
-            resultSet.getInt(CORRECT_ANSWERS),
-            resultSet.getInt(IS_FAVOURITE) == TRUE_SQL,
-            resultSet.getDate(DATE_CREATE),
-            QuizImpl.QuizBuilder()
-                .setId(BigInteger.valueOf(resultSet.getLong(ID_QUIZ)))
-                .setTitle(resultSet.getString(TITLE))
-                .setDescription(resultSet.getString(DESCRIPTION))
-                .setCreationDate(resultSet.getDate(CREATION_DATE))
-                .setQuizType(QuizType.values()[resultSet.getInt(QUIZ_TYPE)])
-                .setCreatorId(BigInteger.valueOf(resultSet.getLong(CREATOR)))
-                .build());
-        quizzes.add(quiz);
+        quizzes.add(mapper.mapRow(resultSet));
       }
       return quizzes;
     } catch (SQLException | QuizException e) {
@@ -90,13 +85,13 @@ public class UserAccomplishedQuizDAOImpl implements UserAccomplishedQuizDAO {
   }
 
   @Override
-  public Set<QuizAccomplishedImpl> getFavoriteQuizesByUser(BigInteger id) throws DAOLogicException {
+  public Set<QuizAccomplishedImpl> getFavoriteQuizesByUser(long id) throws DAOLogicException {
     try {
       return getAccomplishedQuizesByUser(id)
           .stream()
           .filter(QuizAccomplishedImpl::getFavourite)
           .collect(Collectors.toSet());
-    } catch (Exception e) {
+    } catch (QuizDoesNotExistException e) {
       log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
       throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
     }
@@ -104,16 +99,16 @@ public class UserAccomplishedQuizDAOImpl implements UserAccomplishedQuizDAO {
   }
 
   @Override
-  public void addAccomplishedQuiz(BigInteger idUser, QuizAccomplishedImpl quiz)
+  public void addAccomplishedQuiz(long idUser, QuizAccomplishedImpl quiz)
       throws DAOLogicException {
-    try (PreparedStatement preparedStatement = connection.prepareStatement(
-        properties.getProperty(ADD_ACCOMPLISHED_QUIZ))) {
+    try (PreparedStatement preparedStatement = connection().prepareStatement(
+        SqlCatalog.get(ADD_ACCOMPLISHED_QUIZ))) {
       if (isAccomplishedQuiz(idUser, quiz.getQuiz().getId())) {
         return;
       }
-      preparedStatement.setLong(1, idUser.longValue());
+      preparedStatement.setLong(1, idUser);
       preparedStatement.setDate(2, new Date(System.currentTimeMillis()));
-      preparedStatement.setLong(3, quiz.getQuiz().getId().longValue());
+      preparedStatement.setLong(3, quiz.getQuiz().getId());
       preparedStatement.setInt(4, quiz.getCorrectAnswers());
       preparedStatement.setInt(5, quiz.getIntFavourite());
       preparedStatement.executeUpdate();
@@ -124,14 +119,14 @@ public class UserAccomplishedQuizDAOImpl implements UserAccomplishedQuizDAO {
   }
 
   @Override
-  public void editAccomplishedQuiz(BigInteger idUser, QuizAccomplishedImpl newQuiz)
+  public void editAccomplishedQuiz(long idUser, QuizAccomplishedImpl newQuiz)
       throws DAOLogicException {
-    try (PreparedStatement preparedStatement = connection
-        .prepareStatement(properties.getProperty(UPDATE_ACCOMPLISHED_QUIZ))) {
+    try (PreparedStatement preparedStatement = connection()
+        .prepareStatement(SqlCatalog.get(UPDATE_ACCOMPLISHED_QUIZ))) {
       preparedStatement.setDate(1, new Date(System.currentTimeMillis()));
       preparedStatement.setInt(2, newQuiz.getCorrectAnswers());
-      preparedStatement.setLong(3, idUser.longValue());
-      preparedStatement.setLong(4, newQuiz.getQuiz().getId().longValue());
+      preparedStatement.setLong(3, idUser);
+      preparedStatement.setLong(4, newQuiz.getQuiz().getId());
       preparedStatement.executeUpdate();
     } catch (SQLException throwables) {
       log.error(DAO_LOGIC_EXCEPTION + throwables.getMessage());
@@ -140,14 +135,14 @@ public class UserAccomplishedQuizDAOImpl implements UserAccomplishedQuizDAO {
   }
 
   @Override
-  public void setIsFavoriteQuiz(BigInteger idUser, BigInteger idQuiz, int isFavourite)
+  public void setIsFavoriteQuiz(long idUser, long idQuiz, int isFavourite)
       throws DAOLogicException {
 
-    try (PreparedStatement preparedStatement = connection.prepareStatement(
-        properties.getProperty(SET_IS_FAVOURITE))) {
+    try (PreparedStatement preparedStatement = connection().prepareStatement(
+        SqlCatalog.get(SET_IS_FAVOURITE))) {
       preparedStatement.setInt(1, isFavourite);
-      preparedStatement.setLong(2, idUser.longValue());
-      preparedStatement.setLong(3, idQuiz.longValue());
+      preparedStatement.setLong(2, idUser);
+      preparedStatement.setLong(3, idQuiz);
       preparedStatement.executeUpdate();
     } catch (SQLException throwables) {
       log.error(DAO_LOGIC_EXCEPTION + throwables.getMessage());
@@ -156,30 +151,18 @@ public class UserAccomplishedQuizDAOImpl implements UserAccomplishedQuizDAO {
   }
 
   @Override
-  public QuizAccomplishedImpl getAccomplishedQuizById(BigInteger idUser, BigInteger idQuiz)
+  public QuizAccomplishedImpl getAccomplishedQuizById(long idUser, long idQuiz)
       throws QuizDoesNotExistException, DAOLogicException {
-    try (PreparedStatement preparedStatement = connection
-        .prepareStatement(properties.getProperty(GET_ACCOMPLISHED_QUIZ))) {
-      preparedStatement.setLong(1, idUser.longValue());
-      preparedStatement.setLong(2, idQuiz.longValue());
+    try (PreparedStatement preparedStatement = connection()
+        .prepareStatement(SqlCatalog.get(GET_ACCOMPLISHED_QUIZ))) {
+      preparedStatement.setLong(1, idUser);
+      preparedStatement.setLong(2, idQuiz);
       ResultSet resultSet = preparedStatement.executeQuery();
       if (!resultSet.isBeforeFirst()) {
-        log.error(ACCOMPLISHED_QUIZ_HAS_NOT_BEEN_FOUNDED + MESSAGE_FOR_GET_ACCOMPLISHED_QUIZ_BY_ID);
         throw new QuizDoesNotExistException(ACCOMPLISHED_QUIZ_HAS_NOT_BEEN_FOUNDED);
       }
       resultSet.next();
-      return new QuizAccomplishedImpl(
-          resultSet.getInt(CORRECT_ANSWERS),
-          resultSet.getInt(IS_FAVOURITE) == TRUE_SQL,
-          resultSet.getDate(DATE_CREATE),
-          QuizImpl.QuizBuilder()
-              .setId(BigInteger.valueOf(resultSet.getLong(ID_QUIZ)))
-              .setTitle(resultSet.getString(TITLE))
-              .setDescription(resultSet.getString(DESCRIPTION))
-              .setCreationDate(resultSet.getDate(CREATION_DATE))
-              .setQuizType(QuizType.values()[resultSet.getInt(QUIZ_TYPE)])
-              .setCreatorId(BigInteger.valueOf(resultSet.getLong(CREATOR)))
-              .build());
+      return new QuizAccomplishedRowMapper(resultSet).mapRow(resultSet);
     } catch (SQLException | QuizException throwables) {
       log.error(DAO_LOGIC_EXCEPTION + throwables.getMessage());
       throw new DAOLogicException(DAO_LOGIC_EXCEPTION, throwables);
@@ -187,12 +170,12 @@ public class UserAccomplishedQuizDAOImpl implements UserAccomplishedQuizDAO {
   }
 
   @Override
-  public boolean isAccomplishedQuiz(BigInteger idUser, BigInteger idQuiz)
+  public boolean isAccomplishedQuiz(long idUser, long idQuiz)
       throws DAOLogicException {
-    try (PreparedStatement preparedStatement = connection
-        .prepareStatement(properties.getProperty(GET_ACCOMPLISHED_QUIZ))) {
-      preparedStatement.setLong(1, idUser.longValue());
-      preparedStatement.setLong(2, idQuiz.longValue());
+    try (PreparedStatement preparedStatement = connection()
+        .prepareStatement(SqlCatalog.get(GET_ACCOMPLISHED_QUIZ))) {
+      preparedStatement.setLong(1, idUser);
+      preparedStatement.setLong(2, idQuiz);
       ResultSet resultSet = preparedStatement.executeQuery();
       if (resultSet.isBeforeFirst()) {
         return true;
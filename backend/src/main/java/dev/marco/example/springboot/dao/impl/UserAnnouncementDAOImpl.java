@@ -5,16 +5,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import dev.marco.example.springboot.dao.UserAnnouncementDAO;
+import dev.marco.example.springboot.dao.mapper.AnnouncementCardRowMapper;
+import dev.marco.example.springboot.dao.mapper.UserSummaryRowMapper;
 import dev.marco.example.springboot.exception.*;
-import dev.marco.example.springboot.model.Announcement;
-import dev.marco.example.springboot.model.User;
-import dev.marco.example.springboot.model.UserActive;
-import dev.marco.example.springboot.model.UserRoles;
-import dev.marco.example.springboot.model.impl.AnnouncementImpl;
-import dev.marco.example.springboot.model.impl.UserImpl;
+import dev.marco.example.springboot.model.AnnouncementCard;
+import dev.marco.example.springboot.model.UserSummary;
+import dev.marco.example.springboot.transaction.HedgedReads;
+import dev.marco.example.springboot.transaction.UnitOfWorkDataSource;
 import dev.marco.example.springboot.util.DAOUtil;
+import dev.marco.example.springboot.util.SqlCatalog;
 
-import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -29,7 +29,8 @@ import static dev.marco.example.springboot.exception.MessagesForException.*;
 public class UserAnnouncementDAOImpl implements UserAnnouncementDAO {
 
   private Connection connection;
-  private final Properties properties = new Properties();
+  private final UnitOfWorkDataSource unitOfWorkDataSource;
+  private final HedgedReads hedgedReads;
   private static final Logger log = Logger.getLogger(UserAnnouncementDAOImpl.class);
 
   private final String URL;
@@ -40,49 +41,47 @@ public class UserAnnouncementDAOImpl implements UserAnnouncementDAO {
   public UserAnnouncementDAOImpl(
       @Value(URL_PROPERTY) String URL,
       @Value(USERNAME_PROPERTY) String USERNAME,
-      @Value(PASSWORD_PROPERTY) String PASSWORD
+      @Value(PASSWORD_PROPERTY) String PASSWORD,
+      UnitOfWorkDataSource unitOfWorkDataSource,
+      HedgedReads hedgedReads
   ) throws DAOConfigException {
     this.URL = URL;
     this.USERNAME = USERNAME;
     this.PASSWORD = PASSWORD;
+    this.unitOfWorkDataSource = unitOfWorkDataSource;
+    this.hedgedReads = hedgedReads;
 
-    connection = DAOUtil.getDataSource(URL, USERNAME, PASSWORD, properties);
+    connection = DAOUtil.getDataSource(URL, USERNAME, PASSWORD);
   }
 
   public void setTestConnection() throws DAOConfigException {
     try {
-      connection = DAOUtil.getDataSource(URL, USERNAME + TEST, PASSWORD, properties);
+      connection = DAOUtil.getDataSource(URL, USERNAME + TEST, PASSWORD);
+      unitOfWorkDataSource.useTestSchema();
     } catch (DAOConfigException e) {
       log.error(ERROR_TEST_CONNECTION + e.getMessage());
       throw new DAOConfigException(ERROR_TEST_CONNECTION, e);
     }
   }
 
+  private Connection connection() {
+    return DAOUtil.currentConnection(unitOfWorkDataSource, connection);
+  }
+
   @Override
-  public Set<Announcement> getAnnouncementsLikedByUser(BigInteger idUser)
+  public Set<AnnouncementCard> getAnnouncementsLikedByUser(long idUser)
       throws AnnouncementDoesNotExistException, DAOLogicException, AnnouncementException {
-    try (PreparedStatement preparedStatement = connection.prepareStatement(
-        properties.getProperty(SELECT_ANNOUNCEMENT_LIKED_BY_USER))) {
-      preparedStatement.setLong(1, idUser.longValue());
-      ResultSet resultSet = preparedStatement.executeQuery();
-      Set<Announcement> announcements = new HashSet<>();
-      if (!resultSet.isBeforeFirst()) {
-        return announcements;
-      }
-      while (resultSet.next()) {
-        Announcement announcement = new AnnouncementImpl.AnnouncementBuilder()
-            .setId(BigInteger.valueOf(resultSet.getLong(ID_ANNOUNCEMENT)))
-            .setTitle(resultSet.getString(TITLE))
-            .setDescription(resultSet.getString(DESCRIPTION))
-            .setIdUser(BigInteger.valueOf(resultSet.getLong(OWNER)))
-            .setDate(resultSet.getDate(DATE_CREATE))
-            .setAddress(resultSet.getString(ADDRESS))
-            .setParticipantsCap(resultSet.getInt(LIKES))
-            .setIsLiked(true)
-            .build();
-        announcements.add(announcement);
-      }
-      return announcements;
+    try {
+      return hedgedReads.query(connection(), SqlCatalog.get(SELECT_ANNOUNCEMENT_LIKED_BY_USER),
+          preparedStatement -> preparedStatement.setLong(1, idUser),
+          resultSet -> {
+            Set<AnnouncementCard> announcements = new HashSet<>();
+            AnnouncementCardRowMapper mapper = new AnnouncementCardRowMapper(resultSet);
+            while (resultSet.next()) {
+              announcements.add(mapper.mapRow(resultSet));
+            }
+            return announcements;
+          });
     } catch (SQLException e) {
       log.error(e.getMessage(), e);
       throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
@@ -90,47 +89,31 @@ public class UserAnnouncementDAOImpl implements UserAnnouncementDAO {
   }
 
   @Override
-  public Set<User> getUsersLikedAnnouncement(BigInteger idAnnouncement)
+  public Set<UserSummary> getUsersLikedAnnouncement(long idAnnouncement)
       throws UserDoesNotExistException, DAOLogicException {
-    try (PreparedStatement preparedStatement = connection.prepareStatement(
-        properties.getProperty(SELECT_USERS_LIKED_ANNOUNCEMENT))) {
-      preparedStatement.setLong(1, idAnnouncement.longValue());
+    try (PreparedStatement preparedStatement = connection().prepareStatement(
+        SqlCatalog.get(SELECT_USERS_LIKED_ANNOUNCEMENT))) {
+      preparedStatement.setLong(1, idAnnouncement);
       ResultSet resultSet = preparedStatement.executeQuery();
-      Set<User> users = new HashSet<>();
-      if (!resultSet.isBeforeFirst()) {
-        return users;
-      }
+      Set<UserSummary> users = new HashSet<>();
+      UserSummaryRowMapper mapper = new UserSummaryRowMapper(resultSet);
       while (resultSet.next()) {
-        User user = new UserImpl.UserBuilder()
-            .setId(BigInteger.valueOf(resultSet.getLong(properties.getProperty(USER_ID))))
-            .setFirstName(resultSet.getString(properties.getProperty(USER_FIRST_NAME)))
-            .setLastName(resultSet.getString(properties.getProperty(USER_LAST_NAME)))
-            .setEmail(resultSet.getString(properties.getProperty(USER_EMAIL)))
-            .setPassword(resultSet.getString(properties.getProperty(USER_PASSWORD)))
-            .setRole(
-                UserRoles.convertFromIntToRole(resultSet.getInt(properties.getProperty(USER_ROLE))))
-            .setActive(
-                resultSet.getInt(properties.getProperty(USER_ACTIVE))
-                    == UserActive.ACTIVE.ordinal())
-            .setEmailCode(resultSet.getString(properties.getProperty(USER_EMAIL_CODE)))
-            .setDescription(resultSet.getString(properties.getProperty(USER_DESCRIPTION)))
-            .build();
-        users.add(user);
+        users.add(mapper.mapRow(resultSet));
       }
       return users;
-    } catch (SQLException | UserException e) {
+    } catch (SQLException e) {
       log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
       throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
     }
   }
 
   @Override
-  public boolean isParticipant(BigInteger idAnnouncement, BigInteger idUser)
+  public boolean isParticipant(long idAnnouncement, long idUser)
       throws DAOLogicException {
-    try (PreparedStatement preparedStatement = connection.prepareStatement(
-        properties.getProperty(GET_PARTICIPANT_BY_ID))) {
-      preparedStatement.setLong(1, idAnnouncement.longValue());
-      preparedStatement.setLong(2, idUser.longValue());
+    try (PreparedStatement preparedStatement = connection().prepareStatement(
+        SqlCatalog.get(GET_PARTICIPANT_BY_ID))) {
+      preparedStatement.setLong(1, idAnnouncement);
+      preparedStatement.setLong(2, idUser);
       ResultSet resultSet = preparedStatement.executeQuery();
       if (resultSet.isBeforeFirst()) {
         return true;
@@ -143,12 +126,12 @@ public class UserAnnouncementDAOImpl implements UserAnnouncementDAO {
   }
 
   @Override
-  public void addParticipant(BigInteger idAnnouncement, BigInteger idUser)
+  public void addParticipant(long idAnnouncement, long idUser)
       throws DAOLogicException {
-    try (PreparedStatement preparedStatement = connection.prepareStatement(
-        properties.getProperty(ADD_PARTICIPANT))) {
-      preparedStatement.setLong(1, idAnnouncement.longValue());
-      preparedStatement.setLong(2, idUser.longValue());
+    try (PreparedStatement preparedStatement = connection().prepareStatement(
+        SqlCatalog.get(ADD_PARTICIPANT))) {
+      preparedStatement.setLong(1, idAnnouncement);
+      preparedStatement.setLong(2, idUser);
       preparedStatement.executeUpdate();
     } catch (SQLException e) {
       log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
@@ -157,12 +140,12 @@ public class UserAnnouncementDAOImpl implements UserAnnouncementDAO {
   }
 
   @Override
-  public void deleteParticipant(BigInteger idAnnouncement, BigInteger idUser)
+  public void deleteParticipant(long idAnnouncement, long idUser)
       throws DAOLogicException {
-    try (PreparedStatement preparedStatement = connection.prepareStatement(
-        properties.getProperty(DELETE_PARTICIPANT))) {
-      preparedStatement.setLong(1, idAnnouncement.longValue());
-      preparedStatement.setLong(2, idUser.longValue());
+    try (PreparedStatement preparedStatement = connection().prepareStatement(
+        SqlCatalog.get(DELETE_PARTICIPANT))) {
+      preparedStatement.setLong(1, idAnnouncement);
+      preparedStatement.setLong(2, idUser);
       preparedStatement.executeUpdate();
     } catch (SQLException e) {
       log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
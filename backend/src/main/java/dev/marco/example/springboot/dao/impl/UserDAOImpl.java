@@ -11,20 +11,26 @@ import dev.marco.example.springboot.model.User;
 import dev.marco.example.springboot.model.UserActive;
 import dev.marco.example.springboot.model.UserRoles;
 import dev.marco.example.springboot.model.impl.UserImpl;
+import dev.marco.example.springboot.dao.mapper.UserInsertBinder;
+import dev.marco.example.springboot.dao.mapper.UserRowMapper;
+import dev.marco.example.springboot.transaction.UnitOfWorkDataSource;
 import dev.marco.example.springboot.util.DAOUtil;
+import dev.marco.example.springboot.util.SqlCatalog;
 
-import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Properties;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 @Repository
 public class UserDAOImpl implements UserDAO {
 
   private Connection connection;
-  private final Properties properties = new Properties();
+  private final UnitOfWorkDataSource unitOfWorkDataSource;
   private static final Logger log = Logger.getLogger(UserDAOImpl.class);
 
   private final String URL;
@@ -35,31 +41,38 @@ public class UserDAOImpl implements UserDAO {
   UserDAOImpl(
       @Value(URL_PROPERTY) String URL,
       @Value(USERNAME_PROPERTY) String USERNAME,
-      @Value(PASSWORD_PROPERTY) String PASSWORD
+      @Value(PASSWORD_PROPERTY) String PASSWORD,
+      UnitOfWorkDataSource unitOfWorkDataSource
   ) throws DAOConfigException {
     this.URL = URL;
     this.USERNAME = USERNAME;
     this.PASSWORD = PASSWORD;
+    this.unitOfWorkDataSource = unitOfWorkDataSource;
 
-    connection = DAOUtil.getDataSource(URL, USERNAME, PASSWORD, properties);
+    connection = DAOUtil.getDataSource(URL, USERNAME, PASSWORD);
   }
 
   @Override
   public void setTestConnection() throws DAOConfigException {
     try {
-      connection = DAOUtil.getDataSource(URL, USERNAME + TEST_CONNECTION, PASSWORD, properties);
+      connection = DAOUtil.getDataSource(URL, USERNAME + TEST_CONNECTION, PASSWORD);
+      unitOfWorkDataSource.useTestSchema();
     } catch (DAOConfigException e) {
       log.error(MessagesForException.TEST_CONNECTION_ERR + e.getMessage());
       throw new DAOConfigException(MessagesForException.TEST_CONNECTION_ERR, e);
     }
   }
 
+  private Connection connection() {
+    return DAOUtil.currentConnection(unitOfWorkDataSource, connection);
+  }
+
   @Override
-  public User getUserById(BigInteger id) throws UserDoesNotExistException, DAOLogicException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(SEARCH_USER_BY_ID))) {
+  public User getUserById(long id) throws UserDoesNotExistException, DAOLogicException {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(SEARCH_USER_BY_ID))) {
 
-      statement.setLong(1, id.longValue());
+      statement.setLong(1, id);
 
       ResultSet resultSet = statement.executeQuery();
 
@@ -68,48 +81,61 @@ public class UserDAOImpl implements UserDAO {
       }
 
 //      Return's user without password and email code
-      return new UserImpl.UserBuilder()
-          .setId(id)
-          .setFirstName(resultSet.getString(properties.getProperty(USER_FIRST_NAME)))
-          .setLastName(resultSet.getString(properties.getProperty(USER_LAST_NAME)))
-          .setEmail(resultSet.getString(properties.getProperty(USER_EMAIL)))
-          .setRole(
-              UserRoles.convertFromIntToRole(resultSet.getInt(properties.getProperty(USER_ROLE))))
-          .setActive(
-              resultSet.getInt(properties.getProperty(USER_ACTIVE)) == UserActive.ACTIVE.ordinal())
-          .setDescription(resultSet.getString(properties.getProperty(USER_DESCRIPTION)))
-          .build();
+      return new UserRowMapper(resultSet).mapRow(resultSet);
     } catch (SQLException | UserException e) {
       log.error(MessagesForException.DAO_LOGIC_EXCEPTION + e.getMessage());
       throw new DAOLogicException(MessagesForException.DAO_LOGIC_EXCEPTION + id, e);
     }
   }
 
+  @Override
+  public Map<Long, User> getUsersByIds(Collection<Long> ids) throws DAOLogicException {
+    Map<Long, User> users = new HashMap<>();
+    String script = SqlCatalog.get(SEARCH_USERS_BY_IDS);
+    for (long[] chunk : DAOUtil.inListChunks(ids)) {
+      try (PreparedStatement statement = connection()
+          .prepareStatement(DAOUtil.expandInList(script, chunk.length))) {
+
+        DAOUtil.bindInList(statement, chunk);
+
+        ResultSet resultSet = statement.executeQuery();
+        UserRowMapper mapper = new UserRowMapper(resultSet);
+        while (resultSet.next()) {
+          User user = mapper.mapRow(resultSet);
+          users.put(user.getId(), user);
+        }
+      } catch (SQLException | UserException e) {
+        log.error(MessagesForException.DAO_LOGIC_EXCEPTION + e.getMessage());
+        throw new DAOLogicException(MessagesForException.DAO_LOGIC_EXCEPTION + ids, e);
+      }
+    }
+    return users;
+  }
+
   @Override
   public User getUserByEmail(String email) throws UserDoesNotExistException, DAOLogicException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(SEARCH_USER_BY_EMAIL))) {
+    Optional<User> user = findUserByEmail(email);
+    if (user.isEmpty()) {
+      throw new UserDoesNotExistException(MessagesForException.INVALID_USERS_EMAIL + email);
+    }
+    return user.get();
+  }
+
+  @Override
+  public Optional<User> findUserByEmail(String email) throws DAOLogicException {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(SEARCH_USER_BY_EMAIL))) {
 
       statement.setString(1, email);
 
       ResultSet resultSet = statement.executeQuery();
 
       if (!resultSet.next()) {
-        throw new UserDoesNotExistException(MessagesForException.INVALID_USERS_EMAIL + email);
+        return Optional.empty();
       }
 
 //      Return's user without password and email code
-      return new UserImpl.UserBuilder()
-          .setId(BigInteger.valueOf(resultSet.getLong(properties.getProperty(USER_ID))))
-          .setFirstName(resultSet.getString(properties.getProperty(USER_FIRST_NAME)))
-          .setLastName(resultSet.getString(properties.getProperty(USER_LAST_NAME)))
-          .setEmail(email)
-          .setRole(
-              UserRoles.convertFromIntToRole(resultSet.getInt(properties.getProperty(USER_ROLE))))
-          .setActive(
-              resultSet.getInt(properties.getProperty(USER_ACTIVE)) == UserActive.ACTIVE.ordinal())
-          .setDescription(resultSet.getString(properties.getProperty(USER_DESCRIPTION)))
-          .build();
+      return Optional.of(new UserRowMapper(resultSet).mapRow(resultSet));
     } catch (SQLException | UserException e) {
       log.error(MessagesForException.DAO_LOGIC_EXCEPTION + e.getMessage());
       throw new DAOLogicException(MessagesForException.DAO_LOGIC_EXCEPTION + email, e);
@@ -117,10 +143,10 @@ public class UserDAOImpl implements UserDAO {
   }
 
   @Override
-  public void deleteUser(BigInteger id) throws DAOLogicException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(DELETE_USER_BY_ID))) {
-      statement.setLong(1, id.longValue());
+  public void deleteUser(long id) throws DAOLogicException {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(DELETE_USER_BY_ID))) {
+      statement.setLong(1, id);
       statement.executeUpdate();
     } catch (SQLException e) {
       log.error(MessagesForException.DAO_LOGIC_EXCEPTION + e.getMessage());
@@ -129,17 +155,13 @@ public class UserDAOImpl implements UserDAO {
   }
 
   @Override
-  public BigInteger createUser(User user) throws DAOLogicException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(CREATE_USER))) {
-      statement.setString(1, user.getFirstName());
-      statement.setString(2, user.getLastName());
-      statement.setString(3, user.getDescription());
-      statement.setString(4, user.getEmail());
-      statement.setString(5, user.getPassword());
-      statement.setInt(6, UserRoles.UNVERIFIED.ordinal());
-      statement.setInt(7, UserActive.NOT_ACTIVE.ordinal());
-      statement.setString(8, user.getEmailCode());
+  public long createUser(User user) throws DAOLogicException {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(CREATE_USER))) {
+      int index = UserInsertBinder.bind(statement, user);
+      statement.setInt(index++, UserRoles.UNVERIFIED.ordinal());
+      statement.setInt(index++, UserActive.NOT_ACTIVE.ordinal());
+      statement.setString(index, user.getEmailCode());
 
       if (statement.executeUpdate() != 1) {
         throw new DAOLogicException(MessagesForException.ERROR_WHILE_CREATING_USER + user);
@@ -153,13 +175,13 @@ public class UserDAOImpl implements UserDAO {
   }
 
   @Override
-  public void updateUsersFullName(BigInteger id, String newFirstName, String newLastName)
+  public void updateUsersFullName(long id, String newFirstName, String newLastName)
       throws DAOLogicException, UserDoesNotExistException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(UPDATE_USER_NAME))) {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(UPDATE_USER_NAME))) {
       statement.setString(1, newFirstName);
       statement.setString(2, newLastName);
-      statement.setLong(3, id.longValue());
+      statement.setLong(3, id);
 
       if (statement.executeUpdate() != 1) {
         throw new UserDoesNotExistException(MessagesForException.USERS_DOESNT_EXIT + id);
@@ -171,12 +193,12 @@ public class UserDAOImpl implements UserDAO {
   }
 
   @Override
-  public void updateUsersPassword(BigInteger id, String newPassword)
+  public void updateUsersPassword(long id, String newPassword)
       throws DAOLogicException, UserDoesNotExistException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(UPDATE_USER_PASSWORD))) {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(UPDATE_USER_PASSWORD))) {
       statement.setString(1, newPassword);
-      statement.setLong(2, id.longValue());
+      statement.setLong(2, id);
 
       if (statement.executeUpdate() != 1) {
         throw new UserDoesNotExistException(MessagesForException.USERS_DOESNT_EXIT + id);
@@ -191,8 +213,8 @@ public class UserDAOImpl implements UserDAO {
   @Override
   public User getAuthorizeUser(String email, String password)
       throws UserDoesNotExistException, UserDoesNotConfirmedEmailException, DAOLogicException, UserException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(SEARCH_USER_AUTHORIZE))) {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(SEARCH_USER_AUTHORIZE))) {
 
       BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
 
@@ -204,23 +226,12 @@ public class UserDAOImpl implements UserDAO {
       statement.setString(1, email);
       ResultSet resultSet = statement.executeQuery();
       if (!resultSet.next()) {
-        log.error(MessagesForException.USER_NOT_FOUND_EXCEPTION);
         throw new UserDoesNotExistException(
-            MessagesForException.USERS_DOESNT_EXIT + email + password);
+            MessagesForException.USERS_DOESNT_EXIT + email);
       }
 
 //      Return's user without password and email code
-      return new UserImpl.UserBuilder()
-          .setId(BigInteger.valueOf(resultSet.getLong(properties.getProperty(USER_ID))))
-          .setFirstName(resultSet.getString(properties.getProperty(USER_FIRST_NAME)))
-          .setLastName(resultSet.getString(properties.getProperty(USER_LAST_NAME)))
-          .setEmail(email)
-          .setRole(
-              UserRoles.convertFromIntToRole(resultSet.getInt(properties.getProperty(USER_ROLE))))
-          .setActive(
-              resultSet.getInt(properties.getProperty(USER_ACTIVE)) == UserActive.ACTIVE.ordinal())
-          .setDescription(resultSet.getString(properties.getProperty(USER_DESCRIPTION)))
-          .build();
+      return new UserRowMapper(resultSet).mapRow(resultSet);
 
     } catch (SQLException e) {
       log.error(MessagesForException.DAO_LOGIC_EXCEPTION + e.getMessage());
@@ -230,12 +241,12 @@ public class UserDAOImpl implements UserDAO {
   }
 
   @Override
-  public void updateUsersDescription(BigInteger id, String newDescription)
+  public void updateUsersDescription(long id, String newDescription)
       throws DAOLogicException, UserDoesNotExistException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(UPDATE_USER_DESCRIPTION))) {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(UPDATE_USER_DESCRIPTION))) {
       statement.setString(1, newDescription);
-      statement.setLong(2, id.longValue());
+      statement.setLong(2, id);
 
       if (statement.executeUpdate() != 1) {
         throw new UserDoesNotExistException(MessagesForException.USERS_DOESNT_EXIT + id);
@@ -248,12 +259,12 @@ public class UserDAOImpl implements UserDAO {
   }
 
   @Override
-  public void updateUsersEmailCode(BigInteger id, String newCode)
+  public void updateUsersEmailCode(long id, String newCode)
       throws DAOLogicException, UserDoesNotExistException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(UPDATE_USER_EMAIL_CODE))) {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(UPDATE_USER_EMAIL_CODE))) {
       statement.setString(1, newCode);
-      statement.setLong(2, id.longValue());
+      statement.setLong(2, id);
 
       if (statement.executeUpdate() != 1) {
         throw new UserDoesNotExistException(MessagesForException.USERS_DOESNT_EXIT + id);
@@ -267,28 +278,27 @@ public class UserDAOImpl implements UserDAO {
 
   @Override
   public User getUserByEmailCode(String code) throws UserDoesNotExistException, DAOLogicException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(SEARCH_USER_BY_EMAIL_CODE))) {
+    Optional<User> user = findUserByEmailCode(code);
+    if (user.isEmpty()) {
+      throw new UserDoesNotExistException(MessagesForException.USERS_DOESNT_EXIT + code);
+    }
+    return user.get();
+  }
+
+  @Override
+  public Optional<User> findUserByEmailCode(String code) throws DAOLogicException {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(SEARCH_USER_BY_EMAIL_CODE))) {
       statement.setString(1, code);
 
       ResultSet resultSet = statement.executeQuery();
 
       if (!resultSet.next()) {
-        throw new UserDoesNotExistException(MessagesForException.USERS_DOESNT_EXIT + code);
+        return Optional.empty();
       }
 
 //      Return's user without password and email
-      return new UserImpl.UserBuilder()
-          .setId(BigInteger.valueOf(resultSet.getLong(properties.getProperty(USER_ID))))
-          .setFirstName(resultSet.getString(properties.getProperty(USER_FIRST_NAME)))
-          .setLastName(resultSet.getString(properties.getProperty(USER_LAST_NAME)))
-          .setEmail(resultSet.getString(properties.getProperty(USER_EMAIL)))
-          .setRole(
-              UserRoles.convertFromIntToRole(resultSet.getInt(properties.getProperty(USER_ROLE))))
-          .setActive(
-              resultSet.getInt(properties.getProperty(USER_ACTIVE)) == UserActive.ACTIVE.ordinal())
-          .setDescription(resultSet.getString(properties.getProperty(USER_DESCRIPTION)))
-          .build();
+      return Optional.of(new UserRowMapper(resultSet).mapRow(resultSet));
 
     } catch (SQLException | UserException e) {
       log.error(MessagesForException.DAO_LOGIC_EXCEPTION + e.getMessage());
@@ -299,8 +309,8 @@ public class UserDAOImpl implements UserDAO {
   @Override
   public String getUserPasswordByEmail(String email)
       throws UserDoesNotExistException, DAOLogicException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(SEARCH_PASSWORD_BY_EMAIL))) {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(SEARCH_PASSWORD_BY_EMAIL))) {
       statement.setString(1, email);
       ResultSet resultSet = statement.executeQuery();
 
@@ -317,12 +327,12 @@ public class UserDAOImpl implements UserDAO {
   }
 
   @Override
-  public boolean comparisonOfPasswords(BigInteger id, String checkPassword)
+  public boolean comparisonOfPasswords(long id, String checkPassword)
       throws DAOLogicException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(CHECK_USER_PASSWORD))) {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(CHECK_USER_PASSWORD))) {
 
-      statement.setLong(1, id.longValue());
+      statement.setLong(1, id);
       statement.setString(2, checkPassword);
 
       ResultSet resultSet = statement.executeQuery();
@@ -336,10 +346,10 @@ public class UserDAOImpl implements UserDAO {
   }
 
   @Override
-  public boolean activateUser(BigInteger id) throws DAOLogicException, UserDoesNotExistException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(UPDATE_USER_ACTIVE))) {
-      statement.setLong(1, id.longValue());
+  public boolean activateUser(long id) throws DAOLogicException, UserDoesNotExistException {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(UPDATE_USER_ACTIVE))) {
+      statement.setLong(1, id);
 
       return statement.executeUpdate() == 1;
 
@@ -350,10 +360,10 @@ public class UserDAOImpl implements UserDAO {
   }
 
   @Override
-  public boolean disactivateUser(BigInteger id) throws DAOLogicException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(UPDATE_USER_DISACTIVE))) {
-      statement.setLong(1, id.longValue());
+  public boolean disactivateUser(long id) throws DAOLogicException {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(UPDATE_USER_DISACTIVE))) {
+      statement.setLong(1, id);
 
       return statement.executeUpdate() == 1;
 
@@ -364,12 +374,12 @@ public class UserDAOImpl implements UserDAO {
   }
 
   @Override
-  public void updateUserRole(BigInteger id, UserRoles role)
+  public void updateUserRole(long id, UserRoles role)
       throws UserDoesNotExistException, DAOLogicException {
-    try (PreparedStatement statement = connection
-        .prepareStatement(properties.getProperty(UPDATE_USER_ROLE))) {
+    try (PreparedStatement statement = connection()
+        .prepareStatement(SqlCatalog.get(UPDATE_USER_ROLE))) {
       statement.setInt(1, role.ordinal());
-      statement.setLong(2, id.longValue());
+      statement.setLong(2, id);
 
       if (statement.executeUpdate() != 1) {
         throw new UserDoesNotExistException(MessagesForException.USERS_DOESNT_EXIT + id);
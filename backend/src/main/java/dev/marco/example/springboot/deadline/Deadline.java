@@ -0,0 +1,137 @@
+package dev.marco.example.springboot.deadline;
+
+import dev.marco.example.springboot.exception.DeadlineExceededException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline of the request served by the current thread, if its endpoint declares one. Statements
+ * created on an {@link #enforce enforced} connection get the remaining time as their query
+ * timeout, so the database cancels them, and fail straight away once it has run out.
+ */
+public final class Deadline {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private Deadline() {
+    }
+
+    public static void start(long millis) {
+        DEADLINE_NANOS.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * Carries a deadline taken with {@link #current()} over to the current thread.
+     */
+    public static void resume(Long deadlineNanos) {
+        if (deadlineNanos == null) {
+            DEADLINE_NANOS.remove();
+        } else {
+            DEADLINE_NANOS.set(deadlineNanos);
+        }
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /**
+     * The current deadline in {@link System#nanoTime()} terms, or null, for handing it over to
+     * another thread.
+     */
+    public static Long current() {
+        return DEADLINE_NANOS.get();
+    }
+
+    public static Connection enforce(Connection connection) {
+        return enforce(connection, current());
+    }
+
+    public static Connection enforce(Connection connection, Long deadlineNanos) {
+        if (deadlineNanos == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection, deadlineNanos));
+    }
+
+    private static long remainingNanos(long deadlineNanos) {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    private static void check(long deadlineNanos) {
+        if (remainingNanos(deadlineNanos) <= 0) {
+            throw new DeadlineExceededException();
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private final long deadlineNanos;
+
+        ConnectionHandler(Connection connection, long deadlineNanos) {
+            this.connection = connection;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("prepare") && !name.equals("createStatement")) {
+                return Deadline.invoke(connection, method, args);
+            }
+            check(deadlineNanos);
+            Statement statement = (Statement) Deadline.invoke(connection, method, args);
+            // JDBC timeouts are whole seconds; rounding up leaves the exact cut to check().
+            long seconds = (remainingNanos(deadlineNanos) + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+            statement.setQueryTimeout((int) Math.max(1, seconds));
+            return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                    new Class<?>[]{method.getReturnType()}, new StatementHandler(statement, deadlineNanos));
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final long deadlineNanos;
+
+        StatementHandler(Statement statement, long deadlineNanos) {
+            this.statement = statement;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return Deadline.invoke(statement, method, args);
+            }
+            check(deadlineNanos);
+            try {
+                return Deadline.invoke(statement, method, args);
+            } catch (SQLException e) {
+                if (e instanceof SQLTimeoutException || remainingNanos(deadlineNanos) <= 0) {
+                    throw new DeadlineExceededException(e);
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package dev.marco.example.springboot.deadline;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Starts the {@link RequestDeadline} of the handler on the request thread. Async work carries
+ * no deadline unless it is handed over explicitly.
+ */
+public class DeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod handlerMethod = (HandlerMethod) handler;
+            RequestDeadline deadline = AnnotatedElementUtils.findMergedAnnotation(
+                    handlerMethod.getMethod(), RequestDeadline.class);
+            if (deadline == null) {
+                deadline = AnnotatedElementUtils.findMergedAnnotation(
+                        handlerMethod.getBeanType(), RequestDeadline.class);
+            }
+            if (deadline != null) {
+                Deadline.start(deadline.value());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Deadline.clear();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        Deadline.clear();
+    }
+}
@@ -0,0 +1,19 @@
+package dev.marco.example.springboot.deadline;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Time budget of an endpoint in milliseconds, counted from the moment the handler is picked.
+ * On a controller class it applies to every endpoint that does not declare its own.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestDeadline {
+
+    long value();
+}
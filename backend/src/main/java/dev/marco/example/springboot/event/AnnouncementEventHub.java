@@ -0,0 +1,188 @@
+package dev.marco.example.springboot.event;
+
+import dev.marco.example.springboot.dao.AnnouncementDAO;
+import dev.marco.example.springboot.exception.AnnouncementDoesNotExistException;
+import dev.marco.example.springboot.exception.DAOLogicException;
+import dev.marco.example.springboot.model.AnnouncementComment;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Fans out new comments and like counts to SSE subscribers of an announcement.
+ * Publishing only records what changed; a single tick every tickMillis turns the changes
+ * into one batch per announcement and hands it to the subscribers. Like changes are coalesced
+ * into one likes query per announcement per tick, however many likes arrived.
+ */
+@Component
+public class AnnouncementEventHub {
+
+    public static final String TICK_PROPERTY = "${announcement.events.tick-millis:250}";
+    public static final String BUFFER_PROPERTY = "${announcement.events.subscriber-buffer:100}";
+    public static final String TIMEOUT_PROPERTY = "${announcement.events.timeout-millis:1800000}";
+    public static final String SENDERS_PROPERTY = "${announcement.events.senders:4}";
+    private static final long HEARTBEAT_MILLIS = 15000;
+
+    private static final Logger log = Logger.getLogger(AnnouncementEventHub.class);
+
+    private final AnnouncementDAO announcementDAO;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long ticksPerHeartbeat;
+    private final Map<Long, Set<AnnouncementSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService senders;
+
+    private Map<Long, List<AnnouncementComment>> pendingComments = new HashMap<>();
+    private Set<Long> pendingLikes = new HashSet<>();
+    private long ticks;
+
+    @Autowired
+    public AnnouncementEventHub(AnnouncementDAO announcementDAO,
+                                @Value(TICK_PROPERTY) long tickMillis,
+                                @Value(BUFFER_PROPERTY) int bufferSize,
+                                @Value(TIMEOUT_PROPERTY) long timeoutMillis,
+                                @Value(SENDERS_PROPERTY) int senders) {
+        this.announcementDAO = announcementDAO;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.ticksPerHeartbeat = Math.max(1, HEARTBEAT_MILLIS / tickMillis);
+        this.senders = Executors.newFixedThreadPool(senders);
+        ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(long idAnnouncement) {
+        return subscribe(idAnnouncement, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(long idAnnouncement, SseEmitter emitter) {
+        AnnouncementSubscriber subscriber = new AnnouncementSubscriber(emitter, bufferSize);
+        subscribers.compute(idAnnouncement, (id, set) -> {
+            Set<AnnouncementSubscriber> current = set == null ? ConcurrentHashMap.newKeySet() : set;
+            current.add(subscriber);
+            return current;
+        });
+
+        Runnable remove = () -> unsubscribe(idAnnouncement, subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        return emitter;
+    }
+
+    public void publishComment(long idAnnouncement, AnnouncementComment comment) {
+        if (!subscribers.containsKey(idAnnouncement)) {
+            return;
+        }
+        synchronized (this) {
+            pendingComments.computeIfAbsent(idAnnouncement, id -> new ArrayList<>()).add(comment);
+        }
+    }
+
+    public void publishLikes(long idAnnouncement) {
+        if (!subscribers.containsKey(idAnnouncement)) {
+            return;
+        }
+        synchronized (this) {
+            pendingLikes.add(idAnnouncement);
+        }
+    }
+
+    /**
+     * Closes the streams of a deleted announcement.
+     */
+    public void complete(long idAnnouncement) {
+        Set<AnnouncementSubscriber> removed = subscribers.remove(idAnnouncement);
+        if (removed != null) {
+            removed.forEach(subscriber -> subscriber.getEmitter().complete());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.getEmitter().complete()));
+        subscribers.clear();
+    }
+
+    void tick() {
+        try {
+            Map<Long, List<AnnouncementComment>> comments;
+            Set<Long> likes;
+            synchronized (this) {
+                comments = pendingComments;
+                likes = pendingLikes;
+                pendingComments = new HashMap<>();
+                pendingLikes = new HashSet<>();
+            }
+
+            Set<Long> changed = new HashSet<>(comments.keySet());
+            changed.addAll(likes);
+            for (long idAnnouncement : changed) {
+                Integer likesCount = likes.contains(idAnnouncement) ? loadLikes(idAnnouncement) : null;
+                List<AnnouncementComment> batch = comments.getOrDefault(idAnnouncement, Collections.emptyList());
+                for (AnnouncementSubscriber subscriber : subscribers.getOrDefault(idAnnouncement, Collections.emptySet())) {
+                    subscriber.offer(batch, likesCount);
+                }
+            }
+
+            boolean heartbeat = ++ticks % ticksPerHeartbeat == 0;
+            subscribers.forEach((idAnnouncement, set) -> set.forEach(subscriber -> {
+                if (heartbeat) {
+                    subscriber.requestHeartbeat();
+                }
+                scheduleFlush(idAnnouncement, subscriber);
+            }));
+        } catch (RuntimeException e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+
+    private Integer loadLikes(long idAnnouncement) {
+        try {
+            return announcementDAO.getLikes(idAnnouncement);
+        } catch (DAOLogicException | AnnouncementDoesNotExistException e) {
+            log.error(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * A subscriber whose previous flush is still writing is skipped; its events keep coalescing
+     * until the client catches up or overflows into a resync.
+     */
+    private void scheduleFlush(long idAnnouncement, AnnouncementSubscriber subscriber) {
+        if (!subscriber.hasPending() || !subscriber.tryStartFlush()) {
+            return;
+        }
+        try {
+            senders.execute(() -> {
+                try {
+                    subscriber.flush();
+                } catch (IOException | IllegalStateException e) {
+                    unsubscribe(idAnnouncement, subscriber);
+                    subscriber.getEmitter().completeWithError(e);
+                } finally {
+                    subscriber.endFlush();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            subscriber.endFlush();
+        }
+    }
+
+    private void unsubscribe(long idAnnouncement, AnnouncementSubscriber subscriber) {
+        subscribers.computeIfPresent(idAnnouncement, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
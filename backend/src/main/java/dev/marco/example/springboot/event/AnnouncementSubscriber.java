@@ -0,0 +1,100 @@
+package dev.marco.example.springboot.event;
+
+import dev.marco.example.springboot.model.AnnouncementComment;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open SSE connection. Pending events are coalesced here while a previous batch is still
+ * being written, so a slow client never holds more than bufferSize comments in memory.
+ */
+class AnnouncementSubscriber {
+
+    static final String EVENT_COMMENTS = "comments";
+    static final String EVENT_LIKES = "likes";
+    static final String EVENT_RESYNC = "resync";
+
+    private final SseEmitter emitter;
+    private final int bufferSize;
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    private List<AnnouncementComment> comments = new ArrayList<>();
+    private Integer likes;
+    private boolean resync;
+    private boolean heartbeat;
+
+    AnnouncementSubscriber(SseEmitter emitter, int bufferSize) {
+        this.emitter = emitter;
+        this.bufferSize = bufferSize;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    synchronized void offer(List<AnnouncementComment> newComments, Integer newLikes) {
+        if (!resync) {
+            comments.addAll(newComments);
+            if (comments.size() > bufferSize) {
+                comments = new ArrayList<>();
+                resync = true;
+            }
+        }
+        if (newLikes != null) {
+            likes = newLikes;
+        }
+    }
+
+    /**
+     * Asks the next flush to write a comment line so dead connections surface as write errors.
+     */
+    synchronized void requestHeartbeat() {
+        heartbeat = true;
+    }
+
+    synchronized boolean hasPending() {
+        return resync || heartbeat || !comments.isEmpty() || likes != null;
+    }
+
+    /**
+     * Claims the right to flush. Only one flush per subscriber runs at a time.
+     */
+    boolean tryStartFlush() {
+        return flushing.compareAndSet(false, true);
+    }
+
+    void endFlush() {
+        flushing.set(false);
+    }
+
+    void flush() throws IOException {
+        List<AnnouncementComment> batch;
+        Integer batchLikes;
+        boolean batchResync;
+        boolean batchHeartbeat;
+        synchronized (this) {
+            batch = comments;
+            batchLikes = likes;
+            batchResync = resync;
+            batchHeartbeat = heartbeat;
+            comments = new ArrayList<>();
+            likes = null;
+            resync = false;
+            heartbeat = false;
+        }
+        if (batchResync) {
+            emitter.send(SseEmitter.event().name(EVENT_RESYNC).data(Boolean.TRUE));
+        } else if (!batch.isEmpty()) {
+            emitter.send(SseEmitter.event().name(EVENT_COMMENTS).data(batch));
+        }
+        if (batchLikes != null) {
+            emitter.send(SseEmitter.event().name(EVENT_LIKES).data(batchLikes));
+        } else if (batchHeartbeat && !batchResync && batch.isEmpty()) {
+            emitter.send(SseEmitter.event().comment(""));
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package dev.marco.example.springboot.exception;
 
+/**
+ * An expected outcome, not a fault, so no stack trace is filled in.
+ */
 public class AnnouncementDoesNotExistException extends Exception implements MessagesForException {
 
   public AnnouncementDoesNotExistException(String errorMessage, Throwable error) {
-    super(errorMessage, error);
+    super(errorMessage, error, false, false);
   }
 
   public AnnouncementDoesNotExistException(String errorMessage) {
-    super(errorMessage);
+    super(errorMessage, null, false, false);
   }
-}
\ No newline at end of file
+}
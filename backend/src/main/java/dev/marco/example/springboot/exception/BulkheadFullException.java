@@ -0,0 +1,25 @@
+package dev.marco.example.springboot.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * The bulkhead of the endpoint group has no thread or queue slot left; the client should come
+ * back shortly rather than wait.
+ */
+public class BulkheadFullException extends ResponseStatusException {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    public BulkheadFullException(Throwable cause) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, MessagesForException.BULKHEAD_FULL, cause);
+    }
+
+    @Override
+    public HttpHeaders getResponseHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        return headers;
+    }
+}
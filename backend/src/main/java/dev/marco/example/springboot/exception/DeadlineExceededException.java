@@ -0,0 +1,19 @@
+package dev.marco.example.springboot.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Unchecked on purpose: it has to pass through the DAO and service catch blocks, which would
+ * otherwise turn a timed out request into a generic 500, and reach the client as a 503.
+ */
+public class DeadlineExceededException extends ResponseStatusException {
+
+    public DeadlineExceededException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE, MessagesForException.DEADLINE_EXCEEDED);
+    }
+
+    public DeadlineExceededException(Throwable cause) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, MessagesForException.DEADLINE_EXCEEDED, cause);
+    }
+}
@@ -38,6 +38,7 @@ public interface MessagesForException {
   String CREATE_QUIZ_EXCEPTION = "SQL Exception while createQuiz in QuizDAOImpl";
   String DELETE_QUIZ_EXCEPTION = "SQL Exception while deleteQuiz in QuizDAOImpl";
   String GET_QUIZ_BY_ID_EXCEPTION = "SQL Exception while getQuizById in QuizDAOImpl";
+  String GET_QUIZZES_BY_IDS_EXCEPTION = "SQL Exception while getQuizzesByIds in QuizDAOImpl";
   String GET_ALL_QUIZZES_EXCEPTION = "SQL Exception while getAllQuizzes in QuizDAOImpl";
   String GET_LAST_CREATED_QUIZZES_EXCEPTION = "SQL Exception while getLastThreeCreatedQuizzes in QuizDAOImpl";
   String GET_QUIZ_BY_TITLE_EXCEPTION = "SQL Exception while getQuizByTitle in QuizDAOImpl";
@@ -74,6 +75,7 @@ public interface MessagesForException {
   String updateAnswerLogicExc = "SQL Exception while updateAnswer in AnswerDAOImpl";
   String getAnswersByQuestionIdLogicErr = "SQL Exception while getAnswersByQuestionId in AnswerDAOImpl";
   String getAnswersByQuestionIdLogicExc = "SQL Exception while getAnswersByQuestionId with questionId = %d";
+  String getAnswersByQuestionIdsLogicErr = "SQL Exception while getAnswersByQuestionIds in AnswerDAOImpl";
 
   String DONT_ENOUGH_RIGHTS = "You don't have enough rights";
   String ANNOUNCEMENT_ALREADY_LIKED = "The user has already liked this announcement";
@@ -99,6 +101,17 @@ public interface MessagesForException {
   String INVALID_EMAIL = "Invalid user email";
   String INVALID_PASSWORD = "Invalid password";
   String DAO_CONFIG_EXCEPTION = "Dao config exception";
+  String HEDGED_READ_INTERRUPTED = "Interrupted while waiting for a hedged read";
+  String DEADLINE_EXCEEDED = "Request deadline exceeded";
+  String REQUEST_SHED = "Concurrency limit reached, shedding ";
+  String BULKHEAD_FULL = "No capacity left for this kind of request";
+  String JDBC_GATE_INTERRUPTED = "Interrupted while waiting to enter the JDBC driver";
+  String VIRTUAL_THREADS_UNAVAILABLE = "Virtual threads need JDK 21 or later, staying on platform threads on ";
+  String JSON_PAYLOAD_EXCEPTION = "Could not serialize the response payload ";
+  String STREAM_ABORTED = "Aborting a streamed list after its first rows were sent";
+  String QUIZ_EXPORT_EXCEPTION = "Could not export quiz ";
+  String QUIZ_EXPORT_DISABLED = "Quiz export is disabled";
+  String REQUEST_BODY_TOO_LARGE = "Request body is larger than ";
   String CONTROLLER_CONFIG_EXCEPTION = "Controller config exception";
 
   String JWT_AUTH_EXC = "JwtTokenFilter doFilter JwtAuthenticationException ";
@@ -1,11 +1,14 @@
 package dev.marco.example.springboot.exception;
 
+/**
+ * An expected outcome, not a fault, so no stack trace is filled in.
+ */
 public class QuizDoesNotExistException extends Exception {
     public QuizDoesNotExistException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 
     public QuizDoesNotExistException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
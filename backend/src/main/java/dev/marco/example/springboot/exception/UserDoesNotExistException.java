@@ -1,13 +1,16 @@
 package dev.marco.example.springboot.exception;
 
+/**
+ * An expected outcome, not a fault, so no stack trace is filled in.
+ */
 public class UserDoesNotExistException extends Exception implements MessagesForException {
 
   public UserDoesNotExistException(String message) {
-    super(message);
+    super(message, null, false, false);
   }
 
   public UserDoesNotExistException(String message, Throwable cause) {
-    super(message, cause);
+    super(message, cause, false, false);
   }
 
 }
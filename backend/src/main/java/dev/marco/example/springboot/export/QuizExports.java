@@ -0,0 +1,273 @@
+package dev.marco.example.springboot.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.marco.example.springboot.cache.ResourceVersions;
+import dev.marco.example.springboot.exception.*;
+import dev.marco.example.springboot.model.Quiz;
+import dev.marco.example.springboot.service.GameService;
+import dev.marco.example.springboot.transaction.AfterCommit;
+import dev.marco.example.springboot.transaction.PrimaryReads;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPOutputStream;
+
+import static dev.marco.example.springboot.exception.MessagesForException.*;
+
+/**
+ * Player view of every published quiz, the JSON {@link GameService#sendGameQuiz} renders, kept
+ * as files in a content directory next to a gzipped copy. File names carry the MD5 of the
+ * JSON, so a file never changes once written and clients may cache it for good.
+ *
+ * <p>{@code QuizServiceImpl} publishes a quiz after it is created or updated. The export runs on
+ * a single background thread under the author's security context. A question change only moves
+ * the {@link ResourceVersions} stamp of all questions; the first request after it exports the
+ * quiz again. Exports read from the primary, since the files are tagged with the current stamp.
+ * Exports of one quiz take turns, exports of different quizzes do not wait for each other. The
+ * previous file of a quiz is kept until the next export, so a transfer that already looked it
+ * up can finish.
+ */
+@Component
+public class QuizExports {
+
+    private static final Logger log = Logger.getLogger(QuizExports.class);
+
+    private static final String JSON = ".json";
+    private static final String GZIP = ".json.gz";
+    private static final String TEMPORARY = ".tmp";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<GameService> gameService;
+    private final ResourceVersions resourceVersions;
+    private final Map<Long, Export> exports = new ConcurrentHashMap<>();
+    private final Map<Long, Object> locks = new ConcurrentHashMap<>();
+    private final ExecutorService publisher =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("quiz-export-"));
+
+    /**
+     * One exported version of a quiz: its JSON file, the gzipped file and their lengths.
+     */
+    public static final class Export {
+
+        private final String hash;
+        private final String stamp;
+        private final Path json;
+        private final long jsonLength;
+        private final Path gzipped;
+        private final long gzippedLength;
+        private final Export previous;
+
+        Export(String hash, String stamp, Path json, long jsonLength, Path gzipped, long gzippedLength,
+               Export previous) {
+            this.hash = hash;
+            this.stamp = stamp;
+            this.json = json;
+            this.jsonLength = jsonLength;
+            this.gzipped = gzipped;
+            this.gzippedLength = gzippedLength;
+            this.previous = previous;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public Path getJson() {
+            return json;
+        }
+
+        public long getJsonLength() {
+            return jsonLength;
+        }
+
+        public Path getGzipped() {
+            return gzipped;
+        }
+
+        public long getGzippedLength() {
+            return gzippedLength;
+        }
+
+        Export restamp(String stamp) {
+            return new Export(hash, stamp, json, jsonLength, gzipped, gzippedLength, previous);
+        }
+
+        Export withoutPrevious() {
+            return new Export(hash, stamp, json, jsonLength, gzipped, gzippedLength, null);
+        }
+    }
+
+    // GameService reaches QuizService, which publishes through this class.
+    public QuizExports(@Value("${quiz.export.enabled:true}") boolean enabled,
+                       @Value("${quiz.export.directory:${java.io.tmpdir}/webkurs-quiz-export}") String directory,
+                       ObjectMapper objectMapper, ObjectProvider<GameService> gameService,
+                       ResourceVersions resourceVersions) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory).toAbsolutePath();
+        this.objectMapper = objectMapper;
+        this.gameService = gameService;
+        this.resourceVersions = resourceVersions;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The export of the quiz as it is now, or null when there is none or the quiz changed since.
+     */
+    public Export current(long quizId) {
+        Export export = exports.get(quizId);
+        return export != null && export.stamp.equals(stamp(quizId)) ? export : null;
+    }
+
+    /**
+     * The export of the quiz with the given hash, or null when its files are gone.
+     */
+    public Export find(long quizId, String hash) {
+        Export export = exports.get(quizId);
+        if (export == null) {
+            return null;
+        }
+        if (export.hash.equals(hash)) {
+            return export;
+        }
+        return export.previous != null && export.previous.hash.equals(hash) ? export.previous : null;
+    }
+
+    /**
+     * Exports the quiz in the background once the current unit of work has committed.
+     */
+    public void publish(long quizId, String title) {
+        if (!enabled) {
+            return;
+        }
+        AfterCommit.run(() -> background(new DelegatingSecurityContextRunnable(() -> {
+            try {
+                export(quizId, title);
+            } catch (IOException | DAOLogicException | QuizDoesNotExistException | QuizException
+                    | QuestionDoesNotExistException | AnswerDoesNotExistException e) {
+                log.error(QUIZ_EXPORT_EXCEPTION + quizId, e);
+            }
+        })));
+    }
+
+    /**
+     * Deletes the files of the quiz once the current unit of work has committed.
+     */
+    public void remove(long quizId) {
+        if (!enabled) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            Export export = exports.remove(quizId);
+            if (export != null) {
+                background(() -> delete(export));
+            }
+        });
+    }
+
+    /**
+     * Renders the player view of the quiz and writes its files, unless the JSON is unchanged.
+     */
+    public Export export(long quizId, String title) throws IOException, DAOLogicException,
+            QuizDoesNotExistException, QuizException, QuestionDoesNotExistException, AnswerDoesNotExistException {
+        synchronized (locks.computeIfAbsent(quizId, id -> new Object())) {
+            return exportLocked(quizId, title);
+        }
+    }
+
+    private Export exportLocked(long quizId, String title) throws IOException, DAOLogicException,
+            QuizDoesNotExistException, QuizException, QuestionDoesNotExistException, AnswerDoesNotExistException {
+        // Taken before loading, see ResourceVersions#touch.
+        String stamp = stamp(quizId);
+        Quiz quiz;
+        try (PrimaryReads.Scope ignored = PrimaryReads.open()) {
+            quiz = gameService.getObject().sendGameQuiz(title);
+        }
+        if (quiz.getId() != quizId) {
+            throw new QuizDoesNotExistException(QUIZ_NOT_FOUND_EXCEPTION);
+        }
+        byte[] json = objectMapper.writeValueAsBytes(quiz);
+        String hash = DigestUtils.md5DigestAsHex(json);
+
+        Export last = exports.get(quizId);
+        if (last != null && last.hash.equals(hash)) {
+            Export export = last.restamp(stamp);
+            exports.put(quizId, export);
+            return export;
+        }
+        Files.createDirectories(directory);
+        String name = quizId + "-" + hash;
+        Path jsonFile = write(directory.resolve(name + JSON), json, false);
+        Path gzippedFile = write(directory.resolve(name + GZIP), json, true);
+        Export export = new Export(hash, stamp, jsonFile, json.length, gzippedFile, Files.size(gzippedFile),
+                last == null ? null : last.withoutPrevious());
+        exports.put(quizId, export);
+        if (last != null && last.previous != null) {
+            delete(last.previous);
+        }
+        return export;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdownNow();
+    }
+
+    private String stamp(long quizId) {
+        return resourceVersions.eTag(ResourceVersions.quiz(quizId), ResourceVersions.QUESTIONS);
+    }
+
+    private void background(Runnable task) {
+        try {
+            publisher.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the next run exports on demand.
+        }
+    }
+
+    /**
+     * Writes beside the target and moves it in place, so readers never see half a file.
+     */
+    private static Path write(Path target, byte[] json, boolean gzip) throws IOException {
+        Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY);
+        try (OutputStream out = gzip
+                ? new GZIPOutputStream(Files.newOutputStream(temporary))
+                : Files.newOutputStream(temporary)) {
+            out.write(json);
+        }
+        return Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void delete(Export export) {
+        try {
+            Files.deleteIfExists(export.json);
+            Files.deleteIfExists(export.gzipped);
+        } catch (IOException e) {
+            log.error(QUIZ_EXPORT_EXCEPTION, e);
+        }
+        if (export.previous != null) {
+            delete(export.previous);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dev.marco.example.springboot.format;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Encodings the read-heavy payloads can be sent in. CBOR and Smile carry the same Jackson tree
+ * as JSON in binary form, with shorter numbers and, for Smile, field names written once and
+ * referenced afterwards.
+ */
+public enum PayloadFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    PayloadFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * The ETag of this representation: JSON keeps the resource's tag, binary forms get their own.
+     */
+    public String eTag(String eTag) {
+        if (this == JSON) {
+            return eTag;
+        }
+        return eTag.substring(0, eTag.length() - 1) + "-" + name().toLowerCase() + "\"";
+    }
+}
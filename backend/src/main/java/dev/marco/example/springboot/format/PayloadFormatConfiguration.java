@@ -0,0 +1,24 @@
+package dev.marco.example.springboot.format;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Replaces Spring MVC's default CBOR and Smile converters, whose mappers lack the modules of the
+ * application's JSON mapper, with ones built on {@link PayloadFormats}.
+ */
+@Configuration
+public class PayloadFormatConfiguration {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(PayloadFormats payloadFormats) {
+        return new MappingJackson2CborHttpMessageConverter(payloadFormats.mapper(PayloadFormat.CBOR));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(PayloadFormats payloadFormats) {
+        return new MappingJackson2SmileHttpMessageConverter(payloadFormats.mapper(PayloadFormat.SMILE));
+    }
+}
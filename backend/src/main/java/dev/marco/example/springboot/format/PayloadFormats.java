@@ -0,0 +1,66 @@
+package dev.marco.example.springboot.format;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Object mappers of the {@link PayloadFormat}s and the choice between them by the
+ * request's {@code Accept} header. The binary mappers get the same modules and features as the
+ * JSON one, so request bodies such as the answers of a finished quiz bind the same way.
+ */
+@Component
+public class PayloadFormats {
+
+    private final Map<PayloadFormat, ObjectMapper> mappers = new EnumMap<>(PayloadFormat.class);
+
+    public PayloadFormats(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder builder) {
+        mappers.put(PayloadFormat.JSON, objectMapper);
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor().build();
+        builder.configure(cbor);
+        mappers.put(PayloadFormat.CBOR, cbor);
+        ObjectMapper smile = Jackson2ObjectMapperBuilder.smile().build();
+        builder.configure(smile);
+        mappers.put(PayloadFormat.SMILE, smile);
+    }
+
+    public ObjectMapper mapper(PayloadFormat format) {
+        return mappers.get(format);
+    }
+
+    public PayloadFormat negotiate(WebRequest request) {
+        return negotiate(request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    /**
+     * The format the client prefers. Wildcards and anything unparsable mean JSON.
+     */
+    public PayloadFormat negotiate(String accept) {
+        if (accept == null) {
+            return PayloadFormat.JSON;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return PayloadFormat.JSON;
+        }
+        MediaType.sortBySpecificityAndQuality(acceptable);
+        for (MediaType mediaType : acceptable) {
+            for (PayloadFormat format : mappers.keySet()) {
+                if (mediaType.includes(format.getMediaType())) {
+                    return format;
+                }
+            }
+        }
+        return PayloadFormat.JSON;
+    }
+}
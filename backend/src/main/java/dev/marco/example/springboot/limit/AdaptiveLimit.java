@@ -0,0 +1,67 @@
+package dev.marco.example.springboot.limit;
+
+/**
+ * Concurrency limit that follows latency. It compares a short-term average of request latency
+ * with a long-term baseline. While they agree, the limit grows by about its square root per
+ * sample. Once requests start queueing and the short-term latency rises, the limit shrinks in
+ * proportion, down to half per sample.
+ */
+public class AdaptiveLimit {
+
+    private static final double SHORT_RTT_WEIGHT = 0.2;
+    private static final double LONG_RTT_WEIGHT = 1.0 / 500;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+    private int inflight;
+
+    public AdaptiveLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public synchronized boolean tryAcquire(Priority priority) {
+        if (inflight >= Math.max(1, (int) (limit * priority.getShare()))) {
+            return false;
+        }
+        inflight++;
+        return true;
+    }
+
+    public synchronized void release(long rttNanos) {
+        boolean saturated = inflight >= limit / 2;
+        inflight--;
+
+        shortRttNanos = shortRttNanos == 0 ? rttNanos
+                : shortRttNanos * (1 - SHORT_RTT_WEIGHT) + rttNanos * SHORT_RTT_WEIGHT;
+        longRttNanos = longRttNanos == 0 ? rttNanos
+                : longRttNanos * (1 - LONG_RTT_WEIGHT) + rttNanos * LONG_RTT_WEIGHT;
+        // Let the baseline follow a lasting drop in latency instead of waiting it out.
+        if (longRttNanos > 2 * shortRttNanos) {
+            longRttNanos *= 0.95;
+        }
+        // An idle group proves nothing about how much more it could take.
+        if (!saturated) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInflight() {
+        return inflight;
+    }
+}
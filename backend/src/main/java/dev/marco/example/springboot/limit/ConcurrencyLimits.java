@@ -0,0 +1,78 @@
+package dev.marco.example.springboot.limit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static dev.marco.example.springboot.util.ApiAddresses.*;
+
+/**
+ * One {@link AdaptiveLimit} per {@link EndpointGroup}, and the rules that put a request into a
+ * group at a priority. Game submissions may use the whole game limit, so they are the last work
+ * to be shed. Announcement reads give way before announcement writes. Paths outside the groups,
+ * and the announcement event streams that stay open for the whole visit, are not limited.
+ */
+@Component
+public class ConcurrencyLimits {
+
+    private static final String AUTH_PREFIX = "/auth/";
+    private static final String GAME_PREFIX = API_QUIZ + "/game/";
+    private static final String FINISH_QUIZ = API_QUIZ + API_FINISH_QUIZ;
+    private static final String ANNOUNCEMENT_PREFIX = API_ANNOUNCEMENT + "/";
+    private static final String ANNOUNCEMENT_EVENTS_PREFIX = API_ANNOUNCEMENT + "/events/";
+    private static final String DASHBOARD_PREFIX = "/dashboard/";
+    private static final String UPDATE_PASSWORD = "/updatePassword";
+
+    private final boolean enabled;
+    private final Map<EndpointGroup, AdaptiveLimit> limits = new EnumMap<>(EndpointGroup.class);
+
+    public ConcurrencyLimits(@Value("${concurrency.limit.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        for (EndpointGroup group : EndpointGroup.values()) {
+            limits.put(group, new AdaptiveLimit(group.getInitialLimit(), group.getMinLimit(),
+                    group.getMaxLimit()));
+        }
+    }
+
+    /**
+     * The limit the request counts against, or null if it is not limited.
+     */
+    public AdaptiveLimit limitFor(String path) {
+        EndpointGroup group = enabled ? groupOf(path) : null;
+        return group == null ? null : limits.get(group);
+    }
+
+    public Priority priorityOf(HttpServletRequest request, String path) {
+        if (FINISH_QUIZ.equals(path)) {
+            return Priority.CRITICAL;
+        }
+        if (path.startsWith(ANNOUNCEMENT_PREFIX) && HttpMethod.GET.matches(request.getMethod())) {
+            return Priority.SHEDDABLE;
+        }
+        return Priority.NORMAL;
+    }
+
+    static EndpointGroup groupOf(String path) {
+        if (path.startsWith(AUTH_PREFIX) || path.equals(API_CONFIRM_EMAIL)
+                || path.startsWith(UPDATE_PASSWORD)) {
+            return EndpointGroup.AUTH;
+        }
+        if (path.startsWith(GAME_PREFIX)) {
+            return EndpointGroup.GAME;
+        }
+        if (path.startsWith(ANNOUNCEMENT_EVENTS_PREFIX)) {
+            return null;
+        }
+        if (path.startsWith(ANNOUNCEMENT_PREFIX)) {
+            return EndpointGroup.ANNOUNCEMENTS;
+        }
+        if (path.startsWith(DASHBOARD_PREFIX)) {
+            return EndpointGroup.DASHBOARD;
+        }
+        return null;
+    }
+}
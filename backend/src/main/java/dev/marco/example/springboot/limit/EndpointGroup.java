@@ -0,0 +1,35 @@
+package dev.marco.example.springboot.limit;
+
+/**
+ * Endpoints that share one adaptive concurrency limit, with the limit each group starts from
+ * and the bounds it adapts within.
+ */
+public enum EndpointGroup {
+
+    AUTH(10, 2, 50),
+    GAME(20, 4, 200),
+    ANNOUNCEMENTS(20, 4, 200),
+    DASHBOARD(10, 2, 100);
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+
+    EndpointGroup(int initialLimit, int minLimit, int maxLimit) {
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+}
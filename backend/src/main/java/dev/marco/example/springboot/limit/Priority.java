@@ -0,0 +1,22 @@
+package dev.marco.example.springboot.limit;
+
+/**
+ * Share of its group's concurrency limit a request may occupy. Lower priorities are turned
+ * away while there is still room left for the higher ones.
+ */
+public enum Priority {
+
+    SHEDDABLE(0.7),
+    NORMAL(0.9),
+    CRITICAL(1.0);
+
+    private final double share;
+
+    Priority(double share) {
+        this.share = share;
+    }
+
+    public double getShare() {
+        return share;
+    }
+}
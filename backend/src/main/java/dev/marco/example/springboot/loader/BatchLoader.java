@@ -0,0 +1,89 @@
+package dev.marco.example.springboot.loader;
+
+import dev.marco.example.springboot.exception.DAOLogicException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects ids asked for with {@link #request} and fetches all of them with one bulk DAO call
+ * the first time any of them is read. Values are kept for the lifetime of the loader, which
+ * {@link RequestLoaders} ties to a single HTTP request. Not thread-safe.
+ */
+public class BatchLoader<V> {
+
+    @FunctionalInterface
+    public interface BatchFunction<V> {
+        /**
+         * Loads the values of the given ids; missing ids may be left out of the map.
+         */
+        Map<Long, V> load(Collection<Long> ids) throws DAOLogicException;
+    }
+
+    private final BatchFunction<V> batchFunction;
+    private final Map<Long, V> loaded = new HashMap<>();
+    private final Set<Long> pending = new LinkedHashSet<>();
+
+    public BatchLoader(BatchFunction<V> batchFunction) {
+        this.batchFunction = batchFunction;
+    }
+
+    /**
+     * Queues the id for the next dispatch without querying.
+     */
+    public void request(long id) {
+        if (!loaded.containsKey(id)) {
+            pending.add(id);
+        }
+    }
+
+    public void requestAll(Collection<Long> ids) {
+        for (long id : ids) {
+            request(id);
+        }
+    }
+
+    /**
+     * Value of the id, or null when it does not exist. Loads every queued id along with it.
+     */
+    public V get(long id) throws DAOLogicException {
+        request(id);
+        dispatch();
+        return loaded.get(id);
+    }
+
+    public Map<Long, V> getAll(Collection<Long> ids) throws DAOLogicException {
+        requestAll(ids);
+        dispatch();
+        Map<Long, V> values = new HashMap<>();
+        for (long id : ids) {
+            V value = loaded.get(id);
+            if (value != null) {
+                values.put(id, value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Forgets the id, so a later read goes back to the database.
+     */
+    public void evict(long id) {
+        loaded.remove(id);
+    }
+
+    private void dispatch() throws DAOLogicException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Long, V> values = batchFunction.load(pending);
+        for (Long id : pending) {
+            // missing ids are remembered as null so they are not asked for again
+            loaded.put(id, values.get(id));
+        }
+        pending.clear();
+    }
+}
@@ -0,0 +1,67 @@
+package dev.marco.example.springboot.loader;
+
+import dev.marco.example.springboot.dao.AnswerDAO;
+import dev.marco.example.springboot.dao.QuizDAO;
+import dev.marco.example.springboot.dao.UserDAO;
+import dev.marco.example.springboot.model.User;
+import dev.marco.example.springboot.model.impl.AnswerImpl;
+import dev.marco.example.springboot.model.impl.QuizImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.List;
+
+/**
+ * Hands out the batch loaders of the current HTTP request, kept as request attributes, so
+ * lookups issued by different services while serving one request share a single bulk query.
+ * Outside of a request, e.g. on async or scheduler threads, every call gets a fresh loader.
+ */
+@Component
+public class RequestLoaders {
+
+    private static final String USERS_ATTRIBUTE = RequestLoaders.class.getName() + ".users";
+    private static final String QUIZZES_ATTRIBUTE = RequestLoaders.class.getName() + ".quizzes";
+    private static final String ANSWERS_ATTRIBUTE = RequestLoaders.class.getName() + ".answers";
+
+    private final UserDAO userDAO;
+    private final QuizDAO quizDAO;
+    private final AnswerDAO answerDAO;
+
+    @Autowired
+    public RequestLoaders(UserDAO userDAO, QuizDAO quizDAO, AnswerDAO answerDAO) {
+        this.userDAO = userDAO;
+        this.quizDAO = quizDAO;
+        this.answerDAO = answerDAO;
+    }
+
+    public BatchLoader<User> users() {
+        return loader(USERS_ATTRIBUTE, userDAO::getUsersByIds);
+    }
+
+    public BatchLoader<QuizImpl> quizzes() {
+        return loader(QUIZZES_ATTRIBUTE, quizDAO::getQuizzesByIds);
+    }
+
+    /**
+     * Answers by question id.
+     */
+    public BatchLoader<List<AnswerImpl>> answers() {
+        return loader(ANSWERS_ATTRIBUTE, answerDAO::getAnswersByQuestionIds);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> BatchLoader<V> loader(String attribute, BatchLoader.BatchFunction<V> batchFunction) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new BatchLoader<>(batchFunction);
+        }
+        BatchLoader<V> loader = (BatchLoader<V>) attributes.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+        if (loader == null) {
+            loader = new BatchLoader<>(batchFunction);
+            attributes.setAttribute(attribute, loader, RequestAttributes.SCOPE_REQUEST);
+        }
+        return loader;
+    }
+}
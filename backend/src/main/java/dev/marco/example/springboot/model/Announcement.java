@@ -1,33 +1,34 @@
 package dev.marco.example.springboot.model;
 
-import java.math.BigInteger;
-import java.util.Collection;
+import dev.marco.example.springboot.dao.mapping.ParameterBinder;
 import java.util.Date;
 
+@ParameterBinder(name = "AnnouncementInsertBinder", value = {"getTitle", "getDescription", "getIdUser"})
+@ParameterBinder(name = "AnnouncementUpdateBinder", value = {"getTitle", "getDescription", "getAddress", "getId"})
 public interface Announcement {
 
   int MAX_LENGTH_TITLE = 50;
   int MAX_LENGTH_DESCRIPTION = 300;
   int MAX_LENGTH_ADDRESS = 30;
 
-  BigInteger getId();
+  long getId();
   String getTitle();
   String getDescription();
-  BigInteger getIdUser();
+  long getIdUser();
   User getUser();
   Date getDate();
   String getAddress();
-  Collection<BigInteger> getParticipants();
+  long[] getParticipants();
   int getParticipantsCap();
   boolean getIsLiked();
 
-  void setId(BigInteger id);
+  void setId(long id);
   void setTitle(String title);
   void setDescription(String description);
-  void setIdUser(BigInteger idUser);
+  void setIdUser(long idUser);
   void setDate(Date date);
   void setAddress(String address);
-  void setParticipants(Collection<BigInteger> participants);
+  void setParticipants(long[] participants);
   void setParticipantsCap(int participantsCap);
   void setIsLiked(boolean isLiked);
 }
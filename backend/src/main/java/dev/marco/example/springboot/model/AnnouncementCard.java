@@ -0,0 +1,115 @@
+package dev.marco.example.springboot.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.marco.example.springboot.dao.mapping.Column;
+import dev.marco.example.springboot.dao.mapping.MappedRow;
+
+import java.util.Date;
+
+/**
+ * An announcement as the list pages and the dashboard show it: the owner is reduced to a
+ * {@link UserSummary} and the participants are not loaded. A list narrowed with
+ * {@code fields=} holds {@link #projected()} copies, which leave the fields it did not read out
+ * of the JSON.
+ */
+public class AnnouncementCard {
+
+  private final long id;
+  private final String title;
+  private final String description;
+  private final UserSummary user;
+  private final Date date;
+  private final String address;
+  private final int participantsCap;
+  private final boolean isLiked;
+
+  public AnnouncementCard(long id, String title, String description, UserSummary user,
+      Date date, String address, int participantsCap, boolean isLiked) {
+    this.id = id;
+    this.title = title;
+    this.description = description;
+    this.user = user;
+    this.date = date;
+    this.address = address;
+    this.participantsCap = participantsCap;
+    this.isLiked = isLiked;
+  }
+
+  /**
+   * Expects the owner's first_name and last_name joined in. The id of the current user as a
+   * participant is the eighth column and is not null when the user liked the announcement.
+   */
+  @MappedRow("AnnouncementCardRowMapper")
+  public static AnnouncementCard fromRow(@Column("ID_ANNOUNCEMENT") long id,
+      @Column("TITLE") String title,
+      @Column("DESCRIPTION") String description,
+      @Column("OWNR") long ownerId,
+      @Column("first_name") String ownerFirstName,
+      @Column("last_name") String ownerLastName,
+      @Column("DATE_CREATE") java.sql.Date date,
+      @Column("ADDRESS") String address,
+      @Column("LIKES") int likes,
+      @Column(index = 8, present = true) boolean isLiked) {
+    return new AnnouncementCard(id, title, description,
+        new UserSummary(ownerId, ownerFirstName, ownerLastName), date, address, likes, isLiked);
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private static final class Projected extends AnnouncementCard {
+
+    private Projected(long id, String title, String description, UserSummary user,
+        Date date, String address, int participantsCap, boolean isLiked) {
+      super(id, title, description, user, date, address, participantsCap, isLiked);
+    }
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public long getIdUser() {
+    return user.getId();
+  }
+
+  public UserSummary getUser() {
+    return user;
+  }
+
+  public Date getDate() {
+    return date;
+  }
+
+  public String getAddress() {
+    return address;
+  }
+
+  public int getParticipantsCap() {
+    return participantsCap;
+  }
+
+  public boolean getIsLiked() {
+    return isLiked;
+  }
+
+  public AnnouncementCard projected() {
+    return new Projected(id, title, description, user.projected(), date, address, participantsCap, isLiked);
+  }
+
+  @Override
+  public String toString() {
+    return "AnnouncementCard{" +
+        "id=" + id +
+        ", title='" + title + '\'' +
+        ", user=" + user +
+        ", date=" + date +
+        '}';
+  }
+}
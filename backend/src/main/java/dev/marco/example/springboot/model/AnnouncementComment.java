@@ -1,13 +1,12 @@
 package dev.marco.example.springboot.model;
 
-import java.math.BigInteger;
 import java.sql.Time;
 
 public interface AnnouncementComment {
 
-    void setId(BigInteger id);
+    void setId(long id);
 
-    BigInteger getId();
+    long getId();
 
     void setContent(String text);
 
@@ -1,21 +1,20 @@
 package dev.marco.example.springboot.model;
 
-import java.math.BigInteger;
 
 public interface Answer {
     String getValue();
 
-    BigInteger getId();
+    long getId();
 
     AnswerResult getAnswer();
 
-    BigInteger getQuestionId();
+    long getQuestionId();
 
-    void setId(BigInteger id);
+    void setId(long id);
 
     void setValue(String value);
 
     void setAnswer(AnswerResult answer);
 
-    void setQuestionId(BigInteger questionId);
+    void setQuestionId(long questionId);
 }
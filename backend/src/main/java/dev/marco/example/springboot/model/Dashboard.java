@@ -4,15 +4,15 @@ import java.util.List;
 import java.util.Set;
 
 public interface Dashboard {
-    List<Quiz> getLastQuizzes();
+    List<QuizSummary> getLastQuizzes();
 
-    void setLastQuizzes(List<Quiz> lastQuizzes);
+    void setLastQuizzes(List<QuizSummary> lastQuizzes);
 
-    List<Announcement> getPopularAnnouncement();
+    List<AnnouncementCard> getPopularAnnouncement();
 
-    void setPopularAnnouncement(List<Announcement> popularAnnouncement);
+    void setPopularAnnouncement(List<AnnouncementCard> popularAnnouncement);
 
-    Set<Announcement> getLikedAnnouncement();
+    Set<AnnouncementCard> getLikedAnnouncement();
 
-    void setLikedAnnouncement(Set<Announcement> likedAnnouncement);
+    void setLikedAnnouncement(Set<AnnouncementCard> likedAnnouncement);
 }
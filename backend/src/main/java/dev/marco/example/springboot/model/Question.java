@@ -1,15 +1,17 @@
 package dev.marco.example.springboot.model;
 
+import dev.marco.example.springboot.dao.mapping.ParameterBinder;
 import dev.marco.example.springboot.model.impl.AnswerImpl;
 
-import java.math.BigInteger;
 import java.util.List;
 
+@ParameterBinder(name = "QuestionInsertBinder", value = {"getQuestion", "getQuestionType"})
+@ParameterBinder(name = "QuestionUpdateBinder", value = {"getQuestion", "getQuestionType", "getId"})
 public interface Question {
 
-    void setId(BigInteger id);
+    void setId(long id);
 
-    BigInteger getId();
+    long getId();
 
     void setQuestion(String question);
 
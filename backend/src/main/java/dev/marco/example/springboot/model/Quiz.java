@@ -1,16 +1,20 @@
 package dev.marco.example.springboot.model;
 
+import dev.marco.example.springboot.dao.mapping.ParameterBinder;
 import dev.marco.example.springboot.model.impl.QuestionImpl;
 
-import java.math.BigInteger;
 import java.util.Date;
 import java.util.List;
 
+@ParameterBinder(name = "QuizInsertBinder",
+        value = {"getTitle", "getDescription", "getCreationDate", "getQuizType", "getCreatorId"})
+@ParameterBinder(name = "QuizLookupBinder", value = {"getTitle", "getDescription", "getQuizType"})
+@ParameterBinder(name = "QuizUpdateBinder", value = {"getTitle", "getDescription", "getQuizType", "getCreatorId"})
 public interface Quiz {
 
-    void setId(BigInteger id);
+    void setId(long id);
 
-    BigInteger getId();
+    long getId();
 
     void setTitle(String title);
 
@@ -28,9 +32,9 @@ public interface Quiz {
 
     Date getCreationDate();
 
-    void setCreatorId(BigInteger creatorId);
+    void setCreatorId(long creatorId);
 
-    BigInteger getCreatorId();
+    long getCreatorId();
 
     List<QuestionImpl> getQuestions();
 
@@ -0,0 +1,70 @@
+package dev.marco.example.springboot.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.marco.example.springboot.dao.mapping.Column;
+import dev.marco.example.springboot.dao.mapping.MappedRow;
+
+/**
+ * What a quiz card shows. List queries select only these columns; the creator, creation
+ * date and questions are left to {@link Quiz}. A list narrowed with {@code fields=} holds
+ * {@link #projected()} copies, which leave the fields it did not read out of the JSON.
+ */
+public class QuizSummary {
+
+    private final long id;
+    private final String title;
+    private final String description;
+    private final QuizType quizType;
+
+    @MappedRow("QuizSummaryRowMapper")
+    public QuizSummary(@Column("ID_QUIZ") long id,
+                       @Column("TITLE") String title,
+                       @Column("DESCRIPTION") String description,
+                       @Column("QUIZ_TYPE") QuizType quizType) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.quizType = quizType;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private static final class Projected extends QuizSummary {
+
+        private Projected(long id, String title, String description, QuizType quizType) {
+            super(id, title, description, quizType);
+        }
+    }
+
+    public static QuizSummary of(Quiz quiz) {
+        return new QuizSummary(quiz.getId(), quiz.getTitle(), quiz.getDescription(), quiz.getQuizType());
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public QuizType getQuizType() {
+        return quizType;
+    }
+
+    public QuizSummary projected() {
+        return new Projected(id, title, description, quizType);
+    }
+
+    @Override
+    public String toString() {
+        return "QuizSummary{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", quizType=" + quizType +
+                '}';
+    }
+}
@@ -1,11 +1,13 @@
 package dev.marco.example.springboot.model;
 
-import java.math.BigInteger;
+import dev.marco.example.springboot.dao.mapping.ParameterBinder;
 import java.util.Set;
 
+@ParameterBinder(name = "UserInsertBinder",
+    value = {"getFirstName", "getLastName", "getDescription", "getEmail", "getPassword"})
 public interface User {
 
-  BigInteger getId();
+  long getId();
 
   String getFullName();
 
@@ -29,7 +31,7 @@ public interface User {
 
   UserRoles getUserRole();
 
-  public void setId(BigInteger id);
+  public void setId(long id);
 
   public void setFirstName(String firstName);
 
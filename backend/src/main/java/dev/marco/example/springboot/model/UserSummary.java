@@ -0,0 +1,57 @@
+package dev.marco.example.springboot.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.marco.example.springboot.dao.mapping.Column;
+import dev.marco.example.springboot.dao.mapping.MappedRow;
+
+/**
+ * Id and name of a user, for lists that only print who someone is.
+ */
+public class UserSummary {
+
+  private final long id;
+  private final String firstName;
+  private final String lastName;
+
+  @MappedRow("UserSummaryRowMapper")
+  public UserSummary(@Column("id_usr") long id,
+      @Column("first_name") String firstName,
+      @Column("last_name") String lastName) {
+    this.id = id;
+    this.firstName = firstName;
+    this.lastName = lastName;
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private static final class Projected extends UserSummary {
+
+    private Projected(long id, String firstName, String lastName) {
+      super(id, firstName, lastName);
+    }
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public String getFirstName() {
+    return firstName;
+  }
+
+  public String getLastName() {
+    return lastName;
+  }
+
+  public UserSummary projected() {
+    return new Projected(id, firstName, lastName);
+  }
+
+  @Override
+  public String toString() {
+    return "UserSummary{" +
+        "id=" + id +
+        ", firstName='" + firstName + '\'' +
+        ", lastName='" + lastName + '\'' +
+        '}';
+  }
+}
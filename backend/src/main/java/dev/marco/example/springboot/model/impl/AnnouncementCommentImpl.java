@@ -1,37 +1,48 @@
 package dev.marco.example.springboot.model.impl;
 
+import dev.marco.example.springboot.dao.mapping.Column;
+import dev.marco.example.springboot.dao.mapping.MappedRow;
 import dev.marco.example.springboot.model.AnnouncementComment;
 
-import java.math.BigInteger;
 import java.sql.Time;
 
 public class AnnouncementCommentImpl implements AnnouncementComment {
 
-    private BigInteger commentId;
+    private long commentId;
     private String content;
     private String userName;
     private Time creationTime;
 
-    public AnnouncementCommentImpl(BigInteger commentId, String content, String userName, Time creationTime) {
+    public AnnouncementCommentImpl(long commentId, String content, String userName, Time creationTime) {
         this.commentId = commentId;
         this.content = content;
         this.userName = userName;
         this.creationTime = creationTime;
     }
 
-    public AnnouncementCommentImpl(BigInteger commentId, String content, Time creationTime) {
+    public AnnouncementCommentImpl(long commentId, String content, Time creationTime) {
         this.commentId = commentId;
         this.content = content;
         this.creationTime = creationTime;
     }
 
+    @MappedRow("CommentRowMapper")
+    public static AnnouncementCommentImpl fromRow(@Column("ID_COMMENTARY") long id,
+                                                  @Column("DESCRIPTION") String content,
+                                                  @Column("first_name") String authorFirstName,
+                                                  @Column("last_name") String authorLastName,
+                                                  @Column("DATE_CREATE") Time creationTime) {
+        return new AnnouncementCommentImpl(id, content,
+                authorFirstName + " " + authorLastName, creationTime);
+    }
+
     @Override
-    public void setId(BigInteger id) {
+    public void setId(long id) {
         this.commentId = id;
     }
 
     @Override
-    public BigInteger getId() {
+    public long getId() {
         return commentId;
     }
 
@@ -5,8 +5,6 @@ import org.apache.commons.lang3.StringUtils;
 import dev.marco.example.springboot.exception.AnnouncementException;
 import dev.marco.example.springboot.model.Announcement;
 
-import java.math.BigInteger;
-import java.util.Collection;
 import java.util.Date;
 
 import static dev.marco.example.springboot.exception.MessagesForException.*;
@@ -16,19 +14,19 @@ public class AnnouncementImpl implements Announcement {
   private AnnouncementImpl() {
   }
 
-  private BigInteger id;
+  private long id;
   private String title;
   private String description;
-  private BigInteger idUser;
+  private long idUser;
   private User user;
   private Date date;
   private String address;
-  private Collection<BigInteger> participants;
+  private long[] participants;
   private int participantsCap;
   private boolean isLiked;
 
   @Override
-  public BigInteger getId() {
+  public long getId() {
     return id;
   }
   @Override
@@ -40,7 +38,7 @@ public class AnnouncementImpl implements Announcement {
     return description;
   }
   @Override
-  public BigInteger getIdUser() {
+  public long getIdUser() {
     return idUser;
   }
   @Override
@@ -54,7 +52,7 @@ public class AnnouncementImpl implements Announcement {
     return address;
   }
   @Override
-  public Collection<BigInteger> getParticipants() {
+  public long[] getParticipants() {
     return participants;
   }
   @Override
@@ -65,7 +63,7 @@ public class AnnouncementImpl implements Announcement {
   public boolean getIsLiked(){return isLiked;}
 
   @Override
-  public void setId(BigInteger id) {
+  public void setId(long id) {
     this.id = id;
   }
   @Override
@@ -77,7 +75,7 @@ public class AnnouncementImpl implements Announcement {
     this.description = description;
   }
   @Override
-  public void setIdUser(BigInteger idUser) {
+  public void setIdUser(long idUser) {
     this.idUser = idUser;
   }
   @Override
@@ -89,7 +87,7 @@ public class AnnouncementImpl implements Announcement {
     this.address = address;
   }
   @Override
-  public void setParticipants(Collection<BigInteger> participants) {
+  public void setParticipants(long[] participants) {
     this.participants = participants;
   }
   @Override
@@ -107,8 +105,8 @@ public class AnnouncementImpl implements Announcement {
       newAnnouncement = new AnnouncementImpl();
     }
 
-    public AnnouncementBuilder setId(BigInteger id) throws AnnouncementException {
-      if(id == null)
+    public AnnouncementBuilder setId(long id) throws AnnouncementException {
+      if(id == 0)
         throw new AnnouncementException(EMPTY_ANNOUNCEMENT_ID);
       newAnnouncement.id = id;
       return this;
@@ -134,8 +132,8 @@ public class AnnouncementImpl implements Announcement {
       return this;
     }
 
-    public AnnouncementBuilder setIdUser(BigInteger idUser) throws AnnouncementException {
-      if(idUser == null)
+    public AnnouncementBuilder setIdUser(long idUser) throws AnnouncementException {
+      if(idUser == 0)
         throw new AnnouncementException(USER_IS_NULL);
       newAnnouncement.idUser = idUser;
       return this;
@@ -161,7 +159,7 @@ public class AnnouncementImpl implements Announcement {
       return this;
     }
 
-    public AnnouncementBuilder setParticipants(Collection<BigInteger> participants){
+    public AnnouncementBuilder setParticipants(long[] participants){
       newAnnouncement.participants = participants;
       return this;
     }
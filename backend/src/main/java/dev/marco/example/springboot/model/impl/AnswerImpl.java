@@ -1,40 +1,50 @@
 package dev.marco.example.springboot.model.impl;
 
+import dev.marco.example.springboot.dao.mapping.Column;
+import dev.marco.example.springboot.dao.mapping.MappedRow;
 import dev.marco.example.springboot.model.Answer;
 import dev.marco.example.springboot.model.AnswerResult;
 
-import java.math.BigInteger;
 
 public class AnswerImpl implements Answer {
 
-    private BigInteger id;
+    private long id;
     private String value;
     private AnswerResult answer;
-    private BigInteger questionId;
+    private long questionId;
 
     private AnswerImpl() {
     }
 
-    public AnswerImpl(String value, AnswerResult answer, BigInteger questionId) {
+    public AnswerImpl(String value, AnswerResult answer, long questionId) {
         this.value = value;
         this.answer = answer;
         this.questionId = questionId;
     }
 
-    public AnswerImpl(BigInteger id, String value, AnswerResult answer, BigInteger questionId) {
+    public AnswerImpl(long id, String value, AnswerResult answer, long questionId) {
         this.id = id;
         this.value = value;
         this.answer = answer;
         this.questionId = questionId;
     }
 
+    @MappedRow("AnswerRowMapper")
+    public static AnswerImpl fromRow(@Column("id_answer") long id,
+                                     @Column("text") String value,
+                                     @Column("is_true") boolean isTrue,
+                                     @Column("question") long questionId) {
+        return new AnswerImpl(id, value,
+                AnswerResult.convertBooleanToAnswer(isTrue), questionId);
+    }
+
     @Override
     public String getValue() {
         return value;
     }
 
     @Override
-    public BigInteger getId() {
+    public long getId() {
         return id;
     }
 
@@ -44,12 +54,12 @@ public class AnswerImpl implements Answer {
     }
 
     @Override
-    public BigInteger getQuestionId() {
+    public long getQuestionId() {
         return questionId;
     }
 
     @Override
-    public void setId(BigInteger id) {
+    public void setId(long id) {
         this.id = id;
     }
 
@@ -64,7 +74,7 @@ public class AnswerImpl implements Answer {
     }
 
     @Override
-    public void setQuestionId(BigInteger questionId) {
+    public void setQuestionId(long questionId) {
         this.questionId = questionId;
     }
 
@@ -1,19 +1,19 @@
 package dev.marco.example.springboot.model.impl;
 
-import dev.marco.example.springboot.model.Announcement;
+import dev.marco.example.springboot.model.AnnouncementCard;
 import dev.marco.example.springboot.model.Dashboard;
-import dev.marco.example.springboot.model.Quiz;
+import dev.marco.example.springboot.model.QuizSummary;
 
 import java.util.List;
 import java.util.Set;
 
 public class DashboardImpl implements Dashboard {
-    private List<Quiz> lastQuizzes;
-    private List<Announcement> popularAnnouncement;
-    private Set<Announcement> likedAnnouncement;
+    private List<QuizSummary> lastQuizzes;
+    private List<AnnouncementCard> popularAnnouncement;
+    private Set<AnnouncementCard> likedAnnouncement;
 
-    public DashboardImpl(List<Quiz> lastQuizzes, List<Announcement> popularAnnouncement,
-                         Set<Announcement> likedAnnouncement) {
+    public DashboardImpl(List<QuizSummary> lastQuizzes, List<AnnouncementCard> popularAnnouncement,
+                         Set<AnnouncementCard> likedAnnouncement) {
         this.lastQuizzes = lastQuizzes;
         this.popularAnnouncement = popularAnnouncement;
         this.likedAnnouncement = likedAnnouncement;
@@ -21,32 +21,32 @@ public class DashboardImpl implements Dashboard {
 
 
     @Override
-    public List<Quiz> getLastQuizzes() {
+    public List<QuizSummary> getLastQuizzes() {
         return lastQuizzes;
     }
 
     @Override
-    public void setLastQuizzes(List<Quiz> lastQuizzes) {
+    public void setLastQuizzes(List<QuizSummary> lastQuizzes) {
         this.lastQuizzes = lastQuizzes;
     }
 
     @Override
-    public List<Announcement> getPopularAnnouncement() {
+    public List<AnnouncementCard> getPopularAnnouncement() {
         return popularAnnouncement;
     }
 
     @Override
-    public void setPopularAnnouncement(List<Announcement> popularAnnouncement) {
+    public void setPopularAnnouncement(List<AnnouncementCard> popularAnnouncement) {
         this.popularAnnouncement = popularAnnouncement;
     }
 
     @Override
-    public Set<Announcement> getLikedAnnouncement() {
+    public Set<AnnouncementCard> getLikedAnnouncement() {
         return likedAnnouncement;
     }
 
     @Override
-    public void setLikedAnnouncement(Set<Announcement> likedAnnouncement) {
+    public void setLikedAnnouncement(Set<AnnouncementCard> likedAnnouncement) {
         this.likedAnnouncement = likedAnnouncement;
     }
 
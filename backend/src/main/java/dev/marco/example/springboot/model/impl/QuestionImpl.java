@@ -1,9 +1,10 @@
 package dev.marco.example.springboot.model.impl;
 
+import dev.marco.example.springboot.dao.mapping.Column;
+import dev.marco.example.springboot.dao.mapping.MappedRow;
 import dev.marco.example.springboot.model.Question;
 import dev.marco.example.springboot.model.QuestionType;
 
-import java.math.BigInteger;
 import java.util.List;
 
 public class QuestionImpl implements Question {
@@ -12,7 +13,7 @@ public class QuestionImpl implements Question {
     }
 
     public QuestionImpl(
-            BigInteger idQuestion,
+            long idQuestion,
             String question,
             QuestionType questionType,
             List<AnswerImpl> answers
@@ -24,7 +25,7 @@ public class QuestionImpl implements Question {
     }
 
     public QuestionImpl(
-            BigInteger idQuestion,
+            long idQuestion,
             String question,
             QuestionType questionType
     ) {
@@ -41,19 +42,26 @@ public class QuestionImpl implements Question {
         this.questionType = questionType;
     }
 
-    private BigInteger idQuestion;
+    @MappedRow("QuestionRowMapper")
+    public static QuestionImpl fromRow(@Column("id_question") long idQuestion,
+                                       @Column("question_name") String question,
+                                       @Column("question_type") QuestionType questionType) {
+        return new QuestionImpl(idQuestion, question, questionType);
+    }
+
+    private long idQuestion;
     private String question;
     private QuestionType questionType;
     private List<AnswerImpl> answers;
 
 
     @Override
-    public void setId(BigInteger id) {
+    public void setId(long id) {
         this.idQuestion = id;
     }
 
     @Override
-    public BigInteger getId() {
+    public long getId() {
         return idQuestion;
     }
 
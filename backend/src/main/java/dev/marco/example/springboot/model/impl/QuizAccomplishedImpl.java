@@ -1,4 +1,6 @@
 package dev.marco.example.springboot.model.impl;
+import dev.marco.example.springboot.dao.mapping.Column;
+import dev.marco.example.springboot.dao.mapping.MappedRow;
 import dev.marco.example.springboot.model.Quiz;
 
 import java.util.Date;
@@ -33,6 +35,17 @@ public class QuizAccomplishedImpl {
   private QuizAccomplishedImpl() {
   }
 
+  /**
+   * Accomplished quiz row joined with the quiz columns.
+   */
+  @MappedRow("QuizAccomplishedRowMapper")
+  public static QuizAccomplishedImpl fromRow(@Column("correct_answers") int correctAnswers,
+      @Column("is_favourite") boolean isFavourite,
+      @Column("date_create") java.sql.Date dateOfQuiz,
+      QuizImpl quiz) {
+    return new QuizAccomplishedImpl(correctAnswers, isFavourite, dateOfQuiz, quiz);
+  }
+
   public int getCorrectAnswers() {
     return correctAnswers;
   }
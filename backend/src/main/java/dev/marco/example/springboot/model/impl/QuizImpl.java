@@ -1,12 +1,13 @@
 package dev.marco.example.springboot.model.impl;
 
+import dev.marco.example.springboot.dao.mapping.Column;
+import dev.marco.example.springboot.dao.mapping.MappedRow;
 import org.apache.commons.lang3.StringUtils;
 import dev.marco.example.springboot.exception.QuizException;
 import dev.marco.example.springboot.model.Question;
 import dev.marco.example.springboot.model.Quiz;
 import dev.marco.example.springboot.model.QuizType;
 
-import java.math.BigInteger;
 import java.util.Date;
 import java.util.List;
 
@@ -14,24 +15,24 @@ import static dev.marco.example.springboot.exception.MessagesForException.*;
 
 public class QuizImpl implements Quiz {
 
-    private BigInteger id;
+    private long id;
     private String title;
     private String description;
     private QuizType quizType;
     private Date creationDate;
-    private BigInteger creatorId;
+    private long creatorId;
     private List<QuestionImpl> questions;
 
     private QuizImpl() {
     }
 
     @Override
-    public BigInteger getId() {
+    public long getId() {
         return id;
     }
 
     @Override
-    public void setId(BigInteger id) {
+    public void setId(long id) {
         this.id = id;
     }
 
@@ -76,12 +77,12 @@ public class QuizImpl implements Quiz {
     }
 
     @Override
-    public BigInteger getCreatorId() {
+    public long getCreatorId() {
         return creatorId;
     }
 
     @Override
-    public void setCreatorId(BigInteger creatorId) {
+    public void setCreatorId(long creatorId) {
         this.creatorId = creatorId;
     }
 
@@ -95,6 +96,23 @@ public class QuizImpl implements Quiz {
         this.questions = questions;
     }
 
+    @MappedRow("QuizRowMapper")
+    public static QuizImpl fromRow(@Column("ID_QUIZ") long id,
+                                   @Column("TITLE") String title,
+                                   @Column("DESCRIPTION") String description,
+                                   @Column("QUIZ_TYPE") QuizType quizType,
+                                   @Column("CREATION_DATE") java.sql.Date creationDate,
+                                   @Column("CREATOR") long creatorId) throws QuizException {
+        return QuizBuilder()
+                .setId(id)
+                .setTitle(title)
+                .setDescription(description)
+                .setQuizType(quizType)
+                .setCreationDate(creationDate)
+                .setCreatorId(creatorId)
+                .build();
+    }
+
     public static Builder QuizBuilder() {
         return new QuizImpl().new Builder();
     }
@@ -117,8 +135,8 @@ public class QuizImpl implements Quiz {
         private Builder() {
         }
 
-        public Builder setId(BigInteger id) throws QuizException {
-            if(id == null)
+        public Builder setId(long id) throws QuizException {
+            if(id == 0)
                 throw new QuizException(EMPTY_ID);
             QuizImpl.this.id = id;
             return this;
@@ -148,8 +166,8 @@ public class QuizImpl implements Quiz {
             return this;
         }
 
-        public Builder setCreatorId(BigInteger creatorId) throws QuizException {
-            if (creatorId == null) {
+        public Builder setCreatorId(long creatorId) throws QuizException {
+            if (creatorId == 0) {
                 throw new QuizException(OWNER_IS_NULL);
             }
             QuizImpl.this.creatorId = creatorId;
@@ -1,13 +1,15 @@
 package dev.marco.example.springboot.model.impl;
 
+import dev.marco.example.springboot.dao.mapping.Column;
+import dev.marco.example.springboot.dao.mapping.MappedRow;
 import dev.marco.example.springboot.exception.MessagesForException;
 import dev.marco.example.springboot.exception.UserException;
 import dev.marco.example.springboot.model.Quiz;
 import dev.marco.example.springboot.model.User;
+import dev.marco.example.springboot.model.UserActive;
 import dev.marco.example.springboot.model.UserRoles;
 
 import dev.marco.example.springboot.service.impl.UserServiceImpl;
-import java.math.BigInteger;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -17,7 +19,7 @@ import static dev.marco.example.springboot.exception.MessagesForException.*;
 
 public class UserImpl implements User {
 
-  private BigInteger id;
+  private long id;
   private String firstName;
   private String lastName;
   private String email;
@@ -71,7 +73,7 @@ public class UserImpl implements User {
   }
 
   @Override
-  public void setId(BigInteger id) {
+  public void setId(long id) {
     this.id = id;
   }
 
@@ -117,7 +119,7 @@ public class UserImpl implements User {
   }
 
   @Override
-  public BigInteger getId() {
+  public long getId() {
     return id;
   }
 
@@ -183,6 +185,28 @@ public class UserImpl implements User {
             '}';
   }
 
+  /**
+   * Row without password and email code.
+   */
+  @MappedRow("UserRowMapper")
+  public static User fromRow(@Column("id_usr") long id,
+      @Column("first_name") String firstName,
+      @Column("last_name") String lastName,
+      @Column("email") String email,
+      @Column("usr_role") int role,
+      @Column("isactive") int active,
+      @Column("description") String description) throws UserException {
+    return new UserBuilder()
+        .setId(id)
+        .setFirstName(firstName)
+        .setLastName(lastName)
+        .setEmail(email)
+        .setRole(UserRoles.convertFromIntToRole(role))
+        .setActive(active == UserActive.ACTIVE.ordinal())
+        .setDescription(description)
+        .build();
+  }
+
   public static class UserBuilder {
 
     private final UserImpl newUser;
@@ -191,8 +215,8 @@ public class UserImpl implements User {
       newUser = new UserImpl();
     }
 
-    public UserBuilder setId(BigInteger id) throws UserException {
-      if (id == null) {
+    public UserBuilder setId(long id) throws UserException {
+      if (id == 0) {
         log.error(EMPTY_USER_ID);
         throw new UserException(EMPTY_USER_ID);
       }
@@ -0,0 +1,142 @@
+package dev.marco.example.springboot.nonblocking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static dev.marco.example.springboot.util.ApiAddresses.*;
+
+/**
+ * Frees request threads from slow clients on the read-heavy endpoints that Jackson renders per
+ * request: quiz pages, search and filter, dashboards, the announcement feed and comments. The
+ * handler renders its response into memory. The bytes then go out through Servlet 3.1
+ * non-blocking I/O, so Tomcat's poller waits for a slow socket instead of a thread. The price
+ * is heap: every response still waiting on a client holds all of its bytes.
+ *
+ * <p>Everything else writes directly. Streams, event streams and exported quiz files would be
+ * defeated by a buffer, and {@code /quiz/{id}} and {@code /quiz/game/{title}} already answer
+ * from cached bytes, which a buffer would only copy once more.
+ *
+ * <p>Containers without non-blocking output, such as MockMvc, get the buffer written in one go.
+ */
+@Component
+public class NonBlockingWriteFilter extends OncePerRequestFilter {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final String QUIZ_SEARCH = API_QUIZ + API_GET_QUIZ_BY_TITLE;
+    private static final String QUIZ_FILTER = API_QUIZ + API_SHOW_ALL_FILTER_QUIZZES;
+    private static final String DASHBOARD_PREFIX = "/dashboard/";
+    private static final String ANNOUNCEMENT_PAGE = API_ANNOUNCEMENT + API_GET_ANNOUNCEMENTS_BY_PAGE;
+    private static final String ANNOUNCEMENT_SEARCH = API_ANNOUNCEMENT + API_GET_ANNOUNCEMENTS_BY_TITLE;
+    private static final String ANNOUNCEMENT_COMMENTS = API_ANNOUNCEMENT + API_GET_COMMENTARIES;
+
+    private final boolean enabled;
+    private final long writeTimeoutMillis;
+
+    public NonBlockingWriteFilter(@Value("${http.non-blocking-writes.enabled:true}") boolean enabled,
+                                  @Value("${http.non-blocking-writes.timeout-millis:30000}") long writeTimeoutMillis) {
+        this.enabled = enabled;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        return !isReadHeavy(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Spring MVC hands the response it got to startAsync, so an async dispatch comes back
+        // with the buffer of the first round.
+        ContentCachingResponseWrapper buffered =
+                WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (buffered == null) {
+            buffered = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, buffered);
+        } else {
+            filterChain.doFilter(request, response);
+        }
+        if (request.isAsyncStarted()) {
+            // The handler went async; its result comes back through here on the async dispatch.
+            return;
+        }
+        HttpServletResponse target = (HttpServletResponse) buffered.getResponse();
+        byte[] body = buffered.getContentAsByteArray();
+        if (buffered.getStatus() != HttpStatus.OK.value() || body.length == 0 || target.isCommitted()) {
+            buffered.copyBodyToResponse();
+            return;
+        }
+
+        target.setContentLength(body.length);
+        AsyncContext asyncContext = request.startAsync(request, target);
+        asyncContext.setTimeout(writeTimeoutMillis);
+        ServletOutputStream outputStream = target.getOutputStream();
+        try {
+            outputStream.setWriteListener(new BodyWriter(asyncContext, outputStream, body));
+        } catch (UnsupportedOperationException e) {
+            outputStream.write(body);
+            asyncContext.complete();
+        }
+    }
+
+    static boolean isReadHeavy(String path) {
+        return path.equals(API_QUIZ) || path.equals(QUIZ_SEARCH) || path.equals(QUIZ_FILTER)
+                || path.startsWith(DASHBOARD_PREFIX) || path.equals(ANNOUNCEMENT_PAGE)
+                || path.equals(ANNOUNCEMENT_SEARCH) || path.equals(ANNOUNCEMENT_COMMENTS);
+    }
+
+    private static final class BodyWriter implements WriteListener {
+
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream outputStream;
+        private final byte[] body;
+        private int written;
+
+        BodyWriter(AsyncContext asyncContext, ServletOutputStream outputStream, byte[] body) {
+            this.asyncContext = asyncContext;
+            this.outputStream = outputStream;
+            this.body = body;
+        }
+
+        @Override
+        public void onWritePossible() throws IOException {
+            while (outputStream.isReady()) {
+                if (written == body.length) {
+                    asyncContext.complete();
+                    return;
+                }
+                int length = Math.min(CHUNK_SIZE, body.length - written);
+                outputStream.write(body, written, length);
+                written += length;
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            asyncContext.complete();
+        }
+    }
+}
@@ -1,46 +1,72 @@
 package dev.marco.example.springboot.rest;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.marco.example.springboot.bulkhead.Bulkheads;
+import dev.marco.example.springboot.cache.ResourceVersions;
+import dev.marco.example.springboot.dao.Projection;
+import dev.marco.example.springboot.deadline.RequestDeadline;
 import dev.marco.example.springboot.exception.*;
-import dev.marco.example.springboot.model.Announcement;
+import dev.marco.example.springboot.format.PayloadFormats;
+import dev.marco.example.springboot.limit.EndpointGroup;
+import dev.marco.example.springboot.model.AnnouncementCard;
 import dev.marco.example.springboot.model.AnnouncementComment;
 import dev.marco.example.springboot.model.impl.AnnouncementImpl;
+import dev.marco.example.springboot.security.JwtUser;
 import dev.marco.example.springboot.service.AnnouncementService;
 import dev.marco.example.springboot.util.ApiAddresses;
 import dev.marco.example.springboot.util.ControllerUtil;
 import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigInteger;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 
 @RestController
+@RequestDeadline(3000)
 @RequestMapping(ApiAddresses.API_ANNOUNCEMENT)
 public class AnnouncementController implements ApiAddresses {
 
     private final Properties properties = new Properties();
     private static final String ID_USER = "idUser";
     private static final String ID_ANNOUNCEMENT = "idAnnouncement";
-    private static final String ID_LAST_COMMENT = "idLastComment";
-    private static final String PAGINATION_SIZE = "paginationSize";
     private static final String COMMENT_CONTENT = "commentContent";
     private static final String SEARCH_PROJECT = "searchProject";
     private static final Logger log = Logger.getLogger(AnnouncementController.class);
     private final AnnouncementService announcementService;
+    private final ObjectMapper objectMapper;
+    private final Bulkheads bulkheads;
+    private final ResourceVersions resourceVersions;
+    private final PayloadFormats payloadFormats;
 
     @Autowired
-    private AnnouncementController(AnnouncementService announcementService) {
+    private AnnouncementController(AnnouncementService announcementService, ObjectMapper objectMapper,
+                                   Bulkheads bulkheads, ResourceVersions resourceVersions,
+                                   PayloadFormats payloadFormats) {
         this.announcementService = announcementService;
+        this.objectMapper = objectMapper;
+        this.bulkheads = bulkheads;
+        this.resourceVersions = resourceVersions;
+        this.payloadFormats = payloadFormats;
         try {
             ControllerUtil.getProperty(properties);
         } catch (ControllerConfigException e) {
-            log.error(e.getMessage());
+            log.error(e.getMessage(), e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(CONFIG_EXCEPTION));
         }
     }
@@ -50,180 +76,313 @@ public class AnnouncementController implements ApiAddresses {
     }
 
     @PostMapping(API_CREATE_ANNOUNCEMENT)
-    public BigInteger createAnnouncement(@RequestBody AnnouncementImpl announcement) {
-        try {
-            return announcementService.buildNewAnnouncement(new AnnouncementImpl.AnnouncementBuilder()
-                    .setTitle(announcement.getTitle())
-                    .setDescription(announcement.getDescription())
-                    .setIdUser(announcement.getIdUser())
-                    .setAddress(announcement.getAddress())
-                    .build());
-        } catch (AnnouncementException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
-        } catch (DAOLogicException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (UserException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, properties.getProperty(USER_EXCEPTION));
-        }
+    public DeferredResult<Long> createAnnouncement(@RequestBody AnnouncementImpl announcement) {
+        return bulkheads.submit(EndpointGroup.ANNOUNCEMENTS, () -> {
+            try {
+                return announcementService.buildNewAnnouncement(new AnnouncementImpl.AnnouncementBuilder()
+                        .setTitle(announcement.getTitle())
+                        .setDescription(announcement.getDescription())
+                        .setIdUser(announcement.getIdUser())
+                        .setAddress(announcement.getAddress())
+                        .build());
+            } catch (AnnouncementException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
+            } catch (DAOLogicException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (UserException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, properties.getProperty(USER_EXCEPTION));
+            }
+        });
     }
 
     @GetMapping(API_GET_ALL_ANNOUNCEMENT)
-    public List<Announcement> getAllAnnouncement(@PathVariable BigInteger idUser) {
-        try {
-            return announcementService.getAllAnnouncements(idUser);
-        } catch (AnnouncementDoesNotExistException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
-        } catch (DAOLogicException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (AnnouncementException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
-        }
+    public ResponseEntity<StreamingResponseBody> getAllAnnouncement(@PathVariable long idUser) {
+        StreamingResponseBody body = outputStream -> {
+            JsonArrayWriter<AnnouncementCard> writer = new JsonArrayWriter<>(objectMapper, outputStream);
+            try {
+                announcementService.streamAllAnnouncements(idUser, writer);
+            } catch (DAOLogicException e) {
+                if (!writer.isEmpty()) {
+                    throw writer.abort(e);
+                }
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            }
+            writer.finish();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @DeleteMapping(API_DELETE_ANNOUNCEMENT)
-    public void deleteAnnouncement(@RequestBody JsonNode requestBody) {
-        BigInteger idUser = BigInteger.valueOf(requestBody.get(ID_USER).asLong());
-        BigInteger idAnnouncement = BigInteger.valueOf(requestBody.get(ID_ANNOUNCEMENT).asLong());
-        try {
-            announcementService.deleteAnnouncement(idAnnouncement, idUser);
-        } catch (DAOLogicException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (UserException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(USER_EXCEPTION));
-        } catch (AnnouncementDoesNotExistException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
-        } catch (UserDoesNotExistException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
-        }
+    public DeferredResult<Void> deleteAnnouncement(@RequestBody ParamsInDeleteAnnouncement params) {
+        return bulkheads.submit(EndpointGroup.ANNOUNCEMENTS, () -> {
+            try {
+                announcementService.deleteAnnouncement(params.idAnnouncement, params.idUser);
+            } catch (DAOLogicException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (UserException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(USER_EXCEPTION));
+            } catch (AnnouncementDoesNotExistException e) {
+                log.warn(e.getMessage());
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
+            } catch (UserDoesNotExistException e) {
+                log.warn(e.getMessage());
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
+            }
+            return null;
+        });
     }
 
     @PutMapping(API_UPDATE_ANNOUNCEMENT)
-    public void editAnnouncement(@RequestBody AnnouncementImpl announcement) {
-        try {
-            announcementService.editAnnouncement(new AnnouncementImpl.AnnouncementBuilder()
-                    .setId(announcement.getId())
-                    .setTitle(announcement.getTitle())
-                    .setDescription(announcement.getDescription())
-                    .setIdUser(announcement.getIdUser())
-                    .setAddress(announcement.getAddress())
-                    .build());
-        } catch (AnnouncementException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
-        } catch (DAOLogicException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (UserException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, properties.getProperty(USER_EXCEPTION));
-        } catch (AnnouncementDoesNotExistException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
-        } catch (UserDoesNotExistException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
-        }
+    public DeferredResult<Void> editAnnouncement(@RequestBody AnnouncementImpl announcement) {
+        return bulkheads.submit(EndpointGroup.ANNOUNCEMENTS, () -> {
+            try {
+                announcementService.editAnnouncement(new AnnouncementImpl.AnnouncementBuilder()
+                        .setId(announcement.getId())
+                        .setTitle(announcement.getTitle())
+                        .setDescription(announcement.getDescription())
+                        .setIdUser(announcement.getIdUser())
+                        .setAddress(announcement.getAddress())
+                        .build());
+            } catch (AnnouncementException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
+            } catch (DAOLogicException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (UserException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, properties.getProperty(USER_EXCEPTION));
+            } catch (AnnouncementDoesNotExistException e) {
+                log.warn(e.getMessage());
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
+            } catch (UserDoesNotExistException e) {
+                log.warn(e.getMessage());
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
+            }
+            return null;
+        });
     }
 
     @PostMapping(API_LIKE_ANNOUNCEMENT)
-    public void setLikeAnnouncement(@RequestBody JsonNode requestBody) {
-        BigInteger idAnnouncement = BigInteger.valueOf(requestBody.get(ID_ANNOUNCEMENT).asLong());
-        try {
-            announcementService.setLikeAnnouncement(idAnnouncement);
-        } catch (AnnouncementException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
-        } catch (DAOLogicException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (AnnouncementDoesNotExistException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
-        } catch (UserDoesNotExistException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
-        }
+    public DeferredResult<Void> setLikeAnnouncement(@RequestBody ParamsInLikeAnnouncement params) {
+        return bulkheads.submit(EndpointGroup.ANNOUNCEMENTS, () -> {
+            try {
+                announcementService.setLikeAnnouncement(params.idAnnouncement);
+            } catch (AnnouncementException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
+            } catch (DAOLogicException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (AnnouncementDoesNotExistException e) {
+                log.warn(e.getMessage());
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
+            } catch (UserDoesNotExistException e) {
+                log.warn(e.getMessage());
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
+            }
+            return null;
+        });
     }
 
     @GetMapping(API_GET_COMMENTARIES)
-    public List<AnnouncementComment> getCommentaries(@RequestBody JsonNode requestBody) {
-        try {
-            BigInteger idAnnouncement = BigInteger.valueOf(requestBody.get(ID_ANNOUNCEMENT).asLong());
-            BigInteger idLastComment = BigInteger.valueOf(requestBody.get(ID_LAST_COMMENT).asLong());
-            int paginationSize = requestBody.get(PAGINATION_SIZE).asInt();
+    public DeferredResult<ResponseEntity<List<AnnouncementComment>>> getCommentaries(
+            @RequestParam long idAnnouncement,
+            @RequestParam(defaultValue = "0") long idLastComment,
+            @RequestParam(required = false) Long idBeforeComment,
+            @RequestParam int paginationSize) {
+        return bulkheads.submit(EndpointGroup.ANNOUNCEMENTS, () -> {
+            try {
+                if (idBeforeComment != null) {
+                    List<AnnouncementComment> comments =
+                            announcementService.getCommentsBefore(idAnnouncement, idBeforeComment, paginationSize);
+                    return ResponseEntity.ok()
+                            .cacheControl(CacheControl.noCache())
+                            .eTag(getCommentsETag(idAnnouncement, comments))
+                            .body(comments);
+                }
+                List<AnnouncementComment> comments =
+                        announcementService.getComments(idAnnouncement, idLastComment, paginationSize);
+                ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache())
+                        .eTag(getCommentsETag(idAnnouncement, comments));
+                long lastModified = announcementService.getCommentsLastModified(idAnnouncement);
+                if (lastModified >= 0) {
+                    response.lastModified(lastModified);
+                }
+                return response.body(comments);
+            } catch (DAOLogicException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (AnnouncementDoesNotExistException e) {
+                log.warn(e.getMessage());
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
+            }
+        });
+    }
+
+    /**
+     * Comments are never edited, so the id range and size of a page identify its content.
+     */
+    private static String getCommentsETag(long idAnnouncement, List<AnnouncementComment> comments) {
+        if (comments.isEmpty()) {
+            return "\"" + idAnnouncement + "-0\"";
+        }
+        return "\"" + idAnnouncement + "-" + comments.get(0).getId() + "-"
+                + comments.get(comments.size() - 1).getId() + "-" + comments.size() + "\"";
+    }
 
-            return announcementService.getComments(idAnnouncement, idLastComment, paginationSize);
+    @GetMapping(value = API_ANNOUNCEMENT_EVENTS, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeAnnouncementEvents(@PathVariable long idAnnouncement) {
+        try {
+            return announcementService.subscribeEvents(idAnnouncement);
         } catch (DAOLogicException e) {
             log.error(e.getMessage(), e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
         } catch (AnnouncementDoesNotExistException e) {
-            log.error(e.getMessage(), e);
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
         }
     }
 
     @PostMapping(API_CREATE_COMMENTARY)
-    public void createCommentary(@RequestBody JsonNode requestBody) {
-        try {
-            BigInteger idAnnouncement = BigInteger.valueOf(requestBody.get(ID_ANNOUNCEMENT).asLong());
-            BigInteger idUser = BigInteger.valueOf(requestBody.get(ID_USER).asLong());
-            String commentContent = requestBody.get(COMMENT_CONTENT).asText();
-            announcementService.createComment(commentContent, idAnnouncement, idUser);
-        } catch (DAOLogicException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (AnnouncementException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
-        }
+    public DeferredResult<Void> createCommentary(@RequestBody ParamsInCreateCommentary params) {
+        return bulkheads.submit(EndpointGroup.ANNOUNCEMENTS, () -> {
+            try {
+                announcementService.createComment(params.commentContent, params.idAnnouncement, params.idUser);
+            } catch (DAOLogicException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (AnnouncementException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(ANNOUNCEMENT_EXCEPTION));
+            }
+            return null;
+        });
     }
 
     @PostMapping(API_SEARCH_ANNOUNCEMENT)
-    public Set<Announcement> searchAnnouncement(@RequestBody JsonNode requestBody) {
-        String titleForSearch = requestBody.get(SEARCH_PROJECT).asText();
-        BigInteger idUser = BigInteger.valueOf(requestBody.get(ID_USER).asLong());
-        try {
-            return announcementService.getSetByTitle(titleForSearch, idUser);
-        } catch (DAOLogicException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        }
+    public DeferredResult<Set<AnnouncementCard>> searchAnnouncement(@RequestBody ParamsInSearchAnnouncement params) {
+        return bulkheads.submit(EndpointGroup.ANNOUNCEMENTS, () -> {
+            try {
+                return announcementService.getSetByTitle(params.searchProject, params.idUser);
+            } catch (DAOLogicException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            }
+        });
     }
 
     @GetMapping(API_GET_ANNOUNCEMENTS_BY_PAGE)
-    public Page<Announcement> getAnnouncementsByPage(@RequestParam int page){
-        try {
-            return announcementService.getAnnouncementsByPage(page);
-        } catch (DAOLogicException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (PageException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(PAGE_EXCEPTION));
+    public DeferredResult<Page<AnnouncementCard>> getAnnouncementsByPage(@RequestParam int page,
+                                                                        @RequestParam(value = "fields", required = false) String fields,
+                                                                        WebRequest request){
+        if (resourceVersions.settled(ResourceVersions.ANNOUNCEMENTS) && request.checkNotModified(payloadFormats
+                .negotiate(request).eTag(resourceVersions.eTag(currentUserId(), ResourceVersions.ANNOUNCEMENTS)))) {
+            return null;
         }
+        return bulkheads.submit(EndpointGroup.ANNOUNCEMENTS, () -> {
+            try {
+                return announcementService.getAnnouncementsByPage(page, Projection.of(fields));
+            } catch (DAOLogicException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (PageException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(PAGE_EXCEPTION));
+            }
+        });
     }
 
     @GetMapping(API_GET_ANNOUNCEMENTS_BY_TITLE)
-    public Page<Announcement> getAnnouncementsLikeTitle(@RequestParam int page, @RequestParam String title){
-        try {
-            return announcementService.getAnnouncementsLikeTitle(title, page);
-        } catch (DAOLogicException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (PageException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(PAGE_EXCEPTION));
+    public DeferredResult<Page<AnnouncementCard>> getAnnouncementsLikeTitle(@RequestParam int page, @RequestParam String title,
+                                                                           @RequestParam(value = "fields", required = false) String fields,
+                                                                           WebRequest request){
+        if (resourceVersions.settled(ResourceVersions.ANNOUNCEMENTS) && request.checkNotModified(payloadFormats
+                .negotiate(request).eTag(resourceVersions.eTag(currentUserId(), ResourceVersions.ANNOUNCEMENTS)))) {
+            return null;
+        }
+        return bulkheads.submit(EndpointGroup.ANNOUNCEMENTS, () -> {
+            try {
+                return announcementService.getAnnouncementsLikeTitle(title, page, Projection.of(fields));
+            } catch (DAOLogicException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (PageException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(PAGE_EXCEPTION));
+            }
+        });
+    }
+
+    /**
+     * Cards carry the caller's likes, so their tags differ per user.
+     */
+    private static long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtUser)) {
+            return 0;
+        }
+        return ((JwtUser) authentication.getPrincipal()).getId();
+    }
+
+    /*
+     * Bodies of the announcement commands. Jackson binds them straight from the token stream
+     * without building a tree, a missing field is a 400, and RequestBodyLimit rejects bodies
+     * over the size limit before they are read.
+     */
+
+    static class ParamsInDeleteAnnouncement {
+        final long idUser;
+        final long idAnnouncement;
+
+        @JsonCreator
+        ParamsInDeleteAnnouncement(@JsonProperty(value = ID_USER, required = true) long idUser,
+                                   @JsonProperty(value = ID_ANNOUNCEMENT, required = true) long idAnnouncement) {
+            this.idUser = idUser;
+            this.idAnnouncement = idAnnouncement;
         }
     }
 
+    static class ParamsInLikeAnnouncement {
+        final long idAnnouncement;
+
+        @JsonCreator
+        ParamsInLikeAnnouncement(@JsonProperty(value = ID_ANNOUNCEMENT, required = true) long idAnnouncement) {
+            this.idAnnouncement = idAnnouncement;
+        }
+    }
+
+    static class ParamsInCreateCommentary {
+        final long idAnnouncement;
+        final long idUser;
+        final String commentContent;
+
+        @JsonCreator
+        ParamsInCreateCommentary(@JsonProperty(value = ID_ANNOUNCEMENT, required = true) long idAnnouncement,
+                                 @JsonProperty(value = ID_USER, required = true) long idUser,
+                                 @JsonProperty(value = COMMENT_CONTENT, required = true) String commentContent) {
+            this.idAnnouncement = idAnnouncement;
+            this.idUser = idUser;
+            this.commentContent = commentContent;
+        }
+    }
+
+    static class ParamsInSearchAnnouncement {
+        final String searchProject;
+        final long idUser;
+
+        @JsonCreator
+        ParamsInSearchAnnouncement(@JsonProperty(value = SEARCH_PROJECT, required = true) String searchProject,
+                                   @JsonProperty(value = ID_USER, required = true) long idUser) {
+            this.searchProject = searchProject;
+            this.idUser = idUser;
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package dev.marco.example.springboot.rest;
+
+import dev.marco.example.springboot.bulkhead.Bulkhead;
+import dev.marco.example.springboot.bulkhead.Bulkheads;
+import dev.marco.example.springboot.limit.EndpointGroup;
+import dev.marco.example.springboot.util.ApiAddresses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+public class BulkheadController implements ApiAddresses {
+
+    private final Bulkheads bulkheads;
+
+    @Autowired
+    public BulkheadController(Bulkheads bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    @GetMapping(API_BULKHEADS)
+    public Map<EndpointGroup, Bulkhead.Stats> getBulkheads() {
+        return bulkheads.getStats();
+    }
+}
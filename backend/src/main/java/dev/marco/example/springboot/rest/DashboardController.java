@@ -1,6 +1,9 @@
 package dev.marco.example.springboot.rest;
 
+import dev.marco.example.springboot.bulkhead.Bulkheads;
+import dev.marco.example.springboot.deadline.RequestDeadline;
 import dev.marco.example.springboot.exception.*;
+import dev.marco.example.springboot.limit.EndpointGroup;
 import dev.marco.example.springboot.model.Dashboard;
 import dev.marco.example.springboot.service.DashboardService;
 import dev.marco.example.springboot.util.ApiAddresses;
@@ -11,26 +14,29 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigInteger;
 import java.util.Properties;
 
 @RestController
+@RequestDeadline(2000)
 public class DashboardController implements ApiAddresses {
 
     private final DashboardService dashboardService;
+    private final Bulkheads bulkheads;
 
     private static final Logger log = Logger.getLogger(DashboardController.class);
     private final Properties properties = new Properties();
 
     @Autowired
-    public DashboardController(DashboardService dashboardService) {
+    public DashboardController(DashboardService dashboardService, Bulkheads bulkheads) {
         this.dashboardService = dashboardService;
+        this.bulkheads = bulkheads;
         try {
             ControllerUtil.getProperty(properties);
         } catch (ControllerConfigException e) {
-            log.error(e.getMessage());
+            log.error(e.getMessage(), e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(CONFIG_EXCEPTION));
         }
     }
@@ -40,21 +46,23 @@ public class DashboardController implements ApiAddresses {
     }
 
     @GetMapping(API_GENERATE_DASHBOARD)
-    public Dashboard generateDashboard(@PathVariable BigInteger id) {
-        try {
-            return dashboardService.generateDashboard(id);
-        } catch (DAOLogicException e) {
-            log.error(MessagesForException.DAO_LOGIC_EXCEPTION);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
-        } catch (QuizDoesNotExistException e) {
-            log.error(MessagesForException.MESSAGE_ERROR);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        } catch (UserDoesNotExistException e) {
-            log.error(MessagesForException.USER_NOT_FOUND_EXCEPTION);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        } catch (AnnouncementDoesNotExistException | AnnouncementException e) {
-            log.error(MessagesForException.ANNOUNCEMENT_NOT_FOUND_EXCEPTION);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        }
+    public DeferredResult<Dashboard> generateDashboard(@PathVariable long id) {
+        return bulkheads.submit(EndpointGroup.DASHBOARD, () -> {
+            try {
+                return dashboardService.generateDashboard(id);
+            } catch (DAOLogicException e) {
+                log.error(MessagesForException.DAO_LOGIC_EXCEPTION);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+            } catch (QuizDoesNotExistException e) {
+                log.error(MessagesForException.MESSAGE_ERROR);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+            } catch (UserDoesNotExistException e) {
+                log.error(MessagesForException.USER_NOT_FOUND_EXCEPTION);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+            } catch (AnnouncementDoesNotExistException | AnnouncementException e) {
+                log.error(MessagesForException.ANNOUNCEMENT_NOT_FOUND_EXCEPTION);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+            }
+        });
     }
 }
@@ -3,12 +3,12 @@ package dev.marco.example.springboot.rest;
 import dev.marco.example.springboot.exception.DAOLogicException;
 import dev.marco.example.springboot.exception.QuizDoesNotExistException;
 import dev.marco.example.springboot.exception.UserDoesNotExistException;
-import dev.marco.example.springboot.model.Quiz;
+import dev.marco.example.springboot.model.QuizSummary;
 import dev.marco.example.springboot.model.QuizType;
 import dev.marco.example.springboot.model.impl.QuizAccomplishedImpl;
 import dev.marco.example.springboot.service.QuizService;
 import dev.marco.example.springboot.service.UserService;
-import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -22,10 +22,10 @@ public enum Filter {
   COMPLETED,
   FAVORITES;
 
-  public static List<Quiz> getQuzziesByFilter(Filter filter, BigInteger id, QuizService quizService,
+  public static List<QuizSummary> getQuzziesByFilter(Filter filter, long id, QuizService quizService,
       UserService userService)
       throws DAOLogicException, QuizDoesNotExistException, UserDoesNotExistException {
-    List<Quiz> filterQuizzes = Collections.emptyList();
+    List<QuizSummary> filterQuizzes = Collections.emptyList();
     switch (filter) {
       case DATE:
         filterQuizzes = quizService.getLastCreatedQuizzes(10);
@@ -45,14 +45,16 @@ public enum Filter {
       case COMPLETED:
         Set<QuizAccomplishedImpl> accomplisheds = userService
             .getAccomplishedQuizesByUser(id);
+        filterQuizzes = new ArrayList<>(accomplisheds.size());
         for (QuizAccomplishedImpl quiz : accomplisheds) {
-          filterQuizzes.add(quiz.getQuiz());
+          filterQuizzes.add(QuizSummary.of(quiz.getQuiz()));
         }
         break;
       case FAVORITES:
         Set<QuizAccomplishedImpl> favorites = userService.getFavoriteQuizesByUser(id);
+        filterQuizzes = new ArrayList<>(favorites.size());
         for (QuizAccomplishedImpl quiz : favorites) {
-          filterQuizzes.add(quiz.getQuiz());
+          filterQuizzes.add(QuizSummary.of(quiz.getQuiz()));
         }
         break;
       default:
@@ -0,0 +1,63 @@
+package dev.marco.example.springboot.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.marco.example.springboot.dao.RowHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static dev.marco.example.springboot.exception.MessagesForException.STREAM_ABORTED;
+
+/**
+ * Writes rows handed over by a DAO cursor as one JSON array. Nothing is written before the
+ * first row, so an empty result can still be answered with an error status.
+ * Jackson flushes its own buffer to the response, which makes the array go out chunked.
+ *
+ * <p>A failure after the first row can no longer change the 200. The array is then left open
+ * and the failure leaves the streaming body as an {@link IOException}, which no exception
+ * resolver handles. {@link StreamingConfiguration} then closes the connection without the final
+ * chunk, so the client sees a broken transfer instead of a short list that looks complete.
+ */
+class JsonArrayWriter<T> implements RowHandler<T> {
+
+    private final ObjectWriter writer;
+    private final OutputStream outputStream;
+    private JsonGenerator generator;
+
+    JsonArrayWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public void handle(T row) throws IOException {
+        if (generator == null) {
+            generator = writer.getFactory().createGenerator(outputStream);
+            generator.writeStartArray();
+        }
+        writer.writeValue(generator, row);
+    }
+
+    boolean isEmpty() {
+        return generator == null;
+    }
+
+    /**
+     * The exception to end the stream with when rows were already sent.
+     */
+    IOException abort(Exception cause) {
+        return new IOException(STREAM_ABORTED, cause);
+    }
+
+    void finish() throws IOException {
+        if (generator == null) {
+            generator = writer.getFactory().createGenerator(outputStream);
+            generator.writeStartArray();
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
+}
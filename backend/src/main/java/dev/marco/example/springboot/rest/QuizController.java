@@ -1,21 +1,37 @@
 package dev.marco.example.springboot.rest;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.marco.example.springboot.bulkhead.Bulkheads;
+import dev.marco.example.springboot.cache.JsonPayloadCache;
+import dev.marco.example.springboot.cache.ResourceVersions;
+import dev.marco.example.springboot.dao.Projection;
+import dev.marco.example.springboot.deadline.RequestDeadline;
+import dev.marco.example.springboot.format.PayloadFormat;
+import dev.marco.example.springboot.format.PayloadFormats;
+import dev.marco.example.springboot.limit.EndpointGroup;
 import dev.marco.example.springboot.model.impl.*;
 import dev.marco.example.springboot.service.UserService;
 import dev.marco.example.springboot.service.GameService;
+import dev.marco.example.springboot.transaction.PrimaryReads;
 import dev.marco.example.springboot.util.ApiAddresses;
 import dev.marco.example.springboot.util.ControllerUtil;
 import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.*;
 import dev.marco.example.springboot.service.QuizService;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigInteger;
 import java.util.List;
 import java.util.Properties;
 
@@ -23,25 +39,41 @@ import static dev.marco.example.springboot.exception.MessagesForException.*;
 import static dev.marco.example.springboot.util.ApiAddresses.API_QUIZ;
 
 @RestController
+@RequestDeadline(3000)
 @RequestMapping(API_QUIZ)
 public class QuizController implements ApiAddresses {
 
     private final QuizService quizService;
     private final UserService userService;
     private final GameService gameService;
+    private final ObjectMapper objectMapper;
+    private final Bulkheads bulkheads;
+    private final ResourceVersions resourceVersions;
+    private final JsonPayloadCache jsonPayloadCache;
+    private final PayloadFormats payloadFormats;
 
     private static final Logger log = Logger.getLogger(QuizController.class);
+    private static final String QUIZ_PAYLOAD = "quiz-";
+    private static final String GAME_PAYLOAD = "game-";
+    private static final String GZIP = "gzip";
     private final Properties properties = new Properties();
 
     @Autowired
-    public QuizController(QuizService quizService, UserService userService, GameService gameService) {
+    public QuizController(QuizService quizService, UserService userService, GameService gameService,
+                          ObjectMapper objectMapper, Bulkheads bulkheads, ResourceVersions resourceVersions,
+                          JsonPayloadCache jsonPayloadCache, PayloadFormats payloadFormats) {
         this.quizService = quizService;
         this.userService = userService;
         this.gameService = gameService;
+        this.objectMapper = objectMapper;
+        this.bulkheads = bulkheads;
+        this.resourceVersions = resourceVersions;
+        this.jsonPayloadCache = jsonPayloadCache;
+        this.payloadFormats = payloadFormats;
         try {
             ControllerUtil.getProperty(properties);
         } catch (ControllerConfigException e) {
-            log.error(e.getMessage());
+            log.error(e.getMessage(), e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(CONFIG_EXCEPTION));
         }
     }
@@ -53,23 +85,42 @@ public class QuizController implements ApiAddresses {
 //    }
 
     @GetMapping(API_ALL_QUIZZES)
-    public List<Quiz> showAllQuizzes() {
-        try {
-            return quizService.getAllQuizzes();
-        } catch (QuizDoesNotExistException e) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        } catch (DAOLogicException e) {
-            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+    public ResponseEntity<StreamingResponseBody> showAllQuizzes(WebRequest request) {
+        if (resourceVersions.settled(ResourceVersions.QUIZZES)
+                && request.checkNotModified(resourceVersions.eTag(ResourceVersions.QUIZZES))) {
+            return null;
         }
+        StreamingResponseBody body = outputStream -> {
+            JsonArrayWriter<QuizSummary> writer = new JsonArrayWriter<>(objectMapper, outputStream);
+            try {
+                quizService.streamAllQuizzes(writer);
+            } catch (DAOLogicException e) {
+                if (!writer.isEmpty()) {
+                    throw writer.abort(e);
+                }
+                log.error(DAO_LOGIC_EXCEPTION, e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+            }
+            if (writer.isEmpty()) {
+                log.error(QUIZ_NOT_FOUND_EXCEPTION);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, QUIZ_NOT_FOUND_EXCEPTION);
+            }
+            writer.finish();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
 
     @GetMapping
-    public Page<Quiz> showQuizzesByPage(@RequestParam("page") int pageNumber) {
+    public Page<QuizSummary> showQuizzesByPage(@RequestParam("page") int pageNumber,
+                                               @RequestParam(value = "fields", required = false) String fields,
+                                               WebRequest request) {
+        if (resourceVersions.settled(ResourceVersions.QUIZZES)
+                && request.checkNotModified(resourceVersions.eTag(ResourceVersions.QUIZZES))) {
+            return null;
+        }
         try {
-            return quizService.getQuizzesByPage(pageNumber);
+            return quizService.getQuizzesByPage(pageNumber, Projection.of(fields));
         } catch (PageException e) {
             log.error(PAGE_DOES_NOT_EXIST);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
@@ -80,10 +131,16 @@ public class QuizController implements ApiAddresses {
     }
 
     @GetMapping(API_GET_QUIZ_BY_TITLE)
-    public Page<Quiz> getQuizzesLikeTitle(@RequestParam("page") int pageNumber,
-                                          @RequestParam("title") String title) {
+    public Page<QuizSummary> getQuizzesLikeTitle(@RequestParam("page") int pageNumber,
+                                          @RequestParam("title") String title,
+                                          @RequestParam(value = "fields", required = false) String fields,
+                                          WebRequest request) {
+        if (resourceVersions.settled(ResourceVersions.QUIZZES)
+                && request.checkNotModified(resourceVersions.eTag(ResourceVersions.QUIZZES))) {
+            return null;
+        }
         try {
-            return quizService.getQuizzesLikeTitle(pageNumber, title);
+            return quizService.getQuizzesLikeTitle(pageNumber, title, Projection.of(fields));
         } catch (PageException e) {
             log.error(PAGE_DOES_NOT_EXIST);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
@@ -94,17 +151,33 @@ public class QuizController implements ApiAddresses {
     }
 
     @GetMapping(API_GET_QUIZ_BY_ID)
-    public Quiz getQuizById(@PathVariable BigInteger id) {
-        try {
-            return quizService.getQuizById(id);
+    public ResponseEntity<byte[]> getQuizById(@PathVariable long id, WebRequest request) {
+        PayloadFormat format = payloadFormats.negotiate(request);
+        String eTag = format.eTag(resourceVersions.eTag(ResourceVersions.quiz(id)));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        String key = QUIZ_PAYLOAD + id + eTag;
+        boolean gzip = acceptsGzip(request);
+        JsonPayloadCache.Payload cached = jsonPayloadCache.get(key);
+        if (cached != null) {
+            return payloadResponse(cached, format, gzip);
+        }
+        // Cached under the current stamp, so read where that stamp's change is already visible.
+        try (PrimaryReads.Scope ignored = PrimaryReads.open()) {
+            return payloadResponse(jsonPayloadCache.put(key, quizService.getQuizById(id),
+                    payloadFormats.mapper(format)), format, gzip);
+        } catch (JsonProcessingException e) {
+            log.error(JSON_PAYLOAD_EXCEPTION, e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
         } catch (QuizDoesNotExistException | QuizException e) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION + e.getMessage());
+            log.error(QUIZ_NOT_FOUND_EXCEPTION, e);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
         } catch (DAOLogicException e) {
-            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
+            log.error(DAO_LOGIC_EXCEPTION, e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
         } catch (QuestionDoesNotExistException e) {
-            log.error(QUESTION_NOT_FOUND + e.getMessage());
+            log.error(QUESTION_NOT_FOUND, e);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
         }
     }
@@ -114,19 +187,19 @@ public class QuizController implements ApiAddresses {
         try {
             return quizService.buildNewQuiz(quiz);
         } catch (QuestionException e) {
-            log.error(QUESTION_NOT_FOUND + e.getMessage());
+            log.error(QUESTION_NOT_FOUND, e);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
         } catch (UserException e) {
-            log.error(DONT_ENOUGH_RIGHTS + e.getMessage());
+            log.error(DONT_ENOUGH_RIGHTS, e);
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, e.getMessage());
         } catch (QuizException e) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION + e.getMessage());
+            log.error(QUIZ_NOT_FOUND_EXCEPTION, e);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
         } catch (AnswerDoesNotExistException e) {
-            log.error(getAnswerByIdNotFoundExc + e.getMessage());
+            log.error(getAnswerByIdNotFoundExc, e);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
         } catch (DAOLogicException e) {
-            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
+            log.error(DAO_LOGIC_EXCEPTION, e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
         } catch (AnswerException e) {
             log.error(ANSWER_EXCEPTION);
@@ -141,122 +214,162 @@ public class QuizController implements ApiAddresses {
     }
 
     @PutMapping(API_UPDATE_QUIZ)
-    public Quiz updateQuiz(@PathVariable BigInteger id,
+    public Quiz updateQuiz(@PathVariable long id,
                            @RequestBody QuizImpl updatedQuiz) {
         try {
             quizService.updateQuiz(id, updatedQuiz);
             return updatedQuiz;
 
         } catch (QuizDoesNotExistException e) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION + e.getMessage());
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
         } catch (QuestionDoesNotExistException e) {
-            log.error(QUESTION_NOT_FOUND + e.getMessage());
+            log.error(QUESTION_NOT_FOUND, e);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
         } catch (UserDoesNotExistException e) {
-            log.error(USER_NOT_FOUND_EXCEPTION + e.getMessage());
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, e.getMessage());
         } catch (UserException e) {
-            log.error(DONT_ENOUGH_RIGHTS + e.getMessage());
+            log.error(DONT_ENOUGH_RIGHTS, e);
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, e.getMessage());
         } catch (DAOLogicException e) {
-            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
+            log.error(DAO_LOGIC_EXCEPTION, e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
         }
     }
 
     @DeleteMapping(API_DELETE_QUIZ)
-    public void deleteQuiz(@PathVariable BigInteger id) {
+    public void deleteQuiz(@PathVariable long id) {
         try {
             Quiz quiz = quizService.getQuizById(id);
             quizService.deleteQuiz(quiz);
         } catch (QuizDoesNotExistException | QuizException e) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION + e.getMessage());
+            log.error(QUIZ_NOT_FOUND_EXCEPTION, e);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
         } catch (UserDoesNotExistException e) {
-            log.error(USER_NOT_FOUND_EXCEPTION + e.getMessage());
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, e.getMessage());
         } catch (UserException e) {
-            log.error(DONT_ENOUGH_RIGHTS + e.getMessage());
+            log.error(DONT_ENOUGH_RIGHTS, e);
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, e.getMessage());
         } catch (QuestionDoesNotExistException e) {
-            log.error(QUESTION_NOT_FOUND + e.getMessage());
+            log.error(QUESTION_NOT_FOUND, e);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
         } catch (DAOLogicException e) {
-            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
+            log.error(DAO_LOGIC_EXCEPTION, e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
         }
     }
 
     @GetMapping(API_SHOW_ALL_FILTER_QUIZZES)
-    public List<Quiz> showAllFilterQuizzes(@RequestParam BigInteger id, @RequestParam Filter filter) {
+    public List<QuizSummary> showAllFilterQuizzes(@RequestParam long id, @RequestParam Filter filter) {
         try {
             return Filter.getQuzziesByFilter(filter, id, quizService, userService);
         } catch (UserDoesNotExistException e) {
-            log.error(USERS_DOESNT_EXIT + e.getMessage());
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
         } catch (DAOLogicException e) {
-            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
+            log.error(DAO_LOGIC_EXCEPTION, e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
         } catch (QuizDoesNotExistException e) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION + e.getMessage());
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUIZ_EXCEPTION));
         }
     }
 
+    @RequestDeadline(2000)
     @GetMapping(API_QUIZ_GAME)
-    public Quiz quizGame(@PathVariable String title) {
-        try {
-            return gameService.sendGameQuiz(title);
-        } catch (DAOLogicException e) {
-            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (QuizDoesNotExistException | QuizException e) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUIZ_EXCEPTION));
-        } catch (QuestionDoesNotExistException e) {
-            log.error(QUESTION_NOT_FOUND + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUESTION_EXCEPTION));
-        } catch (AnswerDoesNotExistException e) {
-            log.error(ANSWER_NOT_FOUND + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANSWER_EXCEPTION));
+    public DeferredResult<ResponseEntity<byte[]>> quizGame(@PathVariable String title, WebRequest request) {
+        // The game is looked up by title, so any quiz or question change moves its tag.
+        PayloadFormat format = payloadFormats.negotiate(request);
+        String eTag = format.eTag(resourceVersions.eTag(ResourceVersions.QUIZZES, ResourceVersions.QUESTIONS));
+        if (request.checkNotModified(eTag)) {
+            return null;
         }
+        String key = GAME_PAYLOAD + title + eTag;
+        boolean gzip = acceptsGzip(request);
+        JsonPayloadCache.Payload cached = jsonPayloadCache.get(key);
+        if (cached != null) {
+            // Copying bytes needs neither the database nor a bulkhead thread.
+            DeferredResult<ResponseEntity<byte[]>> result = new DeferredResult<>();
+            result.setResult(payloadResponse(cached, format, gzip));
+            return result;
+        }
+        return bulkheads.submit(EndpointGroup.GAME, () -> {
+            try (PrimaryReads.Scope ignored = PrimaryReads.open()) {
+                return payloadResponse(jsonPayloadCache.put(key, gameService.sendGameQuiz(title),
+                        payloadFormats.mapper(format)), format, gzip);
+            } catch (JsonProcessingException e) {
+                log.error(JSON_PAYLOAD_EXCEPTION, e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(QUIZ_EXCEPTION));
+            } catch (DAOLogicException e) {
+                log.error(DAO_LOGIC_EXCEPTION, e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (QuizDoesNotExistException | QuizException e) {
+                log.error(QUIZ_NOT_FOUND_EXCEPTION, e);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUIZ_EXCEPTION));
+            } catch (QuestionDoesNotExistException e) {
+                log.error(QUESTION_NOT_FOUND, e);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUESTION_EXCEPTION));
+            } catch (AnswerDoesNotExistException e) {
+                log.error(ANSWER_NOT_FOUND, e);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANSWER_EXCEPTION));
+            }
+        });
     }
 
     @PostMapping(API_FINISH_QUIZ)
-    public List<QuestionImpl> finishQuiz(@RequestBody ParamsInFinishQuiz params) {
-        try {
-            Quiz quiz = quizService.getQuizByTitle(params.quizTitle);
-            return gameService.validateAnswers(quiz, params.user, params.answers);
-        } catch (QuizDoesNotExistException | QuizException e) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUIZ_EXCEPTION));
-        } catch (DAOLogicException e) {
-            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (QuestionDoesNotExistException e) {
-            log.error(QUESTION_NOT_FOUND + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUESTION_EXCEPTION));
-        } catch (AnswerDoesNotExistException e) {
-            log.error(ANSWER_NOT_FOUND + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANSWER_EXCEPTION));
-        }
+    public DeferredResult<List<QuestionImpl>> finishQuiz(@RequestBody ParamsInFinishQuiz params) {
+        return bulkheads.submit(EndpointGroup.GAME, () -> {
+            try {
+                Quiz quiz = quizService.getQuizByTitle(params.quizTitle);
+                return gameService.validateAnswers(quiz, params.user, params.answers);
+            } catch (QuizDoesNotExistException | QuizException e) {
+                log.error(QUIZ_NOT_FOUND_EXCEPTION, e);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUIZ_EXCEPTION));
+            } catch (DAOLogicException e) {
+                log.error(DAO_LOGIC_EXCEPTION, e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (QuestionDoesNotExistException e) {
+                log.error(QUESTION_NOT_FOUND, e);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUESTION_EXCEPTION));
+            } catch (AnswerDoesNotExistException e) {
+                log.error(ANSWER_NOT_FOUND, e);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANSWER_EXCEPTION));
+            }
+        });
     }
 
     @PutMapping(API_LIKE_QUIZ)
-    public void setLikeOnQuiz(@PathVariable BigInteger id, @RequestBody QuizAccomplishedImpl quizAccomplished) {
+    public void setLikeOnQuiz(@PathVariable long id, @RequestBody QuizAccomplishedImpl quizAccomplished) {
         try {
             User user = userService.getUserById(id);
             gameService.setIsFavorite(user, quizAccomplished);
         } catch (DAOLogicException e) {
-            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
+            log.error(DAO_LOGIC_EXCEPTION, e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
         } catch (UserDoesNotExistException e) {
-            log.error(USERS_DOESNT_EXIT + e.getMessage());
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
         }
     }
 
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains(GZIP);
+    }
+
+    private static ResponseEntity<byte[]> payloadResponse(JsonPayloadCache.Payload payload, PayloadFormat format,
+                                                          boolean gzip) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip && payload.getGzipped() != null) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(payload.getGzipped());
+        }
+        return response.body(payload.getJson());
+    }
+
     static class ParamsInFinishQuiz {
         List<AnswerImpl> answers;
         String quizTitle;
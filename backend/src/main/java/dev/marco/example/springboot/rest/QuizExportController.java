@@ -0,0 +1,143 @@
+package dev.marco.example.springboot.rest;
+
+import dev.marco.example.springboot.exception.*;
+import dev.marco.example.springboot.export.FileTransfer;
+import dev.marco.example.springboot.export.QuizExports;
+import dev.marco.example.springboot.service.QuizService;
+import dev.marco.example.springboot.util.ApiAddresses;
+import dev.marco.example.springboot.util.ControllerUtil;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static dev.marco.example.springboot.exception.MessagesForException.*;
+import static dev.marco.example.springboot.util.ApiAddresses.API_QUIZ;
+
+/**
+ * Serves the files {@link QuizExports} wrote, so that playing a quiz usually touches neither the
+ * database nor the heap. {@code /export/{id}} is the quiz as it is now and is revalidated with
+ * its content hash; {@code /export/{id}/{hash}} never changes and may be cached for a year.
+ */
+@RestController
+@RequestMapping(API_QUIZ)
+public class QuizExportController implements ApiAddresses {
+
+    private static final Logger log = Logger.getLogger(QuizExportController.class);
+    private static final String GZIP = "gzip";
+    private static final String GZIP_TAG_SUFFIX = "-gz";
+    private static final String IMMUTABLE =
+            CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().getHeaderValue() + ", immutable";
+
+    private final QuizExports quizExports;
+    private final QuizService quizService;
+    private final Properties properties = new Properties();
+
+    @Autowired
+    public QuizExportController(QuizExports quizExports, QuizService quizService) {
+        this.quizExports = quizExports;
+        this.quizService = quizService;
+        try {
+            ControllerUtil.getProperty(properties);
+        } catch (ControllerConfigException e) {
+            log.error(e.getMessage(), e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(CONFIG_EXCEPTION));
+        }
+    }
+
+    @GetMapping(API_QUIZ_EXPORT)
+    public void getExportedQuiz(@PathVariable long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        QuizExports.Export export = quizExports.current(id);
+        if (export == null) {
+            export = exportNow(id);
+        }
+        boolean gzip = acceptsGzip(request);
+        if (new ServletWebRequest(request, response).checkNotModified(eTag(export, gzip))) {
+            return;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        response.setHeader(HttpHeaders.CONTENT_LOCATION,
+                request.getContextPath() + API_QUIZ + "/export/" + id + "/" + export.getHash());
+        send(export, gzip, request, response);
+    }
+
+    @GetMapping(API_QUIZ_EXPORT_VERSION)
+    public void getExportedQuizVersion(@PathVariable long id, @PathVariable String hash,
+                                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        QuizExports.Export export = quizExports.find(id, hash);
+        if (export == null) {
+            log.error(QUIZ_NOT_FOUND_EXCEPTION + id);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUIZ_EXCEPTION));
+        }
+        boolean gzip = acceptsGzip(request);
+        if (new ServletWebRequest(request, response).checkNotModified(eTag(export, gzip))) {
+            return;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        send(export, gzip, request, response);
+    }
+
+    private QuizExports.Export exportNow(long id) {
+        if (!quizExports.isEnabled()) {
+            log.error(QUIZ_EXPORT_DISABLED);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, QUIZ_EXPORT_DISABLED);
+        }
+        try {
+            return quizExports.export(id, quizService.getQuizById(id).getTitle());
+        } catch (IOException e) {
+            log.error(QUIZ_EXPORT_EXCEPTION + id, e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, QUIZ_EXPORT_EXCEPTION + id);
+        } catch (DAOLogicException e) {
+            log.error(DAO_LOGIC_EXCEPTION, e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+        } catch (QuizDoesNotExistException | QuizException e) {
+            log.error(QUIZ_NOT_FOUND_EXCEPTION, e);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUIZ_EXCEPTION));
+        } catch (QuestionDoesNotExistException e) {
+            log.error(QUESTION_NOT_FOUND, e);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUESTION_EXCEPTION));
+        } catch (AnswerDoesNotExistException e) {
+            log.error(ANSWER_NOT_FOUND, e);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(ANSWER_EXCEPTION));
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains(GZIP);
+    }
+
+    /**
+     * The gzipped file holds other bytes than the JSON one, so a strong tag must tell them apart.
+     */
+    private static String eTag(QuizExports.Export export, boolean gzip) {
+        return "\"" + export.getHash() + (gzip ? GZIP_TAG_SUFFIX : "") + "\"";
+    }
+
+    private static void send(QuizExports.Export export, boolean gzip, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            FileTransfer.send(request, response, export.getGzipped(), export.getGzippedLength());
+        } else {
+            FileTransfer.send(request, response, export.getJson(), export.getJsonLength());
+        }
+    }
+}
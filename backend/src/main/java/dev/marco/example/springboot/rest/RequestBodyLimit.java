@@ -0,0 +1,112 @@
+package dev.marco.example.springboot.rest;
+
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Set;
+
+import static dev.marco.example.springboot.exception.MessagesForException.REQUEST_BODY_TOO_LARGE;
+
+/**
+ * Caps the bodies of the announcement commands. A declared Content-Length over the limit is
+ * refused with 413 before anything is read; a chunked body is cut off with 413 as soon as it
+ * passes the limit, so the parser never buffers more than that.
+ */
+@ControllerAdvice(assignableTypes = AnnouncementController.class)
+public class RequestBodyLimit extends RequestBodyAdviceAdapter {
+
+    private static final Logger log = Logger.getLogger(RequestBodyLimit.class);
+
+    static final Set<Class<?>> LIMITED_BODIES = Set.of(
+            AnnouncementController.ParamsInDeleteAnnouncement.class,
+            AnnouncementController.ParamsInLikeAnnouncement.class,
+            AnnouncementController.ParamsInCreateCommentary.class,
+            AnnouncementController.ParamsInSearchAnnouncement.class);
+
+    private final long maxBytes;
+
+    RequestBodyLimit(@Value("${announcement.request-body.max-bytes:16384}") long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return LIMITED_BODIES.contains(methodParameter.getParameterType());
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) {
+        long contentLength = inputMessage.getHeaders().getContentLength();
+        if (contentLength > maxBytes) {
+            throw tooLarge();
+        }
+        return new HttpInputMessage() {
+            @Override
+            public InputStream getBody() throws IOException {
+                return new Bounded(inputMessage.getBody());
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return inputMessage.getHeaders();
+            }
+        };
+    }
+
+    /**
+     * The client's mistake, not ours, so it is only logged at debug.
+     */
+    private ResponseStatusException tooLarge() {
+        String message = REQUEST_BODY_TOO_LARGE + maxBytes;
+        log.debug(message);
+        return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, message);
+    }
+
+    private final class Bounded extends FilterInputStream {
+
+        private long remaining = maxBytes;
+
+        Bounded(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) {
+            remaining -= n;
+            if (remaining < 0) {
+                throw tooLarge();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package dev.marco.example.springboot.rest;
+
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.apache.coyote.ActionCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+
+/**
+ * Gives the streamed lists {@code http.streaming.timeout-millis} to write a whole table. They
+ * are the only handlers that run as async callables; deferred results, such as the bulkheaded
+ * handlers, keep the container's shorter async timeout.
+ *
+ * <p>A list that fails after its first rows already went out with a 200. Tomcat would append
+ * the error page and end the chunked body normally, so a {@link AbortCommittedFailures valve}
+ * closes the connection instead and the client sees the transfer break.
+ */
+@Configuration
+public class StreamingConfiguration implements WebMvcConfigurer {
+
+    private final long timeoutMillis;
+
+    public StreamingConfiguration(@Value("${http.streaming.timeout-millis:120000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> abortCommittedFailuresCustomizer() {
+        return factory -> factory.addContextValves(new AbortCommittedFailures());
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                // Runs before the request goes async, which is when the timeout is applied.
+                if (request instanceof AsyncWebRequest) {
+                    ((AsyncWebRequest) request).setTimeout(timeoutMillis);
+                }
+            }
+        });
+    }
+
+    /**
+     * Closes the connection without finishing the response when a servlet failed after the
+     * response was committed. Whatever would be written afterwards is discarded.
+     */
+    static final class AbortCommittedFailures extends ValveBase {
+
+        AbortCommittedFailures() {
+            super(true);
+        }
+
+        @Override
+        public void invoke(Request request, Response response) throws IOException, ServletException {
+            getNext().invoke(request, response);
+            Object failure = request.getAttribute(RequestDispatcher.ERROR_EXCEPTION);
+            if (failure != null && response.isCommitted()) {
+                response.getCoyoteResponse().action(ActionCode.CLOSE_NOW, failure);
+            }
+        }
+    }
+}
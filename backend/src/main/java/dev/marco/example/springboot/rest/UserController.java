@@ -1,7 +1,9 @@
 package dev.marco.example.springboot.rest;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import dev.marco.example.springboot.bulkhead.Bulkheads;
 import dev.marco.example.springboot.exception.*;
+import dev.marco.example.springboot.limit.EndpointGroup;
 import dev.marco.example.springboot.model.User;
 import dev.marco.example.springboot.model.UserRoles;
 import dev.marco.example.springboot.model.impl.QuizAccomplishedImpl;
@@ -21,9 +23,9 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -39,21 +41,24 @@ public class UserController implements RegexPatterns, ApiAddresses {
     private final MailSenderService mailSenderService;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final Bulkheads bulkheads;
 
     private static final Logger log = Logger.getLogger(UserController.class);
 
     @Autowired
     public UserController(UserService userService, MailSenderService mailSenderService,
-                          AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider)  {
+                          AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider,
+                          Bulkheads bulkheads)  {
         this.userService = userService;
         this.mailSenderService = mailSenderService;
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.bulkheads = bulkheads;
 
         try {
             ControllerUtil.getProperty(properties);
         } catch (ControllerConfigException e) {
-            log.error(e.getMessage());
+            log.error(e.getMessage(), e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(CONFIG_EXCEPTION));
         }
     }
@@ -64,158 +69,168 @@ public class UserController implements RegexPatterns, ApiAddresses {
     }
 
     @PostMapping(API_REGISTER_USER)
-    public ResponseEntity<Object> createUser(@RequestBody UserImpl user) {
-        try {
-            userService.validateNewUser(
-                    user.getEmail(),
-                    user.getPassword(),
-                    user.getFirstName(),
-                    user.getLastName());
-            BigInteger userId = userService.buildNewUser(
-                    user.getEmail(),
-                    user.getPassword(),
-                    user.getFirstName(),
-                    user.getLastName());
+    public DeferredResult<ResponseEntity<Object>> createUser(@RequestBody UserImpl user) {
+        return bulkheads.submit(EndpointGroup.AUTH, () -> {
+            try {
+                userService.validateNewUser(
+                        user.getEmail(),
+                        user.getPassword(),
+                        user.getFirstName(),
+                        user.getLastName());
+                long userId = userService.buildNewUser(
+                        user.getEmail(),
+                        user.getPassword(),
+                        user.getFirstName(),
+                        user.getLastName());
 
-            User user1 = new UserImpl.UserBuilder()
-                    .setId(userId)
-                    .setEmail(user.getEmail())
-                    .build();
+                User user1 = new UserImpl.UserBuilder()
+                        .setId(userId)
+                        .setEmail(user.getEmail())
+                        .build();
 
-            if (!mailSenderService.sendEmail(user1)) {
-                throw new MailException(EMAIL_ERROR);
+                if (!mailSenderService.sendEmail(user1)) {
+                    throw new MailException(EMAIL_ERROR);
+                }
+                return ResponseEntity.ok().build();
+            } catch (DAOLogicException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (MailException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(MAIL_EXCEPTION));
+            } catch (UserException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
             }
-            return ResponseEntity.ok().build();
-        } catch (DAOLogicException e) {
-            log.error(e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (MailException e) {
-            log.error(e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(MAIL_EXCEPTION));
-        } catch (UserException e) {
-            log.error(e.getMessage());
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
-        }
+        });
     }
 
     @PostMapping(API_AUTHORIZE_USER)
-    public ResponseEntity<Map<String, Object>> tryToAuthorize(@RequestBody UserImpl user) {
-        try {
-            if (StringUtils.isEmpty(user.getEmail()) || !user.getEmail().matches(mailPattern)) {
-                log.error("tryToAuthorize email not valid");
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(MAIL_INVALID));
-            }
-            if (StringUtils.isEmpty(user.getPassword())) {
-                log.error("tryToAuthorize password not valid");
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(PASSWORD_INVALID));
-            }
+    public DeferredResult<ResponseEntity<Map<String, Object>>> tryToAuthorize(@RequestBody UserImpl user) {
+        return bulkheads.submit(EndpointGroup.AUTH, () -> {
+            try {
+                if (StringUtils.isEmpty(user.getEmail()) || !user.getEmail().matches(mailPattern)) {
+                    log.error("tryToAuthorize email not valid");
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(MAIL_INVALID));
+                }
+                if (StringUtils.isEmpty(user.getPassword())) {
+                    log.error("tryToAuthorize password not valid");
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(PASSWORD_INVALID));
+                }
 
-            User receivedUser = userService.authorize(user);
+                User receivedUser = userService.authorize(user);
 
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(user.getEmail(), user.getPassword()));
-            String token = jwtTokenProvider.createToken(user.getEmail());
+                authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(user.getEmail(), user.getPassword()));
+                String token = jwtTokenProvider.createToken(user.getEmail());
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("user", receivedUser);
-            response.put("jwt", token);
+                Map<String, Object> response = new HashMap<>();
+                response.put("user", receivedUser);
+                response.put("jwt", token);
 
-            return ResponseEntity.ok(response);
-        } catch (DAOLogicException e) {
-            log.error(e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (UserException | UserDoesNotExistException e) {
-            log.error(e.getMessage());
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
-        } catch (AuthenticationException e) {
-            log.error("AuthenticationException " + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(AUTHENTICATION_EXCEPTION));
-        }
+                return ResponseEntity.ok(response);
+            } catch (DAOLogicException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (UserException | UserDoesNotExistException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
+            } catch (AuthenticationException e) {
+                log.error("AuthenticationException ", e);
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(AUTHENTICATION_EXCEPTION));
+            }
+        });
     }
 
     @PostMapping(API_RECOVER_PASSWORD)
-    public ResponseEntity<Object> recoverPassword(@RequestBody UserImpl receivedUser) {
-        try {
-            if (StringUtils.isEmpty(receivedUser.getEmail())) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(MAIL_INVALID));
-            }
-            User user = new UserImpl.UserBuilder()
-                    .setEmail(receivedUser.getEmail())
-                    .build();
-            if (!userService.recoverPassword(user)) {
-                log.error(MessagesForException.EMAIL_ERROR);
+    public DeferredResult<ResponseEntity<Object>> recoverPassword(@RequestBody UserImpl receivedUser) {
+        return bulkheads.submit(EndpointGroup.AUTH, () -> {
+            try {
+                if (StringUtils.isEmpty(receivedUser.getEmail())) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(MAIL_INVALID));
+                }
+                User user = new UserImpl.UserBuilder()
+                        .setEmail(receivedUser.getEmail())
+                        .build();
+                if (!userService.recoverPassword(user)) {
+                    log.error(MessagesForException.EMAIL_ERROR);
+                    throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(MAIL_EXCEPTION));
+                }
+                return ResponseEntity.ok().build();
+            } catch (DAOLogicException e) {
+                log.error("Error while recoverPassword()", e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (MailException e) {
+                log.error("Error while recoverPassword()", e);
                 throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(MAIL_EXCEPTION));
+            } catch (UserException e) {
+                log.error("Error while recoverPassword() ", e);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
             }
-            return ResponseEntity.ok().build();
-        } catch (DAOLogicException e) {
-            log.error("Error while recoverPassword()" + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (MailException e) {
-            log.error("Error while recoverPassword()" + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(MAIL_EXCEPTION));
-        } catch (UserException e) {
-            log.error("Error while recoverPassword() " + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
-        }
+        });
     }
 
     @PutMapping(API_UPDATE_PASSWORD)
-    public void updatePassword(@PathVariable BigInteger id, @RequestBody JsonNode requestBody)
-            throws UserException {
-        String oldPassword = requestBody.get("oldPass").asText();
-        String newPassword = requestBody.get("newPass").asText();
-        String confirmPassword = requestBody.get("confirmPass").asText();
-        try {
-            if (!newPassword.equals(confirmPassword)) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(USER_EXCEPTION));
-            }
-            if (id == null) {
-                throw new UserDoesNotExistException(USERS_DOESNT_EXIT);
-            }
-            if (StringUtils.isBlank(newPassword)) {
-                throw new UserException(MessagesForException.INVALID_PASSWORD);
+    public DeferredResult<Void> updatePassword(@PathVariable long id, @RequestBody JsonNode requestBody) {
+        return bulkheads.submit(EndpointGroup.AUTH, () -> {
+            String oldPassword = requestBody.get("oldPass").asText();
+            String newPassword = requestBody.get("newPass").asText();
+            String confirmPassword = requestBody.get("confirmPass").asText();
+            try {
+                if (!newPassword.equals(confirmPassword)) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, properties.getProperty(USER_EXCEPTION));
+                }
+                if (id == 0) {
+                    throw new UserDoesNotExistException(USERS_DOESNT_EXIT);
+                }
+                if (StringUtils.isBlank(newPassword)) {
+                    throw new UserException(MessagesForException.INVALID_PASSWORD);
+                }
+                userService.updateUsersPassword(id, oldPassword, newPassword);
+            } catch (DAOLogicException e) {
+                log.error(e.getMessage(), e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (UserDoesNotExistException e) {
+                log.warn(e.getMessage());
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
             }
-            userService.updateUsersPassword(id, oldPassword, newPassword);
-        } catch (DAOLogicException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (UserDoesNotExistException e) {
-            log.error(e.getMessage(), e);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
-        }
+            return null;
+        });
     }
 
     @PostMapping(API_CONFIRM_EMAIL)
-    public ResponseEntity<Object> confirmEmail(@RequestParam String code) {
-        try {
-            if (StringUtils.isEmpty(code)) {
-                throw new MailException(MessagesForException.EMAIL_ERROR);
-            }
+    public DeferredResult<ResponseEntity<Object>> confirmEmail(@RequestParam String code) {
+        return bulkheads.submit(EndpointGroup.AUTH, () -> {
+            try {
+                if (StringUtils.isEmpty(code)) {
+                    throw new MailException(MessagesForException.EMAIL_ERROR);
+                }
 
-            User user = mailSenderService.confirmEmail(code);
+                User user = mailSenderService.confirmEmail(code);
 
-            if (user == null) {
-                throw new MailException(EMAIL_ERROR);
+                if (user == null) {
+                    throw new MailException(EMAIL_ERROR);
+                }
+                return ResponseEntity.ok().build();
+            } catch (DAOLogicException e) {
+                log.error(DAO_LOGIC_EXCEPTION, e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
+            } catch (MailException e) {
+                log.error(EMAIL_ERROR, e);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(MAIL_EXCEPTION));
+            } catch (UserException e) {
+                log.error(USER_EXCEPTION, e);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
             }
-            return ResponseEntity.ok().build();
-        } catch (DAOLogicException e) {
-            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
-        } catch (MailException e) {
-            log.error(EMAIL_ERROR + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(MAIL_EXCEPTION));
-        } catch (UserException e) {
-            log.error(USER_EXCEPTION + e.getMessage());
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
-        }
+        });
     }
 
     @GetMapping(API_GET_USER)
-    public User getUser(@PathVariable BigInteger idUser) {
+    public User getUser(@PathVariable long idUser) {
         try {
             return userService.getUserById(idUser);
         } catch (UserDoesNotExistException e) {
-            log.error(e.getMessage(), e);
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
         } catch (DAOLogicException e) {
             log.error(e.getMessage(), e);
@@ -229,7 +244,7 @@ public class UserController implements RegexPatterns, ApiAddresses {
             String email = jwtTokenProvider.getEmailFromToken(token.substring(7));
             return userService.getUserByEmail(email);
         } catch (UserDoesNotExistException e) {
-            log.error(e.getMessage(), e);
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
         } catch (DAOLogicException e) {
             log.error(e.getMessage(), e);
@@ -238,20 +253,20 @@ public class UserController implements RegexPatterns, ApiAddresses {
     }
 
     @DeleteMapping(API_DELETE_USER)
-    public void deleteUser(@PathVariable BigInteger idUser) {
+    public void deleteUser(@PathVariable long idUser) {
         try {
             userService.deleteUser(idUser);
         } catch (DAOLogicException e) {
             log.error(e.getMessage(), e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
         } catch (UserDoesNotExistException e) {
-            log.error(e.getMessage(), e);
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
         }
     }
 
     @PutMapping(API_EDIT_USER)
-    public void editUser(@RequestBody UserImpl user, @PathVariable BigInteger idUser) {
+    public void editUser(@RequestBody UserImpl user, @PathVariable long idUser) {
         try {
             if (user.getFirstName() != null && user.getLastName() != null) {
                 if (user.getFirstName().isBlank() || user.getLastName().isBlank()) {
@@ -271,54 +286,54 @@ public class UserController implements RegexPatterns, ApiAddresses {
             log.error(e.getMessage(), e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
         } catch (UserDoesNotExistException e) {
-            log.error(e.getMessage(), e);
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
         }
     }
 
 
     @GetMapping(API_GET_ACCOMPLISHED_QUIZZES_BY_USER)
-    public Set<QuizAccomplishedImpl> getAccomplishedQuizzesByUser(@PathVariable BigInteger userId) {
+    public Set<QuizAccomplishedImpl> getAccomplishedQuizzesByUser(@PathVariable long userId) {
         try {
             return userService.getAccomplishedQuizesByUser(userId);
         } catch (DAOLogicException e) {
-            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
+            log.error(DAO_LOGIC_EXCEPTION, e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
         } catch (QuizDoesNotExistException e) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION + e.getMessage());
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUIZ_EXCEPTION));
         } catch (UserDoesNotExistException e) {
-            log.error(USER_NOT_FOUND_EXCEPTION + e.getMessage());
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
         }
     }
 
     @GetMapping(API_GET_FAVORITE_QUIZZES_BY_USER)
-    public Set<QuizAccomplishedImpl> getFavoriteQuizzesByUser(@PathVariable BigInteger id) {
+    public Set<QuizAccomplishedImpl> getFavoriteQuizzesByUser(@PathVariable long id) {
         try {
             return userService.getFavoriteQuizesByUser(id);
         } catch (DAOLogicException e) {
-            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
+            log.error(DAO_LOGIC_EXCEPTION, e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, properties.getProperty(DAO_LOGIC_EXCEPTION));
         } catch (QuizDoesNotExistException e) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION + e.getMessage());
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(QUIZ_EXCEPTION));
         } catch (UserDoesNotExistException e) {
-            log.error(USER_NOT_FOUND_EXCEPTION + e.getMessage());
+            log.warn(e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, properties.getProperty(USER_EXCEPTION));
         }
     }
 
     @GetMapping("/changeRole/{id}")
-    public void updateUserRole(@PathVariable(name = "id") BigInteger id,
+    public void updateUserRole(@PathVariable(name = "id") long id,
                                @RequestParam(name = "role") UserRoles role) {
         try {
             userService.updateUserRole(id, role);
         } catch (UserDoesNotExistException | UserException e) {
-            log.error(USER_NOT_FOUND_EXCEPTION + e.getMessage());
+            log.error(USER_NOT_FOUND_EXCEPTION, e);
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
         } catch (DAOLogicException e) {
-            log.error(DAO_LOGIC_EXCEPTION + e.getMessage());
+            log.error(DAO_LOGIC_EXCEPTION, e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
         }
     }
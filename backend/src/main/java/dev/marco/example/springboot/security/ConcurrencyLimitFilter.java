@@ -0,0 +1,107 @@
+package dev.marco.example.springboot.security;
+
+import dev.marco.example.springboot.exception.MessagesForException;
+import dev.marco.example.springboot.limit.AdaptiveLimit;
+import dev.marco.example.springboot.limit.ConcurrencyLimits;
+import dev.marco.example.springboot.limit.Priority;
+import org.apache.log4j.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.GenericFilterBean;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Admission control in front of {@link JwtTokenFilter}. Requests over their group's adaptive
+ * limit get an immediate 503 with Retry-After instead of waiting in Tomcat's queue until they
+ * time out. A permit is held until the response is complete, including async responses, and the
+ * time it was held feeds the limit.
+ */
+public class ConcurrencyLimitFilter extends GenericFilterBean implements MessagesForException {
+
+    private static final Logger log = Logger.getLogger(ConcurrencyLimitFilter.class);
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final ConcurrencyLimits concurrencyLimits;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimits concurrencyLimits) {
+        this.concurrencyLimits = concurrencyLimits;
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        AdaptiveLimit limit = concurrencyLimits.limitFor(path);
+        if (limit == null || request.getDispatcherType() != DispatcherType.REQUEST) {
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+
+        Priority priority = concurrencyLimits.priorityOf(request, path);
+        if (!limit.tryAcquire(priority)) {
+            log.debug(REQUEST_SHED + path);
+            HttpServletResponse response = (HttpServletResponse) servletResponse;
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(servletRequest, servletResponse);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new Release(limit, start));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                limit.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static final class Release implements AsyncListener {
+
+        private final AdaptiveLimit limit;
+        private final long start;
+
+        Release(AdaptiveLimit limit, long start) {
+            this.limit = limit;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limit.release(System.nanoTime() - start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        /**
+         * Writing a buffered response restarts async processing, which drops the listeners of
+         * the previous round.
+         */
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package dev.marco.example.springboot.security;
 
+import dev.marco.example.springboot.limit.ConcurrencyLimits;
 import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.DefaultSecurityFilterChain;
@@ -8,14 +9,17 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class JwtConfigurer extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final ConcurrencyLimits concurrencyLimits;
 
-    public JwtConfigurer(JwtTokenProvider jwtTokenProvider) {
+    public JwtConfigurer(JwtTokenProvider jwtTokenProvider, ConcurrencyLimits concurrencyLimits) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.concurrencyLimits = concurrencyLimits;
     }
 
     @Override
     public void configure(HttpSecurity httpSecurity) throws Exception {
         JwtTokenFilter jwtTokenFilter = new JwtTokenFilter(jwtTokenProvider);
         httpSecurity.addFilterBefore(jwtTokenFilter, UsernamePasswordAuthenticationFilter.class);
+        httpSecurity.addFilterBefore(new ConcurrencyLimitFilter(concurrencyLimits), JwtTokenFilter.class);
     }
 }
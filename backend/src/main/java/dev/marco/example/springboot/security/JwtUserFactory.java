@@ -17,7 +17,7 @@ public final class JwtUserFactory {
 
     public static JwtUser create(User user) {
         return new JwtUser(
-                user.getId().longValue(),
+                user.getId(),
                 user.getEmail(),
                 user.getFirstName(),
                 user.getLastName(),
@@ -1,5 +1,6 @@
 package dev.marco.example.springboot.security;
 
+import dev.marco.example.springboot.limit.ConcurrencyLimits;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -31,11 +32,14 @@ public class WebSecurityConfigurer extends WebSecurityConfigurerAdapter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final DataSource dataSource;
+    private final ConcurrencyLimits concurrencyLimits;
 
     @Autowired
-    public WebSecurityConfigurer(JwtTokenProvider jwtTokenProvider, DataSource dataSource) {
+    public WebSecurityConfigurer(JwtTokenProvider jwtTokenProvider, DataSource dataSource,
+                                 ConcurrencyLimits concurrencyLimits) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.dataSource = dataSource;
+        this.concurrencyLimits = concurrencyLimits;
     }
 
     @Bean
@@ -79,6 +83,6 @@ public class WebSecurityConfigurer extends WebSecurityConfigurerAdapter {
                     .antMatchers("/confirm").permitAll()
                     .antMatchers("/auth/**").permitAll()
                     .and()
-                .apply(new JwtConfigurer(jwtTokenProvider));
+                .apply(new JwtConfigurer(jwtTokenProvider, concurrencyLimits));
     }
 }
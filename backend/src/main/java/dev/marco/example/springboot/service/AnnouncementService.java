@@ -1,11 +1,15 @@
 package dev.marco.example.springboot.service;
 
+import dev.marco.example.springboot.dao.Projection;
+import dev.marco.example.springboot.dao.RowHandler;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.Announcement;
+import dev.marco.example.springboot.model.AnnouncementCard;
 import dev.marco.example.springboot.model.AnnouncementComment;
 import org.springframework.data.domain.Page;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.math.BigInteger;
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 
@@ -13,39 +17,55 @@ public interface AnnouncementService {
 
     int MIN_PAGE = 1;
     int PAGE_SIZE = 6;
+    long NEWEST_COMMENT = Long.MAX_VALUE;
 
-    List<Announcement> getAllAnnouncements(BigInteger idUser)
+    List<AnnouncementCard> getAllAnnouncements(long idUser)
             throws AnnouncementDoesNotExistException, DAOLogicException, AnnouncementException;
 
-    BigInteger buildNewAnnouncement(Announcement announcement)
+    void streamAllAnnouncements(long idUser, RowHandler<AnnouncementCard> handler)
+            throws DAOLogicException, IOException;
+
+    long buildNewAnnouncement(Announcement announcement)
             throws AnnouncementException, DAOLogicException, UserException;
 
     void editAnnouncement(Announcement announcement)
             throws AnnouncementException, DAOLogicException, UserException, AnnouncementDoesNotExistException, UserDoesNotExistException;
 
-    void deleteAnnouncement(BigInteger idAnnouncement, BigInteger idUser)
+    void deleteAnnouncement(long idAnnouncement, long idUser)
             throws DAOLogicException, UserException, AnnouncementDoesNotExistException, UserDoesNotExistException;
 
-    void setLikeAnnouncement(BigInteger idAnnouncement)
+    void setLikeAnnouncement(long idAnnouncement)
             throws AnnouncementException, DAOLogicException, AnnouncementDoesNotExistException, UserDoesNotExistException;
 
-    List<Announcement> getPopularAnnouncements(int numberAnnouncements, BigInteger idUser)
+    List<AnnouncementCard> getPopularAnnouncements(int numberAnnouncements, long idUser)
             throws AnnouncementDoesNotExistException, DAOLogicException;
 
-    Set<Announcement> getAnnouncementsLikedByUser(BigInteger idUser)
+    Set<AnnouncementCard> getAnnouncementsLikedByUser(long idUser)
             throws AnnouncementDoesNotExistException, DAOLogicException, AnnouncementException;
 
     void setTestConnection() throws DAOConfigException;
 
-    List<AnnouncementComment> getComments(BigInteger AnnouncementId, BigInteger lastCommentId, int count) throws AnnouncementDoesNotExistException, DAOLogicException;
+    List<AnnouncementComment> getComments(long AnnouncementId, long lastCommentId, int count) throws AnnouncementDoesNotExistException, DAOLogicException;
+
+    List<AnnouncementComment> getCommentsBefore(long announcementId, long beforeCommentId, int count) throws DAOLogicException;
+
+    /**
+     * Opens a stream of "comments", "likes" and "resync" events for one announcement.
+     */
+    SseEmitter subscribeEvents(long idAnnouncement) throws DAOLogicException, AnnouncementDoesNotExistException;
+
+    /**
+     * Millis of the last comment change known to the comment cache, -1 when the thread is not cached.
+     */
+    long getCommentsLastModified(long announcementId);
 
-    void createComment(String commentContent, BigInteger  announcementId, BigInteger userId) throws DAOLogicException, AnnouncementException;
+    void createComment(String commentContent, long  announcementId, long userId) throws DAOLogicException, AnnouncementException;
 
-    Set<Announcement> getSetByTitle(String title, BigInteger idUser) throws DAOLogicException;
+    Set<AnnouncementCard> getSetByTitle(String title, long idUser) throws DAOLogicException;
 
-    Page<Announcement> getAnnouncementsByPage(int pageNumber)
+    Page<AnnouncementCard> getAnnouncementsByPage(int pageNumber, Projection projection)
             throws DAOLogicException, PageException;
 
-    Page<Announcement> getAnnouncementsLikeTitle(String title, int pageNumber)
+    Page<AnnouncementCard> getAnnouncementsLikeTitle(String title, int pageNumber, Projection projection)
             throws DAOLogicException, PageException;
 }
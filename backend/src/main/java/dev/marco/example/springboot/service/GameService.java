@@ -8,7 +8,6 @@ import dev.marco.example.springboot.model.impl.AnswerImpl;
 import dev.marco.example.springboot.model.impl.QuestionImpl;
 import dev.marco.example.springboot.model.impl.QuizAccomplishedImpl;
 
-import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
 
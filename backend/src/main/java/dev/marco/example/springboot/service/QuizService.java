@@ -1,12 +1,15 @@
 package dev.marco.example.springboot.service;
 
+import dev.marco.example.springboot.dao.Projection;
+import dev.marco.example.springboot.dao.RowHandler;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.Quiz;
+import dev.marco.example.springboot.model.QuizSummary;
 import dev.marco.example.springboot.model.QuizType;
 import dev.marco.example.springboot.model.impl.QuizImpl;
 import org.springframework.data.domain.Page;
 
-import java.math.BigInteger;
+import java.io.IOException;
 import java.util.List;
 
 public interface QuizService {
@@ -23,17 +26,19 @@ public interface QuizService {
 
     Quiz buildNewQuiz(Quiz quiz) throws QuizException, DAOLogicException, UserException, QuestionException, AnswerDoesNotExistException, AnswerException, UserDoesNotExistException, QuestionDoesNotExistException;
 
-    void updateQuiz(BigInteger id, Quiz updatedQuiz) throws QuizDoesNotExistException, DAOLogicException, QuestionDoesNotExistException, UserDoesNotExistException, UserException;
+    void updateQuiz(long id, Quiz updatedQuiz) throws QuizDoesNotExistException, DAOLogicException, QuestionDoesNotExistException, UserDoesNotExistException, UserException;
 
     void deleteQuiz(Quiz quiz) throws QuizDoesNotExistException, DAOLogicException, UserDoesNotExistException, UserException;
 
-    QuizImpl getQuizById(BigInteger id) throws QuizDoesNotExistException, DAOLogicException, QuizException, QuestionDoesNotExistException;
+    QuizImpl getQuizById(long id) throws QuizDoesNotExistException, DAOLogicException, QuizException, QuestionDoesNotExistException;
 
-    List<Quiz> getQuizzesByType(QuizType quizType) throws QuizDoesNotExistException, DAOLogicException;
+    List<QuizSummary> getQuizzesByType(QuizType quizType) throws QuizDoesNotExistException, DAOLogicException;
 
-    List<Quiz> getAllQuizzes() throws QuizDoesNotExistException, DAOLogicException;
+    List<QuizSummary> getAllQuizzes() throws QuizDoesNotExistException, DAOLogicException;
 
-    List<Quiz> getLastCreatedQuizzes(int count) throws QuizDoesNotExistException, DAOLogicException;
+    void streamAllQuizzes(RowHandler<QuizSummary> handler) throws DAOLogicException, IOException;
+
+    List<QuizSummary> getLastCreatedQuizzes(int count) throws QuizDoesNotExistException, DAOLogicException;
 
     Quiz getQuizByTitle(String title) throws QuizDoesNotExistException, DAOLogicException, QuizException, QuestionDoesNotExistException;
 
@@ -41,8 +46,9 @@ public interface QuizService {
 
     void setTestConnection() throws DAOConfigException;
 
-    Page<Quiz> getQuizzesLikeTitle(int pageNumber, String title) throws QuizException, PageException;
+    Page<QuizSummary> getQuizzesLikeTitle(int pageNumber, String title, Projection projection)
+            throws QuizException, PageException;
 
-    Page<Quiz> getQuizzesByPage(int pageNumber) throws QuizException, PageException;
+    Page<QuizSummary> getQuizzesByPage(int pageNumber, Projection projection) throws QuizException, PageException;
 
 }
@@ -5,7 +5,6 @@ import dev.marco.example.springboot.model.User;
 import dev.marco.example.springboot.model.UserRoles;
 import dev.marco.example.springboot.model.impl.QuizAccomplishedImpl;
 
-import java.math.BigInteger;
 import java.util.Set;
 
 public interface UserService {
@@ -15,7 +14,7 @@ public interface UserService {
 
   void setTestConnection() throws DAOConfigException;
 
-  BigInteger buildNewUser(String email, String password, String name, String surname)
+  long buildNewUser(String email, String password, String name, String surname)
       throws UserException, DAOLogicException;
 
   User authorize(User user) throws DAOLogicException, UserException, UserDoesNotExistException;
@@ -25,44 +24,44 @@ public interface UserService {
   void validateNewUser(String email, String password, String firstName, String lastName)
       throws UserException;
 
-  User getUserById(BigInteger id) throws UserDoesNotExistException, DAOLogicException;
+  User getUserById(long id) throws UserDoesNotExistException, DAOLogicException;
 
   User getUserByEmail(String email) throws UserDoesNotExistException, DAOLogicException;
 
-  void deleteUser(BigInteger id) throws DAOLogicException, UserDoesNotExistException;
+  void deleteUser(long id) throws DAOLogicException, UserDoesNotExistException;
 
-  void updateUsersFullName(BigInteger id, String newFirstName, String newLastName)
+  void updateUsersFullName(long id, String newFirstName, String newLastName)
           throws DAOLogicException, UserDoesNotExistException;
 
-  void updateUsersPassword(BigInteger id, String oldPassword, String newPassword)
+  void updateUsersPassword(long id, String oldPassword, String newPassword)
           throws DAOLogicException, UserDoesNotExistException, UserException;
 
-  void updateUsersDescription(BigInteger id, String newDescription)
+  void updateUsersDescription(long id, String newDescription)
           throws DAOLogicException, UserDoesNotExistException;
 
-  void updateUserRole(BigInteger id, UserRoles role) throws UserDoesNotExistException, DAOLogicException, UserException;
+  void updateUserRole(long id, UserRoles role) throws UserDoesNotExistException, DAOLogicException, UserException;
 
   User getUserByEmailCode(String code) throws UserDoesNotExistException, DAOLogicException;
 
-  void updateUsersEmailCode(BigInteger id, String newCode) throws DAOLogicException, UserDoesNotExistException;
+  void updateUsersEmailCode(long id, String newCode) throws DAOLogicException, UserDoesNotExistException;
 
-  boolean comparisonOfPasswords(BigInteger id, String checkPassword) throws DAOLogicException, UserDoesNotExistException;
+  boolean comparisonOfPasswords(long id, String checkPassword) throws DAOLogicException, UserDoesNotExistException;
 
-  boolean activateUser(BigInteger id) throws DAOLogicException, UserDoesNotExistException;
+  boolean activateUser(long id) throws DAOLogicException, UserDoesNotExistException;
 
-  boolean disactivateUser(BigInteger id) throws DAOLogicException, UserDoesNotExistException;
+  boolean disactivateUser(long id) throws DAOLogicException, UserDoesNotExistException;
 
-  Set<QuizAccomplishedImpl> getAccomplishedQuizesByUser(BigInteger id) throws DAOLogicException, QuizDoesNotExistException, UserDoesNotExistException;
+  Set<QuizAccomplishedImpl> getAccomplishedQuizesByUser(long id) throws DAOLogicException, QuizDoesNotExistException, UserDoesNotExistException;
 
-  Set<QuizAccomplishedImpl> getFavoriteQuizesByUser(BigInteger id) throws DAOLogicException, UserDoesNotExistException, QuizDoesNotExistException;
+  Set<QuizAccomplishedImpl> getFavoriteQuizesByUser(long id) throws DAOLogicException, UserDoesNotExistException, QuizDoesNotExistException;
 
-  void editAccomplishedQuiz(BigInteger idUser, QuizAccomplishedImpl newQuiz) throws DAOLogicException;
+  void editAccomplishedQuiz(long idUser, QuizAccomplishedImpl newQuiz) throws DAOLogicException;
 
-  void setIsFavoriteQuiz(BigInteger idUser,  BigInteger idQuiz, int isFavourite) throws DAOLogicException;
+  void setIsFavoriteQuiz(long idUser,  long idQuiz, int isFavourite) throws DAOLogicException;
 
-  void addAccomplishedQuiz(BigInteger id, QuizAccomplishedImpl quiz) throws DAOLogicException;
+  void addAccomplishedQuiz(long id, QuizAccomplishedImpl quiz) throws DAOLogicException;
 
-  QuizAccomplishedImpl getAccomplishedQuizById(BigInteger idUser, BigInteger idQuiz) throws QuizDoesNotExistException, DAOLogicException;
+  QuizAccomplishedImpl getAccomplishedQuizById(long idUser, long idQuiz) throws QuizDoesNotExistException, DAOLogicException;
 
-  boolean isAccomplishedQuiz(BigInteger idUser, BigInteger idQuiz) throws DAOLogicException;
+  boolean isAccomplishedQuiz(long idUser, long idQuiz) throws DAOLogicException;
 }
@@ -1,14 +1,23 @@
 package dev.marco.example.springboot.service.impl;
 
+import dev.marco.example.springboot.cache.AnnouncementCommentCache;
+import dev.marco.example.springboot.cache.ResourceVersions;
 import dev.marco.example.springboot.dao.AnnouncementDAO;
+import dev.marco.example.springboot.dao.Projection;
+import dev.marco.example.springboot.dao.RowHandler;
 import dev.marco.example.springboot.dao.UserAnnouncementDAO;
+import dev.marco.example.springboot.event.AnnouncementEventHub;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.Announcement;
+import dev.marco.example.springboot.model.AnnouncementCard;
 import dev.marco.example.springboot.model.AnnouncementComment;
 import dev.marco.example.springboot.model.UserRoles;
 import dev.marco.example.springboot.security.JwtUser;
 import dev.marco.example.springboot.service.AnnouncementService;
 import dev.marco.example.springboot.service.UserService;
+import dev.marco.example.springboot.singleflight.SingleFlight;
+import dev.marco.example.springboot.transaction.AfterCommit;
+import dev.marco.example.springboot.transaction.UnitOfWork;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,7 +26,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import java.math.BigInteger;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 
@@ -30,12 +40,20 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     private final AnnouncementDAO announcementDAO;
     private final UserAnnouncementDAO userAnnouncementDAO;
     private final UserService userService;
+    private final AnnouncementCommentCache commentCache;
+    private final AnnouncementEventHub eventHub;
+    private final ResourceVersions resourceVersions;
 
     @Autowired
-    private AnnouncementServiceImpl(AnnouncementDAO announcementDAO, UserAnnouncementDAO userAnnouncementDAO, UserService userService){
+    private AnnouncementServiceImpl(AnnouncementDAO announcementDAO, UserAnnouncementDAO userAnnouncementDAO,
+                                    UserService userService, AnnouncementCommentCache commentCache,
+                                    AnnouncementEventHub eventHub, ResourceVersions resourceVersions){
         this.announcementDAO = announcementDAO;
         this.userAnnouncementDAO = userAnnouncementDAO;
         this.userService = userService;
+        this.commentCache = commentCache;
+        this.eventHub = eventHub;
+        this.resourceVersions = resourceVersions;
     }
 
     @Override
@@ -51,20 +69,30 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     }
 
     @Override
-    public List<Announcement> getAllAnnouncements(BigInteger idUser)
+    @UnitOfWork(readOnly = true)
+    public List<AnnouncementCard> getAllAnnouncements(long idUser)
             throws AnnouncementDoesNotExistException, DAOLogicException, AnnouncementException {
         return announcementDAO.getAllAnnouncements(idUser);
     }
 
     @Override
-    public BigInteger buildNewAnnouncement(Announcement announcement)
+    @UnitOfWork(readOnly = true)
+    public void streamAllAnnouncements(long idUser, RowHandler<AnnouncementCard> handler)
+            throws DAOLogicException, IOException {
+        announcementDAO.streamAllAnnouncements(idUser, handler);
+    }
+
+    @Override
+    public long buildNewAnnouncement(Announcement announcement)
             throws AnnouncementException, DAOLogicException {
         try {
             if(announcementDAO.isAnnouncementByTitle(announcement.getTitle())) {
                 log.error(ANNOUNCEMENT_ALREADY_EXISTS);
                 throw new AnnouncementException(ANNOUNCEMENT_ALREADY_EXISTS);
             }
-            return announcementDAO.createAnnouncement(announcement);
+            long id = announcementDAO.createAnnouncement(announcement);
+            resourceVersions.touch(ResourceVersions.ANNOUNCEMENTS);
+            return id;
         } catch (DAOLogicException e) {
             log.error(DAO_LOGIC_EXCEPTION);
             throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
@@ -72,18 +100,20 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     }
 
     @Override
+    @UnitOfWork
     public void editAnnouncement(Announcement announcement)
             throws DAOLogicException, AnnouncementDoesNotExistException, UserDoesNotExistException, UserException {
         try {
             if(!announcementDAO.isAnnouncementById(announcement.getId()))
                 throw new AnnouncementDoesNotExistException(ANNOUNCEMENT_NOT_FOUND_EXCEPTION);
 
-            BigInteger owner = announcementDAO.getAnnouncementById(announcement.getId()).getIdUser();
+            long owner = announcementDAO.getAnnouncementById(announcement.getId()).getIdUser();
             UserRoles userRole = userService.getUserById(announcement.getIdUser()).getUserRole();
-            if(!owner.equals(announcement.getIdUser()) && !userRole.equals(UserRoles.ADMIN))
+            if(owner != announcement.getIdUser() && !userRole.equals(UserRoles.ADMIN))
                 throw new UserException(DONT_ENOUGH_RIGHTS);
 
             announcementDAO.editAnnouncement(announcement);
+            resourceVersions.touch(ResourceVersions.ANNOUNCEMENTS);
         } catch (DAOLogicException e) {
             log.error(DAO_LOGIC_EXCEPTION);
             throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
@@ -91,18 +121,24 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     }
 
     @Override
-    public void deleteAnnouncement(BigInteger idAnnouncement, BigInteger idUser)
+    @UnitOfWork
+    public void deleteAnnouncement(long idAnnouncement, long idUser)
             throws DAOLogicException, UserException, AnnouncementDoesNotExistException, UserDoesNotExistException {
         try {
             if(!announcementDAO.isAnnouncementById(idAnnouncement))
                 throw new AnnouncementDoesNotExistException(ANNOUNCEMENT_NOT_FOUND_EXCEPTION);
 
-            BigInteger owner = announcementDAO.getAnnouncementById(idAnnouncement).getIdUser();
+            long owner = announcementDAO.getAnnouncementById(idAnnouncement).getIdUser();
             UserRoles userRole = userService.getUserById(idUser).getUserRole();
-            if(!owner.equals(idUser) && !userRole.equals(UserRoles.ADMIN))
+            if(owner != idUser && !userRole.equals(UserRoles.ADMIN))
                 throw new UserException(DONT_ENOUGH_RIGHTS);
 
             announcementDAO.deleteAnnouncement(idAnnouncement);
+            resourceVersions.touch(ResourceVersions.ANNOUNCEMENTS);
+            AfterCommit.run(() -> {
+                commentCache.evict(idAnnouncement);
+                eventHub.complete(idAnnouncement);
+            });
         } catch (DAOLogicException e) {
             log.error(DAO_LOGIC_EXCEPTION);
             throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
@@ -110,12 +146,13 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     }
 
     @Override
-    public void setLikeAnnouncement(BigInteger idAnnouncement)
+    @UnitOfWork
+    public void setLikeAnnouncement(long idAnnouncement)
             throws DAOLogicException, AnnouncementDoesNotExistException, UserDoesNotExistException {
         try {
             JwtUser user = (JwtUser) SecurityContextHolder.getContext().getAuthentication()
                     .getPrincipal();
-            BigInteger idUser = BigInteger.valueOf(user.getId());
+            long idUser = user.getId();
             if(!announcementDAO.isAnnouncementById(idAnnouncement))
                 throw new AnnouncementDoesNotExistException(ANNOUNCEMENT_NOT_FOUND_EXCEPTION);
             userService.getUserById(idUser); // throw UserDoesNotExistException
@@ -127,6 +164,8 @@ public class AnnouncementServiceImpl implements AnnouncementService {
                 userAnnouncementDAO.addParticipant(idAnnouncement, idUser);
                 announcementDAO.toLike(idAnnouncement);
             }
+            AfterCommit.run(() -> eventHub.publishLikes(idAnnouncement));
+            resourceVersions.touch(ResourceVersions.ANNOUNCEMENTS);
         } catch (DAOLogicException e) {
             log.error(DAO_LOGIC_EXCEPTION);
             throw new DAOLogicException(DAO_LOGIC_EXCEPTION, e);
@@ -134,58 +173,103 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     }
 
     @Override
-    public List<Announcement> getPopularAnnouncements(int numberAnnouncements, BigInteger idUser)
+    @SingleFlight
+    @UnitOfWork(readOnly = true)
+    public List<AnnouncementCard> getPopularAnnouncements(int numberAnnouncements, long idUser)
             throws AnnouncementDoesNotExistException, DAOLogicException {
         return announcementDAO.getPopular(numberAnnouncements, idUser);
     }
 
     @Override
-    public Set<Announcement> getAnnouncementsLikedByUser(BigInteger idUser)
+    @UnitOfWork(readOnly = true)
+    public Set<AnnouncementCard> getAnnouncementsLikedByUser(long idUser)
             throws AnnouncementDoesNotExistException, DAOLogicException, AnnouncementException {
         return userAnnouncementDAO.getAnnouncementsLikedByUser(idUser);
     }
 
     @Override
-    public Set<Announcement> getSetByTitle(String title, BigInteger idUser)
+    @UnitOfWork(readOnly = true)
+    public Set<AnnouncementCard> getSetByTitle(String title, long idUser)
             throws DAOLogicException {
         return announcementDAO.getSetByTitle(title, idUser);
     }
 
     @Override
-    public List<AnnouncementComment> getComments(BigInteger AnnouncementId, BigInteger lastCommentId, int count)
+    public List<AnnouncementComment> getComments(long announcementId, long lastCommentId, int count)
             throws AnnouncementDoesNotExistException, DAOLogicException {
-        return announcementDAO.getComments(AnnouncementId, lastCommentId, count);
+        List<AnnouncementComment> comments = commentCache.getNewerThan(announcementId, lastCommentId, count,
+                newest -> announcementDAO.getCommentsBefore(announcementId, NEWEST_COMMENT, newest));
+        if (comments == null) {
+            return announcementDAO.getComments(announcementId, lastCommentId, count);
+        }
+        // Nothing newer is the usual answer to a poll; only an empty thread needs a look at the table.
+        if (comments.isEmpty() && !commentCache.hasComments(announcementId)
+                && !announcementDAO.isAnnouncementById(announcementId)) {
+            throw new AnnouncementDoesNotExistException(ANNOUNCEMENT_NOT_FOUND_EXCEPTION);
+        }
+        return comments;
+    }
+
+    @Override
+    public List<AnnouncementComment> getCommentsBefore(long announcementId, long beforeCommentId, int count)
+            throws DAOLogicException {
+        List<AnnouncementComment> comments = commentCache.getOlderThan(announcementId, beforeCommentId, count,
+                newest -> announcementDAO.getCommentsBefore(announcementId, NEWEST_COMMENT, newest));
+        if (comments == null) {
+            return announcementDAO.getCommentsBefore(announcementId, beforeCommentId, count);
+        }
+        return comments;
+    }
+
+    @Override
+    public SseEmitter subscribeEvents(long idAnnouncement)
+            throws DAOLogicException, AnnouncementDoesNotExistException {
+        if (!announcementDAO.isAnnouncementById(idAnnouncement)) {
+            throw new AnnouncementDoesNotExistException(ANNOUNCEMENT_NOT_FOUND_EXCEPTION);
+        }
+        return eventHub.subscribe(idAnnouncement);
+    }
+
+    @Override
+    public long getCommentsLastModified(long announcementId) {
+        return commentCache.getLastModified(announcementId);
     }
 
     @Override
-    public void createComment(String commentContent, BigInteger announcementId, BigInteger userId)
+    @UnitOfWork
+    public void createComment(String commentContent, long announcementId, long userId)
             throws DAOLogicException, AnnouncementException {
         if(StringUtils.isEmpty(commentContent)) {
             log.error("Comment contents is empty or null");
             throw new AnnouncementException("");
         }
-        if(announcementId == null || announcementId.equals(BigInteger.ZERO)) {
-            log.error("announcementId is 0 or null");
+        if(announcementId == 0) {
+            log.error("announcementId is 0");
             throw new AnnouncementException(ANNOUNCEMENT_NOT_FOUND_EXCEPTION);
         }
-        if(userId == null || userId.equals(BigInteger.ZERO)) {
-            log.error("announcementId is 0 or null");
+        if(userId == 0) {
+            log.error("userId is 0");
             throw new AnnouncementException(USER_IS_NULL);
         }
-        announcementDAO.createComment(commentContent, announcementId, userId);
+        AnnouncementComment comment = announcementDAO.createComment(commentContent, announcementId, userId);
+        AfterCommit.run(() -> {
+            commentCache.add(announcementId, comment);
+            eventHub.publishComment(announcementId, comment);
+        });
     }
 
     @Override
-    public Page<Announcement> getAnnouncementsByPage(int pageNumber)
+    @UnitOfWork(readOnly = true)
+    public Page<AnnouncementCard> getAnnouncementsByPage(int pageNumber, Projection projection)
             throws DAOLogicException, PageException {
         JwtUser user = (JwtUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        BigInteger idUser = BigInteger.valueOf(user.getId());
+        long idUser = user.getId();
         if (pageNumber < MIN_PAGE) {
             log.error(PAGE_DOES_NOT_EXIST);
             throw new PageException(PAGE_DOES_NOT_EXIST);
         }
         Pageable pageable = PageRequest.of(--pageNumber, PAGE_SIZE);
-        Page<Announcement> page = announcementDAO.getAnnouncementsByPage(idUser, pageable);
+        Page<AnnouncementCard> page = announcementDAO.getAnnouncementsByPage(idUser, pageable, projection);
         if (!page.hasContent()) {
             log.error(PAGE_DOES_NOT_EXIST);
             throw new PageException(PAGE_DOES_NOT_EXIST);
@@ -194,16 +278,17 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     }
 
     @Override
-    public Page<Announcement> getAnnouncementsLikeTitle(String title, int pageNumber)
+    @UnitOfWork(readOnly = true)
+    public Page<AnnouncementCard> getAnnouncementsLikeTitle(String title, int pageNumber, Projection projection)
             throws DAOLogicException, PageException {
         JwtUser user = (JwtUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        BigInteger idUser = BigInteger.valueOf(user.getId());
+        long idUser = user.getId();
         if (pageNumber < MIN_PAGE) {
             log.error(PAGE_DOES_NOT_EXIST);
             throw new PageException(PAGE_DOES_NOT_EXIST);
         }
         Pageable pageable = PageRequest.of(--pageNumber, PAGE_SIZE);
-        Page<Announcement> page = announcementDAO.getAnnouncementsByTitle(title, idUser, pageable);
+        Page<AnnouncementCard> page = announcementDAO.getAnnouncementsByTitle(title, idUser, pageable, projection);
         if (!page.hasContent()) {
             log.error(PAGE_DOES_NOT_EXIST);
             throw new PageException(PAGE_DOES_NOT_EXIST);
@@ -6,15 +6,15 @@ import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import dev.marco.example.springboot.exception.*;
-import dev.marco.example.springboot.model.Announcement;
+import dev.marco.example.springboot.model.AnnouncementCard;
 import dev.marco.example.springboot.model.Dashboard;
-import dev.marco.example.springboot.model.Quiz;
+import dev.marco.example.springboot.model.QuizSummary;
 import dev.marco.example.springboot.model.impl.DashboardImpl;
 import dev.marco.example.springboot.service.AnnouncementService;
 import dev.marco.example.springboot.service.DashboardService;
 import dev.marco.example.springboot.service.QuizService;
+import dev.marco.example.springboot.transaction.UnitOfWork;
 
-import java.math.BigInteger;
 import java.util.List;
 import java.util.Set;
 
@@ -48,26 +48,25 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
-    public Dashboard generateDashboard(BigInteger id) throws DAOLogicException, QuizDoesNotExistException,
+    @UnitOfWork(readOnly = true)
+    public Dashboard generateDashboard(long id) throws DAOLogicException, QuizDoesNotExistException,
             AnnouncementDoesNotExistException, AnnouncementException, UserDoesNotExistException {
 
         User user = userService.getUserById(id);
         if (user == null) {
-            log.error(USER_NOT_FOUND_EXCEPTION);
             throw new UserDoesNotExistException(USER_NOT_FOUND_EXCEPTION);
         }
 
-        List<Quiz> lastQuizzes = quizService.getLastCreatedQuizzes(DASHBOARD_COUNT_LAST_CREATED_QUIZZES);
+        List<QuizSummary> lastQuizzes = quizService.getLastCreatedQuizzes(DASHBOARD_COUNT_LAST_CREATED_QUIZZES);
 
         if (lastQuizzes.isEmpty()) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION + lastQuizzes);
             throw new QuizDoesNotExistException(QUIZ_NOT_FOUND_EXCEPTION);
         }
 
-        List<Announcement> popularAnnouncement =
+        List<AnnouncementCard> popularAnnouncement =
                 announcementService.getPopularAnnouncements(DASHBOARD_COUNT_POPULAR_ANNOUNCEMENT, id);
 
-        Set<Announcement> likedAnnouncement = announcementService.getAnnouncementsLikedByUser(id);
+        Set<AnnouncementCard> likedAnnouncement = announcementService.getAnnouncementsLikedByUser(id);
 
         return new DashboardImpl(lastQuizzes, popularAnnouncement, likedAnnouncement);
     }
@@ -15,8 +15,8 @@ import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.*;
 import dev.marco.example.springboot.model.impl.QuizAccomplishedImpl;
 import dev.marco.example.springboot.service.GameService;
+import dev.marco.example.springboot.transaction.UnitOfWork;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -49,20 +49,24 @@ public class GameServiceImpl implements GameService {
     }
 
     @Override
+    @UnitOfWork(readOnly = true)
     public Quiz sendGameQuiz(String title) throws DAOLogicException, QuizDoesNotExistException,
             QuizException, QuestionDoesNotExistException, AnswerDoesNotExistException {
         Quiz quiz = quizService.getQuizByTitle(title);
-        BigInteger quizId = quiz.getId();
-        List<QuestionImpl> questionList = questionService.getQuestionsByQuiz(quizId);
-        for (Question question : questionList) {
-            List<AnswerImpl> answers = question.getAnswers();
-            for (AnswerImpl answer : answers) {
-                answer.setAnswer(AnswerResult.FALSE);
+        long quizId = quiz.getId();
+        // The questions may be shared with concurrent players, so the answers are hidden on copies.
+        List<QuestionImpl> questionList = new ArrayList<>();
+        for (QuestionImpl question : questionService.getQuestionsByQuiz(quizId)) {
+            List<AnswerImpl> answers = new ArrayList<>();
+            for (AnswerImpl answer : question.getAnswers()) {
+                answers.add(new AnswerImpl(answer.getId(), answer.getValue(), AnswerResult.FALSE,
+                        answer.getQuestionId()));
             }
+            questionList.add(new QuestionImpl(question.getId(), question.getQuestion(),
+                    question.getQuestionType(), answers));
         }
         Kryo kryo = new Kryo();
         kryo.register(java.util.ArrayList.class);
-        kryo.register(java.math.BigInteger.class);
         kryo.register(java.sql.Date.class);
         kryo.register(dev.marco.example.springboot.model.AnswerResult.class);
         kryo.register(dev.marco.example.springboot.model.QuizType.class);
@@ -76,10 +80,11 @@ public class GameServiceImpl implements GameService {
     }
 
     @Override
+    @UnitOfWork
     public List<QuestionImpl> validateAnswers(Quiz quiz, User user, List<AnswerImpl> userAnswers)
             throws QuestionDoesNotExistException, DAOLogicException, AnswerDoesNotExistException, QuizDoesNotExistException, QuizException {
-        BigInteger quizId = quiz.getId();
-        BigInteger userId = user.getId();
+        long quizId = quiz.getId();
+        long userId = user.getId();
         List<QuestionImpl> questions = questionService.getQuestionsByQuiz(quizId);
         List<QuestionImpl> frontQuestions = new ArrayList<>(questions);
         int counterOfCorrectAnswers = 0;
@@ -87,7 +92,7 @@ public class GameServiceImpl implements GameService {
             Question question = frontQuestions.get(i);
             AnswerImpl userAnswer = userAnswers.get(i);
             String userAnswerValue = userAnswer.getValue();
-            List<AnswerImpl> defaultAnswers = answerDAO.getAnswersByQuestionId(question.getId());
+            List<AnswerImpl> defaultAnswers = question.getAnswers();
             for (AnswerImpl defAnswer : defaultAnswers) {
                 if(defAnswer.getValue().equals(userAnswerValue)) {
                     if(defAnswer.getAnswer().equals(AnswerResult.TRUE)) {
@@ -96,7 +101,6 @@ public class GameServiceImpl implements GameService {
                     } else {
                         defAnswer.setAnswer(AnswerResult.SELECTED);
                     }
-                    question.setAnswers(defaultAnswers);
                     break;
                 }
             }
@@ -121,8 +125,8 @@ public class GameServiceImpl implements GameService {
     public void setIsFavorite(User user, QuizAccomplishedImpl quizAccomplished) throws DAOLogicException {
         int isFavorite = quizAccomplished.getIntFavourite();
         isFavorite = (isFavorite == 0) ? 1 : 0;
-        BigInteger userId = user.getId();
-        BigInteger quizId = quizAccomplished.getQuiz().getId();
+        long userId = user.getId();
+        long quizId = quizAccomplished.getQuiz().getId();
         userAccomplishedQuizDAO.setIsFavoriteQuiz(userId, quizId, isFavorite);
     }
 }
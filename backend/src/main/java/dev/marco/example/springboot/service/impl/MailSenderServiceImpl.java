@@ -9,6 +9,7 @@ import dev.marco.example.springboot.dao.UserDAO;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.User;
 import dev.marco.example.springboot.service.MailSenderService;
+import dev.marco.example.springboot.transaction.UnitOfWork;
 
 import javax.mail.*;
 import javax.mail.Message.RecipientType;
@@ -109,27 +110,20 @@ public class MailSenderServiceImpl implements MailSenderService {
 
   @Override
   public String generateCode() throws DAOLogicException {
-    StringBuilder randString = new StringBuilder();
-
-    while (true) {
+    String code;
+    do {
+      StringBuilder randString = new StringBuilder();
       for (int i = 0; i < 10; i++) {
         randString.append(SYMBOLS.charAt((int) (Math.random() * SYMBOLS.length())));
       }
-      try {
-        userDAO.getUserByEmailCode(String.valueOf(randString));
-
-      } catch (UserDoesNotExistException e) {
-        break;
-      } catch (DAOLogicException e) {
-        log.error(MessagesForException.DAO_LOGIC_EXCEPTION + e.getMessage());
-        throw new DAOLogicException(MessagesForException.DAO_LOGIC_EXCEPTION, e);
-      }
-    }
+      code = String.valueOf(randString);
+    } while (userDAO.findUserByEmailCode(code).isPresent());
 
-    return String.valueOf(randString);
+    return code;
   }
 
   @Override
+  @UnitOfWork
   public User confirmEmail(String code) throws UserException, DAOLogicException {
     try {
       User userInDatabase = userDAO.getUserByEmailCode(code);
@@ -1,5 +1,6 @@
 package dev.marco.example.springboot.service.impl;
 
+import dev.marco.example.springboot.cache.ResourceVersions;
 import dev.marco.example.springboot.model.impl.AnswerImpl;
 import dev.marco.example.springboot.model.impl.QuestionImpl;
 import org.apache.commons.lang3.StringUtils;
@@ -13,9 +14,12 @@ import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.Answer;
 import dev.marco.example.springboot.model.Question;
 import dev.marco.example.springboot.service.QuestionService;
+import dev.marco.example.springboot.singleflight.SingleFlight;
+import dev.marco.example.springboot.transaction.UnitOfWork;
 
-import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class QuestionServiceImpl implements QuestionService, MessagesForException {
@@ -28,13 +32,17 @@ public class QuestionServiceImpl implements QuestionService, MessagesForExceptio
     @Autowired
     private AnswerDAO answerDAO;
 
+    @Autowired
+    private ResourceVersions resourceVersions;
+
     public void setTestConnection() throws DAOConfigException {
         questionDAO.setTestConnection();
         answerDAO.setTestConnection();
     }
 
     @Override
-    public Question createQuestion(Question question, BigInteger quizId)
+    @UnitOfWork
+    public Question createQuestion(Question question, long quizId)
             throws DAOLogicException, QuestionDoesNotExistException, QuestionException, AnswerDoesNotExistException {
         if (StringUtils.isEmpty(question.getQuestion())) {
             log.error(QUESTION_EMPTY + " in QuestionService createQuestion question: " + question.toString());
@@ -60,6 +68,7 @@ public class QuestionServiceImpl implements QuestionService, MessagesForExceptio
             answer.setQuestionId(createdQuestion.getId());
             answerDAO.createAnswer(answer);
         }
+        resourceVersions.touch(ResourceVersions.QUESTIONS);
         return createdQuestion;
     }
 
@@ -70,21 +79,23 @@ public class QuestionServiceImpl implements QuestionService, MessagesForExceptio
             throw new QuestionException(QUESTION_EMPTY + " in createQuestion");
         }
         questionDAO.updateQuestion(updatedQuestion);
+        resourceVersions.touch(ResourceVersions.QUESTIONS);
     }
 
     @Override
     public void deleteQuestion(Question question) throws DAOLogicException, QuestionDoesNotExistException {
         questionDAO.deleteQuestion(question);
+        resourceVersions.touch(ResourceVersions.QUESTIONS);
     }
 
     @Override
-    public Question getQuestionById(BigInteger questionId)
+    public Question getQuestionById(long questionId)
             throws DAOLogicException, QuestionDoesNotExistException, AnswerDoesNotExistException {
         return questionDAO.getQuestionById(questionId, answerDAO.getAnswersByQuestionId(questionId));
     }
 
     @Override
-    public Question getQuestionByData(String questionText, BigInteger quizId)
+    public Question getQuestionByData(String questionText, long quizId)
             throws DAOLogicException, QuestionDoesNotExistException, AnswerDoesNotExistException {
         Question question = questionDAO.getQuestionByData(questionText, quizId);
         question.setAnswers(answerDAO.getAnswersByQuestionId(question.getId()));
@@ -92,12 +103,18 @@ public class QuestionServiceImpl implements QuestionService, MessagesForExceptio
     }
 
     @Override
-    public List<QuestionImpl> getQuestionsByQuiz(BigInteger quizId)
+    @SingleFlight
+    @UnitOfWork(readOnly = true)
+    public List<QuestionImpl> getQuestionsByQuiz(long quizId)
             throws DAOLogicException, QuestionDoesNotExistException, AnswerDoesNotExistException {
         List<QuestionImpl> questions = questionDAO.getAllQuestions(quizId);
+        List<Long> questionIds = new ArrayList<>(questions.size());
+        for (Question question : questions) {
+            questionIds.add(question.getId());
+        }
+        Map<Long, List<AnswerImpl>> answers = answerDAO.getAnswersByQuestionIds(questionIds);
         for (Question question : questions) {
-            List<AnswerImpl> answers = answerDAO.getAnswersByQuestionId(question.getId());
-            question.setAnswers(answers);
+            question.setAnswers(answers.get(question.getId()));
         }
         return questions;
     }
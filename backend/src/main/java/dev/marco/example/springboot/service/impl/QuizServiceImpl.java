@@ -1,7 +1,12 @@
 package dev.marco.example.springboot.service.impl;
 
+import dev.marco.example.springboot.cache.ResourceVersions;
 import dev.marco.example.springboot.dao.AnswerDAO;
 import dev.marco.example.springboot.dao.QuestionDAO;
+import dev.marco.example.springboot.dao.Projection;
+import dev.marco.example.springboot.dao.RowHandler;
+import dev.marco.example.springboot.export.QuizExports;
+import dev.marco.example.springboot.loader.RequestLoaders;
 import dev.marco.example.springboot.model.*;
 import dev.marco.example.springboot.model.impl.AnswerImpl;
 import dev.marco.example.springboot.model.impl.QuestionImpl;
@@ -19,8 +24,10 @@ import dev.marco.example.springboot.dao.QuizDAO;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.impl.QuizImpl;
 import dev.marco.example.springboot.service.QuizService;
+import dev.marco.example.springboot.singleflight.SingleFlight;
+import dev.marco.example.springboot.transaction.UnitOfWork;
 
-import java.math.BigInteger;
+import java.io.IOException;
 import java.sql.Date;
 import java.util.List;
 
@@ -35,13 +42,21 @@ public class QuizServiceImpl implements QuizService {
     private final QuestionDAO questionDAO;
     private final AnswerDAO answerDAO;
     private final UserService userService;
+    private final RequestLoaders requestLoaders;
+    private final ResourceVersions resourceVersions;
+    private final QuizExports quizExports;
 
     @Autowired
-    public QuizServiceImpl(QuizDAO quizDAO, QuestionDAO questionDAO, AnswerDAO answerDAO, UserService userService) {
+    public QuizServiceImpl(QuizDAO quizDAO, QuestionDAO questionDAO, AnswerDAO answerDAO, UserService userService,
+                           RequestLoaders requestLoaders, ResourceVersions resourceVersions,
+                           QuizExports quizExports) {
         this.quizDAO = quizDAO;
         this.questionDAO = questionDAO;
         this.answerDAO = answerDAO;
         this.userService = userService;
+        this.requestLoaders = requestLoaders;
+        this.resourceVersions = resourceVersions;
+        this.quizExports = quizExports;
     }
 
     @Override
@@ -53,6 +68,7 @@ public class QuizServiceImpl implements QuizService {
     }
 
     @Override
+    @UnitOfWork
     public Quiz buildNewQuiz(Quiz quiz) throws QuizException, DAOLogicException, QuestionException,
             UserException, AnswerDoesNotExistException, AnswerException, UserDoesNotExistException,
             QuestionDoesNotExistException {
@@ -64,7 +80,7 @@ public class QuizServiceImpl implements QuizService {
             throw new QuizException(QUIZ_ALREADY_EXISTS);
         }
         JwtUser user = (JwtUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        BigInteger userId = BigInteger.valueOf(user.getId());
+        long userId = user.getId();
 
         Quiz newQuiz = QuizImpl.QuizBuilder()
                 .setTitle(quiz.getTitle())
@@ -88,10 +104,12 @@ public class QuizServiceImpl implements QuizService {
 
             for (AnswerImpl answer : answers) {
                 answer.setQuestionId(questionWithId.getId());
-                BigInteger id = answerDAO.createAnswer(answer);
+                long id = answerDAO.createAnswer(answer);
                 answer.setId(id);
             }
         }
+        resourceVersions.touch(ResourceVersions.QUIZZES);
+        quizExports.publish(quizGame.getId(), quizGame.getTitle());
         return quizGame;
 
     }
@@ -125,7 +143,7 @@ public class QuizServiceImpl implements QuizService {
             log.error(QUESTION_EMPTY);
             throw new QuestionException(QUESTION_EMPTY);
         }
-        if (quiz.getCreatorId() == null) {
+        if (quiz.getCreatorId() == 0) {
             log.error(USER_NOT_FOUND_EXCEPTION);
             throw new UserException(USER_NOT_FOUND_EXCEPTION);
         }
@@ -186,24 +204,26 @@ public class QuizServiceImpl implements QuizService {
     }
 
     @Override
-    public void updateQuiz(BigInteger id, Quiz quiz) throws QuizDoesNotExistException, DAOLogicException, QuestionDoesNotExistException, UserDoesNotExistException, UserException {
+    public void updateQuiz(long id, Quiz quiz) throws QuizDoesNotExistException, DAOLogicException, QuestionDoesNotExistException, UserDoesNotExistException, UserException {
 
 //        JwtUser userJwt = (JwtUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-//        BigInteger userId = BigInteger.valueOf(userJwt.getId());
+//        long userId = userJwt.getId();
 //        User user = userService.getUserById(userId);
 //        if (!user.getUserRole().equals(UserRoles.ADMIN)) {
 //            log.error(DONT_ENOUGH_RIGHTS);
 //            throw new UserException(DONT_ENOUGH_RIGHTS);
 //        }
 
-        Quiz quizFromDAO = quizDAO.getQuizById(id);
+        Quiz quizFromDAO = requestLoaders.quizzes().get(id);
         if (quizFromDAO == null) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION);
             throw new QuizDoesNotExistException(QUIZ_NOT_FOUND_EXCEPTION);
         }
         List<QuestionImpl> questions = questionDAO.getAllQuestions(quiz.getId());
         quiz.setQuestions(questions);
         quizDAO.updateQuiz(id, quiz);
+        requestLoaders.quizzes().evict(id);
+        resourceVersions.touch(ResourceVersions.QUIZZES, ResourceVersions.quiz(id));
+        quizExports.publish(id, quiz.getTitle());
     }
 
     @Override
@@ -211,57 +231,70 @@ public class QuizServiceImpl implements QuizService {
             throws QuizDoesNotExistException, DAOLogicException, UserDoesNotExistException, UserException {
 
 //        JwtUser userJwt = (JwtUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-//        BigInteger userId = BigInteger.valueOf(userJwt.getId());
+//        long userId = userJwt.getId();
 //        User user = userService.getUserById(userId);
 //        if (!user.getUserRole().equals(UserRoles.ADMIN)) {
 //            log.error(DONT_ENOUGH_RIGHTS);
 //            throw new UserException(DONT_ENOUGH_RIGHTS);
 //        }
 
-        Quiz quizFromDAO = quizDAO.getQuizById(quiz.getId());
+        Quiz quizFromDAO = requestLoaders.quizzes().get(quiz.getId());
         if (quizFromDAO == null) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION);
             throw new QuizDoesNotExistException(QUIZ_NOT_FOUND_EXCEPTION);
         }
         quizDAO.deleteQuiz(quiz);
+        requestLoaders.quizzes().evict(quiz.getId());
+        resourceVersions.touch(ResourceVersions.QUIZZES, ResourceVersions.quiz(quiz.getId()));
+        quizExports.remove(quiz.getId());
     }
 
     @Override
-    public QuizImpl getQuizById(BigInteger id) throws QuizDoesNotExistException, DAOLogicException, QuizException, QuestionDoesNotExistException {
-        if (id == null) {
+    @UnitOfWork(readOnly = true)
+    public QuizImpl getQuizById(long id) throws QuizDoesNotExistException, DAOLogicException, QuizException, QuestionDoesNotExistException {
+        if (id == 0) {
             log.error(EMPTY_ID);
             throw new QuizException(EMPTY_ID);
         }
-        QuizImpl quiz = quizDAO.getQuizById(id);
+        QuizImpl quiz = requestLoaders.quizzes().get(id);
         if (quiz == null) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION);
             throw new QuizDoesNotExistException(QUIZ_NOT_FOUND_EXCEPTION);
         }
         return quiz;
     }
 
     @Override
-    public List<Quiz> getQuizzesByType(QuizType quizType)
+    @UnitOfWork(readOnly = true)
+    public List<QuizSummary> getQuizzesByType(QuizType quizType)
             throws QuizDoesNotExistException, DAOLogicException {
         return quizDAO.getQuizzesByType(quizType);
     }
 
     @Override
-    public List<Quiz> getAllQuizzes() throws QuizDoesNotExistException, DAOLogicException {
-        List<Quiz> quizzes = quizDAO.getAllQuizzes();
+    @UnitOfWork(readOnly = true)
+    public List<QuizSummary> getAllQuizzes() throws QuizDoesNotExistException, DAOLogicException {
+        List<QuizSummary> quizzes = quizDAO.getAllQuizzes();
         if (quizzes.isEmpty()) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION);
             throw new QuizDoesNotExistException(QUIZ_NOT_FOUND_EXCEPTION);
         }
         return quizzes;
     }
 
     @Override
-    public List<Quiz> getLastCreatedQuizzes(int count) throws QuizDoesNotExistException, DAOLogicException {
+    @UnitOfWork(readOnly = true)
+    public void streamAllQuizzes(RowHandler<QuizSummary> handler) throws DAOLogicException, IOException {
+        quizDAO.streamAllQuizzes(handler);
+    }
+
+    @Override
+    @SingleFlight
+    @UnitOfWork(readOnly = true)
+    public List<QuizSummary> getLastCreatedQuizzes(int count) throws QuizDoesNotExistException, DAOLogicException {
         return quizDAO.getLastCreatedQuizzes(count);
     }
 
     @Override
+    @SingleFlight
+    @UnitOfWork(readOnly = true)
     public Quiz getQuizByTitle(String title)
             throws QuizDoesNotExistException, DAOLogicException, QuizException, QuestionDoesNotExistException {
         if (StringUtils.isBlank(title)) {
@@ -270,7 +303,6 @@ public class QuizServiceImpl implements QuizService {
         }
         Quiz quiz = quizDAO.getQuizByTitle(title);
         if (quiz == null) {
-            log.error(QUIZ_NOT_FOUND_EXCEPTION);
             throw new QuizDoesNotExistException(QUIZ_NOT_FOUND_EXCEPTION);
         }
         List<QuestionImpl> questions = questionDAO.getAllQuestions(quiz.getId());
@@ -279,13 +311,15 @@ public class QuizServiceImpl implements QuizService {
     }
 
     @Override
-    public Page<Quiz> getQuizzesLikeTitle(int pageNumber, String title) throws QuizException, PageException {
+    @UnitOfWork(readOnly = true)
+    public Page<QuizSummary> getQuizzesLikeTitle(int pageNumber, String title, Projection projection)
+            throws QuizException, PageException {
         if (pageNumber < MIN_PAGE) {
             log.error(PAGE_DOES_NOT_EXIST);
             throw new PageException(PAGE_DOES_NOT_EXIST);
         }
         Pageable pageable = PageRequest.of(--pageNumber, PAGE_SIZE);
-        Page<Quiz> page = quizDAO.getQuizzesLikeTitle(pageable, title);
+        Page<QuizSummary> page = quizDAO.getQuizzesLikeTitle(pageable, title, projection);
         if (page.getTotalPages() <= pageNumber) {
             log.error(PAGE_DOES_NOT_EXIST);
             throw new PageException(PAGE_DOES_NOT_EXIST);
@@ -295,13 +329,14 @@ public class QuizServiceImpl implements QuizService {
 
 
     @Override
-    public Page<Quiz> getQuizzesByPage(int pageNumber) throws QuizException, PageException {
+    @UnitOfWork(readOnly = true)
+    public Page<QuizSummary> getQuizzesByPage(int pageNumber, Projection projection) throws QuizException, PageException {
         if (pageNumber < MIN_PAGE) {
             log.error(PAGE_DOES_NOT_EXIST);
             throw new PageException(PAGE_DOES_NOT_EXIST);
         }
         Pageable pageable = PageRequest.of(--pageNumber, PAGE_SIZE);
-        Page<Quiz> page = quizDAO.getQuizzesByPage(pageable);
+        Page<QuizSummary> page = quizDAO.getQuizzesByPage(pageable, projection);
         if (!page.hasContent()) {
             log.error(PAGE_DOES_NOT_EXIST);
             throw new PageException(PAGE_DOES_NOT_EXIST);
@@ -1,5 +1,8 @@
 package dev.marco.example.springboot.service.impl;
 
+import dev.marco.example.springboot.cache.ResourceVersions;
+import dev.marco.example.springboot.loader.BatchLoader;
+import dev.marco.example.springboot.loader.RequestLoaders;
 import dev.marco.example.springboot.model.UserRoles;
 import dev.marco.example.springboot.security.JwtUser;
 import dev.marco.example.springboot.util.RegexPatterns;
@@ -18,7 +21,6 @@ import dev.marco.example.springboot.model.impl.UserImpl;
 import dev.marco.example.springboot.service.MailSenderService;
 import dev.marco.example.springboot.service.UserService;
 
-import java.math.BigInteger;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -33,13 +35,18 @@ public class UserServiceImpl implements UserService, RegexPatterns {
   private final UserDAO userDAO;
   private final UserAccomplishedQuizDAO userAccomplishedQuizDAO;
   private final MailSenderService mailSenderService;
+  private final RequestLoaders requestLoaders;
+  private final ResourceVersions resourceVersions;
 
   @Autowired
   public UserServiceImpl(UserDAO userDAO, UserAccomplishedQuizDAO userAccomplishedQuizDAO,
-      MailSenderServiceImpl mailSenderService) {
+      MailSenderServiceImpl mailSenderService, RequestLoaders requestLoaders,
+      ResourceVersions resourceVersions) {
     this.userDAO = userDAO;
     this.userAccomplishedQuizDAO = userAccomplishedQuizDAO;
     this.mailSenderService = mailSenderService;
+    this.requestLoaders = requestLoaders;
+    this.resourceVersions = resourceVersions;
   }
 
   @Override
@@ -51,7 +58,7 @@ public class UserServiceImpl implements UserService, RegexPatterns {
 
 
   @Override
-  public BigInteger buildNewUser(String email, String password, String firstName, String lastName)
+  public long buildNewUser(String email, String password, String firstName, String lastName)
       throws UserException, DAOLogicException {
     try {
       validateNewUser(email, password, firstName, lastName);
@@ -59,12 +66,8 @@ public class UserServiceImpl implements UserService, RegexPatterns {
 
       BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
 
-      try {
-        if (userDAO.getUserByEmail(email) != null) {
-          throw new UserException(USER_ALREADY_EXIST);
-        }
-      } catch (UserDoesNotExistException e) {
-        log.debug("User with email=" + email + " doesn't exist");
+      if (userDAO.findUserByEmail(email).isPresent()) {
+        throw new UserException(USER_ALREADY_EXIST);
       }
 
       User user = new UserImpl.UserBuilder()
@@ -94,9 +97,6 @@ public class UserServiceImpl implements UserService, RegexPatterns {
     } catch (DAOLogicException | UserDoesNotConfirmedEmailException e) {
       log.info(DAO_LOGIC_EXCEPTION + e.getMessage());
       throw new DAOLogicException(DAO_LOGIC_EXCEPTION + e.getMessage(), e);
-    } catch (UserDoesNotExistException e) {
-      log.info(USERS_DOESNT_EXIT);
-      throw new UserDoesNotExistException(USERS_DOESNT_EXIT + e.getMessage(), e);
     }
   }
 
@@ -160,48 +160,53 @@ public class UserServiceImpl implements UserService, RegexPatterns {
 
 
   @Override
-  public User getUserById(BigInteger id) throws UserDoesNotExistException, DAOLogicException {
-    if (id == null) {
-      log.error(USER_NOT_FOUND_EXCEPTION);
+  public User getUserById(long id) throws UserDoesNotExistException, DAOLogicException {
+    if (id == 0) {
       throw new UserDoesNotExistException(USER_NOT_FOUND_EXCEPTION);
     }
-    if (id.longValue() < 1) {
-      log.error(USER_NOT_FOUND_EXCEPTION);
+    if (id < 1) {
       throw new UserDoesNotExistException(USER_NOT_FOUND_EXCEPTION);
     }
-    return userDAO.getUserById(id);
+    User user = requestLoaders.users().get(id);
+    if (user == null) {
+      throw new UserDoesNotExistException(MessagesForException.INVALID_USERS_ID + id);
+    }
+    return user;
   }
 
   @Override
   public User getUserByEmail(String email) throws UserDoesNotExistException, DAOLogicException {
     if (StringUtils.isEmpty(email)) {
-      log.error(USER_NOT_FOUND_EXCEPTION);
       throw new UserDoesNotExistException(USER_NOT_FOUND_EXCEPTION);
     }
     return userDAO.getUserByEmail(email);
   }
 
   @Override
-  public void deleteUser(BigInteger id) throws DAOLogicException, UserDoesNotExistException {
-    if (id == null) {
-      log.error(USER_NOT_FOUND_EXCEPTION);
+  public void deleteUser(long id) throws DAOLogicException, UserDoesNotExistException {
+    if (id == 0) {
       throw new UserDoesNotExistException(USER_NOT_FOUND_EXCEPTION);
     }
     userDAO.deleteUser(id);
+    requestLoaders.users().evict(id);
+    resourceVersions.touch(ResourceVersions.ANNOUNCEMENTS);
   }
 
   @Override
-  public void updateUsersFullName(BigInteger id, String newFirstName, String newLastName)
+  public void updateUsersFullName(long id, String newFirstName, String newLastName)
       throws DAOLogicException, UserDoesNotExistException {
     User userFromDAO = userDAO.getUserById(id);
     if (userFromDAO == null) {
       throw new UserDoesNotExistException(USER_NOT_FOUND_EXCEPTION);
     }
     userDAO.updateUsersFullName(id, newFirstName, newLastName);
+    requestLoaders.users().evict(id);
+    // Announcement cards show their author's name.
+    resourceVersions.touch(ResourceVersions.ANNOUNCEMENTS);
   }
 
   @Override
-  public void updateUsersPassword(BigInteger id, String oldPassword, String newPassword)
+  public void updateUsersPassword(long id, String oldPassword, String newPassword)
           throws DAOLogicException, UserDoesNotExistException, UserException {
     User userFromDAO = userDAO.getUserById(id);
     String dbPass = userDAO.getUserPasswordByEmail(userFromDAO.getEmail());
@@ -213,13 +218,14 @@ public class UserServiceImpl implements UserService, RegexPatterns {
   }
 
   @Override
-  public void updateUsersDescription(BigInteger id, String newDescription)
+  public void updateUsersDescription(long id, String newDescription)
       throws DAOLogicException, UserDoesNotExistException {
     User userFromDAO = userDAO.getUserById(id);
     if (userFromDAO == null) {
       throw new UserDoesNotExistException(USER_NOT_FOUND_EXCEPTION);
     }
     userDAO.updateUsersDescription(id, newDescription);
+    requestLoaders.users().evict(id);
   }
 
   @Override
@@ -228,7 +234,7 @@ public class UserServiceImpl implements UserService, RegexPatterns {
   }
 
   @Override
-  public void updateUsersEmailCode(BigInteger id, String newCode)
+  public void updateUsersEmailCode(long id, String newCode)
       throws DAOLogicException, UserDoesNotExistException {
     User userFromDAO = userDAO.getUserById(id);
     if (userFromDAO == null) {
@@ -238,7 +244,7 @@ public class UserServiceImpl implements UserService, RegexPatterns {
   }
 
   @Override
-  public boolean comparisonOfPasswords(BigInteger id, String checkPassword)
+  public boolean comparisonOfPasswords(long id, String checkPassword)
       throws DAOLogicException, UserDoesNotExistException {
     User userFromDAO = userDAO.getUserById(id);
     if (userFromDAO == null) {
@@ -248,27 +254,29 @@ public class UserServiceImpl implements UserService, RegexPatterns {
   }
 
   @Override
-  public boolean activateUser(BigInteger id) throws DAOLogicException, UserDoesNotExistException {
+  public boolean activateUser(long id) throws DAOLogicException, UserDoesNotExistException {
     User userFromDAO = userDAO.getUserById(id);
     if (userFromDAO == null) {
       throw new UserDoesNotExistException(USER_NOT_FOUND_EXCEPTION);
     }
+    requestLoaders.users().evict(id);
     return userDAO.activateUser(id);
   }
 
   @Override
-  public boolean disactivateUser(BigInteger id)
+  public boolean disactivateUser(long id)
       throws DAOLogicException, UserDoesNotExistException {
     User userFromDAO = userDAO.getUserById(id);
     if (userFromDAO == null) {
       throw new UserDoesNotExistException(USER_NOT_FOUND_EXCEPTION);
     }
+    requestLoaders.users().evict(id);
     return userDAO.disactivateUser(id);
   }
 
 
   @Override
-  public Set<QuizAccomplishedImpl> getAccomplishedQuizesByUser(BigInteger id)
+  public Set<QuizAccomplishedImpl> getAccomplishedQuizesByUser(long id)
       throws DAOLogicException, QuizDoesNotExistException, UserDoesNotExistException {
     User userFromDAO = userDAO.getUserById(id);
     if (userFromDAO == null) {
@@ -278,7 +286,7 @@ public class UserServiceImpl implements UserService, RegexPatterns {
   }
 
   @Override
-  public Set<QuizAccomplishedImpl> getFavoriteQuizesByUser(BigInteger id)
+  public Set<QuizAccomplishedImpl> getFavoriteQuizesByUser(long id)
       throws DAOLogicException, UserDoesNotExistException {
     userDAO.getUserById(id);
 
@@ -286,48 +294,51 @@ public class UserServiceImpl implements UserService, RegexPatterns {
   }
 
   @Override
-  public void editAccomplishedQuiz(BigInteger idUser, QuizAccomplishedImpl newQuiz)
+  public void editAccomplishedQuiz(long idUser, QuizAccomplishedImpl newQuiz)
       throws DAOLogicException {
     userAccomplishedQuizDAO.editAccomplishedQuiz(idUser, newQuiz);
   }
 
   @Override
-  public void setIsFavoriteQuiz(BigInteger idUser, BigInteger idQuiz, int isFavourite)
+  public void setIsFavoriteQuiz(long idUser, long idQuiz, int isFavourite)
       throws DAOLogicException {
     userAccomplishedQuizDAO.setIsFavoriteQuiz(idUser, idQuiz, isFavourite);
   }
 
   @Override
-  public void addAccomplishedQuiz(BigInteger id, QuizAccomplishedImpl quiz)
+  public void addAccomplishedQuiz(long id, QuizAccomplishedImpl quiz)
       throws DAOLogicException {
     userAccomplishedQuizDAO.addAccomplishedQuiz(id, quiz);
   }
 
   @Override
-  public QuizAccomplishedImpl getAccomplishedQuizById(BigInteger idUser, BigInteger idQuiz)
+  public QuizAccomplishedImpl getAccomplishedQuizById(long idUser, long idQuiz)
       throws QuizDoesNotExistException, DAOLogicException {
     return userAccomplishedQuizDAO.getAccomplishedQuizById(idUser, idQuiz);
   }
 
   @Override
-  public boolean isAccomplishedQuiz(BigInteger idUser, BigInteger idQuiz) throws DAOLogicException {
+  public boolean isAccomplishedQuiz(long idUser, long idQuiz) throws DAOLogicException {
     return userAccomplishedQuizDAO.isAccomplishedQuiz(idUser, idQuiz);
   }
 
   @Override
-  public void updateUserRole(BigInteger id, UserRoles role) throws UserDoesNotExistException, DAOLogicException, UserException {
-    User userFromDAO = userDAO.getUserById(id);
+  public void updateUserRole(long id, UserRoles role) throws UserDoesNotExistException, DAOLogicException, UserException {
+    JwtUser userJwt = (JwtUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    long userId = userJwt.getId();
+    BatchLoader<User> users = requestLoaders.users();
+    users.request(userId);
+    User userFromDAO = users.get(id);
     if (userFromDAO == null) {
       throw new UserDoesNotExistException(USER_NOT_FOUND_EXCEPTION);
     }
-    JwtUser userJwt = (JwtUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-    BigInteger userId = BigInteger.valueOf(userJwt.getId());
-    User user = userDAO.getUserById(userId);
-    if (!user.getUserRole().equals(UserRoles.ADMIN)) {
+    User user = users.get(userId);
+    if (user == null || !user.getUserRole().equals(UserRoles.ADMIN)) {
       log.error(DONT_ENOUGH_RIGHTS);
       throw new UserException(DONT_ENOUGH_RIGHTS);
     }
     userDAO.updateUserRole(id, role);
+    users.evict(id);
   }
 }
 
@@ -0,0 +1,19 @@
+package dev.marco.example.springboot.singleflight;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read whose concurrent calls with equal arguments may share one execution. The first
+ * caller runs the method; callers arriving while it runs get its result, or its exception,
+ * instead of going to the database themselves. The result object is shared, so callers must
+ * not change it, and it may only depend on the arguments, not on the current user.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingleFlight {
+}
@@ -0,0 +1,32 @@
+package dev.marco.example.springboot.singleflight;
+
+import dev.marco.example.springboot.transaction.ReadYourWrites;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class SingleFlightConfig {
+
+    /**
+     * Ordered just outside the unit of work, so callers that wait for a running flight never
+     * open a transaction of their own. The infrastructure role lets the proxy creator that
+     * applies {@code @UnitOfWork} pick it up as well.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public Advisor singleFlightAdvisor(ReadYourWrites readYourWrites,
+                                       @Value("${service.single-flight.enabled:true}") boolean enabled) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(SingleFlight.class),
+                new SingleFlightInterceptor(readYourWrites, enabled));
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+}
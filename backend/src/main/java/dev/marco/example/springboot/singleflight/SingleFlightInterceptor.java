@@ -0,0 +1,95 @@
+package dev.marco.example.springboot.singleflight;
+
+import dev.marco.example.springboot.deadline.Deadline;
+import dev.marco.example.springboot.exception.DeadlineExceededException;
+import dev.marco.example.springboot.transaction.ReadYourWrites;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs {@link SingleFlight} methods once per set of equal arguments at a time. A call is left
+ * alone when it is part of read-write work or comes from a user who
+ * {@link ReadYourWrites wrote recently}: a flight that started before their write could hand
+ * them data without it. Waiting callers give up when their request deadline passes.
+ */
+public class SingleFlightInterceptor implements MethodInterceptor {
+
+    private final ReadYourWrites readYourWrites;
+    private final boolean enabled;
+    private final Map<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightInterceptor(ReadYourWrites readYourWrites, boolean enabled) {
+        this.readYourWrites = readYourWrites;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!canShare()) {
+            return invocation.proceed();
+        }
+        List<Object> key = new ArrayList<>(invocation.getArguments().length + 1);
+        key.add(invocation.getMethod());
+        key.addAll(Arrays.asList(invocation.getArguments()));
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return await(running, invocation);
+        }
+        try {
+            Object result = invocation.proceed();
+            flight.complete(result);
+            return result;
+        } catch (Throwable t) {
+            flight.completeExceptionally(t);
+            throw t;
+        } finally {
+            // Callers arriving from now on start a new flight and see later writes.
+            inFlight.remove(key, flight);
+        }
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private boolean canShare() {
+        if (!enabled) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        return !readYourWrites.recentlyWrote();
+    }
+
+    private static Object await(CompletableFuture<Object> running, MethodInvocation invocation) throws Throwable {
+        Long deadline = Deadline.current();
+        try {
+            if (deadline == null) {
+                return running.get();
+            }
+            return running.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return invocation.proceed();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package dev.marco.example.springboot.threads;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Semaphore;
+
+import static dev.marco.example.springboot.exception.MessagesForException.JDBC_GATE_INTERRUPTED;
+
+/**
+ * Caps how many threads may be inside the JDBC driver at once. The Oracle driver does its
+ * network I/O while holding monitors, and a virtual thread blocked inside {@code synchronized}
+ * pins its carrier thread. Without a cap, a burst of queries could pin every carrier and stall
+ * all other virtual threads, including those that would finish the queries.
+ *
+ * <p>A thread takes a permit when it creates its first open statement and gives it back when
+ * it closes its last one. Waiting for a permit parks the virtual thread instead of pinning it.
+ * The gate is open until {@link #limit} is called, which only happens in virtual-thread mode.
+ */
+public final class JdbcGate {
+
+    private static volatile Semaphore permits;
+    private static final ThreadLocal<int[]> OPEN_STATEMENTS = ThreadLocal.withInitial(() -> new int[1]);
+
+    private JdbcGate() {
+    }
+
+    public static void limit(int maxThreadsInDriver) {
+        permits = new Semaphore(maxThreadsInDriver, true);
+    }
+
+    static void open() {
+        permits = null;
+    }
+
+    public static Connection guard(Connection connection) {
+        if (permits == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    static void enter() throws SQLException {
+        Semaphore current = permits;
+        int[] open = OPEN_STATEMENTS.get();
+        if (current != null && open[0] == 0) {
+            try {
+                current.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(JDBC_GATE_INTERRUPTED, e);
+            }
+        }
+        open[0]++;
+    }
+
+    static void exit() {
+        int[] open = OPEN_STATEMENTS.get();
+        open[0]--;
+        Semaphore current = permits;
+        if (current != null && open[0] == 0) {
+            current.release();
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("prepare") && !name.equals("createStatement")) {
+                return JdbcGate.invoke(connection, method, args);
+            }
+            enter();
+            try {
+                Statement statement = (Statement) JdbcGate.invoke(connection, method, args);
+                return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                        new Class<?>[]{method.getReturnType()}, new StatementHandler(statement));
+            } catch (Throwable e) {
+                exit();
+                throw e;
+            }
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private boolean closed;
+
+        StatementHandler(Statement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().equals("close")) {
+                return JdbcGate.invoke(statement, method, args);
+            }
+            try {
+                return JdbcGate.invoke(statement, method, args);
+            } finally {
+                if (!closed) {
+                    closed = true;
+                    exit();
+                }
+            }
+        }
+    }
+}
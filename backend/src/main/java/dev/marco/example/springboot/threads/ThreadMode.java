@@ -0,0 +1,39 @@
+package dev.marco.example.springboot.threads;
+
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import static dev.marco.example.springboot.exception.MessagesForException.VIRTUAL_THREADS_UNAVAILABLE;
+
+/**
+ * Whether requests and DAO calls run on virtual threads. Asking for them on a runtime older
+ * than JDK 21 logs a warning and keeps platform threads. In virtual mode the {@link JdbcGate}
+ * is closed down to {@code threads.virtual.jdbc-permits}. By default that is the connection
+ * pool size, but never more than one less than the number of carrier threads, so a pinned
+ * query cannot take the last carrier.
+ */
+@Component
+public class ThreadMode {
+
+    private static final Logger log = Logger.getLogger(ThreadMode.class);
+
+    private final boolean virtual;
+
+    public ThreadMode(@Value("${threads.virtual.enabled:false}") boolean enabled,
+                      @Value("${threads.virtual.jdbc-permits:0}") int jdbcPermits,
+                      @Value("${transaction.pool.max-size:10}") int poolSize) {
+        this.virtual = enabled && VirtualThreads.isAvailable();
+        if (enabled && !virtual) {
+            log.warn(VIRTUAL_THREADS_UNAVAILABLE + Runtime.version());
+        }
+        if (virtual) {
+            int carriers = Runtime.getRuntime().availableProcessors();
+            JdbcGate.limit(jdbcPermits > 0 ? jdbcPermits : Math.max(1, Math.min(poolSize, carriers - 1)));
+        }
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+}
@@ -0,0 +1,36 @@
+package dev.marco.example.springboot.threads;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class ThreadingConfiguration implements WebMvcConfigurer {
+
+    private final ThreadMode threadMode;
+
+    public ThreadingConfiguration(ThreadMode threadMode) {
+        this.threadMode = threadMode;
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> {
+            if (threadMode.isVirtual()) {
+                protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("http-"));
+            }
+        };
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        if (threadMode.isVirtual()) {
+            configurer.setTaskExecutor(new ConcurrentTaskExecutor(
+                    VirtualThreads.newThreadPerTaskExecutor("mvc-async-")));
+        }
+    }
+}
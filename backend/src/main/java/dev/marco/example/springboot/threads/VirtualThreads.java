@@ -0,0 +1,68 @@
+package dev.marco.example.springboot.threads;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to JDK 21 virtual threads from code that is still compiled for Java 11. Every lookup
+ * goes through reflection, so on older runtimes {@link #isAvailable()} is false and nothing else
+ * here may be called.
+ */
+public final class VirtualThreads {
+
+    private static final Method OF_VIRTUAL = find(Thread.class, "ofVirtual");
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR =
+            find(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+    // Looked up on the public builder interfaces: the classes implementing them are JDK internal
+    // and their methods cannot be invoked reflectively from application code.
+    private static final Method NAME = find("java.lang.Thread$Builder$OfVirtual", "name", String.class, long.class);
+    private static final Method FACTORY = find("java.lang.Thread$Builder", "factory");
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isAvailable() {
+        return OF_VIRTUAL != null && NEW_THREAD_PER_TASK_EXECUTOR != null && NAME != null && FACTORY != null;
+    }
+
+    /**
+     * Factory for virtual threads named {@code prefix0}, {@code prefix1}, and so on.
+     */
+    public static ThreadFactory newThreadFactory(String prefix) {
+        try {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Executor that starts a new virtual thread for every task; virtual threads are never pooled.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, newThreadFactory(prefix));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Method find(String type, String name, Class<?>... parameterTypes) {
+        try {
+            return find(Class.forName(type), name, parameterTypes);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Method find(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
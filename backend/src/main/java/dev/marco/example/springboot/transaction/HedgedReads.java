@@ -0,0 +1,255 @@
+package dev.marco.example.springboot.transaction;
+
+import dev.marco.example.springboot.deadline.Deadline;
+import dev.marco.example.springboot.threads.JdbcGate;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static dev.marco.example.springboot.exception.MessagesForException.HEDGED_READ_INTERRUPTED;
+
+/**
+ * Runs idempotent reads of read-only units of work against a replica. If that replica has not
+ * answered within the given percentile of the statement's recent latencies, the same query is
+ * sent to a second replica. The first answer wins and the other statement is cancelled. If the
+ * first replica fails before a hedge was sent, the read fails over to the second one instead.
+ *
+ * <p>Hedges are paid for from a token budget that every read tops up by
+ * {@code budget-percent / 100}, so they stay under that share of the traffic however slow the
+ * replicas get. Failovers spend from the same budget. Attempts take their connections straight
+ * from the replica pools, so they pass the same {@link JdbcGate} and deadline as the DAOs. Reads that cannot be hedged (hedging off, fewer than two replicas, read-write
+ * work or read-your-writes) run on the connection the DAO passes in, as before.
+ */
+@Component
+public class HedgedReads {
+
+    private static final Logger log = Logger.getLogger(HedgedReads.class);
+
+    private static final int LATENCY_SAMPLES = 128;
+    private static final int MIN_LATENCY_SAMPLES = 16;
+    private static final long MIN_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long COLD_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final double MAX_BUDGET = 10;
+
+    @FunctionalInterface
+    public interface Binder {
+        void bind(PreparedStatement preparedStatement) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface Reader<T, E extends Exception> {
+        T read(ResultSet resultSet) throws SQLException, E;
+    }
+
+    private final UnitOfWorkDataSource unitOfWorkDataSource;
+    private final boolean enabled;
+    private final double percentile;
+    private final double budgetPerRead;
+    private final ExecutorService executor;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private double budget;
+
+    public HedgedReads(UnitOfWorkDataSource unitOfWorkDataSource,
+                       @Value("${datasource.hedging.enabled:false}") boolean enabled,
+                       @Value("${datasource.hedging.percentile:95}") double percentile,
+                       @Value("${datasource.hedging.budget-percent:5}") double budgetPercent,
+                       @Value("${datasource.hedging.threads:16}") int threads) {
+        this.unitOfWorkDataSource = unitOfWorkDataSource;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.budgetPerRead = budgetPercent / 100;
+        this.executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public <T, E extends Exception> T query(Connection connection, String sql, Binder binder,
+                                            Reader<T, E> reader) throws SQLException, E {
+        List<DataSource> targets = enabled ? unitOfWorkDataSource.hedgeTargets() : Collections.emptyList();
+        if (targets.isEmpty()) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                binder.bind(preparedStatement);
+                return reader.read(preparedStatement.executeQuery());
+            }
+        }
+        return hedged(targets, sql, binder, reader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T, E extends Exception> T hedged(List<DataSource> targets, String sql, Binder binder,
+                                              Reader<T, E> reader) throws SQLException, E {
+        LatencyWindow window = latencies.computeIfAbsent(sql, key -> new LatencyWindow());
+        earnBudget();
+
+        Long deadline = Deadline.current();
+        ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        Attempt<T> first = new Attempt<>(targets.get(0), sql, binder, reader, window, deadline);
+        Attempt<T> second = new Attempt<>(targets.get(1), sql, binder, reader, window, deadline);
+        List<Attempt<T>> started = Arrays.asList(first, null);
+        try {
+            first.future = completion.submit(first);
+            Future<T> done = completion.poll(window.delayNanos(percentile), TimeUnit.NANOSECONDS);
+            int outstanding = 1;
+            if (done == null && spendBudget()) {
+                second.future = completion.submit(second);
+                started.set(1, second);
+                outstanding = 2;
+            }
+            Throwable failure = null;
+            while (outstanding > 0) {
+                if (done == null) {
+                    done = completion.take();
+                }
+                outstanding--;
+                try {
+                    return done.get();
+                } catch (ExecutionException e) {
+                    failure = e.getCause();
+                }
+                done = null;
+                if (started.get(1) == null && spendBudget()) {
+                    second.future = completion.submit(second);
+                    started.set(1, second);
+                    outstanding++;
+                }
+            }
+            if (failure instanceof SQLException) {
+                throw (SQLException) failure;
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw (E) failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(HEDGED_READ_INTERRUPTED, e);
+        } finally {
+            for (Attempt<T> attempt : started) {
+                if (attempt != null) {
+                    attempt.cancel();
+                }
+            }
+        }
+    }
+
+    private synchronized void earnBudget() {
+        budget = Math.min(MAX_BUDGET, budget + budgetPerRead);
+    }
+
+    private synchronized boolean spendBudget() {
+        if (budget < 1) {
+            return false;
+        }
+        budget--;
+        return true;
+    }
+
+    private static final class Attempt<T> implements Callable<T> {
+
+        private final DataSource target;
+        private final String sql;
+        private final Binder binder;
+        private final Reader<T, ?> reader;
+        private final LatencyWindow window;
+        private final Long deadline;
+        private final AtomicReference<PreparedStatement> running = new AtomicReference<>();
+        private volatile Future<T> future;
+
+        Attempt(DataSource target, String sql, Binder binder, Reader<T, ?> reader, LatencyWindow window,
+                Long deadline) {
+            this.target = target;
+            this.sql = sql;
+            this.binder = binder;
+            this.reader = reader;
+            this.window = window;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public T call() throws Exception {
+            long start = System.nanoTime();
+            try (Connection connection = Deadline.enforce(JdbcGate.guard(target.getConnection()), deadline);
+                 PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                running.set(preparedStatement);
+                binder.bind(preparedStatement);
+                T result = reader.read(preparedStatement.executeQuery());
+                window.record(System.nanoTime() - start);
+                return result;
+            } finally {
+                running.set(null);
+            }
+        }
+
+        /**
+         * No-op for the winner. The loser is dropped from the queue if it has not started yet,
+         * or its statement is cancelled on the database if it has.
+         */
+        void cancel() {
+            Future<T> submitted = future;
+            if (submitted == null || submitted.isDone()) {
+                return;
+            }
+            submitted.cancel(false);
+            PreparedStatement preparedStatement = running.get();
+            if (preparedStatement != null) {
+                try {
+                    preparedStatement.cancel();
+                } catch (SQLException e) {
+                    log.debug("Hedged read already finished: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Latencies of the last {@value #LATENCY_SAMPLES} successful runs of one statement.
+     */
+    private static final class LatencyWindow {
+
+        private final long[] samples = new long[LATENCY_SAMPLES];
+        private int next;
+        private int size;
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % LATENCY_SAMPLES;
+            size = Math.min(size + 1, LATENCY_SAMPLES);
+        }
+
+        synchronized long delayNanos(double percentile) {
+            if (size < MIN_LATENCY_SAMPLES) {
+                return COLD_DELAY_NANOS;
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * size) - 1;
+            return Math.max(MIN_DELAY_NANOS, sorted[Math.max(0, Math.min(size - 1, index))]);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package dev.marco.example.springboot.transaction;
+
+/**
+ * Keeps the read-only units of work of the current thread on the primary while a scope is open.
+ * Whatever is read there gets cached or tagged with the current {@code ResourceVersions} stamp,
+ * and a replica that has not caught up with the change behind that stamp would hand back the
+ * old rows under the new stamp.
+ *
+ * <pre>
+ * try (PrimaryReads.Scope ignored = PrimaryReads.open()) {
+ *     quiz = quizService.getQuizById(id);
+ * }
+ * </pre>
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static Scope open() {
+        Boolean outer = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        return new Scope(outer);
+    }
+
+    static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Boolean outer;
+
+        private Scope(Boolean outer) {
+            this.outer = outer;
+        }
+
+        @Override
+        public void close() {
+            if (outer == null) {
+                PINNED.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package dev.marco.example.springboot.transaction;
+
+import dev.marco.example.springboot.security.JwtUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users wrote recently. Their read-only units of work stay on the primary for
+ * a short window, so a user never reads a replica that has not caught up with their own change.
+ */
+@Component
+public class ReadYourWrites {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final Map<Long, Long> primaryUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(@Value("${datasource.read-your-writes-millis:5000}") long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public void markWrite() {
+        markWrite(currentUserId());
+    }
+
+    /**
+     * For threads that no longer carry the writer's security context.
+     */
+    void markWrite(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (primaryUntil.size() > PURGE_THRESHOLD) {
+            primaryUntil.values().removeIf(until -> until < now);
+        }
+        primaryUntil.put(userId, now + windowMillis);
+    }
+
+    public boolean recentlyWrote() {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        Long until = primaryUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            primaryUntil.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+
+    static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtUser)) {
+            return null;
+        }
+        return ((JwtUser) authentication.getPrincipal()).getId();
+    }
+}
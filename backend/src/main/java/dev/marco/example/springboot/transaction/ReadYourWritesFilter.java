@@ -0,0 +1,86 @@
+package dev.marco.example.springboot.transaction;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.GenericFilterBean;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+/**
+ * Treats every state-changing request of an authenticated user as a write. Runs after the
+ * security filter chain has resolved the user.
+ */
+@Component
+public class ReadYourWritesFilter extends GenericFilterBean {
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReadYourWritesFilter(ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
+            throws IOException, ServletException {
+        if (!isWrite((HttpServletRequest) servletRequest)) {
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+        // Marked up front too: the client may send its next read as soon as the body is flushed,
+        // before this filter returns.
+        Long userId = ReadYourWrites.currentUserId();
+        readYourWrites.markWrite(userId);
+        try {
+            filterChain.doFilter(servletRequest, servletResponse);
+        } finally {
+            if (servletRequest.isAsyncStarted()) {
+                // Deferred, bulkhead and virtual-thread handlers commit after this returns; the
+                // window starts again once the async request completes.
+                servletRequest.getAsyncContext().addListener(new MarkOnCompletion(userId));
+            } else {
+                readYourWrites.markWrite(userId);
+            }
+        }
+    }
+
+    private final class MarkOnCompletion implements AsyncListener {
+
+        private final Long userId;
+
+        MarkOnCompletion(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            readYourWrites.markWrite(userId);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            readYourWrites.markWrite(userId);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            readYourWrites.markWrite(userId);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+        return method != HttpMethod.GET && method != HttpMethod.HEAD && method != HttpMethod.OPTIONS;
+    }
+}
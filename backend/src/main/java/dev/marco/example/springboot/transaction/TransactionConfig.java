@@ -0,0 +1,64 @@
+package dev.marco.example.springboot.transaction;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.marco.example.springboot.dao.QuizDAO.*;
+
+@Configuration
+@EnableTransactionManagement
+public class TransactionConfig {
+
+    private static final String DRIVER_CLASS_NAME = "oracle.jdbc.OracleDriver";
+
+    @Bean
+    public UnitOfWorkDataSource unitOfWorkDataSource(
+            @Value(URL_PROPERTY) String url,
+            @Value(USERNAME_PROPERTY) String username,
+            @Value(PASSWORD_PROPERTY) String password,
+            @Value("${transaction.pool.max-size:10}") int maxPoolSize,
+            @Value("${datasource.replicas.urls:}") String[] replicaUrls,
+            ReadYourWrites readYourWrites
+    ) {
+        List<DataSource> replicas = new ArrayList<>();
+        List<DataSource> testReplicas = new ArrayList<>();
+        for (String replicaUrl : replicaUrls) {
+            if (!replicaUrl.isBlank()) {
+                replicas.add(pool(replicaUrl.trim(), username, password, maxPoolSize));
+                testReplicas.add(pool(replicaUrl.trim(), username + TEST, password, maxPoolSize));
+            }
+        }
+        return new UnitOfWorkDataSource(
+                pool(url, username, password, maxPoolSize), replicas,
+                pool(url, username + TEST, password, maxPoolSize), testReplicas,
+                readYourWrites);
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(UnitOfWorkDataSource dataSource) {
+        return new DataSourceTransactionManager(dataSource);
+    }
+
+    /**
+     * Hikari opens no connection until the first unit of work asks for one, so the test pools
+     * cost nothing in production.
+     */
+    private static HikariDataSource pool(String url, String username, String password, int maxPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDriverClassName(DRIVER_CLASS_NAME);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maxPoolSize);
+        return dataSource;
+    }
+}
@@ -0,0 +1,30 @@
+package dev.marco.example.springboot.transaction;
+
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method as one business operation: every DAO call made while it runs goes
+ * through the same connection and is committed once when the method returns. Unlike a bare
+ * {@link Transactional}, it also rolls back on the checked exceptions our DAOs and services
+ * throw. Nested units of work join the outer one unless {@link #propagation()} says otherwise.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(rollbackFor = Exception.class)
+public @interface UnitOfWork {
+
+    @AliasFor(annotation = Transactional.class)
+    Propagation propagation() default Propagation.REQUIRED;
+
+    @AliasFor(annotation = Transactional.class)
+    boolean readOnly() default false;
+}
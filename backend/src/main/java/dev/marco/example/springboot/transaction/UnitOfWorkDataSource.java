@@ -0,0 +1,96 @@
+package dev.marco.example.springboot.transaction;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of connections handed to units of work. Read-write units of work go to the primary.
+ * Read-only ones go round-robin to the read replicas, unless there are none, the current user
+ * {@link ReadYourWrites wrote recently}, or the thread is inside a {@link PrimaryReads} scope. After {@link #useTestSchema()}, the same switch the DAOs
+ * make in {@code setTestConnection()}, everything routes to the test schema instead.
+ *
+ * <p>The physical connection is fetched lazily on the first statement. The transaction manager
+ * asks for a connection before it publishes the read-only flag, so routing any earlier would
+ * always pick the primary.
+ */
+public class UnitOfWorkDataSource extends LazyConnectionDataSourceProxy {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final DataSource testPrimary;
+    private final List<DataSource> testReplicas;
+    private final ReadYourWrites readYourWrites;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile boolean testSchema;
+
+    public UnitOfWorkDataSource(DataSource primary, List<DataSource> replicas,
+                                DataSource testPrimary, List<DataSource> testReplicas,
+                                ReadYourWrites readYourWrites) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.testPrimary = testPrimary;
+        this.testReplicas = testReplicas;
+        this.readYourWrites = readYourWrites;
+        // Known up front, so the proxy does not open a connection at startup to detect them.
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        setTargetDataSource(new Router());
+    }
+
+    public void useTestSchema() {
+        testSchema = true;
+    }
+
+    DataSource route() {
+        List<DataSource> schemaReplicas = readableReplicas();
+        if (schemaReplicas.isEmpty()) {
+            return testSchema ? testPrimary : primary;
+        }
+        return schemaReplicas.get(Math.floorMod(nextReplica.getAndIncrement(), schemaReplicas.size()));
+    }
+
+    /**
+     * Two distinct replicas, in round-robin order, that the current read may be hedged across,
+     * or an empty list when it has to go where {@link #route()} sends it.
+     */
+    List<DataSource> hedgeTargets() {
+        List<DataSource> schemaReplicas = readableReplicas();
+        if (schemaReplicas.size() < 2) {
+            return Collections.emptyList();
+        }
+        int first = Math.floorMod(nextReplica.getAndIncrement(), schemaReplicas.size());
+        return Arrays.asList(schemaReplicas.get(first),
+                schemaReplicas.get((first + 1) % schemaReplicas.size()));
+    }
+
+    private List<DataSource> readableReplicas() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || PrimaryReads.isPinned() || readYourWrites.recentlyWrote()) {
+            return Collections.emptyList();
+        }
+        return testSchema ? testReplicas : replicas;
+    }
+
+    private class Router extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return route().getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return route().getConnection(username, password);
+        }
+    }
+}
@@ -24,9 +24,13 @@ public interface ApiAddresses {
   String API_QUIZ_GAME = "/game/{title}";
   String API_FINISH_QUIZ = "/game/end";
   String API_LIKE_QUIZ = "/like/{id}";
+  String API_QUIZ_EXPORT = "/export/{id}";
+  String API_QUIZ_EXPORT_VERSION = "/export/{id}/{hash}";
 
   String API_GENERATE_DASHBOARD = "/dashboard/{id}";
 
+  String API_BULKHEADS = "/admin/bulkheads";
+
   String API_ANNOUNCEMENT = "/announcement";
   String API_CREATE_ANNOUNCEMENT = "/create";
   String API_GET_ALL_ANNOUNCEMENT = "/all/{idUser}";
@@ -35,6 +39,7 @@ public interface ApiAddresses {
   String API_LIKE_ANNOUNCEMENT = "/like";
   String API_GET_COMMENTARIES = "/commentaries";
   String API_CREATE_COMMENTARY = "/commentaries";
+  String API_ANNOUNCEMENT_EVENTS = "/events/{idAnnouncement}";
   String API_SEARCH_ANNOUNCEMENT = "/search";
   String API_GET_ANNOUNCEMENTS_BY_PAGE = "/all";
   String API_GET_ANNOUNCEMENTS_BY_TITLE = "/search";
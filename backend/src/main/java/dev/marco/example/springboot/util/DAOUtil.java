@@ -1,31 +1,46 @@
 package dev.marco.example.springboot.util;
 
+import dev.marco.example.springboot.deadline.Deadline;
 import dev.marco.example.springboot.exception.MessagesForException;
 import org.apache.log4j.Logger;
 import dev.marco.example.springboot.exception.DAOConfigException;
+import dev.marco.example.springboot.threads.JdbcGate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
 
-import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.DriverManager;
-import java.util.Properties;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 public class DAOUtil {
 
-  private static final String PATH_PROPERTY = "sqlScripts.properties";
   private static final String DRIVER_PATH_PROPERTY = "oracle.jdbc.OracleDriver";
+  public static final int STREAM_FETCH_SIZE = 500;
+  /**
+   * Oracle rejects IN-lists longer than 1000 expressions (ORA-01795).
+   */
+  public static final int MAX_IN_LIST_SIZE = 1000;
+  private static final int[] IN_LIST_SIZES = {1, 10, 100, MAX_IN_LIST_SIZE};
 
   private static final Logger log = Logger.getLogger(DAOUtil.class);
 
   private DAOUtil() {
   }
 
-  public static Connection getDataSource(String URL, String USERNAME, String PASSWORD, Properties properties)
+  public static Connection getDataSource(String URL, String USERNAME, String PASSWORD)
       throws  DAOConfigException {
 
-    try (InputStream fis = DAOUtil.class.getClassLoader().getResourceAsStream(PATH_PROPERTY)) {
+    try {
       Class.forName(DRIVER_PATH_PROPERTY);
-      properties.load(fis);
-
       return DriverManager.getConnection(URL, USERNAME, PASSWORD);
     } catch (Exception e){
       log.error(MessagesForException.DAO_CONFIG_EXCEPTION + e.getMessage());
@@ -33,4 +48,79 @@ public class DAOUtil {
     }
   }
 
+  /**
+   * Connection a DAO statement should run on: the one bound to the current unit of work, so
+   * that all DAOs taking part in it commit or roll back together, or the DAO's own auto-commit
+   * connection outside of one. Either way its statements observe the request's {@link Deadline}
+   * and the {@link JdbcGate}.
+   */
+  public static Connection currentConnection(DataSource unitOfWorkDataSource,
+      Connection autoCommitConnection) {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return Deadline.enforce(JdbcGate.guard(DataSourceUtils.getConnection(unitOfWorkDataSource)));
+    }
+    return Deadline.enforce(JdbcGate.guard(autoCommitConnection));
+  }
+
+  /**
+   * Forward-only, read-only statement with a large fetch size for walking big result sets
+   * row by row. Oracle fetches 10 rows per round trip by default.
+   */
+  public static PreparedStatement prepareStreamingStatement(Connection connection, String sql)
+      throws SQLException {
+    PreparedStatement preparedStatement = connection.prepareStatement(sql,
+        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+    preparedStatement.setFetchSize(STREAM_FETCH_SIZE);
+    return preparedStatement;
+  }
+
+  /**
+   * Splits ids into IN-list chunks of at most {@link #MAX_IN_LIST_SIZE}. Every chunk is padded
+   * with its last id up to 1, 10, 100 or 1000 entries, so a bulk lookup produces four statement
+   * texts at most instead of a new one for every list length.
+   */
+  public static List<long[]> inListChunks(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return Collections.emptyList();
+    }
+    long[] distinct = ids.stream().mapToLong(Long::longValue).distinct().toArray();
+    List<long[]> chunks = new ArrayList<>();
+    for (int from = 0; from < distinct.length; from += MAX_IN_LIST_SIZE) {
+      int length = Math.min(MAX_IN_LIST_SIZE, distinct.length - from);
+      int size = MAX_IN_LIST_SIZE;
+      for (int candidate : IN_LIST_SIZES) {
+        if (candidate >= length) {
+          size = candidate;
+          break;
+        }
+      }
+      long[] chunk = new long[size];
+      System.arraycopy(distinct, from, chunk, 0, length);
+      Arrays.fill(chunk, length, size, chunk[length - 1]);
+      chunks.add(chunk);
+    }
+    return chunks;
+  }
+
+  /**
+   * Substitutes size placeholders for the %s of a catalog statement like {@code ... IN (%s)}.
+   */
+  public static String expandInList(String sql, int size) {
+    StringBuilder placeholders = new StringBuilder(size * 2);
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        placeholders.append(',');
+      }
+      placeholders.append('?');
+    }
+    return String.format(sql, placeholders);
+  }
+
+  public static void bindInList(PreparedStatement preparedStatement, long[] chunk)
+      throws SQLException {
+    for (int i = 0; i < chunk.length; i++) {
+      preparedStatement.setLong(i + 1, chunk[i]);
+    }
+  }
+
 }
@@ -0,0 +1,45 @@
+package dev.marco.example.springboot.util;
+
+import dev.marco.example.springboot.exception.MessagesForException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Statements and column names from sqlScripts.properties, parsed once per class loader.
+ * Backed by a plain HashMap that is never written after class init, so lookups take no lock,
+ * unlike Properties which synchronizes every get.
+ */
+public final class SqlCatalog {
+
+  private static final String PATH_PROPERTY = "sqlScripts.properties";
+  private static final Map<String, String> SCRIPTS = load();
+
+  private SqlCatalog() {
+  }
+
+  public static String get(String key) {
+    String script = SCRIPTS.get(key);
+    if (script == null) {
+      throw new IllegalArgumentException(MessagesForException.DAO_CONFIG_EXCEPTION + key);
+    }
+    return script;
+  }
+
+  private static Map<String, String> load() {
+    Properties properties = new Properties();
+    try (InputStream fis = SqlCatalog.class.getClassLoader().getResourceAsStream(PATH_PROPERTY)) {
+      properties.load(fis);
+    } catch (IOException | NullPointerException e) {
+      throw new IllegalStateException(MessagesForException.DAO_CONFIG_EXCEPTION + PATH_PROPERTY, e);
+    }
+    Map<String, String> scripts = new HashMap<>();
+    for (String key : properties.stringPropertyNames()) {
+      scripts.put(key, properties.getProperty(key).trim());
+    }
+    return scripts;
+  }
+}
@@ -0,0 +1,34 @@
+package dev.marco.example.springboot.assets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticAssetsConfigurationTest {
+
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    @Test
+    void hashedBundlesAreImmutable() {
+        assertTrue(isHashedBundle("/main.3b4c5d6e7f8091a2b3c4.js"));
+        assertTrue(isHashedBundle("/styles.0123456789abcdef0123.css"));
+        assertTrue(isHashedBundle("/bootstrap-icons.0123456789abcdef0123.woff2"));
+        assertEquals("max-age=31536000, public, immutable", new StaticAssetsConfiguration.Immutable().getHeaderValue());
+    }
+
+    @Test
+    void indexAndNamedAssetsAreRevalidated() {
+        assertFalse(isHashedBundle("/index.html"));
+        assertFalse(isHashedBundle("/favicon.ico"));
+        assertFalse(isHashedBundle("/3rdpartylicenses.txt"));
+        assertFalse(isHashedBundle("/main.js"));
+        assertFalse(isHashedBundle("/assets/img/logo.0123.png"));
+    }
+
+    private boolean isHashedBundle(String path) {
+        return Arrays.stream(StaticAssetsConfiguration.HASHED_BUNDLES).anyMatch(pattern -> matcher.match(pattern, path));
+    }
+}
@@ -0,0 +1,103 @@
+package dev.marco.example.springboot.bulkhead;
+
+import dev.marco.example.springboot.dao.AnswerDAO;
+import dev.marco.example.springboot.dao.QuizDAO;
+import dev.marco.example.springboot.dao.UserDAO;
+import dev.marco.example.springboot.deadline.Deadline;
+import dev.marco.example.springboot.exception.BulkheadFullException;
+import dev.marco.example.springboot.loader.BatchLoader;
+import dev.marco.example.springboot.loader.RequestLoaders;
+import dev.marco.example.springboot.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class BulkheadTest {
+
+    private final Bulkhead bulkhead = new Bulkhead("test", 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+        RequestContextHolder.resetRequestAttributes();
+        bulkhead.shutdown();
+    }
+
+    @Test
+    void fullBulkheadRejectsWork() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        DeferredResult<String> running = bulkhead.submit(() -> {
+            release.await();
+            return "running";
+        });
+        DeferredResult<String> queued = bulkhead.submit(() -> "queued");
+
+        BulkheadFullException e = assertThrows(BulkheadFullException.class,
+                () -> bulkhead.submit(() -> "rejected"));
+        assertEquals("1", e.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, bulkhead.getStats().getRejected());
+
+        release.countDown();
+        assertEquals("running", await(running));
+        assertEquals("queued", await(queued));
+    }
+
+    @Test
+    void workRunsWithCallersDeadline() throws InterruptedException {
+        Deadline.start(60_000);
+        Long deadline = Deadline.current();
+
+        DeferredResult<Long> result = bulkhead.submit(Deadline::current);
+
+        assertEquals(deadline, await(result));
+    }
+
+    @Test
+    void lookupsInOneRequestShareLoadersAcrossTheBulkhead() throws InterruptedException {
+        RequestLoaders loaders = new RequestLoaders(mock(UserDAO.class), mock(QuizDAO.class), mock(AnswerDAO.class));
+        ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+        BatchLoader<User> onRequestThread = loaders.users();
+        CountDownLatch handlerReturned = new CountDownLatch(1);
+
+        DeferredResult<BatchLoader<User>> result = bulkhead.submit(() -> {
+            handlerReturned.await();
+            return loaders.users();
+        });
+        attributes.requestCompleted();
+        RequestContextHolder.resetRequestAttributes();
+        handlerReturned.countDown();
+
+        assertSame(onRequestThread, await(result));
+    }
+
+    @Test
+    void failuresBecomeErrorResults() throws InterruptedException {
+        IllegalStateException failure = new IllegalStateException();
+
+        DeferredResult<String> result = bulkhead.submit(() -> {
+            throw failure;
+        });
+
+        assertSame(failure, await(result));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T await(DeferredResult<?> result) throws InterruptedException {
+        long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!result.hasResult() && System.nanoTime() < until) {
+            Thread.sleep(5);
+        }
+        return (T) result.getResult();
+    }
+}
@@ -0,0 +1,76 @@
+package dev.marco.example.springboot.cache;
+
+import dev.marco.example.springboot.model.AnnouncementComment;
+import dev.marco.example.springboot.model.impl.AnnouncementCommentImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnnouncementCommentCacheTest {
+
+    private final AnnouncementCommentCache cache = new AnnouncementCommentCache(3, 2);
+
+    @Test
+    void ringIsLoadedOnceAndThenFollowsNewComments() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        AnnouncementCommentCache.CommentLoader loader = count -> {
+            loads.incrementAndGet();
+            return List.of(comment(2), comment(1));
+        };
+
+        assertEquals(2, cache.getNewerThan(7, 0, 10, loader).size());
+        cache.add(7, comment(3));
+
+        assertEquals(3L, cache.getNewerThan(7, 2, 10, loader).get(0).getId());
+        assertEquals(1, loads.get());
+        assertTrue(cache.hasComments(7));
+    }
+
+    @Test
+    void pollOfAnAnnouncementWithoutCommentsIsAnEmptyPage() throws Exception {
+        assertEquals(List.of(), cache.getNewerThan(7, 0, 10, count -> List.of()));
+        assertFalse(cache.hasComments(7));
+        assertTrue(cache.getLastModified(7) > 0);
+    }
+
+    @Test
+    void commentsOfUnreadAnnouncementsAreNotCached() {
+        cache.add(7, comment(1));
+
+        assertFalse(cache.hasComments(7));
+        assertEquals(-1, cache.getLastModified(7));
+    }
+
+    @Test
+    void evictedAnnouncementIsLoadedAgain() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        AnnouncementCommentCache.CommentLoader loader = count -> {
+            loads.incrementAndGet();
+            return List.of(comment(1));
+        };
+        cache.getNewerThan(7, 0, 10, loader);
+
+        cache.evict(7);
+
+        assertFalse(cache.hasComments(7));
+        cache.getNewerThan(7, 0, 10, loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void leastRecentlyUsedAnnouncementIsDropped() throws Exception {
+        cache.getNewerThan(1, 0, 10, count -> List.of(comment(1)));
+        cache.getNewerThan(2, 0, 10, count -> List.of(comment(2)));
+        cache.getNewerThan(3, 0, 10, count -> List.of(comment(3)));
+
+        assertFalse(cache.hasComments(1));
+        assertTrue(cache.hasComments(3));
+    }
+
+    private static AnnouncementComment comment(long id) {
+        return new AnnouncementCommentImpl(id, "comment " + id, null);
+    }
+}
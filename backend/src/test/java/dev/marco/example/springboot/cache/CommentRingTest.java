@@ -0,0 +1,117 @@
+package dev.marco.example.springboot.cache;
+
+import dev.marco.example.springboot.model.AnnouncementComment;
+import dev.marco.example.springboot.model.impl.AnnouncementCommentImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommentRingTest {
+
+    @Test
+    void newerThanPagesNewestFirstDownToTheLastSeenId() {
+        CommentRing ring = warmed(5, true, 1, 2, 3, 4);
+
+        assertEquals(List.of(4L, 3L), ids(ring.newerThan(2, 10)));
+        assertEquals(List.of(4L), ids(ring.newerThan(2, 1)));
+    }
+
+    @Test
+    void pollWithoutNewCommentsIsAnEmptyPage() {
+        CommentRing ring = warmed(5, false, 3, 4);
+
+        assertEquals(List.of(), ring.newerThan(4, 10));
+        assertEquals(List.of(), warmed(5, true).newerThan(0, 10));
+    }
+
+    @Test
+    void newerThanReachingPastAnIncompleteRingIsNotAnswered() {
+        CommentRing ring = warmed(5, false, 3, 4);
+
+        assertNull(ring.newerThan(1, 10));
+    }
+
+    @Test
+    void olderThanPagesBackwardsAndStopsAtTheRingOfAnIncompleteThread() {
+        CommentRing ring = warmed(5, false, 3, 4, 5, 6);
+
+        assertEquals(List.of(5L, 4L), ids(ring.olderThan(6, 2)));
+        assertNull(ring.olderThan(4, 2));
+    }
+
+    @Test
+    void olderThanOnACompleteThreadReturnsWhatIsLeft() {
+        CommentRing ring = warmed(5, true, 1, 2, 3);
+
+        assertEquals(List.of(2L, 1L), ids(ring.olderThan(3, 5)));
+        assertEquals(List.of(), ring.olderThan(1, 5));
+    }
+
+    @Test
+    void insertPastCapacityEvictsTheOldestComment() {
+        CommentRing ring = warmed(3, true, 1, 2, 3);
+
+        ring.add(comment(4));
+
+        assertEquals(List.of(4L, 3L, 2L), ids(ring.newerThan(0, 3)));
+        assertNull(ring.newerThan(0, 10));
+        assertNull(ring.olderThan(2, 1));
+    }
+
+    @Test
+    void commentOlderThanAFullRingIsNotInserted() {
+        CommentRing ring = warmed(3, true, 2, 3, 4);
+
+        ring.add(comment(1));
+
+        assertEquals(List.of(4L, 3L, 2L), ids(ring.newerThan(1, 3)));
+        assertNull(ring.olderThan(2, 1));
+    }
+
+    @Test
+    void commentsArriveOutOfOrderAndTwice() {
+        CommentRing ring = new CommentRing(5);
+        ring.add(comment(3));
+        ring.add(comment(1));
+        ring.add(comment(3));
+        ring.add(comment(2));
+
+        assertEquals(List.of(3L, 2L, 1L), ids(ring.newerThan(0, 10)));
+    }
+
+    @Test
+    void warmKeepsCommentsAddedWhileLoading() {
+        CommentRing ring = new CommentRing(5);
+        ring.add(comment(7));
+
+        ring.warm(List.of(comment(6), comment(5)), true);
+
+        assertTrue(ring.isWarmed());
+        assertEquals(List.of(7L, 6L, 5L), ids(ring.newerThan(0, 10)));
+    }
+
+    private static CommentRing warmed(int capacity, boolean wholeThread, long... ascendingIds) {
+        List<AnnouncementComment> newestFirst = new ArrayList<>();
+        for (int i = ascendingIds.length - 1; i >= 0; i--) {
+            newestFirst.add(comment(ascendingIds[i]));
+        }
+        CommentRing ring = new CommentRing(capacity);
+        ring.warm(newestFirst, wholeThread);
+        return ring;
+    }
+
+    private static AnnouncementComment comment(long id) {
+        return new AnnouncementCommentImpl(id, "comment " + id, null);
+    }
+
+    private static List<Long> ids(List<AnnouncementComment> comments) {
+        List<Long> ids = new ArrayList<>();
+        for (AnnouncementComment comment : comments) {
+            ids.add(comment.getId());
+        }
+        return ids;
+    }
+}
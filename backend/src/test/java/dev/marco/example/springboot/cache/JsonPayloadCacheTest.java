@@ -0,0 +1,55 @@
+package dev.marco.example.springboot.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonPayloadCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void smallPayloadIsNotCompressed() throws JsonProcessingException {
+        JsonPayloadCache cache = new JsonPayloadCache(objectMapper, 10, 1024);
+
+        JsonPayloadCache.Payload payload = cache.put("quiz-1\"a-0\"", Collections.singletonMap("title", "ZNO"));
+
+        assertEquals("{\"title\":\"ZNO\"}", new String(payload.getJson()));
+        assertNull(payload.getGzipped());
+        assertSame(payload, cache.get("quiz-1\"a-0\""));
+    }
+
+    @Test
+    void largePayloadIsAlsoKeptGzipped() throws IOException {
+        JsonPayloadCache cache = new JsonPayloadCache(objectMapper, 10, 64);
+        String description = String.join("", Collections.nCopies(100, "Ukraine location? "));
+
+        JsonPayloadCache.Payload payload = cache.put("quiz-2", Collections.singletonMap("description", description));
+
+        assertNotNull(payload.getGzipped());
+        assertTrue(payload.getGzipped().length < payload.getJson().length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload.getGzipped()))) {
+            assertArrayEquals(payload.getJson(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsDropped() throws JsonProcessingException {
+        JsonPayloadCache cache = new JsonPayloadCache(objectMapper, 2, 1024);
+        cache.put("quiz-1", 1);
+        cache.put("quiz-2", 2);
+        cache.get("quiz-1");
+        cache.put("quiz-3", 3);
+
+        assertNotNull(cache.get("quiz-1"));
+        assertNull(cache.get("quiz-2"));
+        assertNotNull(cache.get("quiz-3"));
+    }
+}
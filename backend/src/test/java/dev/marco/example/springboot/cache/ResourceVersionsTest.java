@@ -0,0 +1,74 @@
+package dev.marco.example.springboot.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceVersionsTest {
+
+    private final ResourceVersions versions = new ResourceVersions(new String[0], 0);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void touchMovesOnlyTheTouchedTags() {
+        String quizzes = versions.eTag(ResourceVersions.QUIZZES);
+        String quiz = versions.eTag(ResourceVersions.quiz(7));
+        String announcements = versions.eTag(ResourceVersions.ANNOUNCEMENTS);
+
+        versions.touch(ResourceVersions.QUIZZES, ResourceVersions.quiz(7));
+
+        assertNotEquals(quizzes, versions.eTag(ResourceVersions.QUIZZES));
+        assertNotEquals(quiz, versions.eTag(ResourceVersions.quiz(7)));
+        assertEquals(announcements, versions.eTag(ResourceVersions.ANNOUNCEMENTS));
+        assertEquals(0, versions.get(ResourceVersions.quiz(8)));
+    }
+
+    @Test
+    void tagsAreStrongAndDifferPerUser() {
+        String first = versions.eTag(1, ResourceVersions.ANNOUNCEMENTS);
+        String second = versions.eTag(2, ResourceVersions.ANNOUNCEMENTS);
+
+        assertTrue(first.startsWith("\"") && first.endsWith("\""));
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void changedResourceIsNotSettledWithinTheReplicationWindow() {
+        ResourceVersions withReplicas = new ResourceVersions(new String[]{"jdbc:replica"}, 60_000);
+
+        assertTrue(withReplicas.settled(ResourceVersions.ANNOUNCEMENTS));
+        withReplicas.touch(ResourceVersions.ANNOUNCEMENTS);
+
+        assertFalse(withReplicas.settled(ResourceVersions.ANNOUNCEMENTS));
+        assertFalse(withReplicas.settled(ResourceVersions.QUIZZES, ResourceVersions.ANNOUNCEMENTS));
+        assertTrue(withReplicas.settled(ResourceVersions.QUIZZES));
+    }
+
+    @Test
+    void withoutReplicasEveryResourceIsSettled() {
+        versions.touch(ResourceVersions.QUIZZES);
+
+        assertTrue(versions.settled(ResourceVersions.QUIZZES));
+    }
+
+    @Test
+    void touchWaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        versions.touch(ResourceVersions.QUESTIONS);
+        assertEquals(0, versions.get(ResourceVersions.QUESTIONS));
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertEquals(1, versions.get(ResourceVersions.QUESTIONS));
+    }
+}
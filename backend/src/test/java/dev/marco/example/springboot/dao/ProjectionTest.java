@@ -0,0 +1,39 @@
+package dev.marco.example.springboot.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectionTest {
+
+  private static final List<Projection.Column> COLUMNS = List.of(
+      Projection.always("QUIZ.ID_QUIZ"),
+      Projection.field("title", "QUIZ.TITLE"),
+      Projection.field("description", "DESCRIPTION"));
+
+  @Test
+  void withoutFieldsEveryColumnIsSelected() {
+    assertSame(Projection.ALL, Projection.of(null));
+    assertSame(Projection.ALL, Projection.of(" , "));
+    assertEquals("QUIZ.ID_QUIZ, QUIZ.TITLE, DESCRIPTION", Projection.ALL.select(COLUMNS));
+  }
+
+  @Test
+  void columnsNotAskedForAreSelectedAsNullUnderTheirLabel() {
+    Projection projection = Projection.of(" title,unknown ");
+
+    assertTrue(projection.includes("title"));
+    assertFalse(projection.includes("description"));
+    assertEquals("QUIZ.ID_QUIZ, QUIZ.TITLE, NULL AS DESCRIPTION", projection.select(COLUMNS));
+    assertEquals("QUIZ.ID_QUIZ, NULL AS TITLE, DESCRIPTION",
+        Projection.of("description").select(COLUMNS));
+  }
+
+  @Test
+  void sameFieldsAreEqual() {
+    assertEquals(Projection.of("title,description"), Projection.of("title, description"));
+    assertNotEquals(Projection.of("title"), Projection.ALL);
+  }
+}
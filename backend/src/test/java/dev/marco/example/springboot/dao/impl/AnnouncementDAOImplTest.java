@@ -1,5 +1,6 @@
 package dev.marco.example.springboot.dao.impl;
 
+import dev.marco.example.springboot.dao.Projection;
 import dev.marco.example.springboot.exception.MessagesForException;
 import dev.marco.example.springboot.model.AnnouncementComment;
 import org.apache.log4j.Logger;
@@ -17,9 +18,9 @@ import dev.marco.example.springboot.exception.AnnouncementException;
 import dev.marco.example.springboot.exception.DAOConfigException;
 import dev.marco.example.springboot.exception.DAOLogicException;
 import dev.marco.example.springboot.model.Announcement;
+import dev.marco.example.springboot.model.AnnouncementCard;
 import dev.marco.example.springboot.model.impl.AnnouncementImpl;
 
-import java.math.BigInteger;
 import java.util.Date;
 import java.util.List;
 import java.util.Random;
@@ -57,9 +58,9 @@ class AnnouncementDAOImplTest {
     @Timeout(value = 10000, unit= TimeUnit.MILLISECONDS)
     void getPopular() {
         try {
-            List<Announcement> popularAnnouncement = announcementDAO.getPopular(4, BigInteger.valueOf(6));
+            List<AnnouncementCard> popularAnnouncement = announcementDAO.getPopular(4, 6);
             assertNotNull(popularAnnouncement);
-            for(Announcement announcement : popularAnnouncement)
+            for(AnnouncementCard announcement : popularAnnouncement)
                 assertNotNull(announcement);
             assertEquals(4, popularAnnouncement.size());
         } catch (DAOLogicException e) {
@@ -75,7 +76,7 @@ class AnnouncementDAOImplTest {
             announcementDAO.createAnnouncement(new AnnouncementImpl.AnnouncementBuilder()
                     .setTitle(TEST_TITLE)
                     .setDescription(TEST_DESCRIPTION)
-                    .setIdUser(BigInteger.ONE)
+                    .setIdUser(1L)
                     .setAddress(TEST_ADDRESS)
                     .build());
             Announcement announcement = announcementDAO.getByTitle(TEST_TITLE);
@@ -95,12 +96,12 @@ class AnnouncementDAOImplTest {
             Announcement newAnnouncement = new AnnouncementImpl.AnnouncementBuilder()
                     .setTitle(TEST_TITLE)
                     .setDescription(TEST_DESCRIPTION)
-                    .setIdUser(BigInteger.ONE)
+                    .setIdUser(1L)
                     .setDate(new Date())
                     .setAddress(TEST_ADDRESS)
                     .build();
-            BigInteger idAnnouncement = announcementDAO.createAnnouncement(newAnnouncement);
-            assertTrue(idAnnouncement.intValue() > 0);
+            long idAnnouncement = announcementDAO.createAnnouncement(newAnnouncement);
+            assertTrue(idAnnouncement > 0);
             announcementDAO.deleteAnnouncement(idAnnouncement);
         } catch (DAOLogicException | AnnouncementException e) {
             log.error(MessagesForException.TEST_ERROR + e.getMessage());
@@ -115,11 +116,11 @@ class AnnouncementDAOImplTest {
             Announcement newAnnouncement = new AnnouncementImpl.AnnouncementBuilder()
                     .setTitle(TEST_TITLE)
                     .setDescription(TEST_DESCRIPTION)
-                    .setIdUser(BigInteger.ONE)
+                    .setIdUser(1L)
                     .setDate(new Date())
                     .setAddress(TEST_ADDRESS)
                     .build();
-            BigInteger idAnnouncement = announcementDAO.createAnnouncement(newAnnouncement);
+            long idAnnouncement = announcementDAO.createAnnouncement(newAnnouncement);
             Announcement announcement = announcementDAO.getAnnouncementById(idAnnouncement);
             assertNotNull(announcement);
             announcement.setTitle(TEST_NEW_TITLE);
@@ -145,11 +146,11 @@ class AnnouncementDAOImplTest {
             Announcement newAnnouncement = new AnnouncementImpl.AnnouncementBuilder()
                     .setTitle(TEST_TITLE)
                     .setDescription(TEST_DESCRIPTION)
-                    .setIdUser(BigInteger.ONE)
+                    .setIdUser(1L)
                     .setDate(new Date())
                     .setAddress(TEST_ADDRESS)
                     .build();
-            BigInteger idAnnouncement = announcementDAO.createAnnouncement(newAnnouncement);
+            long idAnnouncement = announcementDAO.createAnnouncement(newAnnouncement);
             assertNotNull(announcementDAO.getAnnouncementById(idAnnouncement));
             announcementDAO.deleteAnnouncement(idAnnouncement);
             AnnouncementDoesNotExistException thrown = assertThrows(AnnouncementDoesNotExistException.class, () ->
@@ -165,7 +166,7 @@ class AnnouncementDAOImplTest {
     @Timeout(value = 10000, unit= TimeUnit.MILLISECONDS)
     void getAnnouncementById() {
         try {
-            assertNotNull(announcementDAO.getAnnouncementById(BigInteger.ONE));
+            assertNotNull(announcementDAO.getAnnouncementById(1L));
         } catch (AnnouncementDoesNotExistException | DAOLogicException e) {
             log.error(MessagesForException.TEST_ERROR + e.getMessage());
             fail();
@@ -177,9 +178,9 @@ class AnnouncementDAOImplTest {
     void getSetByTitle() {
         try {
             String title = "gath";
-            Set<Announcement> announcements = announcementDAO.getSetByTitle(title, BigInteger.ONE);
+            Set<AnnouncementCard> announcements = announcementDAO.getSetByTitle(title, 1L);
             assertNotNull(announcements);
-            for(Announcement announcement : announcements){
+            for(AnnouncementCard announcement : announcements){
                 assertNotNull(announcement);
             }
         } catch (DAOLogicException e) {
@@ -192,9 +193,9 @@ class AnnouncementDAOImplTest {
     @Timeout(value = 10000, unit= TimeUnit.MILLISECONDS)
     void toLike() {
         try {
-            int likes = announcementDAO.getAnnouncementById(BigInteger.ONE).getParticipantsCap();
-            announcementDAO.toLike(BigInteger.ONE);
-            assertEquals(likes + 1, announcementDAO.getAnnouncementById(BigInteger.ONE).getParticipantsCap());
+            int likes = announcementDAO.getAnnouncementById(1L).getParticipantsCap();
+            announcementDAO.toLike(1L);
+            assertEquals(likes + 1, announcementDAO.getAnnouncementById(1L).getParticipantsCap());
         } catch (DAOLogicException | AnnouncementDoesNotExistException e) {
             log.error(MessagesForException.TEST_ERROR + e.getMessage());
             fail();
@@ -205,9 +206,9 @@ class AnnouncementDAOImplTest {
     @Timeout(value = 10000, unit= TimeUnit.MILLISECONDS)
     void toDisLike() {
         try {
-            int likes = announcementDAO.getAnnouncementById(BigInteger.ONE).getParticipantsCap();
-            announcementDAO.toDisLike(BigInteger.ONE);
-            assertEquals(likes - 1, announcementDAO.getAnnouncementById(BigInteger.ONE).getParticipantsCap());
+            int likes = announcementDAO.getAnnouncementById(1L).getParticipantsCap();
+            announcementDAO.toDisLike(1L);
+            assertEquals(likes - 1, announcementDAO.getAnnouncementById(1L).getParticipantsCap());
         } catch (DAOLogicException | AnnouncementDoesNotExistException e) {
             log.error(MessagesForException.TEST_ERROR + e.getMessage());
             fail();
@@ -218,7 +219,7 @@ class AnnouncementDAOImplTest {
     @Timeout(value = 10000, unit= TimeUnit.MILLISECONDS)
     void isAnnouncementById() {
         try {
-            assertTrue(announcementDAO.isAnnouncementById(BigInteger.ONE));
+            assertTrue(announcementDAO.isAnnouncementById(1L));
         } catch (DAOLogicException e) {
             log.error(MessagesForException.TEST_ERROR + e.getMessage());
             fail();
@@ -229,9 +230,9 @@ class AnnouncementDAOImplTest {
     @Timeout(value = 10000, unit= TimeUnit.MILLISECONDS)
     void getAllAnnouncementByIdUser() {
         try {
-            List<Announcement> allAnnouncement = announcementDAO.getAllAnnouncements(BigInteger.ONE);
+            List<AnnouncementCard> allAnnouncement = announcementDAO.getAllAnnouncements(1L);
             assertNotNull(allAnnouncement);
-            for(Announcement announcement: allAnnouncement){
+            for(AnnouncementCard announcement: allAnnouncement){
                 assertNotNull(announcement);
             }
         } catch (DAOLogicException e) {
@@ -245,8 +246,8 @@ class AnnouncementDAOImplTest {
     void getCommentaries() {
         try {
             List<AnnouncementComment> comments = announcementDAO.getComments(
-                    BigInteger.ONE,
-                    BigInteger.ZERO,
+                    1L,
+                    0L,
                     15);
             assertNotNull(comments.get(0));
             assertTrue(StringUtils.isNotBlank(comments.get(0).getContent()));
@@ -261,11 +262,11 @@ class AnnouncementDAOImplTest {
     void createComment() {
         try {
             String commentContent = "" + new Random().nextInt(500000);
-            announcementDAO.createComment(commentContent, BigInteger.ONE, BigInteger.ONE);
+            announcementDAO.createComment(commentContent, 1L, 1L);
 
             List<AnnouncementComment> comments = announcementDAO.getComments(
-                    BigInteger.ONE,
-                    BigInteger.ONE,
+                    1L,
+                    1L,
                     999999);
 
             assertEquals(comments.get(0).getContent(),  commentContent);
@@ -290,8 +291,8 @@ class AnnouncementDAOImplTest {
     @Timeout(value = 10000, unit= TimeUnit.MILLISECONDS)
     void getAnnouncementsByPage() {
         try {
-            Page<Announcement> page = announcementDAO.getAnnouncementsByPage(BigInteger.ONE,
-                    PageRequest.of(0, 6));
+            Page<AnnouncementCard> page = announcementDAO.getAnnouncementsByPage(1L,
+                    PageRequest.of(0, 6), Projection.ALL);
             page.get().forEach(Assertions::assertNotNull);
         } catch (DAOLogicException e) {
             log.error(MessagesForException.TEST_ERROR + e.getMessage());
@@ -314,8 +315,8 @@ class AnnouncementDAOImplTest {
     @Timeout(value = 10000, unit= TimeUnit.MILLISECONDS)
     void getAnnouncementsByTitle() {
         try {
-            Page<Announcement> page = announcementDAO.getAnnouncementsByTitle("gath", BigInteger.ONE,
-                    PageRequest.of(0, 6));
+            Page<AnnouncementCard> page = announcementDAO.getAnnouncementsByTitle("gath", 1L,
+                    PageRequest.of(0, 6), Projection.ALL);
             page.get().forEach(Assertions::assertNotNull);
         } catch (DAOLogicException e) {
             log.error(MessagesForException.TEST_ERROR + e.getMessage());
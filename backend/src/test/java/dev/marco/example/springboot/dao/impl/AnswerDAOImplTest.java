@@ -13,12 +13,14 @@ import dev.marco.example.springboot.exception.DAOLogicException;
 import dev.marco.example.springboot.model.Answer;
 import dev.marco.example.springboot.model.impl.AnswerImpl;
 
-import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 @SpringBootTest
@@ -43,7 +45,7 @@ class AnswerDAOImplTest {
   void getAnswerByIdTest() {
     try {
       String test = "America";
-      Answer answer = answerDAO.getAnswerById(BigInteger.ONE);
+      Answer answer = answerDAO.getAnswerById(1L);
       assertNotNull(answer);
       assertEquals(test, answer.getValue());
     } catch (DAOLogicException | AnswerDoesNotExistException e) {
@@ -57,10 +59,10 @@ class AnswerDAOImplTest {
   void getLastAnswerIdByTitleTest() {
     try {
       String aboba = "Aboba";
-      Answer answerByTitle = new AnswerImpl(aboba, AnswerResult.TRUE, BigInteger.ONE);
+      Answer answerByTitle = new AnswerImpl(aboba, AnswerResult.TRUE, 1L);
       answerDAO.createAnswer(answerByTitle);
 
-      BigInteger id = answerDAO.getLastAnswerIdByTitle(aboba);
+      long id = answerDAO.getLastAnswerIdByTitle(aboba);
       Answer answerByTitleTest = answerDAO.getAnswerById(id);
       assertNotNull(answerByTitleTest);
 
@@ -80,10 +82,10 @@ class AnswerDAOImplTest {
   void createAnswerTest() {
     try {
       String antarctica = "Antarctica";
-      Answer answerImpl = new AnswerImpl(antarctica, AnswerResult.FALSE, BigInteger.ONE);
+      Answer answerImpl = new AnswerImpl(antarctica, AnswerResult.FALSE, 1L);
 
       answerDAO.createAnswer(answerImpl);
-      BigInteger id = answerDAO.getLastAnswerIdByTitle(antarctica);
+      long id = answerDAO.getLastAnswerIdByTitle(antarctica);
       Answer anAnswer = answerDAO.getAnswerById(id);
       assertNotNull(anAnswer);
 
@@ -103,10 +105,10 @@ class AnswerDAOImplTest {
   void deleteAnswerTest() {
     try {
       String mars = "Mars";
-      Answer ans = new AnswerImpl(mars, AnswerResult.FALSE, BigInteger.ONE);
+      Answer ans = new AnswerImpl(mars, AnswerResult.FALSE, 1L);
       answerDAO.createAnswer(ans);
 
-      BigInteger id = answerDAO.getLastAnswerIdByTitle(mars);
+      long id = answerDAO.getLastAnswerIdByTitle(mars);
       Answer nullAnswer = answerDAO.getAnswerById(id);
       assertNotNull(nullAnswer);
 
@@ -122,17 +124,17 @@ class AnswerDAOImplTest {
   void updateAnswerTest() {
     try {
       String moon = "Moon";
-      Answer newAnswer = new AnswerImpl(moon, AnswerResult.FALSE, BigInteger.TWO);
+      Answer newAnswer = new AnswerImpl(moon, AnswerResult.FALSE, 2L);
       answerDAO.createAnswer(newAnswer);
 
-      BigInteger id = answerDAO.getLastAnswerIdByTitle(moon);
+      long id = answerDAO.getLastAnswerIdByTitle(moon);
       Answer testNewAnswer = answerDAO.getAnswerById(id);
       assertNotNull(testNewAnswer);
 
       String sun = "Sun";
       testNewAnswer.setValue(sun);
       testNewAnswer.setAnswer(AnswerResult.TRUE);
-      testNewAnswer.setQuestionId(BigInteger.valueOf(3));
+      testNewAnswer.setQuestionId(3);
       answerDAO.updateAnswer(testNewAnswer);
 
       Answer finalAnswer = answerDAO.getAnswerById(id);
@@ -153,7 +155,7 @@ class AnswerDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void getAnswersByQuestionIdTest() {
     try {
-      BigInteger questionId = BigInteger.TWO;
+      long questionId = 2L;
       String[] answers = new String[]{"America", "Asia", "Africa", "Europe"};
 
       List<AnswerImpl> answersForSecondQuestion = answerDAO.getAnswersByQuestionId(questionId);
@@ -167,6 +169,23 @@ class AnswerDAOImplTest {
       fail();
     }
   }
-}
 
+  @Test
+  @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+  void getAnswersByQuestionIdsTest() {
+    try {
+      long questionId = 2L;
+      long missingQuestionId = -1L;
+
+      Map<Long, List<AnswerImpl>> answers =
+          answerDAO.getAnswersByQuestionIds(Arrays.asList(questionId, missingQuestionId));
+      List<AnswerImpl> answersForSecondQuestion = answerDAO.getAnswersByQuestionId(questionId);
 
+      assertEquals(answersForSecondQuestion.size(), answers.get(questionId).size());
+      assertTrue(answers.get(missingQuestionId).isEmpty());
+    } catch (DAOLogicException | AnswerDoesNotExistException e) {
+      log.error(MessagesForException.TEST_ERROR + e.getMessage());
+      fail();
+    }
+  }
+}
@@ -13,7 +13,6 @@ import dev.marco.example.springboot.model.Question;
 import dev.marco.example.springboot.model.QuestionType;
 import dev.marco.example.springboot.model.impl.QuestionImpl;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -43,7 +42,7 @@ class QuestionDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void getQuestionByIdTest() {
     try {
-      Question question = questionDAO.getQuestionById(BigInteger.ONE, new ArrayList<>());
+      Question question = questionDAO.getQuestionById(1L, new ArrayList<>());
       assertNotNull(question);
       assertEquals(QUESTION, question.getQuestion());
     } catch (DAOLogicException | QuestionDoesNotExistException e) {
@@ -56,10 +55,10 @@ class QuestionDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void getQuestionByDataTest() {
     try {
-      Question question = questionDAO.getQuestionByData(QUESTION, BigInteger.valueOf(2));
+      Question question = questionDAO.getQuestionByData(QUESTION, 2);
       assertNotNull(question);
       assertEquals(QUESTION, question.getQuestion());
-      assertEquals(question.getId(), BigInteger.valueOf(11));
+      assertEquals(question.getId(), 11);
     } catch (DAOLogicException | QuestionDoesNotExistException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
       fail();
@@ -70,7 +69,7 @@ class QuestionDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void createQuestionTest() {
     try {
-      BigInteger quizId = BigInteger.valueOf(1);
+      long quizId = 1;
       String questionText = "" + new Random().nextInt(500000);
       Question questionModel = new QuestionImpl(
           questionText,
@@ -98,7 +97,7 @@ class QuestionDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void getQuestionsByQuizTest() {
     try {
-      List<QuestionImpl> questions = questionDAO.getAllQuestions(BigInteger.valueOf(1));
+      List<QuestionImpl> questions = questionDAO.getAllQuestions(1);
       for (Question question : questions) {
         assertNotNull(question.getQuestion());
       }
@@ -113,7 +112,7 @@ class QuestionDAOImplTest {
   void updateQuestionTest() {
     try {
       String que = "New que";
-      BigInteger questionId = BigInteger.valueOf(3);
+      long questionId = 3;
       Question questionOld = questionDAO.getQuestionById(questionId, new ArrayList<>());
       Question questionNew = questionOld;
       questionNew.setQuestion(que);
@@ -7,12 +7,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.Quiz;
+import dev.marco.example.springboot.model.QuizSummary;
 import dev.marco.example.springboot.model.QuizType;
 import dev.marco.example.springboot.model.impl.QuizImpl;
 
-import java.math.BigInteger;
 import java.sql.Date;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
@@ -50,7 +52,7 @@ class QuizDAOImplTest {
           .setDescription(description)
           .setQuizType(quizType)
           .setCreationDate(new Date(System.currentTimeMillis()))
-          .setCreatorId(BigInteger.valueOf(3))
+          .setCreatorId(3)
           .build();
 
       Quiz newQuiz = quizDAO.createQuiz(quiz);
@@ -70,10 +72,25 @@ class QuizDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void getQuizByIdTest() {
     try {
-      Quiz quiz = quizDAO.getQuizById(BigInteger.valueOf(1));
+      Quiz quiz = quizDAO.getQuizById(1);
 
       assertNotNull(quiz);
-      assertEquals(1, quiz.getId().intValue());
+      assertEquals(1, quiz.getId());
+    } catch (QuizDoesNotExistException | DAOLogicException e) {
+      log.error(MessagesForException.TEST_ERROR, e);
+      fail();
+    }
+  }
+
+  @Test
+  @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+  void getQuizzesByIdsTest() {
+    try {
+      Map<Long, QuizImpl> quizzes = quizDAO.getQuizzesByIds(Arrays.asList(1L, 2L, 1L, -1L));
+
+      assertEquals(2, quizzes.size());
+      assertEquals(quizDAO.getQuizById(2).getTitle(), quizzes.get(2L).getTitle());
+      assertFalse(quizzes.containsKey(-1L));
     } catch (QuizDoesNotExistException | DAOLogicException e) {
       log.error(MessagesForException.TEST_ERROR, e);
       fail();
@@ -92,7 +109,7 @@ class QuizDAOImplTest {
           .setDescription(description)
           .setQuizType(quizType)
           .setCreationDate(new Date(System.currentTimeMillis()))
-          .setCreatorId(BigInteger.valueOf(5))
+          .setCreatorId(5)
           .build();
 
       Quiz newQuiz = quizDAO.createQuiz(quiz);
@@ -109,7 +126,7 @@ class QuizDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void updateQuizTest() {
     try {
-      Quiz quiz = quizDAO.getQuizById(BigInteger.valueOf(1));
+      Quiz quiz = quizDAO.getQuizById(1);
       Quiz updatedQuiz = quizDAO.getQuizById(quiz.getId());
 
       updatedQuiz.setCreationDate(new Date(System.currentTimeMillis()));
@@ -127,7 +144,7 @@ class QuizDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void getAllQuizzesTest() {
     try {
-      List<Quiz> quizList = quizDAO.getAllQuizzes();
+      List<QuizSummary> quizList = quizDAO.getAllQuizzes();
       if (!quizList.isEmpty()) {
         assertNotNull(quizList);
       }
@@ -157,7 +174,7 @@ class QuizDAOImplTest {
   void getQuizzesByTypeTest() {
     try {
       QuizType quizType = QuizType.MATHEMATICS;
-      List<Quiz> quizzes = quizDAO.getQuizzesByType(quizType);
+      List<QuizSummary> quizzes = quizDAO.getQuizzesByType(quizType);
 
       if (!quizzes.isEmpty()) {
         assertEquals(quizType, quizzes.get(0).getQuizType());
@@ -172,7 +189,7 @@ class QuizDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void getLastCreatedQuizzesTest() {
     try {
-      List<Quiz> quizList = quizDAO.getLastCreatedQuizzes(3);
+      List<QuizSummary> quizList = quizDAO.getLastCreatedQuizzes(3);
 
       if (!quizList.isEmpty()) {
         assertNotNull(quizList);
@@ -9,7 +9,6 @@ import org.springframework.boot.test.context.SpringBootTest;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.impl.QuizAccomplishedImpl;
 
-import java.math.BigInteger;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -37,10 +36,10 @@ class UserAccomplishedQuizDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void addAccomplishedQuiz() {
     try {
-      userAccomplishedQuizDAO.addAccomplishedQuiz(BigInteger.ONE, new QuizAccomplishedImpl(
-          10, false, QuizImpl.QuizBuilder().setId(BigInteger.ONE).build()));
+      userAccomplishedQuizDAO.addAccomplishedQuiz(1L, new QuizAccomplishedImpl(
+          10, false, QuizImpl.QuizBuilder().setId(1L).build()));
       QuizAccomplishedImpl accomplished = userAccomplishedQuizDAO.getAccomplishedQuizById(
-          BigInteger.ONE, BigInteger.ONE);
+          1L, 1L);
       assertNotNull(accomplished);
     } catch (DAOLogicException | QuizDoesNotExistException | QuizException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
@@ -52,10 +51,10 @@ class UserAccomplishedQuizDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void editAccomplishedQuiz() {
     try {
-      userAccomplishedQuizDAO.editAccomplishedQuiz(BigInteger.ONE, new QuizAccomplishedImpl(
-          10, QuizImpl.QuizBuilder().setId(BigInteger.ONE).build()));
+      userAccomplishedQuizDAO.editAccomplishedQuiz(1L, new QuizAccomplishedImpl(
+          10, QuizImpl.QuizBuilder().setId(1L).build()));
       QuizAccomplishedImpl accomplished = userAccomplishedQuizDAO.getAccomplishedQuizById(
-          BigInteger.ONE, BigInteger.ONE);
+          1L, 1L);
       assertNotNull(accomplished);
       assertEquals(10, accomplished.getCorrectAnswers());
     } catch (DAOLogicException | QuizDoesNotExistException | QuizException e) {
@@ -69,7 +68,7 @@ class UserAccomplishedQuizDAOImplTest {
   void getAccomplishedQuizzesByUser() {
     try {
       Set<QuizAccomplishedImpl> accomplishedSet = userAccomplishedQuizDAO.getAccomplishedQuizesByUser(
-          BigInteger.valueOf(4));
+          4);
       assertNotNull(accomplishedSet);
       for (QuizAccomplishedImpl quizAccomplished : accomplishedSet) {
         assertNotNull(quizAccomplished);
@@ -84,12 +83,12 @@ class UserAccomplishedQuizDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void setIsFavoriteQuiz() {
     try {
-      userAccomplishedQuizDAO.setIsFavoriteQuiz(BigInteger.ONE, BigInteger.ONE, 0);
-      assertFalse(userAccomplishedQuizDAO.getAccomplishedQuizById(BigInteger.ONE, BigInteger.ONE)
+      userAccomplishedQuizDAO.setIsFavoriteQuiz(1L, 1L, 0);
+      assertFalse(userAccomplishedQuizDAO.getAccomplishedQuizById(1L, 1L)
           .getFavourite());
 
-      userAccomplishedQuizDAO.setIsFavoriteQuiz(BigInteger.ONE, BigInteger.ONE, 1);
-      assertTrue(userAccomplishedQuizDAO.getAccomplishedQuizById(BigInteger.ONE, BigInteger.ONE)
+      userAccomplishedQuizDAO.setIsFavoriteQuiz(1L, 1L, 1);
+      assertTrue(userAccomplishedQuizDAO.getAccomplishedQuizById(1L, 1L)
           .getFavourite());
     } catch (DAOLogicException | QuizDoesNotExistException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
@@ -102,7 +101,7 @@ class UserAccomplishedQuizDAOImplTest {
   void getAccomplishedQuizById() {
     try {
       QuizAccomplishedImpl quizAccomplished = userAccomplishedQuizDAO.getAccomplishedQuizById(
-          BigInteger.valueOf(4), BigInteger.valueOf(4));
+          4, 4);
       assertNotNull(quizAccomplished);
     } catch (QuizDoesNotExistException | DAOLogicException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
@@ -114,8 +113,8 @@ class UserAccomplishedQuizDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void isAccomplishedQuiz() {
     try {
-      assertTrue(userAccomplishedQuizDAO.isAccomplishedQuiz(BigInteger.ONE, BigInteger.ONE));
-      assertFalse(userAccomplishedQuizDAO.isAccomplishedQuiz(BigInteger.ONE, BigInteger.TWO));
+      assertTrue(userAccomplishedQuizDAO.isAccomplishedQuiz(1L, 1L));
+      assertFalse(userAccomplishedQuizDAO.isAccomplishedQuiz(1L, 2L));
     } catch (DAOLogicException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
       fail();
@@ -6,12 +6,12 @@ import org.junit.jupiter.api.Timeout;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import dev.marco.example.springboot.exception.*;
-import dev.marco.example.springboot.model.Announcement;
+import dev.marco.example.springboot.model.AnnouncementCard;
 import dev.marco.example.springboot.model.User;
+import dev.marco.example.springboot.model.UserSummary;
 import dev.marco.example.springboot.model.impl.AnnouncementImpl;
 import dev.marco.example.springboot.model.impl.UserImpl;
 
-import java.math.BigInteger;
 import java.util.Date;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -66,10 +66,10 @@ class UserAnnouncementDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void getAnnouncementsLikedByUser() {
     try {
-      Set<Announcement> announcementSet = userAnnouncementDAO.getAnnouncementsLikedByUser(
-          BigInteger.ONE);
+      Set<AnnouncementCard> announcementSet = userAnnouncementDAO.getAnnouncementsLikedByUser(
+          1L);
       assertNotNull(announcementSet);
-      for (Announcement announcement : announcementSet) {
+      for (AnnouncementCard announcement : announcementSet) {
         assertNotNull(announcement);
       }
     } catch (AnnouncementDoesNotExistException | DAOLogicException | AnnouncementException e) {
@@ -82,9 +82,9 @@ class UserAnnouncementDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void getUsersLikedAnnouncement() {
     try {
-      Set<User> userSet = userAnnouncementDAO.getUsersLikedAnnouncement(BigInteger.ONE);
+      Set<UserSummary> userSet = userAnnouncementDAO.getUsersLikedAnnouncement(1L);
       assertNotNull(userSet);
-      for (User user : userSet) {
+      for (UserSummary user : userSet) {
         assertNotNull(user);
       }
     } catch (UserDoesNotExistException | DAOLogicException e) {
@@ -104,11 +104,11 @@ class UserAnnouncementDAOImplTest {
       String password = "testPassword";
       String emailCode = "testEmailCode";
 
-      BigInteger idAnnouncement = announcementDAO.createAnnouncement(
+      long idAnnouncement = announcementDAO.createAnnouncement(
           new AnnouncementImpl.AnnouncementBuilder()
               .setTitle(TEST_TITLE)
               .setDescription(TEST_DESCRIPTION)
-              .setIdUser(BigInteger.ONE)
+              .setIdUser(1L)
               .setDate(new Date())
               .setAddress(TEST_ADDRESS)
               .setParticipantsCap(5)
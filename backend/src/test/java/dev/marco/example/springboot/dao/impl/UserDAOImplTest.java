@@ -1,5 +1,6 @@
 package dev.marco.example.springboot.dao.impl;
 
+import dev.marco.example.springboot.model.User;
 import dev.marco.example.springboot.model.UserRoles;
 import org.apache.log4j.Logger;
 import org.junit.jupiter.api.Test;
@@ -9,7 +10,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.impl.UserImpl;
 
-import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,7 +46,7 @@ class UserDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void getUserByNullId() {
     try {
-      userDAO.getUserById(BigInteger.ZERO);
+      userDAO.getUserById(0L);
       fail();
     } catch (UserDoesNotExistException | DAOLogicException e) {
       assertTrue(true);
@@ -54,7 +57,21 @@ class UserDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void getUserByAdminId() {
     try {
-      assertNotNull(userDAO.getUserById(BigInteger.ONE));
+      assertNotNull(userDAO.getUserById(1L));
+    } catch (UserDoesNotExistException | DAOLogicException e) {
+      log.error(MessagesForException.TEST_ERROR + e.getMessage());
+      fail();
+    }
+  }
+
+  @Test
+  @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+  void getUsersByIds() {
+    try {
+      Map<Long, User> users = userDAO.getUsersByIds(Arrays.asList(1L, 2L, 0L));
+      assertEquals(2, users.size());
+      assertEquals(userDAO.getUserById(1L).getEmail(), users.get(1L).getEmail());
+      assertFalse(users.containsKey(0L));
     } catch (UserDoesNotExistException | DAOLogicException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
       fail();
@@ -77,7 +94,7 @@ class UserDAOImplTest {
   void getUserByAdminEmail() {
     try {
       assertNotNull(userDAO.getUserByEmail(
-          userDAO.getUserById(BigInteger.ONE).getEmail()
+          userDAO.getUserById(1L).getEmail()
       ));
     } catch (UserDoesNotExistException | DAOLogicException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
@@ -85,6 +102,55 @@ class UserDAOImplTest {
     }
   }
 
+  @Test
+  @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+  void findUserByAdminEmail() {
+    try {
+      Optional<User> user = userDAO.findUserByEmail(userDAO.getUserById(1L).getEmail());
+      assertTrue(user.isPresent());
+      assertEquals(1L, user.get().getId());
+    } catch (UserDoesNotExistException | DAOLogicException e) {
+      log.error(MessagesForException.TEST_ERROR + e.getMessage());
+      fail();
+    }
+  }
+
+  @Test
+  @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+  void findUserByUnknownEmail() {
+    try {
+      assertFalse(userDAO.findUserByEmail(INVALID_TEST_EMAIL).isPresent());
+    } catch (DAOLogicException e) {
+      log.error(MessagesForException.TEST_ERROR + e.getMessage());
+      fail();
+    }
+  }
+
+  @Test
+  @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+  void findUserByValidEmailCode() {
+    try {
+      userDAO.updateUsersEmailCode(2L, TEST_EMAIL_CODE);
+      Optional<User> user = userDAO.findUserByEmailCode(TEST_EMAIL_CODE);
+      assertTrue(user.isPresent());
+      assertEquals(2L, user.get().getId());
+    } catch (UserDoesNotExistException | DAOLogicException e) {
+      log.error(MessagesForException.TEST_ERROR + e.getMessage());
+      fail();
+    }
+  }
+
+  @Test
+  @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+  void findUserByInvalidEmailCode() {
+    try {
+      assertFalse(userDAO.findUserByEmailCode(INVALID_TEST_EMAIL).isPresent());
+    } catch (DAOLogicException e) {
+      log.error(MessagesForException.TEST_ERROR + e.getMessage());
+      fail();
+    }
+  }
+
   @Test
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void deleteUser() {
@@ -162,18 +228,18 @@ class UserDAOImplTest {
 
       String expected = testLastName + " " + testFirstName;
       String oldFirstName, oldLastName;
-      oldLastName = userDAO.getUserById(BigInteger.ONE).getLastName();
+      oldLastName = userDAO.getUserById(1L).getLastName();
 
-      oldFirstName = userDAO.getUserById(BigInteger.ONE).getFirstName();
+      oldFirstName = userDAO.getUserById(1L).getFirstName();
 
-      userDAO.updateUsersFullName(BigInteger.ONE, testFirstName, testLastName);
+      userDAO.updateUsersFullName(1L, testFirstName, testLastName);
 
-      assertEquals(expected, userDAO.getUserById(BigInteger.ONE).getFullName());
+      assertEquals(expected, userDAO.getUserById(1L).getFullName());
 
-      userDAO.updateUsersFullName(BigInteger.ONE, oldFirstName, oldLastName);
+      userDAO.updateUsersFullName(1L, oldFirstName, oldLastName);
 
       assertEquals(oldLastName + " " + oldFirstName,
-          userDAO.getUserById(BigInteger.ONE).getFullName().trim());
+          userDAO.getUserById(1L).getFullName().trim());
 
     } catch (UserDoesNotExistException | DAOLogicException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
@@ -186,9 +252,9 @@ class UserDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void updateNotExistUsersName() {
     try {
-      userDAO.updateUsersFullName(BigInteger.ZERO, TEST_FIRST_NAME, TEST_LAST_NAME);
+      userDAO.updateUsersFullName(0L, TEST_FIRST_NAME, TEST_LAST_NAME);
 
-      userDAO.getUserById(BigInteger.ZERO).getFullName();
+      userDAO.getUserById(0L).getFullName();
     } catch (DAOLogicException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
       fail();
@@ -202,8 +268,8 @@ class UserDAOImplTest {
   @Timeout(value = 3000, unit = TimeUnit.MILLISECONDS)
   void updateUsersPassword() {
     try {
-      userDAO.updateUsersPassword(BigInteger.ONE, TEST_PASSWORD);
-      assertTrue(userDAO.comparisonOfPasswords(BigInteger.ONE, TEST_PASSWORD));
+      userDAO.updateUsersPassword(1L, TEST_PASSWORD);
+      assertTrue(userDAO.comparisonOfPasswords(1L, TEST_PASSWORD));
 
     } catch (DAOLogicException | UserDoesNotExistException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
@@ -215,7 +281,7 @@ class UserDAOImplTest {
   @Timeout(value = 3000, unit = TimeUnit.MILLISECONDS)
   void updateNotExistUsersPassword() {
     try {
-      userDAO.updateUsersPassword(BigInteger.ZERO, TEST_PASSWORD);
+      userDAO.updateUsersPassword(0L, TEST_PASSWORD);
 
     } catch (UserDoesNotExistException e) {
       assertTrue(true);
@@ -229,9 +295,9 @@ class UserDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void getAuthorizeActiveUser() {
     try {
-      userDAO.activateUser(BigInteger.ONE);
-      userDAO.updateUsersPassword(BigInteger.ONE, "$2a$04$UegxIC3EpNJVeL9WUGuvK.K6GTeCfSgbfVUoC9ZUt9J.6OZF1r8Mq");
-      userDAO.getAuthorizeUser(userDAO.getUserById(BigInteger.ONE).getEmail(), TEST_PASSWORD);
+      userDAO.activateUser(1L);
+      userDAO.updateUsersPassword(1L, "$2a$04$UegxIC3EpNJVeL9WUGuvK.K6GTeCfSgbfVUoC9ZUt9J.6OZF1r8Mq");
+      userDAO.getAuthorizeUser(userDAO.getUserById(1L).getEmail(), TEST_PASSWORD);
     } catch (DAOLogicException | UserDoesNotExistException | UserDoesNotConfirmedEmailException | UserException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
       fail();
@@ -242,8 +308,8 @@ class UserDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void comparisonOfPasswordsTest() {
     try {
-      userDAO.updateUsersPassword(BigInteger.ONE, "$2a$04$UegxIC3EpNJVeL9WUGuvK.K6GTeCfSgbfVUoC9ZUt9J.6OZF1r8Mq");
-      assertTrue(userDAO.comparisonOfPasswords(BigInteger.ONE, "$2a$04$UegxIC3EpNJVeL9WUGuvK.K6GTeCfSgbfVUoC9ZUt9J.6OZF1r8Mq"));
+      userDAO.updateUsersPassword(1L, "$2a$04$UegxIC3EpNJVeL9WUGuvK.K6GTeCfSgbfVUoC9ZUt9J.6OZF1r8Mq");
+      assertTrue(userDAO.comparisonOfPasswords(1L, "$2a$04$UegxIC3EpNJVeL9WUGuvK.K6GTeCfSgbfVUoC9ZUt9J.6OZF1r8Mq"));
     } catch (DAOLogicException | UserDoesNotExistException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
       fail();
@@ -255,9 +321,9 @@ class UserDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void updateExistUsersDescription() {
     try {
-      userDAO.updateUsersDescription(BigInteger.ONE, TEST_DESCRIPTION);
+      userDAO.updateUsersDescription(1L, TEST_DESCRIPTION);
       assertEquals(TEST_DESCRIPTION,
-          userDAO.getUserById(BigInteger.ONE).getDescription());
+          userDAO.getUserById(1L).getDescription());
     } catch (DAOLogicException | UserDoesNotExistException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
       fail();
@@ -268,7 +334,7 @@ class UserDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void updateNotExistUsersDescription() {
     try {
-      userDAO.updateUsersDescription(BigInteger.ZERO, TEST_DESCRIPTION);
+      userDAO.updateUsersDescription(0L, TEST_DESCRIPTION);
 
     } catch (UserDoesNotExistException e) {
       assertTrue(true);
@@ -283,12 +349,12 @@ class UserDAOImplTest {
   void updateExistUsersEmailCode() {
     try {
       String testEmailCode = TEST_EMAIL_CODE;
-      userDAO.updateUsersEmailCode(BigInteger.ONE, testEmailCode);
-      assertEquals(BigInteger.ONE, userDAO.getUserByEmailCode(testEmailCode).getId());
+      userDAO.updateUsersEmailCode(1L, testEmailCode);
+      assertEquals(1L, userDAO.getUserByEmailCode(testEmailCode).getId());
 
       String newEmailCode = INVALID_TEST_EMAIL;
-      userDAO.updateUsersEmailCode(BigInteger.ONE, newEmailCode);
-      assertEquals(BigInteger.ONE, userDAO.getUserByEmailCode(newEmailCode).getId());
+      userDAO.updateUsersEmailCode(1L, newEmailCode);
+      assertEquals(1L, userDAO.getUserByEmailCode(newEmailCode).getId());
     } catch (DAOLogicException | UserDoesNotExistException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
       fail();
@@ -301,12 +367,12 @@ class UserDAOImplTest {
 
     try {
       String testEmailCode = TEST_EMAIL_CODE;
-      userDAO.updateUsersEmailCode(BigInteger.ONE, testEmailCode);
-      assertEquals(BigInteger.ONE, userDAO.getUserByEmailCode(testEmailCode).getId());
+      userDAO.updateUsersEmailCode(1L, testEmailCode);
+      assertEquals(1L, userDAO.getUserByEmailCode(testEmailCode).getId());
 
       String newEmailCode = INVALID_TEST_EMAIL;
-      userDAO.updateUsersEmailCode(BigInteger.ONE, newEmailCode);
-      assertEquals(BigInteger.ONE, userDAO.getUserByEmailCode(newEmailCode).getId());
+      userDAO.updateUsersEmailCode(1L, newEmailCode);
+      assertEquals(1L, userDAO.getUserByEmailCode(newEmailCode).getId());
     } catch (DAOLogicException | UserDoesNotExistException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
       fail();
@@ -359,8 +425,8 @@ class UserDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void activateVerifiedUser() {
     try {
-      userDAO.activateUser(BigInteger.ONE);
-      assertTrue(userDAO.getUserById(BigInteger.ONE).isActive());
+      userDAO.activateUser(1L);
+      assertTrue(userDAO.getUserById(1L).isActive());
     } catch (DAOLogicException | UserDoesNotExistException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
       fail();
@@ -372,8 +438,8 @@ class UserDAOImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void disactivateVerifiedUser() {
     try {
-      userDAO.disactivateUser(BigInteger.ONE);
-      assertFalse(userDAO.getUserById(BigInteger.ONE).isActive());
+      userDAO.disactivateUser(1L);
+      assertFalse(userDAO.getUserById(1L).isActive());
     } catch (DAOLogicException | UserDoesNotExistException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
       fail();
@@ -409,8 +475,8 @@ class UserDAOImplTest {
   @Test
   void testUpdateUserRole() {
     try {
-      userDAO.updateUserRole(BigInteger.ONE, UserRoles.USER);
-      assertEquals(UserRoles.USER, userDAO.getUserById(BigInteger.ONE).getUserRole());
+      userDAO.updateUserRole(1L, UserRoles.USER);
+      assertEquals(UserRoles.USER, userDAO.getUserById(1L).getUserRole());
 
     } catch (DAOLogicException | UserDoesNotExistException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
@@ -421,7 +487,7 @@ class UserDAOImplTest {
   @Test
   void testGetUserPasswordByEmail() {
     try {
-      assertNotNull(userDAO.getUserPasswordByEmail(userDAO.getUserById(BigInteger.ONE).getEmail()));
+      assertNotNull(userDAO.getUserPasswordByEmail(userDAO.getUserById(1L).getEmail()));
     } catch (UserDoesNotExistException | DAOLogicException e) {
       log.error(MessagesForException.TEST_ERROR + e.getMessage());
       fail();
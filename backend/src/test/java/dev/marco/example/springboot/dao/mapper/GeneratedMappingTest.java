@@ -0,0 +1,148 @@
+package dev.marco.example.springboot.dao.mapper;
+
+import dev.marco.example.springboot.model.AnnouncementCard;
+import dev.marco.example.springboot.model.QuizType;
+import dev.marco.example.springboot.model.impl.QuizImpl;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs mappers and binders generated by the row mapping processor against mocked JDBC objects.
+ */
+class GeneratedMappingTest {
+
+    private static final String[] QUIZ_COLUMNS = {"ID_QUIZ", "TITLE", "DESCRIPTION", "QUIZ_TYPE", "CREATION_DATE", "CREATOR"};
+
+    @Test
+    void quizRowReadsPrimitiveIdsAndEnumOrdinalByPosition() throws Exception {
+        ResultSet resultSet = resultSet(QUIZ_COLUMNS);
+        Date created = Date.valueOf("2021-03-01");
+        when(resultSet.getLong(1)).thenReturn(5L);
+        when(resultSet.getString(2)).thenReturn("Capitals");
+        when(resultSet.getString(3)).thenReturn("Name the capital");
+        when(resultSet.getInt(4)).thenReturn(QuizType.GEOGRAPHICAL.ordinal());
+        when(resultSet.getDate(5)).thenReturn(created);
+        when(resultSet.getLong(6)).thenReturn(9L);
+
+        QuizImpl quiz = new QuizRowMapper(resultSet).mapRow(resultSet);
+
+        assertEquals(5, quiz.getId());
+        assertEquals("Capitals", quiz.getTitle());
+        assertEquals(QuizType.GEOGRAPHICAL, quiz.getQuizType());
+        assertEquals(created, quiz.getCreationDate());
+        assertEquals(9, quiz.getCreatorId());
+        verify(resultSet, times(1)).findColumn("QUIZ_TYPE");
+    }
+
+    @Test
+    void nullableColumnIsReadAsNull() throws Exception {
+        ResultSet resultSet = quizRow(QuizType.HISTORIC.ordinal());
+
+        assertNull(new QuizRowMapper(resultSet).mapRow(resultSet).getCreationDate());
+    }
+
+    @Test
+    void nullEnumColumnFailsNamingTheColumn() throws Exception {
+        ResultSet resultSet = quizRow(0);
+        when(resultSet.wasNull()).thenReturn(true);
+        QuizRowMapper mapper = new QuizRowMapper(resultSet);
+
+        SQLException e = assertThrows(SQLException.class, () -> mapper.mapRow(resultSet));
+        assertTrue(e.getMessage().contains("QUIZ_TYPE"), e.getMessage());
+    }
+
+    @Test
+    void unknownEnumOrdinalFailsNamingTheColumn() throws Exception {
+        ResultSet resultSet = quizRow(QuizType.values().length);
+        QuizRowMapper mapper = new QuizRowMapper(resultSet);
+
+        SQLException e = assertThrows(SQLException.class, () -> mapper.mapRow(resultSet));
+        assertTrue(e.getMessage().contains("QUIZ_TYPE"), e.getMessage());
+        assertTrue(e.getMessage().contains(String.valueOf(QuizType.values().length)), e.getMessage());
+    }
+
+    @Test
+    void presenceColumnIsTrueUnlessNull() throws Exception {
+        ResultSet resultSet = resultSet("ID_ANNOUNCEMENT", "TITLE", "DESCRIPTION", "OWNR", "first_name",
+                "last_name", "DATE_CREATE", "ADDRESS", "LIKES");
+        when(resultSet.getLong(1)).thenReturn(3L);
+        when(resultSet.getLong(4)).thenReturn(11L);
+        when(resultSet.getInt(9)).thenReturn(2);
+        when(resultSet.wasNull()).thenReturn(false, true);
+        AnnouncementCardRowMapper mapper = new AnnouncementCardRowMapper(resultSet);
+
+        AnnouncementCard liked = mapper.mapRow(resultSet);
+        AnnouncementCard notLiked = mapper.mapRow(resultSet);
+
+        assertTrue(liked.getIsLiked());
+        assertFalse(notLiked.getIsLiked());
+        assertEquals(3, liked.getId());
+        assertEquals(11, liked.getIdUser());
+        assertEquals(2, liked.getParticipantsCap());
+        verify(resultSet, times(2)).getLong(8);
+    }
+
+    @Test
+    void binderSetsNullForMissingDateAndEnum() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        QuizImpl quiz = QuizImpl.QuizBuilder()
+                .setTitle("Capitals")
+                .setDescription("Name the capital")
+                .setCreatorId(9)
+                .build();
+
+        assertEquals(6, QuizInsertBinder.bind(statement, quiz));
+
+        verify(statement).setString(1, "Capitals");
+        verify(statement).setString(2, "Name the capital");
+        verify(statement).setNull(3, Types.DATE);
+        verify(statement).setNull(4, Types.INTEGER);
+        verify(statement).setLong(5, 9L);
+    }
+
+    @Test
+    void binderContinuesFromTheGivenIndex() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        QuizImpl quiz = QuizImpl.QuizBuilder()
+                .setTitle("Capitals")
+                .setDescription("Name the capital")
+                .setQuizType(QuizType.SCIENCE)
+                .setCreationDate(Date.valueOf("2021-03-01"))
+                .build();
+
+        assertEquals(6, QuizLookupBinder.bind(statement, 3, quiz));
+
+        verify(statement).setString(3, "Capitals");
+        verify(statement).setString(4, "Name the capital");
+        verify(statement).setInt(5, QuizType.SCIENCE.ordinal());
+    }
+
+    private static ResultSet quizRow(int quizTypeOrdinal) throws SQLException {
+        ResultSet resultSet = resultSet(QUIZ_COLUMNS);
+        when(resultSet.getLong(1)).thenReturn(5L);
+        when(resultSet.getString(2)).thenReturn("Capitals");
+        when(resultSet.getString(3)).thenReturn("Name the capital");
+        when(resultSet.getInt(4)).thenReturn(quizTypeOrdinal);
+        when(resultSet.getLong(6)).thenReturn(9L);
+        return resultSet;
+    }
+
+    /**
+     * A result set whose columns are the given labels, in order.
+     */
+    private static ResultSet resultSet(String... labels) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        for (int i = 0; i < labels.length; i++) {
+            when(resultSet.findColumn(labels[i])).thenReturn(i + 1);
+        }
+        return resultSet;
+    }
+}
@@ -0,0 +1,166 @@
+package dev.marco.example.springboot.dao.mapper;
+
+import dev.marco.example.springboot.model.AnswerResult;
+import dev.marco.example.springboot.model.QuestionType;
+import dev.marco.example.springboot.model.QuizSummary;
+import dev.marco.example.springboot.model.QuizType;
+import dev.marco.example.springboot.model.User;
+import dev.marco.example.springboot.model.UserActive;
+import dev.marco.example.springboot.model.UserRoles;
+import dev.marco.example.springboot.model.UserSummary;
+import dev.marco.example.springboot.model.impl.AnnouncementCommentImpl;
+import dev.marco.example.springboot.model.impl.AnswerImpl;
+import dev.marco.example.springboot.model.impl.QuestionImpl;
+import dev.marco.example.springboot.model.impl.QuizAccomplishedImpl;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Maps one mocked row with each entity mapper; the quiz and announcement card mappers are
+ * covered in {@link GeneratedMappingTest}.
+ */
+class RowMappersTest {
+
+    @Test
+    void userRow() throws Exception {
+        ResultSet resultSet = resultSet("id_usr", "first_name", "last_name", "email", "usr_role", "isactive",
+                "description");
+        when(resultSet.getLong(1)).thenReturn(4L);
+        when(resultSet.getString(2)).thenReturn("Ada");
+        when(resultSet.getString(3)).thenReturn("Lovelace");
+        when(resultSet.getString(4)).thenReturn("ada@example.com");
+        when(resultSet.getInt(5)).thenReturn(1);
+        when(resultSet.getInt(6)).thenReturn(UserActive.ACTIVE.ordinal());
+        when(resultSet.getString(7)).thenReturn("Analyst");
+
+        User user = new UserRowMapper(resultSet).mapRow(resultSet);
+
+        assertEquals(4, user.getId());
+        assertEquals("Ada", user.getFirstName());
+        assertEquals("Lovelace", user.getLastName());
+        assertEquals("ada@example.com", user.getEmail());
+        assertEquals(UserRoles.USER, user.getUserRole());
+        assertTrue(user.isActive());
+        assertEquals("Analyst", user.getDescription());
+    }
+
+    @Test
+    void userSummaryRow() throws Exception {
+        ResultSet resultSet = resultSet("id_usr", "first_name", "last_name");
+        when(resultSet.getLong(1)).thenReturn(4L);
+        when(resultSet.getString(2)).thenReturn("Ada");
+        when(resultSet.getString(3)).thenReturn("Lovelace");
+
+        UserSummary user = new UserSummaryRowMapper(resultSet).mapRow(resultSet);
+
+        assertEquals(4, user.getId());
+        assertEquals("Ada", user.getFirstName());
+        assertEquals("Lovelace", user.getLastName());
+    }
+
+    @Test
+    void commentRow() throws Exception {
+        ResultSet resultSet = resultSet("ID_COMMENTARY", "DESCRIPTION", "first_name", "last_name", "DATE_CREATE");
+        Time created = Time.valueOf("12:30:00");
+        when(resultSet.getLong(1)).thenReturn(8L);
+        when(resultSet.getString(2)).thenReturn("See you there");
+        when(resultSet.getString(3)).thenReturn("Ada");
+        when(resultSet.getString(4)).thenReturn("Lovelace");
+        when(resultSet.getTime(5)).thenReturn(created);
+
+        AnnouncementCommentImpl comment = new CommentRowMapper(resultSet).mapRow(resultSet);
+
+        assertEquals(8, comment.getId());
+        assertEquals("See you there", comment.getContent());
+        assertEquals("Ada Lovelace", comment.getUserName());
+        assertEquals(created, comment.getCreationTime());
+    }
+
+    @Test
+    void questionRow() throws Exception {
+        ResultSet resultSet = resultSet("id_question", "question_name", "question_type");
+        when(resultSet.getLong(1)).thenReturn(6L);
+        when(resultSet.getString(2)).thenReturn("Capital of Peru?");
+        when(resultSet.getInt(3)).thenReturn(QuestionType.TYPE_ANSWER.ordinal());
+
+        QuestionImpl question = new QuestionRowMapper(resultSet).mapRow(resultSet);
+
+        assertEquals(6, question.getId());
+        assertEquals("Capital of Peru?", question.getQuestion());
+        assertEquals(QuestionType.TYPE_ANSWER, question.getQuestionType());
+    }
+
+    @Test
+    void answerRow() throws Exception {
+        ResultSet resultSet = resultSet("id_answer", "text", "is_true", "question");
+        when(resultSet.getLong(1)).thenReturn(12L);
+        when(resultSet.getString(2)).thenReturn("Lima");
+        when(resultSet.getBoolean(3)).thenReturn(true);
+        when(resultSet.getLong(4)).thenReturn(6L);
+
+        AnswerImpl answer = new AnswerRowMapper(resultSet).mapRow(resultSet);
+
+        assertEquals(12, answer.getId());
+        assertEquals("Lima", answer.getValue());
+        assertEquals(AnswerResult.TRUE, answer.getAnswer());
+        assertEquals(6, answer.getQuestionId());
+    }
+
+    @Test
+    void quizSummaryRow() throws Exception {
+        ResultSet resultSet = resultSet("ID_QUIZ", "TITLE", "DESCRIPTION", "QUIZ_TYPE");
+        when(resultSet.getLong(1)).thenReturn(5L);
+        when(resultSet.getString(2)).thenReturn("Capitals");
+        when(resultSet.getString(3)).thenReturn("Name the capital");
+        when(resultSet.getInt(4)).thenReturn(QuizType.MATHEMATICS.ordinal());
+
+        QuizSummary quiz = new QuizSummaryRowMapper(resultSet).mapRow(resultSet);
+
+        assertEquals(5, quiz.getId());
+        assertEquals("Capitals", quiz.getTitle());
+        assertEquals("Name the capital", quiz.getDescription());
+        assertEquals(QuizType.MATHEMATICS, quiz.getQuizType());
+    }
+
+    @Test
+    void accomplishedQuizRowMapsTheNestedQuizFromTheSameRow() throws Exception {
+        ResultSet resultSet = resultSet("correct_answers", "is_favourite", "date_create",
+                "ID_QUIZ", "TITLE", "DESCRIPTION", "QUIZ_TYPE", "CREATION_DATE", "CREATOR");
+        Date taken = Date.valueOf("2021-03-02");
+        when(resultSet.getInt(1)).thenReturn(7);
+        when(resultSet.getBoolean(2)).thenReturn(true);
+        when(resultSet.getDate(3)).thenReturn(taken);
+        when(resultSet.getLong(4)).thenReturn(5L);
+        when(resultSet.getString(5)).thenReturn("Capitals");
+        when(resultSet.getString(6)).thenReturn("Name the capital");
+        when(resultSet.getInt(7)).thenReturn(QuizType.HISTORIC.ordinal());
+        when(resultSet.getLong(9)).thenReturn(9L);
+
+        QuizAccomplishedImpl accomplished = new QuizAccomplishedRowMapper(resultSet).mapRow(resultSet);
+
+        assertEquals(7, accomplished.getCorrectAnswers());
+        assertTrue(accomplished.getFavourite());
+        assertEquals(taken, accomplished.getDateOfQuiz());
+        assertEquals(5, accomplished.getQuiz().getId());
+        assertEquals(QuizType.HISTORIC, accomplished.getQuiz().getQuizType());
+        assertEquals(9, accomplished.getQuiz().getCreatorId());
+    }
+
+    /**
+     * A result set whose columns are the given labels, in order.
+     */
+    private static ResultSet resultSet(String... labels) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        for (int i = 0; i < labels.length; i++) {
+            when(resultSet.findColumn(labels[i])).thenReturn(i + 1);
+        }
+        return resultSet;
+    }
+}
@@ -0,0 +1,65 @@
+package dev.marco.example.springboot.deadline;
+
+import dev.marco.example.springboot.exception.DeadlineExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class DeadlineTest {
+
+    private static final String SQL = "SELECT TITLE FROM QUIZ";
+
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+    }
+
+    @Test
+    void connectionIsUntouchedWithoutDeadline() {
+        assertSame(connection, Deadline.enforce(connection));
+    }
+
+    @Test
+    void statementsGetRemainingTimeAsQueryTimeout() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        Deadline.start(2500);
+
+        Deadline.enforce(connection).prepareStatement(SQL).executeQuery();
+
+        verify(statement).setQueryTimeout(3);
+        verify(statement).executeQuery();
+    }
+
+    @Test
+    void expiredDeadlineFailsBeforeReachingDatabase() throws SQLException {
+        Deadline.start(0);
+
+        assertThrows(DeadlineExceededException.class,
+                () -> Deadline.enforce(connection).prepareStatement(SQL));
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    void queryTimeoutBecomesDeadlineExceeded() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenThrow(new SQLTimeoutException("ORA-01013"));
+        Deadline.start(10_000);
+
+        PreparedStatement enforced = Deadline.enforce(connection).prepareStatement(SQL);
+
+        assertThrows(DeadlineExceededException.class, enforced::executeQuery);
+        verify(statement).setQueryTimeout(anyInt());
+    }
+}
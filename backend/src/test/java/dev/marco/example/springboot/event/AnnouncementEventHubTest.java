@@ -0,0 +1,185 @@
+package dev.marco.example.springboot.event;
+
+import dev.marco.example.springboot.dao.AnnouncementDAO;
+import dev.marco.example.springboot.model.AnnouncementComment;
+import dev.marco.example.springboot.model.impl.AnnouncementCommentImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AnnouncementEventHubTest {
+
+    private static final long ID_ANNOUNCEMENT = 7;
+    // Two ticks per heartbeat; the scheduled tick never fires during a test, tick() is called directly.
+    private static final long TICK_MILLIS = 7500;
+
+    private final AnnouncementDAO announcementDAO = mock(AnnouncementDAO.class);
+    private AnnouncementEventHub hub;
+
+    @AfterEach
+    void tearDown() {
+        if (hub != null) {
+            hub.shutdown();
+        }
+    }
+
+    @Test
+    void likesWithinOneTickAreCoalescedIntoOneEvent() throws Exception {
+        hub = new AnnouncementEventHub(announcementDAO, TICK_MILLIS, 10, 60000, 2);
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        hub.subscribe(ID_ANNOUNCEMENT, emitter);
+        when(announcementDAO.getLikes(ID_ANNOUNCEMENT)).thenReturn(3);
+
+        hub.publishLikes(ID_ANNOUNCEMENT);
+        hub.publishLikes(ID_ANNOUNCEMENT);
+        hub.publishLikes(ID_ANNOUNCEMENT);
+        hub.tick();
+
+        assertEquals("event:likes\ndata:3\n\n", emitter.next());
+        assertNull(emitter.events.poll(200, TimeUnit.MILLISECONDS));
+        verify(announcementDAO, times(1)).getLikes(ID_ANNOUNCEMENT);
+    }
+
+    @Test
+    void commentsAndLikesOfOneTickAreFlushedTogether() throws Exception {
+        hub = new AnnouncementEventHub(announcementDAO, TICK_MILLIS, 10, 60000, 2);
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        hub.subscribe(ID_ANNOUNCEMENT, emitter);
+        when(announcementDAO.getLikes(ID_ANNOUNCEMENT)).thenReturn(1);
+
+        hub.publishComment(ID_ANNOUNCEMENT, new AnnouncementCommentImpl(1, "first", null));
+        hub.publishLikes(ID_ANNOUNCEMENT);
+        hub.publishComment(ID_ANNOUNCEMENT, new AnnouncementCommentImpl(2, "second", null));
+        hub.tick();
+
+        String comments = emitter.next();
+        assertEquals("event:comments\ndata:[1, 2]\n\n", comments);
+        assertEquals("event:likes\ndata:1\n\n", emitter.next());
+        assertNull(emitter.events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void fullSubscriberQueueTurnsIntoResyncWithoutBlockingTheTick() throws Exception {
+        hub = new AnnouncementEventHub(announcementDAO, TICK_MILLIS, 2, 60000, 2);
+        when(announcementDAO.getLikes(ID_ANNOUNCEMENT + 1)).thenReturn(4);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter other = new RecordingEmitter(null);
+        hub.subscribe(ID_ANNOUNCEMENT, slow);
+
+        hub.publishComment(ID_ANNOUNCEMENT, new AnnouncementCommentImpl(1, "first", null));
+        hub.tick();
+        assertEquals("event:comments\ndata:[1]\n\n", slow.next());
+
+        // One sender is stuck writing to the slow client; later ticks neither wait for it nor
+        // queue more flushes behind it, so the other sender keeps serving everyone else.
+        for (long id = 2; id <= 4; id++) {
+            hub.publishComment(ID_ANNOUNCEMENT, new AnnouncementCommentImpl(id, "comment " + id, null));
+            hub.tick();
+        }
+        hub.subscribe(ID_ANNOUNCEMENT + 1, other);
+        hub.publishLikes(ID_ANNOUNCEMENT + 1);
+        hub.tick();
+        assertEquals("event:likes\ndata:4\n\n", other.next());
+
+        // Once the client catches up, the next tick that finds its flush finished sends the resync.
+        release.countDown();
+        String resync = null;
+        for (int i = 0; i < 20 && resync == null; i++) {
+            hub.tick();
+            resync = slow.events.poll(100, TimeUnit.MILLISECONDS);
+        }
+        assertEquals("event:resync\ndata:true\n\n", resync);
+        assertNull(slow.events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void idleSubscriberGetsAHeartbeatEveryHeartbeatInterval() throws Exception {
+        hub = new AnnouncementEventHub(announcementDAO, TICK_MILLIS, 10, 60000, 2);
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        hub.subscribe(ID_ANNOUNCEMENT, emitter);
+
+        hub.tick();
+        assertNull(emitter.events.poll(200, TimeUnit.MILLISECONDS));
+        hub.tick();
+        assertEquals(":\n\n", emitter.next());
+    }
+
+    @Test
+    void heartbeatIsNotSentAlongsideAnEvent() throws Exception {
+        hub = new AnnouncementEventHub(announcementDAO, TICK_MILLIS, 10, 60000, 2);
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        hub.subscribe(ID_ANNOUNCEMENT, emitter);
+        when(announcementDAO.getLikes(ID_ANNOUNCEMENT)).thenReturn(5);
+
+        hub.tick();
+        hub.publishLikes(ID_ANNOUNCEMENT);
+        hub.tick();
+
+        assertEquals("event:likes\ndata:5\n\n", emitter.next());
+        assertNull(emitter.events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void nothingIsRecordedWithoutSubscribers() throws Exception {
+        hub = new AnnouncementEventHub(announcementDAO, TICK_MILLIS, 10, 60000, 2);
+
+        hub.publishLikes(ID_ANNOUNCEMENT);
+        hub.tick();
+
+        verifyZeroInteractions(announcementDAO);
+    }
+
+    /**
+     * Records every event as its wire text, comment batches as their ids; with a latch, the first send blocks until released,
+     * like a client that stopped reading.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch release;
+        private boolean blocked;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                text.append(data.getData() instanceof List ? ids((List<?>) data.getData()) : data.getData());
+            }
+            events.add(text.toString());
+            if (release != null && !blocked) {
+                blocked = true;
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private static List<Long> ids(List<?> comments) {
+            return comments.stream().map(comment -> ((AnnouncementComment) comment).getId()).collect(Collectors.toList());
+        }
+
+        String next() throws InterruptedException {
+            String event = events.poll(2, TimeUnit.SECONDS);
+            assertNotNull(event, "no event sent");
+            return event;
+        }
+    }
+}
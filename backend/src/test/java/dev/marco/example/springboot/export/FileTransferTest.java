@@ -0,0 +1,71 @@
+package dev.marco.example.springboot.export;
+
+import org.junit.jupiter.api.Test;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FileTransferTest {
+
+    @Test
+    void tomcatSendsTheFileItself() throws Exception {
+        Path file = file("{\"title\":\"ZNO\"}");
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getAttribute(FileTransfer.SENDFILE_SUPPORT)).thenReturn(Boolean.TRUE);
+
+        FileTransfer.send(request, response, file, 15);
+
+        verify(response).setContentLengthLong(15);
+        verify(request).setAttribute(FileTransfer.SENDFILE_FILENAME, file.toString());
+        verify(request).setAttribute(FileTransfer.SENDFILE_START, 0L);
+        verify(request).setAttribute(FileTransfer.SENDFILE_END, 15L);
+        verify(response, never()).getOutputStream();
+        Files.delete(file);
+    }
+
+    @Test
+    void otherContainersGetTheFileThroughItsChannel() throws Exception {
+        Path file = file("{\"title\":\"ZNO\"}");
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        when(request.getMethod()).thenReturn("GET");
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+        });
+
+        FileTransfer.send(request, response, file, 15);
+
+        assertEquals("{\"title\":\"ZNO\"}", body.toString(StandardCharsets.UTF_8));
+        Files.delete(file);
+    }
+
+    private static Path file(String content) throws Exception {
+        Path file = Files.createTempFile("quiz", ".json");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,148 @@
+package dev.marco.example.springboot.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.marco.example.springboot.cache.ResourceVersions;
+import dev.marco.example.springboot.exception.QuizDoesNotExistException;
+import dev.marco.example.springboot.exception.QuizException;
+import dev.marco.example.springboot.model.QuizType;
+import dev.marco.example.springboot.model.impl.QuizImpl;
+import dev.marco.example.springboot.service.GameService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class QuizExportsTest {
+
+    private final Path directory = Files.createTempDirectory("quiz-export");
+    private final GameService gameService = mock(GameService.class);
+    private final ResourceVersions resourceVersions = new ResourceVersions(new String[0], 0);
+    private final QuizExports quizExports;
+
+    @SuppressWarnings("unchecked")
+    QuizExportsTest() throws IOException {
+        ObjectProvider<GameService> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(gameService);
+        quizExports = new QuizExports(true, directory.toString(), new ObjectMapper(), provider, resourceVersions);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        quizExports.shutdown();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Test
+    void exportWritesJsonAndGzipNamedByHash() throws Exception {
+        when(gameService.sendGameQuiz("ZNO")).thenReturn(quiz("Description of ZNO"));
+
+        QuizExports.Export export = quizExports.export(7, "ZNO");
+
+        assertEquals("7-" + export.getHash() + ".json", export.getJson().getFileName().toString());
+        byte[] json = Files.readAllBytes(export.getJson());
+        assertEquals(json.length, export.getJsonLength());
+        assertEquals(Files.size(export.getGzipped()), export.getGzippedLength());
+        try (InputStream gzip = new GZIPInputStream(Files.newInputStream(export.getGzipped()))) {
+            assertArrayEquals(json, gzip.readAllBytes());
+        }
+        assertSame(export, quizExports.current(7));
+        assertSame(export, quizExports.find(7, export.getHash()));
+    }
+
+    @Test
+    void changeOfQuizOrQuestionsOutdatesExport() throws Exception {
+        when(gameService.sendGameQuiz("ZNO")).thenReturn(quiz("Description of ZNO"));
+        quizExports.export(7, "ZNO");
+
+        resourceVersions.touch(ResourceVersions.QUESTIONS);
+        assertNull(quizExports.current(7));
+
+        QuizExports.Export export = quizExports.export(7, "ZNO");
+        assertSame(export, quizExports.current(7));
+        resourceVersions.touch(ResourceVersions.quiz(7));
+        assertNull(quizExports.current(7));
+    }
+
+    @Test
+    void previousFilesAreKeptForOneMoreExport() throws Exception {
+        when(gameService.sendGameQuiz("ZNO"))
+                .thenReturn(quiz("First description"), quiz("Second description"), quiz("Third description"));
+
+        QuizExports.Export first = quizExports.export(7, "ZNO");
+        QuizExports.Export second = quizExports.export(7, "ZNO");
+        assertTrue(Files.exists(first.getJson()));
+        assertNotNull(quizExports.find(7, first.getHash()));
+
+        QuizExports.Export third = quizExports.export(7, "ZNO");
+        assertFalse(Files.exists(first.getJson()));
+        assertFalse(Files.exists(first.getGzipped()));
+        assertNull(quizExports.find(7, first.getHash()));
+        assertNotNull(quizExports.find(7, second.getHash()));
+        assertSame(third, quizExports.current(7));
+    }
+
+    @Test
+    void quizRenamedMeanwhileIsNotExported() throws Exception {
+        when(gameService.sendGameQuiz("ZNO")).thenReturn(quiz("Description of ZNO"));
+
+        assertThrows(QuizDoesNotExistException.class, () -> quizExports.export(8, "ZNO"));
+        assertNull(quizExports.current(8));
+    }
+
+    @Test
+    void exportOfOneQuizDoesNotWaitForAnother() throws Exception {
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(gameService.sendGameQuiz("History")).thenAnswer(invocation -> {
+            slowStarted.countDown();
+            release.await();
+            return quiz(8, "History", "Description of History");
+        });
+        when(gameService.sendGameQuiz("ZNO")).thenReturn(quiz("Description of ZNO"));
+        Thread slow = new Thread(() -> {
+            try {
+                quizExports.export(8, "History");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        slow.start();
+        try {
+            assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+
+            QuizExports.Export export = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> quizExports.export(7, "ZNO"));
+            assertSame(export, quizExports.current(7));
+        } finally {
+            release.countDown();
+            slow.join();
+        }
+        assertNotNull(quizExports.current(8));
+    }
+
+    private static QuizImpl quiz(String description) throws QuizException {
+        return quiz(7, "ZNO", description);
+    }
+
+    private static QuizImpl quiz(long id, String title, String description) throws QuizException {
+        return QuizImpl.QuizBuilder()
+                .setId(id)
+                .setTitle(title)
+                .setDescription(description)
+                .setCreatorId(3)
+                .setQuizType(QuizType.SCIENCE)
+                .build();
+    }
+}
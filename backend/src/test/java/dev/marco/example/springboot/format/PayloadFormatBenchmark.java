@@ -0,0 +1,101 @@
+package dev.marco.example.springboot.format;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.marco.example.springboot.exception.QuizException;
+import dev.marco.example.springboot.model.AnswerResult;
+import dev.marco.example.springboot.model.QuestionType;
+import dev.marco.example.springboot.model.QuizSummary;
+import dev.marco.example.springboot.model.QuizType;
+import dev.marco.example.springboot.model.impl.AnswerImpl;
+import dev.marco.example.springboot.model.impl.DashboardImpl;
+import dev.marco.example.springboot.model.impl.QuestionImpl;
+import dev.marco.example.springboot.model.impl.QuizImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the size and the CPU cost of a game quiz and of a dashboard in every
+ * {@link PayloadFormat}: encoded bytes, bytes after gzip, and microseconds to write and to read
+ * back one payload. Run it with the test classpath, for example
+ * {@code java -cp target/test-classes:target/classes:<dependencies> dev.marco.example.springboot.format.PayloadFormatBenchmark}.
+ */
+public final class PayloadFormatBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+    private static final int QUESTIONS = 10;
+    private static final int QUIZZES = 50;
+
+    private PayloadFormatBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, QuizException {
+        PayloadFormats formats = new PayloadFormats(new ObjectMapper(), Jackson2ObjectMapperBuilder.json());
+        run(formats, "game quiz", gameQuiz());
+        run(formats, "dashboard", dashboard());
+    }
+
+    private static void run(PayloadFormats formats, String payload, Object value) throws IOException {
+        for (PayloadFormat format : PayloadFormat.values()) {
+            ObjectMapper mapper = formats.mapper(format);
+            byte[] bytes = mapper.writeValueAsBytes(value);
+            for (int i = 0; i < WARMUP; i++) {
+                mapper.readTree(mapper.writeValueAsBytes(value));
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                mapper.writeValueAsBytes(value);
+            }
+            long written = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                mapper.readTree(bytes);
+            }
+            long read = System.nanoTime();
+            System.out.printf("%s %s: %d bytes, %d gzipped, write %.1f us, read %.1f us%n", payload, format,
+                    bytes.length, gzip(bytes).length,
+                    (written - start) / 1e3 / ITERATIONS, (read - written) / 1e3 / ITERATIONS);
+        }
+    }
+
+    private static QuizImpl gameQuiz() throws QuizException {
+        List<QuestionImpl> questions = new ArrayList<>();
+        for (int q = 1; q <= QUESTIONS; q++) {
+            List<AnswerImpl> answers = new ArrayList<>();
+            for (int a = 1; a <= 4; a++) {
+                answers.add(new AnswerImpl(q * 10L + a, "Answer " + a + " to question " + q, AnswerResult.FALSE, q));
+            }
+            questions.add(new QuestionImpl(q, "Which of these is right for question number " + q + "?",
+                    QuestionType.FOUR_ANSWERS, answers));
+        }
+        return QuizImpl.QuizBuilder()
+                .setId(1)
+                .setTitle("ZNO")
+                .setDescription("Preparation quiz for the external independent evaluation")
+                .setCreatorId(3)
+                .setQuizType(QuizType.SCIENCE)
+                .setQuestions(questions)
+                .build();
+    }
+
+    private static DashboardImpl dashboard() {
+        List<QuizSummary> quizzes = new ArrayList<>();
+        for (int i = 1; i <= QUIZZES; i++) {
+            quizzes.add(new QuizSummary(i, "Quiz " + i, "Description of quiz number " + i, QuizType.SCIENCE));
+        }
+        return new DashboardImpl(quizzes, Collections.emptyList(), Collections.emptySet());
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,36 @@
+package dev.marco.example.springboot.format;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadFormatsTest {
+
+    private final PayloadFormats formats =
+            new PayloadFormats(new ObjectMapper(), Jackson2ObjectMapperBuilder.json());
+
+    @Test
+    void browsersGetJson() {
+        assertEquals(PayloadFormat.JSON, formats.negotiate((String) null));
+        assertEquals(PayloadFormat.JSON, formats.negotiate("*/*"));
+        assertEquals(PayloadFormat.JSON, formats.negotiate("application/json, text/plain, */*"));
+        assertEquals(PayloadFormat.JSON, formats.negotiate("text/html"));
+        assertEquals(PayloadFormat.JSON, formats.negotiate("not a media type"));
+    }
+
+    @Test
+    void binaryFormatIsChosenWhenAsked() {
+        assertEquals(PayloadFormat.CBOR, formats.negotiate("application/cbor, application/json;q=0.5"));
+        assertEquals(PayloadFormat.SMILE, formats.negotiate("application/x-jackson-smile"));
+        assertEquals(PayloadFormat.JSON, formats.negotiate("application/json, application/cbor;q=0.5"));
+    }
+
+    @Test
+    void binaryRepresentationsHaveTheirOwnTags() {
+        assertEquals("\"k1-4-2\"", PayloadFormat.JSON.eTag("\"k1-4-2\""));
+        assertEquals("\"k1-4-2-cbor\"", PayloadFormat.CBOR.eTag("\"k1-4-2\""));
+        assertEquals("\"k1-4-2-u7-smile\"", PayloadFormat.SMILE.eTag("\"k1-4-2-u7\""));
+    }
+}
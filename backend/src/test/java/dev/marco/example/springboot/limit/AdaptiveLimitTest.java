@@ -0,0 +1,72 @@
+package dev.marco.example.springboot.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void lowerPrioritiesAreShedFirst() {
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 100);
+        for (int i = 0; i < 7; i++) {
+            assertTrue(limit.tryAcquire(Priority.SHEDDABLE));
+        }
+        assertFalse(limit.tryAcquire(Priority.SHEDDABLE));
+        assertTrue(limit.tryAcquire(Priority.NORMAL));
+        assertTrue(limit.tryAcquire(Priority.NORMAL));
+        assertFalse(limit.tryAcquire(Priority.NORMAL));
+        assertTrue(limit.tryAcquire(Priority.CRITICAL));
+        assertFalse(limit.tryAcquire(Priority.CRITICAL));
+    }
+
+    @Test
+    void limitGrowsWhileLatencyHoldsAndShrinksWhenItRises() {
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 100);
+        cycle(limit, FAST, 50);
+        int grown = limit.getLimit();
+        assertTrue(grown > 10);
+
+        cycle(limit, SLOW, 50);
+        assertTrue(limit.getLimit() < grown);
+        assertEquals(0, limit.getInflight());
+    }
+
+    @Test
+    void idleGroupDoesNotGrow() {
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 100);
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limit.tryAcquire(Priority.NORMAL));
+            limit.release(FAST);
+        }
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    void requestsAreGroupedByPath() {
+        assertEquals(EndpointGroup.AUTH, ConcurrencyLimits.groupOf("/auth/local"));
+        assertEquals(EndpointGroup.AUTH, ConcurrencyLimits.groupOf("/updatePassword/5"));
+        assertEquals(EndpointGroup.GAME, ConcurrencyLimits.groupOf("/quiz/game/end"));
+        assertEquals(EndpointGroup.ANNOUNCEMENTS, ConcurrencyLimits.groupOf("/announcement/all"));
+        assertEquals(EndpointGroup.DASHBOARD, ConcurrencyLimits.groupOf("/dashboard/3"));
+        assertNull(ConcurrencyLimits.groupOf("/announcement/events/7"));
+        assertNull(ConcurrencyLimits.groupOf("/user/me"));
+    }
+
+    private static void cycle(AdaptiveLimit limit, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int admitted = 0;
+            while (limit.tryAcquire(Priority.CRITICAL)) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limit.release(rttNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package dev.marco.example.springboot.nonblocking;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NonBlockingWriteFilterTest {
+
+    @Test
+    void readHeavyPagesAreBuffered() {
+        assertTrue(NonBlockingWriteFilter.isReadHeavy("/quiz"));
+        assertTrue(NonBlockingWriteFilter.isReadHeavy("/quiz/search"));
+        assertTrue(NonBlockingWriteFilter.isReadHeavy("/quiz/filter"));
+        assertTrue(NonBlockingWriteFilter.isReadHeavy("/dashboard/3"));
+        assertTrue(NonBlockingWriteFilter.isReadHeavy("/announcement/all"));
+        assertTrue(NonBlockingWriteFilter.isReadHeavy("/announcement/search"));
+        assertTrue(NonBlockingWriteFilter.isReadHeavy("/announcement/commentaries"));
+    }
+
+    @Test
+    void streamsCachedBytesAndOtherEndpointsAreLeftAlone() {
+        assertFalse(NonBlockingWriteFilter.isReadHeavy("/quiz/15"));
+        assertFalse(NonBlockingWriteFilter.isReadHeavy("/quiz/game/Capitals"));
+        assertFalse(NonBlockingWriteFilter.isReadHeavy("/quiz/all"));
+        assertFalse(NonBlockingWriteFilter.isReadHeavy("/quiz/export/15"));
+        assertFalse(NonBlockingWriteFilter.isReadHeavy("/quiz/export/15/0cc175b9c0f1b6a831c399e269772661"));
+        assertFalse(NonBlockingWriteFilter.isReadHeavy("/announcement/all/7"));
+        assertFalse(NonBlockingWriteFilter.isReadHeavy("/announcement/events/7"));
+        assertFalse(NonBlockingWriteFilter.isReadHeavy("/user/login"));
+        assertFalse(NonBlockingWriteFilter.isReadHeavy("/quizzes"));
+    }
+}
@@ -0,0 +1,100 @@
+package dev.marco.example.springboot.nonblocking;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how a running backend copes with slow clients. It opens {@code slow} connections that
+ * request a read-heavy page and never read the answer, then times {@value #PROBES} ordinary
+ * requests for the same page. Start the backend once with {@code NONBLOCKINGWRITES=false} and
+ * once without it, and run
+ * {@code java -cp target/test-classes dev.marco.example.springboot.nonblocking.SlowClientBenchmark <url> [slow]}
+ * against each. With blocking writes every slow client pins a request thread, so the probes
+ * queue or time out once they outnumber Tomcat's threads.
+ */
+public final class SlowClientBenchmark {
+
+    private static final int DEFAULT_SLOW_CLIENTS = 2000;
+    private static final int PROBES = 50;
+    private static final int TIMEOUT_MILLIS = 10_000;
+
+    private SlowClientBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        URI uri = URI.create(args[0]);
+        int slowClients = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SLOW_CLIENTS;
+
+        List<Socket> slow = new ArrayList<>(slowClients);
+        try {
+            for (int i = 0; i < slowClients; i++) {
+                Socket socket = connect(uri);
+                send(socket, uri);
+                slow.add(socket);
+            }
+            TimeUnit.SECONDS.sleep(1);
+
+            long[] latencies = new long[PROBES];
+            int failed = 0;
+            for (int i = 0; i < PROBES; i++) {
+                long start = System.nanoTime();
+                if (!probe(uri)) {
+                    failed++;
+                }
+                latencies[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(latencies);
+            System.out.printf("%d slow clients: p50 %d ms, p99 %d ms, %d of %d probes failed%n", slowClients,
+                    TimeUnit.NANOSECONDS.toMillis(latencies[PROBES / 2]),
+                    TimeUnit.NANOSECONDS.toMillis(latencies[PROBES * 99 / 100]), failed, PROBES);
+        } finally {
+            for (Socket socket : slow) {
+                socket.close();
+            }
+        }
+    }
+
+    private static Socket connect(URI uri) throws IOException {
+        Socket socket = new Socket();
+        // A small receive window keeps the server from parking the whole response in kernel buffers.
+        socket.setReceiveBufferSize(1024);
+        socket.setSoTimeout(TIMEOUT_MILLIS);
+        socket.connect(new InetSocketAddress(uri.getHost(), uri.getPort()), TIMEOUT_MILLIS);
+        return socket;
+    }
+
+    private static void send(Socket socket, URI uri) throws IOException {
+        String path = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+        OutputStream out = socket.getOutputStream();
+        out.write(("GET " + path + " HTTP/1.1\r\nHost: " + uri.getHost() + "\r\nConnection: close\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private static boolean probe(URI uri) {
+        try (Socket socket = connect(uri)) {
+            send(socket, uri);
+            InputStream in = socket.getInputStream();
+            byte[] buffer = new byte[8192];
+            int first = in.read(buffer);
+            if (first <= 0 || !new String(buffer, 0, first, StandardCharsets.US_ASCII).startsWith("HTTP/1.1 200")) {
+                return false;
+            }
+            while (in.read(buffer) != -1) {
+                // Drain the body so the whole response is timed.
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package dev.marco.example.springboot.rest;
 
+import dev.marco.example.springboot.dao.Projection;
+import dev.marco.example.springboot.dao.RowHandler;
 import dev.marco.example.springboot.model.Announcement;
+import dev.marco.example.springboot.model.impl.AnnouncementCommentImpl;
 import dev.marco.example.springboot.model.impl.AnnouncementImpl;
 import dev.marco.example.springboot.model.impl.UserImpl;
 import dev.marco.example.springboot.service.AnnouncementService;
@@ -11,15 +14,22 @@ import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfi
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
-import java.math.BigInteger;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -37,13 +47,17 @@ class AnnouncementControllerTest {
 
     @Test
     void createAnnouncementTest() throws Exception {
-            this.mockMvc.perform(MockMvcRequestBuilders
+            MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders
                     .post("/announcement/create")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content("{ \"title\":\"Let`s go to party\"," +
                              "  \"description\":\"Welcome to Festival\"," +
                              "  \"idUser\":5," +
                              "  \"address\":\"st. Shevchenko 1\"}"))
+                    .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                    .andReturn();
+
+            this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                     .andExpect(MockMvcResultMatchers.status().isOk());
             verify(announcementService).buildNewAnnouncement(any(Announcement.class));
     }
@@ -51,63 +65,73 @@ class AnnouncementControllerTest {
     @Test
     void getAllAnnouncementTest() throws Exception {
 
-        when(announcementService.getAllAnnouncements(BigInteger.ONE)).thenReturn(
-                Arrays.asList(
-                        new AnnouncementImpl.AnnouncementBuilder()
-                                .setId(BigInteger.ONE)
-                                .setTitle("TEST_TITLE1")
-                                .setDescription("TEST_DESCRIPTION1")
-                                .setIdUser(BigInteger.TEN)
-                                .setAddress("TEST_ADDRESS1")
-                                .setParticipantsCap(5)
-                                .setIsLiked(true)
-                                .build(),
-                        new AnnouncementImpl.AnnouncementBuilder()
-                                .setId(BigInteger.TWO)
-                                .setTitle("TEST_TITLE2")
-                                .setDescription("TEST_DESCRIPTION2")
-                                .setIdUser(BigInteger.TEN)
-                                .setAddress("TEST_ADDRESS2")
-                                .setParticipantsCap(10)
-                                .setIsLiked(false)
-                                .build()));
+        doAnswer(invocation -> {
+            RowHandler<Announcement> handler = invocation.getArgument(1);
+            handler.handle(new AnnouncementImpl.AnnouncementBuilder()
+                    .setId(1L)
+                    .setTitle("TEST_TITLE1")
+                    .setDescription("TEST_DESCRIPTION1")
+                    .setIdUser(10L)
+                    .setAddress("TEST_ADDRESS1")
+                    .setParticipantsCap(5)
+                    .setIsLiked(true)
+                    .build());
+            handler.handle(new AnnouncementImpl.AnnouncementBuilder()
+                    .setId(2L)
+                    .setTitle("TEST_TITLE2")
+                    .setDescription("TEST_DESCRIPTION2")
+                    .setIdUser(10L)
+                    .setAddress("TEST_ADDRESS2")
+                    .setParticipantsCap(10)
+                    .setIsLiked(false)
+                    .build());
+            return null;
+        }).when(announcementService).streamAllAnnouncements(eq(1L), any());
 
-        this.mockMvc.perform(MockMvcRequestBuilders
-                        .get("/announcement/all/{idUser}", BigInteger.ONE))
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders
+                        .get("/announcement/all/{idUser}", 1L))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(jsonPath("$[0].id").value(BigInteger.ONE))
+                .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[0].title").value("TEST_TITLE1"))
                 .andExpect(jsonPath("$[0].description").value("TEST_DESCRIPTION1"))
-                .andExpect(jsonPath("$[0].idUser").value(BigInteger.TEN))
+                .andExpect(jsonPath("$[0].idUser").value(10L))
                 .andExpect(jsonPath("$[0].address").value("TEST_ADDRESS1"))
                 .andExpect(jsonPath("$[0].participantsCap").value(5))
                 .andExpect(jsonPath("$[0].isLiked").value(true))
 
-                .andExpect(jsonPath("$[1].id").value(BigInteger.TWO))
+                .andExpect(jsonPath("$[1].id").value(2L))
                 .andExpect(jsonPath("$[1].title").value("TEST_TITLE2"))
                 .andExpect(jsonPath("$[1].description").value("TEST_DESCRIPTION2"))
-                .andExpect(jsonPath("$[1].idUser").value(BigInteger.TEN))
+                .andExpect(jsonPath("$[1].idUser").value(10L))
                 .andExpect(jsonPath("$[1].address").value("TEST_ADDRESS2"))
                 .andExpect(jsonPath("$[1].participantsCap").value(10))
                 .andExpect(jsonPath("$[1].isLiked").value(false));
 
-        verify(announcementService).getAllAnnouncements(BigInteger.ONE);
+        verify(announcementService).streamAllAnnouncements(eq(1L), any());
     }
 
     @Test
     void deleteAnnouncement() throws Exception {
-        this.mockMvc.perform(MockMvcRequestBuilders
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders
                         .delete("/announcement/delete")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{ \"idUser\": 1," +
                                  "  \"idAnnouncement\": 1 }"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                 .andExpect(MockMvcResultMatchers.status().isOk());
-        verify(announcementService).deleteAnnouncement(BigInteger.ONE, BigInteger.ONE);
+        verify(announcementService).deleteAnnouncement(1L, 1L);
     }
 
     @Test
     void editAnnouncement() throws Exception {
-        this.mockMvc.perform(MockMvcRequestBuilders
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders
                 .put("/announcement/update")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{ \"id\": 1," +
@@ -115,48 +139,156 @@ class AnnouncementControllerTest {
                          "  \"description\": \"welcome to the club body\"," +
                          "  \"idUser\": 1," +
                          "  \"address\": \"st. Bolshaya Dmitrovka 13\"}"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                 .andExpect(MockMvcResultMatchers.status().isOk());
         verify(announcementService).editAnnouncement(any(AnnouncementImpl.class));
     }
 
     @Test
     void likeAnnouncement() throws Exception {
-        this.mockMvc.perform(MockMvcRequestBuilders
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders
                 .post("/announcement/like")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{ \"idUser\" : 1, " +
                          "  \"idAnnouncement\": 1 }"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                 .andExpect(MockMvcResultMatchers.status().isOk());
-        verify(announcementService).setLikeAnnouncement(BigInteger.ONE);
+        verify(announcementService).setLikeAnnouncement(1L);
     }
 
     @Test
-    void getSetByTitle() throws Exception {
+    void likeWithoutAnnouncementIsBadRequest() throws Exception {
         this.mockMvc.perform(MockMvcRequestBuilders
+                .post("/announcement/like")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"idUser\" : 1 }"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        verify(announcementService, never()).setLikeAnnouncement(anyLong());
+    }
+
+    @Test
+    void getSetByTitle() throws Exception {
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders
                         .post("/announcement/search")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{ \"searchProject\":\"title\"," +
                                  "  \"idUser\":1}"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                 .andExpect(MockMvcResultMatchers.status().isOk());
 
-        verify(announcementService).getSetByTitle("title", BigInteger.ONE);
+        verify(announcementService).getSetByTitle("title", 1L);
     }
 
     @Test
     void getAnnouncementsByPage() throws Exception {
 
-        this.mockMvc.perform(MockMvcRequestBuilders
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders
                 .get("/announcement/all?page=1"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                 .andExpect(MockMvcResultMatchers.status().isOk());
-        verify(announcementService).getAnnouncementsByPage(1);
+        verify(announcementService).getAnnouncementsByPage(1, Projection.ALL);
     }
 
     @Test
     void getAnnouncementsLikeTitle() throws Exception {
-        this.mockMvc.perform(MockMvcRequestBuilders
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders
                         .get("/announcement/search?page=1&title=chill" ))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                 .andExpect(MockMvcResultMatchers.status().isOk());
-        verify(announcementService).getAnnouncementsLikeTitle("chill", 1);
+        verify(announcementService).getAnnouncementsLikeTitle("chill", 1, Projection.ALL);
 
     }
+
+    @Test
+    void getCommentariesTest() throws Exception {
+        when(announcementService.getComments(1L, 0L, 10)).thenReturn(
+                Arrays.asList(
+                        new AnnouncementCommentImpl(2L, "TEST_COMMENT2", "TEST_USER", null),
+                        new AnnouncementCommentImpl(1L, "TEST_COMMENT1", "TEST_USER", null)));
+        when(announcementService.getCommentsLastModified(1L)).thenReturn(1_600_000_000_000L);
+
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders
+                        .get("/announcement/commentaries?idAnnouncement=1&paginationSize=10"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"1-2-1-2\""))
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$[0].content").value("TEST_COMMENT2"))
+                .andExpect(jsonPath("$[1].content").value("TEST_COMMENT1"));
+
+        MvcResult notModified = this.mockMvc.perform(MockMvcRequestBuilders
+                        .get("/announcement/commentaries?idAnnouncement=1&paginationSize=10")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-2-1-2\""))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(notModified))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+    }
+
+    @Test
+    void pollWithoutNewCommentariesIsEmptyAndRevalidates() throws Exception {
+        when(announcementService.getComments(1L, 2L, 10)).thenReturn(Collections.emptyList());
+        when(announcementService.getCommentsLastModified(1L)).thenReturn(-1L);
+
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders
+                        .get("/announcement/commentaries?idAnnouncement=1&idLastComment=2&paginationSize=10"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"1-0\""))
+                .andExpect(MockMvcResultMatchers.content().json("[]"));
+
+        MvcResult notModified = this.mockMvc.perform(MockMvcRequestBuilders
+                        .get("/announcement/commentaries?idAnnouncement=1&idLastComment=2&paginationSize=10")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(notModified))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+    }
+
+    @Test
+    void getOlderCommentariesTest() throws Exception {
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders
+                        .get("/announcement/commentaries?idAnnouncement=1&idBeforeComment=10&paginationSize=5"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        verify(announcementService).getCommentsBefore(1L, 10L, 5);
+    }
+
+    @Test
+    void subscribeAnnouncementEventsTest() throws Exception {
+        when(announcementService.subscribeEvents(1L)).thenReturn(new SseEmitter());
+
+        this.mockMvc.perform(MockMvcRequestBuilders
+                        .get("/announcement/events/{idAnnouncement}", 1L)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted());
+        verify(announcementService).subscribeEvents(1L);
+    }
 }
\ No newline at end of file
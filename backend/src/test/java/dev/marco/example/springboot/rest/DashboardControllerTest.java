@@ -14,10 +14,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
-import java.math.BigInteger;
 import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Mockito.verify;
@@ -39,13 +39,17 @@ public class DashboardControllerTest {
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void generateDashboard() throws Exception {
         User user = new UserImpl.UserBuilder()
-                .setId(BigInteger.valueOf(3))
+                .setId(3)
                 .build();
 
-        this.mockMvc
+        MvcResult result = this.mockMvc
                 .perform(MockMvcRequestBuilders
                         .get("/dashboard/3")
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                 .andExpect(MockMvcResultMatchers.status().isOk());
 
         verify(dashboardService).generateDashboard(user.getId());
@@ -2,6 +2,8 @@ package dev.marco.example.springboot.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.marco.example.springboot.dao.Projection;
+import dev.marco.example.springboot.dao.RowHandler;
 import dev.marco.example.springboot.model.*;
 import dev.marco.example.springboot.model.impl.*;
 import dev.marco.example.springboot.service.GameService;
@@ -19,16 +21,19 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
-import java.math.BigInteger;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -61,36 +66,27 @@ public class QuizControllerTest {
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void showAllQuizzesTest() throws Exception {
 
-        when(quizService.getAllQuizzes())
-                .thenReturn(
-                        Arrays.asList(
-                                QuizImpl.QuizBuilder()
-                                        .setId(BigInteger.valueOf(1))
-                                        .setTitle("Quiz1")
-                                        .setDescription("Quiz1")
-                                        .setQuizType(QuizType.MATHEMATICS)
-                                        .setCreatorId(BigInteger.valueOf(1))
-                                        .build(),
-                                QuizImpl.QuizBuilder()
-                                        .setId(BigInteger.valueOf(2))
-                                        .setTitle("Quiz2")
-                                        .setDescription("Quiz2")
-                                        .setQuizType(QuizType.HISTORIC)
-                                        .setCreatorId(BigInteger.valueOf(4))
-                                        .build()
-                        )
-                );
+        doAnswer(invocation -> {
+            RowHandler<QuizSummary> handler = invocation.getArgument(0);
+            handler.handle(new QuizSummary(1, "Quiz1", "Quiz1", QuizType.MATHEMATICS));
+            handler.handle(new QuizSummary(2, "Quiz2", "Quiz2", QuizType.HISTORIC));
+            return null;
+        }).when(quizService).streamAllQuizzes(any());
 
-        this.mockMvc.perform(MockMvcRequestBuilders
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders
                         .get("/quiz/all"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(jsonPath("$[0].id").value(BigInteger.valueOf(1)))
+                .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].title").value("Quiz1"))
 
-                .andExpect(jsonPath("$[1].id").value(BigInteger.valueOf(2)))
+                .andExpect(jsonPath("$[1].id").value(2))
                 .andExpect(jsonPath("$[1].title").value("Quiz2"));
 
-        verify(quizService).getAllQuizzes();
+        verify(quizService).streamAllQuizzes(any());
     }
 
 
@@ -99,41 +95,65 @@ public class QuizControllerTest {
     void searchQuizzesLikeTitleTest() throws Exception {
         String title = "qu";
         Pageable pageable = PageRequest.of(1, 8);
-        when(quizService.getQuizzesLikeTitle(1, title))
+        when(quizService.getQuizzesLikeTitle(1, title, Projection.ALL))
                 .thenReturn(
                         new PageImpl<>(Arrays.asList(
-                                QuizImpl.QuizBuilder()
-                                        .setId(BigInteger.valueOf(1))
-                                        .setTitle("Quiz1")
-                                        .setDescription("Quiz1")
-                                        .setQuizType(QuizType.HISTORIC)
-                                        .setCreatorId(BigInteger.valueOf(1))
-                                        .build(),
-                                QuizImpl.QuizBuilder()
-                                        .setId(BigInteger.valueOf(2))
-                                        .setTitle("Quiz2")
-                                        .setDescription("Quiz2")
-                                        .setQuizType(QuizType.HISTORIC)
-                                        .setCreatorId(BigInteger.valueOf(1))
-                                        .build()
+                                new QuizSummary(1, "Quiz1", "Quiz1", QuizType.HISTORIC),
+                                new QuizSummary(2, "Quiz2", "Quiz2", QuizType.HISTORIC)
                         ), pageable, 2));
 
         this.mockMvc.perform(MockMvcRequestBuilders
                         .get("/quiz/search?page=1&title={title}", title))
                 .andExpect(MockMvcResultMatchers.status().isOk());
 
-        verify(quizService).getQuizzesLikeTitle(1, title);
+        verify(quizService).getQuizzesLikeTitle(1, title, Projection.ALL);
+    }
+
+    @Test
+    @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+    void quizzesWithFieldsLeaveOtherFieldsOutTest() throws Exception {
+        Projection titles = Projection.of("title");
+        when(quizService.getQuizzesByPage(1, titles))
+                .thenReturn(new PageImpl<>(Arrays.asList(
+                        new QuizSummary(1, "Quiz1", null, QuizType.HISTORIC).projected()
+                ), PageRequest.of(0, 8), 1));
+
+        this.mockMvc.perform(MockMvcRequestBuilders
+                        .get("/quiz?page=1&fields=title"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].title").value("Quiz1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].description").doesNotExist());
+
+        verify(quizService).getQuizzesByPage(1, titles);
+    }
+
+    @Test
+    @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+    void quizzesWithoutFieldsKeepNullFieldsTest() throws Exception {
+        when(quizService.getQuizzesByPage(1, Projection.ALL))
+                .thenReturn(new PageImpl<>(Arrays.asList(
+                        new QuizSummary(1, "Quiz1", null, QuizType.HISTORIC)
+                ), PageRequest.of(0, 8), 1));
+
+        this.mockMvc.perform(MockMvcRequestBuilders
+                        .get("/quiz?page=1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].title").value("Quiz1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].description").value(nullValue()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].quizType").value("HISTORIC"));
+
+        verify(quizService).getQuizzesByPage(1, Projection.ALL);
     }
 
     @Test
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void getQuizByIdTest() throws Exception {
-        when(quizService.getQuizById(BigInteger.valueOf(1)))
+        when(quizService.getQuizById(1))
                 .thenReturn(QuizImpl.QuizBuilder()
-                        .setId(BigInteger.valueOf(1))
+                        .setId(1)
                         .setTitle("NewQuiz")
                         .setDescription("Description of NewQuiz")
-                        .setCreatorId(BigInteger.valueOf(3))
+                        .setCreatorId(3)
                         .setQuizType(QuizType.MATHEMATICS)
                         .build());
 
@@ -142,21 +162,69 @@ public class QuizControllerTest {
                         .get("/quiz/1")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(BigInteger.ONE))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(1L))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.title").value("NewQuiz"));
 
     }
 
+    @Test
+    @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+    void unchangedQuizIsNotModifiedTest() throws Exception {
+        when(quizService.getQuizById(4))
+                .thenReturn(QuizImpl.QuizBuilder()
+                        .setId(4)
+                        .setTitle("NewQuiz")
+                        .setDescription("Description of NewQuiz")
+                        .setCreatorId(3)
+                        .setQuizType(QuizType.MATHEMATICS)
+                        .build());
+
+        MvcResult first = this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/quiz/4"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+                .andReturn();
+
+        this.mockMvc
+                .perform(MockMvcRequestBuilders.get("/quiz/4")
+                        .header(HttpHeaders.IF_NONE_MATCH, first.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        verify(quizService, times(1)).getQuizById(4);
+    }
+
+    @Test
+    @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+    void repeatedQuizIsServedFromBytesTest() throws Exception {
+        when(quizService.getQuizById(5))
+                .thenReturn(QuizImpl.QuizBuilder()
+                        .setId(5)
+                        .setTitle("CachedQuiz")
+                        .setDescription("Description of CachedQuiz")
+                        .setCreatorId(3)
+                        .setQuizType(QuizType.SCIENCE)
+                        .build());
+
+        for (int i = 0; i < 2; i++) {
+            this.mockMvc
+                    .perform(MockMvcRequestBuilders.get("/quiz/5"))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.title").value("CachedQuiz"));
+        }
+
+        verify(quizService, times(1)).getQuizById(5);
+    }
+
     @Test
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void deleteQuizTest() throws Exception {
 
-        when(quizService.getQuizById(BigInteger.valueOf(1)))
+        when(quizService.getQuizById(1))
                 .thenReturn(QuizImpl.QuizBuilder()
-                        .setId(BigInteger.valueOf(1))
+                        .setId(1)
                         .setTitle("NewQuiz")
                         .setDescription("Description of NewQuiz")
-                        .setCreatorId(BigInteger.valueOf(3))
+                        .setCreatorId(3)
                         .setQuizType(QuizType.MATHEMATICS)
                         .build());
 
@@ -173,15 +241,15 @@ public class QuizControllerTest {
     void updateQuizTest() throws Exception {
 
         QuizImpl quiz = QuizImpl.QuizBuilder()
-                .setId(BigInteger.valueOf(2))
+                .setId(2)
                 .setTitle("Testing your Light!!!")
                 .setDescription("Light!!!")
                 .setQuizType(QuizType.SCIENCE)
                 .setCreationDate(new Date(System.currentTimeMillis()))
-                .setCreatorId(BigInteger.valueOf(7))
+                .setCreatorId(7)
                 .build();
 
-        when(quizService.getQuizById(BigInteger.valueOf(2)))
+        when(quizService.getQuizById(2))
                 .thenReturn(quiz);
 
         this.mockMvc.perform(MockMvcRequestBuilders
@@ -198,11 +266,11 @@ public class QuizControllerTest {
     void buildNewQuizTest() throws Exception {
 
         List<QuestionImpl> questions = new ArrayList<>();
-        QuestionImpl question = new QuestionImpl(BigInteger.valueOf(1), "Ukraine location?", QuestionType.TRUE_FALSE);
+        QuestionImpl question = new QuestionImpl(1, "Ukraine location?", QuestionType.TRUE_FALSE);
 
         List<AnswerImpl> answers = new ArrayList<>();
-        answers.add(new AnswerImpl(BigInteger.valueOf(1), "America", AnswerResult.FALSE, question.getId()));
-        answers.add(new AnswerImpl(BigInteger.valueOf(2), "Europe", AnswerResult.TRUE, question.getId()));
+        answers.add(new AnswerImpl(1, "America", AnswerResult.FALSE, question.getId()));
+        answers.add(new AnswerImpl(2, "Europe", AnswerResult.TRUE, question.getId()));
 
         question.setAnswers(answers);
         questions.add(question);
@@ -211,7 +279,7 @@ public class QuizControllerTest {
                 .setTitle("QuizBuild!")
                 .setDescription("Light!")
                 .setQuizType(QuizType.SCIENCE)
-                .setCreatorId(BigInteger.valueOf(7))
+                .setCreatorId(7)
                 .setQuestions(questions)
                 .build();
 
@@ -229,12 +297,12 @@ public class QuizControllerTest {
     @Test
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void showAllFilterQuizzes() throws Exception {
-        when(quizService.getQuizById(BigInteger.valueOf(1)))
+        when(quizService.getQuizById(1))
                 .thenReturn(QuizImpl.QuizBuilder()
-                        .setId(BigInteger.valueOf(1))
+                        .setId(1)
                         .setTitle("NewQuiz")
                         .setDescription("Description of NewQuiz")
-                        .setCreatorId(BigInteger.valueOf(3))
+                        .setCreatorId(3)
                         .setQuizType(QuizType.MATHEMATICS)
                         .build());
 
@@ -253,19 +321,23 @@ public class QuizControllerTest {
 
         when(gameService.sendGameQuiz(quizName))
                 .thenReturn(QuizImpl.QuizBuilder()
-                        .setId(BigInteger.valueOf(1))
+                        .setId(1)
                         .setTitle(quizName)
                         .setDescription("Desc of new quiz")
-                        .setCreatorId(BigInteger.valueOf(7))
+                        .setCreatorId(7)
                         .setQuizType(QuizType.HISTORIC)
                         .build());
 
-        this.mockMvc
+        MvcResult result = this.mockMvc
                 .perform(MockMvcRequestBuilders
                         .get("/quiz/game/{title}", quizName)
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(BigInteger.ONE))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(1L))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.title").value(quizName));
     }
 
@@ -273,7 +345,7 @@ public class QuizControllerTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void finishQuizTest() throws Exception {
     UserImpl user = (UserImpl) new UserImpl.UserBuilder()
-            .setId(BigInteger.valueOf(2036))
+            .setId(2036)
             .setEmail("JohnTitor@gmail.com")
             .setFirstName("John")
             .setLastName("Titor")
@@ -284,11 +356,15 @@ public class QuizControllerTest {
     ObjectMapper mapper = new ObjectMapper();
     mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
 
-    this.mockMvc.perform(MockMvcRequestBuilders
+    MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders
             .post("/quiz/game/end")
             .contentType(MediaType.APPLICATION_JSON)
             .content(mapper.writeValueAsString(new QuizController.ParamsInFinishQuiz(userAnswers, "ZNO", user)))
             .accept(MediaType.APPLICATION_JSON))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+
+    this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
             .andExpect(MockMvcResultMatchers.status().isOk());
   }
 
@@ -296,15 +372,15 @@ public class QuizControllerTest {
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void setLikeOnQuizTest() throws Exception {
         QuizImpl quiz = QuizImpl.QuizBuilder()
-                .setId(BigInteger.ONE)
+                .setId(1L)
                 .setTitle("NewQuiz")
                 .setDescription("Desc of NewQuiz")
-                .setCreatorId(BigInteger.ONE)
+                .setCreatorId(1L)
                 .build();
         QuizAccomplishedImpl quizAccomplished = new QuizAccomplishedImpl(5, false, quiz);
 
         this.mockMvc.perform(MockMvcRequestBuilders
-                        .put("/quiz/like/{id}", BigInteger.ONE)
+                        .put("/quiz/like/{id}", 1L)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(asJsonString(quizAccomplished))
                         .accept(MediaType.APPLICATION_JSON))
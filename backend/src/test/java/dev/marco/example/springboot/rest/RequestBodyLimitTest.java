@@ -0,0 +1,78 @@
+package dev.marco.example.springboot.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestBodyLimitTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final RequestBodyLimit limit = new RequestBodyLimit(64);
+
+    @Test
+    void smallBodyIsBound() throws Exception {
+        AnnouncementController.ParamsInCreateCommentary params = read(
+                "{\"idAnnouncement\":3,\"idUser\":5,\"commentContent\":\"See you there\"}", true,
+                AnnouncementController.ParamsInCreateCommentary.class);
+
+        assertEquals(3, params.idAnnouncement);
+        assertEquals(5, params.idUser);
+        assertEquals("See you there", params.commentContent);
+    }
+
+    @Test
+    void missingFieldIsRejected() {
+        assertThrows(MismatchedInputException.class, () -> read("{\"idUser\":5}", true,
+                AnnouncementController.ParamsInDeleteAnnouncement.class));
+    }
+
+    @Test
+    void declaredLengthOverTheLimitIsRefusedBeforeReading() {
+        String body = "{\"idAnnouncement\":3,\"idUser\":5,\"commentContent\":\"" + "x".repeat(100) + "\"}";
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> read(body, true,
+                AnnouncementController.ParamsInCreateCommentary.class));
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, e.getStatus());
+    }
+
+    @Test
+    void chunkedBodyIsCutOffAtTheLimit() {
+        String body = "{\"idUser\":5,\"searchProject\":\"" + "x".repeat(10000) + "\"}";
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> read(body, false,
+                AnnouncementController.ParamsInSearchAnnouncement.class));
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, e.getStatus());
+    }
+
+    private <T> T read(String body, boolean withLength, Class<T> type) throws Exception {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        HttpHeaders headers = new HttpHeaders();
+        if (withLength) {
+            headers.setContentLength(bytes.length);
+        }
+        HttpInputMessage message = new HttpInputMessage() {
+            @Override
+            public InputStream getBody() {
+                return new ByteArrayInputStream(bytes);
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+        assertTrue(RequestBodyLimit.LIMITED_BODIES.contains(type));
+        return objectMapper.readValue(limit.beforeBodyRead(message, null, type, null).getBody(), type);
+    }
+}
@@ -16,18 +16,21 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.web.server.ResponseStatusException;
-import java.math.BigInteger;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @EnableAutoConfiguration(exclude = SecurityAutoConfiguration.class)
@@ -49,13 +52,16 @@ class UserControllerTest {
         try {
             String content = "{\n   \"email\":\"kk@gmail.com\",\n   \"password\":\"testPassword5-\"\n}";
 
-            this.mockMvc.perform(post("/auth/local")
+            MvcResult result = this.mockMvc.perform(post("/auth/local")
                     .content(content)
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.APPLICATION_JSON))
-                    .andExpect(status().isOk())
+                    .andExpect(request().asyncStarted())
                     .andReturn();
 
+            this.mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk());
+
         } catch (Exception e) {
             log.error(e.getMessage());
         }
@@ -67,13 +73,16 @@ class UserControllerTest {
         try {
             String content = "{\n   \"email\":\"kk@gmail.com\",\n   \"password\":\"notAPassword\"\n}";
 
-            this.mockMvc.perform(post("/auth/local")
+            MvcResult result = this.mockMvc.perform(post("/auth/local")
                     .content(content)
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.APPLICATION_JSON))
-                    .andExpect(status().isNotFound())
+                    .andExpect(request().asyncStarted())
                     .andReturn();
 
+            this.mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isNotFound());
+
         } catch (Exception e) {
             log.error(e.getMessage());
         }
@@ -88,12 +97,15 @@ class UserControllerTest {
                 "\"email\":\"newUser" + num + "@gmail.com\",\n   " +
                 "\"password\":\"testP123assword1-\"\n}";
 
-        this.mockMvc.perform(post("/auth/local/register")
+        MvcResult result = this.mockMvc.perform(post("/auth/local/register")
                 .content(content)
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON))
-                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
                 .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
     }
 
     @Test
@@ -104,12 +116,15 @@ class UserControllerTest {
                 "\"email\":\"masig@gmail.com\",\n   " +
                 "\"password\":\"testPassword3-\"\n}";
 
-        this.mockMvc.perform(post("/auth/local/register")
+        MvcResult result = this.mockMvc.perform(post("/auth/local/register")
                 .content(content)
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound())
+                .andExpect(request().asyncStarted())
                 .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
     }
 
     @Test
@@ -120,12 +135,15 @@ class UserControllerTest {
                 "\"email\":\"3\",\n   " +
                 "\"password\":\"4\"\n}";
 
-        this.mockMvc.perform(post("/auth/local/register")
+        MvcResult result = this.mockMvc.perform(post("/auth/local/register")
                 .content(content)
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound())
+                .andExpect(request().asyncStarted())
                 .andReturn();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
     }
 
 //    //WTF?
@@ -134,7 +152,7 @@ class UserControllerTest {
 //    void recoverTest() throws Exception {
 //        String content = "{\n\t\"email\":\"Olvik@gmail.com\"\n}";
 //
-//        when(userService.getUserById(any(BigInteger.class)))
+//        when(userService.getUserById(anyLong()))
 //            .thenThrow(UserDoesNotExistException.class);
 //
 //        this.mockMvc.perform(post("/auth/recover")
@@ -154,9 +172,9 @@ class UserControllerTest {
     @Test
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void getUserTest() throws Exception {
-        when(userService.getUserById(BigInteger.ONE))
+        when(userService.getUserById(1L))
                 .thenReturn(new UserImpl.UserBuilder()
-                        .setId(BigInteger.ONE)
+                        .setId(1L)
                         .setFirstName("Golum")
                         .setLastName("Valuevich")
                         .setEmail("golum@gmail.com")
@@ -165,9 +183,9 @@ class UserControllerTest {
 
         this.mockMvc
                 .perform(MockMvcRequestBuilders
-                        .get("/user/{idUser}", BigInteger.ONE))
+                        .get("/user/{idUser}", 1L))
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(BigInteger.ONE))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(1L))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.firstName").value("Golum"))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.lastName").value("Valuevich"))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.email").value("golum@gmail.com"));
@@ -179,10 +197,10 @@ class UserControllerTest {
 
         this.mockMvc
                 .perform(MockMvcRequestBuilders
-                        .delete("/user/{idUser}", BigInteger.ONE))
+                        .delete("/user/{idUser}", 1L))
                 .andExpect(MockMvcResultMatchers.status().isOk());
 
-        verify(userService).deleteUser(BigInteger.ONE);
+        verify(userService).deleteUser(1L);
     }
 
     @Test
@@ -191,25 +209,25 @@ class UserControllerTest {
 
         this.mockMvc
                 .perform(MockMvcRequestBuilders
-                        .put("/user/{idUser}", BigInteger.ONE)
+                        .put("/user/{idUser}", 1L)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{ \"firstName\":\"Leopold\"," +
                                 " \"lastName\":\"Kotanovich\"," +
                                 " \"description\":\"i like to play billiards\"}"))
                 .andExpect(MockMvcResultMatchers.status().isOk());
 
-        verify(userService).updateUsersFullName(BigInteger.ONE, "Leopold", "Kotanovich");
-        verify(userService).updateUsersDescription(BigInteger.ONE, "i like to play billiards");
+        verify(userService).updateUsersFullName(1L, "Leopold", "Kotanovich");
+        verify(userService).updateUsersDescription(1L, "i like to play billiards");
     }
 
     @Test
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void getUserShouldReturnResponseStatusExceptionNotFound() throws Exception {
-        when(userService.getUserById(any(BigInteger.class)))
+        when(userService.getUserById(anyLong()))
                 .thenThrow(UserDoesNotExistException.class);
 
         this.mockMvc.perform(MockMvcRequestBuilders
-                        .get("/user/{idUser}", BigInteger.ONE))
+                        .get("/user/{idUser}", 1L))
                 .andExpect(result -> assertTrue(result.getResolvedException() instanceof ResponseStatusException))
                 .andExpect(result -> assertEquals(HttpStatus.NOT_FOUND.value(), result.getResponse().getStatus()));
     }
@@ -218,11 +236,11 @@ class UserControllerTest {
     @Test
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void getUserShouldReturnResponseStatusExceptionInternalServerError() throws Exception {
-        when(userService.getUserById(any(BigInteger.class)))
+        when(userService.getUserById(anyLong()))
                 .thenThrow(DAOLogicException.class);
 
         this.mockMvc.perform(MockMvcRequestBuilders
-                        .get("/user/{idUser}", BigInteger.ONE))
+                        .get("/user/{idUser}", 1L))
                 .andExpect(result -> assertTrue(result.getResolvedException() instanceof ResponseStatusException))
                 .andExpect(result -> assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), result.getResponse().getStatus()));
     }
@@ -236,7 +254,7 @@ class UserControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.status().isOk());
 
-        verify(userService).getFavoriteQuizesByUser(BigInteger.valueOf(1));
+        verify(userService).getFavoriteQuizesByUser(1);
     }
 
     @Test
@@ -255,19 +273,23 @@ class UserControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.status().isOk());
 
-        verify(userService).getAccomplishedQuizesByUser(BigInteger.TWO);
+        verify(userService).getAccomplishedQuizesByUser(2L);
     }
 
     @Test
     void updatePasswordTest() throws Exception {
-        this.mockMvc
+        MvcResult result = this.mockMvc
                 .perform(MockMvcRequestBuilders
-                        .put("/updatePassword/{id}", BigInteger.ONE)
+                        .put("/updatePassword/{id}", 1L)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{ \"oldPass\":\"somePassword\"," +
                                  "  \"newPass\":\"newSomePassword\"," +
                                  "  \"confirmPass\":\"newSomePassword\" }"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                 .andExpect(MockMvcResultMatchers.status().isOk());
-        verify(userService).updateUsersPassword(BigInteger.ONE, "somePassword", "newSomePassword");
+        verify(userService).updateUsersPassword(1L, "somePassword", "newSomePassword");
     }
 }
\ No newline at end of file
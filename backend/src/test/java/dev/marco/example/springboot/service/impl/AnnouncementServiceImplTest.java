@@ -10,10 +10,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import dev.marco.example.springboot.dao.impl.AnnouncementDAOImpl;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.Announcement;
+import dev.marco.example.springboot.model.AnnouncementCard;
 import dev.marco.example.springboot.model.impl.AnnouncementImpl;
 import org.springframework.data.domain.Page;
 
-import java.math.BigInteger;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
@@ -54,10 +54,10 @@ class AnnouncementServiceImplTest {
     void buildNewAnnouncement() {
         try {
 
-            BigInteger idAnnouncement = announcementService.buildNewAnnouncement(new AnnouncementImpl.AnnouncementBuilder()
+            long idAnnouncement = announcementService.buildNewAnnouncement(new AnnouncementImpl.AnnouncementBuilder()
                     .setTitle(TEST_TITLE)
                     .setDescription(TEST_DESCRIPTION)
-                    .setIdUser(BigInteger.valueOf(5))
+                    .setIdUser(5)
                     .setAddress(TEST_ADDRESS)
                     .build());
             assertNotNull(idAnnouncement);
@@ -65,11 +65,11 @@ class AnnouncementServiceImplTest {
                     ()-> announcementService.buildNewAnnouncement(new AnnouncementImpl.AnnouncementBuilder()
                             .setTitle(TEST_TITLE)
                             .setDescription(TEST_DESCRIPTION)
-                            .setIdUser(BigInteger.valueOf(5))
+                            .setIdUser(5)
                             .setAddress(TEST_ADDRESS)
                             .build()));
             assertNotNull(exception);
-            announcementService.deleteAnnouncement(idAnnouncement, BigInteger.valueOf(5));
+            announcementService.deleteAnnouncement(idAnnouncement, 5);
         } catch (AnnouncementException | DAOLogicException | UserException | AnnouncementDoesNotExistException |
                 UserDoesNotExistException e) {
             log.error(LOG_ERROR_CASE +"buildNewAnnouncement "+ e.getMessage());
@@ -81,9 +81,9 @@ class AnnouncementServiceImplTest {
     @Timeout(value = 10000, unit= TimeUnit.MILLISECONDS)
     void getAllAnnouncements() {
         try {
-            List<Announcement> announcementList = announcementService.getAllAnnouncements(BigInteger.ONE);
+            List<AnnouncementCard> announcementList = announcementService.getAllAnnouncements(1L);
             assertNotNull(announcementList);
-            for(Announcement announcement: announcementList){
+            for(AnnouncementCard announcement: announcementList){
                 assertNotNull(announcement);
             }
         } catch (AnnouncementDoesNotExistException | DAOLogicException | AnnouncementException e) {
@@ -96,10 +96,10 @@ class AnnouncementServiceImplTest {
     @Timeout(value = 10000, unit= TimeUnit.MILLISECONDS)
     void editAnnouncement() {
         try {
-            BigInteger idAnnouncement = announcementService.buildNewAnnouncement(new AnnouncementImpl.AnnouncementBuilder()
+            long idAnnouncement = announcementService.buildNewAnnouncement(new AnnouncementImpl.AnnouncementBuilder()
                     .setTitle(TEST_TITLE)
                     .setDescription(TEST_DESCRIPTION)
-                    .setIdUser(BigInteger.valueOf(5))
+                    .setIdUser(5)
                     .setAddress(TEST_ADDRESS)
                     .build());
             assertNotNull(idAnnouncement);
@@ -107,14 +107,14 @@ class AnnouncementServiceImplTest {
                     .setId(idAnnouncement)
                     .setTitle(TEST_NEW_TITLE)
                     .setDescription(TEST_NEW_DESCRIPTION)
-                    .setIdUser(BigInteger.valueOf(5))
+                    .setIdUser(5)
                     .setAddress(TEST_NEW_ADDRESS)
                     .build());
             Announcement testAnnouncement = announcementDAO.getAnnouncementById(idAnnouncement);
             assertEquals(TEST_NEW_TITLE, testAnnouncement.getTitle());
             assertEquals(TEST_NEW_DESCRIPTION, testAnnouncement.getDescription());
             assertEquals(TEST_NEW_ADDRESS, testAnnouncement.getAddress());
-            announcementService.deleteAnnouncement(idAnnouncement, BigInteger.valueOf(5));
+            announcementService.deleteAnnouncement(idAnnouncement, 5);
         } catch (DAOLogicException | AnnouncementException | AnnouncementDoesNotExistException | UserException |
                 UserDoesNotExistException e) {
             log.error(LOG_ERROR_CASE +"editAnnouncement "+ e.getMessage());
@@ -126,14 +126,14 @@ class AnnouncementServiceImplTest {
     @Timeout(value = 10000, unit= TimeUnit.MILLISECONDS)
     void deleteAnnouncement() {
         try {
-            BigInteger idAnnouncement = announcementService.buildNewAnnouncement(new AnnouncementImpl.AnnouncementBuilder()
+            long idAnnouncement = announcementService.buildNewAnnouncement(new AnnouncementImpl.AnnouncementBuilder()
                     .setTitle(TEST_TITLE)
                     .setDescription(TEST_DESCRIPTION)
-                    .setIdUser(BigInteger.valueOf(5))
+                    .setIdUser(5)
                     .setAddress(TEST_ADDRESS)
                     .build());
             assertNotNull(idAnnouncement);
-            announcementService.deleteAnnouncement(idAnnouncement, BigInteger.valueOf(5));
+            announcementService.deleteAnnouncement(idAnnouncement, 5);
             AnnouncementDoesNotExistException thrown = assertThrows(AnnouncementDoesNotExistException.class, () ->
                     announcementDAO.getAnnouncementById(idAnnouncement));
             assertNotNull(thrown);
@@ -148,9 +148,9 @@ class AnnouncementServiceImplTest {
     @Timeout(value = 10000, unit= TimeUnit.MILLISECONDS)
     void getPopularAnnouncements() {
         try {
-            List<Announcement> announcements = announcementService.getPopularAnnouncements(4, BigInteger.ONE);
+            List<AnnouncementCard> announcements = announcementService.getPopularAnnouncements(4, 1L);
             assertNotNull(announcements);
-            for(Announcement announcement: announcements)
+            for(AnnouncementCard announcement: announcements)
                 assertNotNull(announcement);
         } catch (AnnouncementDoesNotExistException | DAOLogicException e) {
             log.error(LOG_ERROR_CASE +"getPopularAnnouncements "+ e.getMessage());
@@ -162,9 +162,9 @@ class AnnouncementServiceImplTest {
     @Timeout(value = 10000, unit= TimeUnit.MILLISECONDS)
     void getAnnouncementsLikedByUser() {
         try {
-            Set<Announcement> announcementSet = announcementService.getAnnouncementsLikedByUser(BigInteger.ONE);
+            Set<AnnouncementCard> announcementSet = announcementService.getAnnouncementsLikedByUser(1L);
             assertNotNull(announcementSet);
-            for(Announcement announcement: announcementSet)
+            for(AnnouncementCard announcement: announcementSet)
                 assertNotNull(announcement);
         } catch (AnnouncementDoesNotExistException | DAOLogicException | AnnouncementException e) {
             log.error(LOG_ERROR_CASE +"getAnnouncementsLikedByUser "+ e.getMessage());
@@ -175,9 +175,9 @@ class AnnouncementServiceImplTest {
     @Test
     void getSetByTitle() {
         try {
-            Set<Announcement> announcementSet = announcementService.getSetByTitle("gath", BigInteger.ONE);
+            Set<AnnouncementCard> announcementSet = announcementService.getSetByTitle("gath", 1L);
             assertNotNull(announcementSet);
-            for (Announcement announcement : announcementSet)
+            for (AnnouncementCard announcement : announcementSet)
                 assertNotNull(announcement);
         } catch (DAOLogicException e) {
             log.error(LOG_ERROR_CASE + "getSetByTitle " + e.getMessage());
@@ -190,11 +190,11 @@ class AnnouncementServiceImplTest {
     void createComment() {
         try {
             String commentContent = "" + new Random().nextInt(500000);
-            announcementService.createComment(commentContent, BigInteger.ONE, BigInteger.ONE);
+            announcementService.createComment(commentContent, 1L, 1L);
 
             List<AnnouncementComment> comments = announcementService.getComments(
-                    BigInteger.ONE,
-                    BigInteger.ONE,
+                    1L,
+                    1L,
                     999999);
 
             assertEquals(comments.get(0).getContent(),  commentContent);
@@ -209,7 +209,7 @@ class AnnouncementServiceImplTest {
     void createCommentFail() {
         String commentContent = "" + new Random().nextInt(500000);
         assertThrows(AnnouncementException.class,
-                () -> announcementService.createComment(commentContent, BigInteger.ZERO, null)
+                () -> announcementService.createComment(commentContent, 0L, 0L)
         );
     }
 }
\ No newline at end of file
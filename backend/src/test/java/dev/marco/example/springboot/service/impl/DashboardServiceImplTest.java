@@ -12,7 +12,6 @@ import dev.marco.example.springboot.model.User;
 import dev.marco.example.springboot.model.impl.UserImpl;
 import dev.marco.example.springboot.service.DashboardService;
 
-import java.math.BigInteger;
 import java.util.concurrent.TimeUnit;
 
 import static dev.marco.example.springboot.exception.MessagesForException.*;
@@ -42,7 +41,7 @@ public class DashboardServiceImplTest {
     void generateDashboardTest() throws DAOLogicException {
         try {
             User user = new UserImpl.UserBuilder()
-                    .setId(BigInteger.valueOf(1))
+                    .setId(1)
                     .build();
 
             Dashboard dashboard = dashboardService.generateDashboard(user.getId());
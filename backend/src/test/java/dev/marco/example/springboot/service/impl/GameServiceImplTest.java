@@ -18,7 +18,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import dev.marco.example.springboot.service.GameService;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -62,7 +61,7 @@ public class GameServiceImplTest {
             Quiz quiz = gameService.sendGameQuiz(quizTitle);
             assertNotNull(quiz);
             assertEquals("Try this!", quiz.getDescription());
-            assertEquals(BigInteger.TWO, quiz.getCreatorId());
+            assertEquals(2L, quiz.getCreatorId());
 
             List<QuestionImpl> questions = quiz.getQuestions();
 
@@ -81,9 +80,9 @@ public class GameServiceImplTest {
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void validateAnswersTest() {
         try {
-            BigInteger userId = BigInteger.valueOf(5);
+            long userId = 5;
             User user = userService.getUserById(userId);
-            Quiz quiz = quizDAO.getQuizById(BigInteger.valueOf(3));
+            Quiz quiz = quizDAO.getQuizById(3);
 
             QuizAccomplishedImpl userAccomplishedQuiz = userAccomplishedQuizDAO.getAccomplishedQuizById(userId, quiz.getId());
 
@@ -91,16 +90,16 @@ public class GameServiceImplTest {
             assertEquals(1, userAccomplishedQuiz.getCorrectAnswers());
 
             List<AnswerImpl> userAnswers = new ArrayList<>();
-            userAnswers.add(answerDAO.getAnswerById(BigInteger.valueOf(84)));
-            userAnswers.add(answerDAO.getAnswerById(BigInteger.valueOf(88)));
-            userAnswers.add(answerDAO.getAnswerById(BigInteger.valueOf(90)));
-            userAnswers.add(answerDAO.getAnswerById(BigInteger.valueOf(95)));
-            userAnswers.add(answerDAO.getAnswerById(BigInteger.valueOf(100)));
-            userAnswers.add(answerDAO.getAnswerById(BigInteger.valueOf(103)));
-            userAnswers.add(answerDAO.getAnswerById(BigInteger.valueOf(108)));
-            userAnswers.add(answerDAO.getAnswerById(BigInteger.valueOf(112)));
-            userAnswers.add(answerDAO.getAnswerById(BigInteger.valueOf(113)));
-            userAnswers.add(answerDAO.getAnswerById(BigInteger.valueOf(120)));
+            userAnswers.add(answerDAO.getAnswerById(84));
+            userAnswers.add(answerDAO.getAnswerById(88));
+            userAnswers.add(answerDAO.getAnswerById(90));
+            userAnswers.add(answerDAO.getAnswerById(95));
+            userAnswers.add(answerDAO.getAnswerById(100));
+            userAnswers.add(answerDAO.getAnswerById(103));
+            userAnswers.add(answerDAO.getAnswerById(108));
+            userAnswers.add(answerDAO.getAnswerById(112));
+            userAnswers.add(answerDAO.getAnswerById(113));
+            userAnswers.add(answerDAO.getAnswerById(120));
 
             List<QuestionImpl> resultList = gameService.validateAnswers(quiz, user, userAnswers);
             System.out.println(resultList);
@@ -129,11 +128,11 @@ public class GameServiceImplTest {
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void setIsFavoriteTest() {
         try {
-            User user = userService.getUserById(BigInteger.valueOf(5));
+            User user = userService.getUserById(5);
             assertNotNull(user);
 
             QuizAccomplishedImpl quizAccomplished =
-                    userAccomplishedQuizDAO.getAccomplishedQuizById(user.getId(), BigInteger.valueOf(3));
+                    userAccomplishedQuizDAO.getAccomplishedQuizById(user.getId(), 3);
             assertNotNull(quizAccomplished);
 
             quizAccomplished.setFavourite(false);
@@ -3,17 +3,23 @@ package dev.marco.example.springboot.service.impl;
 import org.apache.log4j.Logger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import dev.marco.example.springboot.dao.UserDAO;
 import dev.marco.example.springboot.dao.impl.UserDAOImpl;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.User;
 import dev.marco.example.springboot.model.impl.UserImpl;
+import dev.marco.example.springboot.service.MailSenderService;
 
-import java.math.BigInteger;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 @SpringBootTest
 class MailSenderServiceImplTest {
@@ -48,7 +54,7 @@ class MailSenderServiceImplTest {
       } catch (UserDoesNotExistException e) {
         userDAO.createUser(
             new UserImpl.UserBuilder()
-                .setId(BigInteger.ONE)
+                .setId(1L)
                 .setFirstName("test")
                 .setLastName("test")
                 .setPassword("Qwerty123")
@@ -60,7 +66,7 @@ class MailSenderServiceImplTest {
       assertTrue(
           mailSenderService.sendEmail(
               new UserImpl.UserBuilder()
-                  .setId(BigInteger.ONE)
+                  .setId(1L)
                   .setFirstName("test")
                   .setLastName("test")
                   .setPassword("Qwerty123")
@@ -79,7 +85,7 @@ class MailSenderServiceImplTest {
     try {
       mailSenderService.sendEmail(
           new UserImpl.UserBuilder()
-              .setId(BigInteger.ONE)
+              .setId(1L)
               .setFirstName("test")
               .setLastName("test")
               .setPassword("test")
@@ -98,9 +104,32 @@ class MailSenderServiceImplTest {
   void testGenerateCode() {
     try {
       String code = mailSenderService.generateCode();
-      userDAO.getUserByEmailCode(code);
-    } catch (UserDoesNotExistException e) {
-      assertTrue(true);
+      assertEquals(10, code.length());
+      assertFalse(userDAO.findUserByEmailCode(code).isPresent());
+    } catch (DAOLogicException e) {
+      log.error(MessagesForException.DAO_LOGIC_EXCEPTION + e.getMessage());
+      fail();
+    }
+  }
+
+  @Test
+  @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+  void testGenerateCodeSkipsCodeInUse() {
+    try {
+      UserDAO users = mock(UserDAO.class);
+      User taken = mock(User.class);
+      when(users.findUserByEmailCode(anyString()))
+          .thenReturn(Optional.of(taken))
+          .thenReturn(Optional.empty());
+      MailSenderServiceImpl service = new MailSenderServiceImpl();
+      ReflectionTestUtils.setField(service, "userDAO", users);
+
+      String code = service.generateCode();
+
+      ArgumentCaptor<String> tried = ArgumentCaptor.forClass(String.class);
+      verify(users, times(2)).findUserByEmailCode(tried.capture());
+      assertEquals(tried.getAllValues().get(1), code);
+      assertTrue(code.chars().allMatch(c -> MailSenderService.SYMBOLS.indexOf(c) >= 0));
     } catch (DAOLogicException e) {
       log.error(MessagesForException.DAO_LOGIC_EXCEPTION + e.getMessage());
       fail();
@@ -111,8 +140,8 @@ class MailSenderServiceImplTest {
   @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
   void testConfirmEmail() {
     try {
-      userDAO.updateUsersEmailCode(BigInteger.TWO, "testCode");
-      userDAO.disactivateUser(BigInteger.TWO);
+      userDAO.updateUsersEmailCode(2L, "testCode");
+      userDAO.disactivateUser(2L);
 
       User user = mailSenderService.confirmEmail("testCode");
       assertNull(user.getEmailCode());
@@ -141,12 +170,12 @@ class MailSenderServiceImplTest {
   @Timeout(value = 40000, unit = TimeUnit.MILLISECONDS)
   void testGenerateNewPassword() {
     try {
-      User user = userDAO.getUserById(BigInteger.TWO);
+      User user = userDAO.getUserById(2L);
       String email = user.getEmail();
       String password = "testPassword";
-      userDAO.updateUsersPassword(BigInteger.TWO, password);
+      userDAO.updateUsersPassword(2L, password);
       mailSenderService.generateNewPassword(email);
-      assertFalse(userDAO.comparisonOfPasswords(BigInteger.TWO, password));
+      assertFalse(userDAO.comparisonOfPasswords(2L, password));
     } catch (DAOLogicException | MailException | UserDoesNotExistException e) {
       log.error(MessagesForException.DAO_LOGIC_EXCEPTION + e.getMessage());
       fail();
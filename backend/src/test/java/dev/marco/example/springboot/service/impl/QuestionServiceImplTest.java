@@ -14,7 +14,6 @@ import dev.marco.example.springboot.model.impl.AnswerImpl;
 import dev.marco.example.springboot.model.impl.QuestionImpl;
 import dev.marco.example.springboot.service.QuestionService;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -44,7 +43,7 @@ class QuestionServiceImplTest {
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void getQuestionByIdTest() {
         try {
-            Question question = questionService.getQuestionById(BigInteger.valueOf(4));
+            Question question = questionService.getQuestionById(4);
             assertNotNull(question);
             assertNotNull(question.getAnswers());
             assertEquals(question.getQuestion(), "Uganda location?");
@@ -61,7 +60,7 @@ class QuestionServiceImplTest {
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void getQuestionByIdNullTest() {
         assertThrows(QuestionDoesNotExistException.class,
-                () -> questionService.getQuestionById(BigInteger.valueOf(-1))
+                () -> questionService.getQuestionById(-1)
         );
     }
 
@@ -69,7 +68,7 @@ class QuestionServiceImplTest {
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void createQuestionTest() {
         try {
-            BigInteger quizId = BigInteger.valueOf(2);
+            long quizId = 2;
             String questionText = "" + new Random().nextInt(500000);
             Question questionModel = new QuestionImpl(
                     questionText,
@@ -77,10 +76,10 @@ class QuestionServiceImplTest {
             );
 
             List<AnswerImpl> answers = new ArrayList<>();
-            answers.add(new AnswerImpl("America", AnswerResult.FALSE, BigInteger.valueOf(52)));
-            answers.add(new AnswerImpl("Asia", AnswerResult.FALSE, BigInteger.valueOf(52)));
-            answers.add(new AnswerImpl("Africa", AnswerResult.FALSE, BigInteger.valueOf(52)));
-            answers.add(new AnswerImpl("Europe", AnswerResult.TRUE, BigInteger.valueOf(52)));
+            answers.add(new AnswerImpl("America", AnswerResult.FALSE, 52));
+            answers.add(new AnswerImpl("Asia", AnswerResult.FALSE, 52));
+            answers.add(new AnswerImpl("Africa", AnswerResult.FALSE, 52));
+            answers.add(new AnswerImpl("Europe", AnswerResult.TRUE, 52));
             questionModel.setAnswers(answers);
 
             Question questionGot = questionService.createQuestion(questionModel, quizId);
@@ -98,7 +97,7 @@ class QuestionServiceImplTest {
     @Test
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void createQuestionThrowsTest() {
-        BigInteger quizId = BigInteger.valueOf(2);
+        long quizId = 2;
         String questionText = "";
         Question questionModel = new QuestionImpl(
                 questionText,
@@ -116,13 +115,13 @@ class QuestionServiceImplTest {
         try {
             String questionText = "q" + new Random().nextInt(500000);
             Question questionModel = new QuestionImpl(
-                    BigInteger.valueOf(5),
+                    5,
                     questionText,
                     QuestionType.TRUE_FALSE
             );
 
             questionService.updateQuestion(questionModel);
-            Question question = questionService.getQuestionById(BigInteger.valueOf(5));
+            Question question = questionService.getQuestionById(5);
             assertEquals(questionModel.getQuestion(), question.getQuestion());
         } catch (DAOLogicException | QuestionDoesNotExistException | AnswerDoesNotExistException | QuestionException e) {
             log.error("Error while testing updateQuestionTest in QuestionServiceTest " + e.getMessage());
@@ -139,13 +138,13 @@ class QuestionServiceImplTest {
                     QuestionType.FOUR_ANSWERS
             );
             List<AnswerImpl> answers = new ArrayList<>();
-            answers.add(new AnswerImpl("America", AnswerResult.FALSE, BigInteger.valueOf(52)));
-            answers.add(new AnswerImpl("Asia", AnswerResult.FALSE, BigInteger.valueOf(52)));
-            answers.add(new AnswerImpl("Africa", AnswerResult.FALSE, BigInteger.valueOf(52)));
-            answers.add(new AnswerImpl("Europe", AnswerResult.TRUE, BigInteger.valueOf(52)));
+            answers.add(new AnswerImpl("America", AnswerResult.FALSE, 52));
+            answers.add(new AnswerImpl("Asia", AnswerResult.FALSE, 52));
+            answers.add(new AnswerImpl("Africa", AnswerResult.FALSE, 52));
+            answers.add(new AnswerImpl("Europe", AnswerResult.TRUE, 52));
             questionModel.setAnswers(answers);
 
-            Question createdQuestion = questionService.createQuestion(questionModel, BigInteger.valueOf(5));
+            Question createdQuestion = questionService.createQuestion(questionModel, 5);
             assertNotNull(questionService.getQuestionById(createdQuestion.getId()));
 
             log.debug("QuestionServiceTest deleteQuestionTest: Created question id = " + createdQuestion.getId());
@@ -164,11 +163,11 @@ class QuestionServiceImplTest {
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void getQuestionByDataTest() {
         try {
-            BigInteger quizId = BigInteger.valueOf(5);
+            long quizId = 5;
             Question question = questionService.getQuestionByData("Rome location?", quizId);
             assertNotNull(question);
             assertEquals(question.getQuestion(), "Rome location?");
-            assertEquals(question.getId(), BigInteger.valueOf(50));
+            assertEquals(question.getId(), 50);
         } catch (DAOLogicException | AnswerDoesNotExistException | QuestionDoesNotExistException e) {
             log.error("Error while testing getQuestionByDataTest in QuestionServiceTest " + e.getMessage());
             fail();
@@ -179,7 +178,7 @@ class QuestionServiceImplTest {
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void getQuestionsByQuizTest() {
         try {
-            BigInteger quizId = BigInteger.valueOf(4);
+            long quizId = 4;
             List<QuestionImpl> questions = questionService.getQuestionsByQuiz(quizId);
             assertEquals(questions.size(), 10);
             assertNotNull(questions.get(3).getAnswers());
@@ -7,9 +7,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.Quiz;
+import dev.marco.example.springboot.model.QuizSummary;
 import dev.marco.example.springboot.service.QuizService;
 
-import java.math.BigInteger;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -37,10 +37,10 @@ class QuizServiceImplTest {
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void getQuizByIdTest() {
         try {
-            Quiz quiz = quizService.getQuizById(BigInteger.valueOf(1));
+            Quiz quiz = quizService.getQuizById(1);
 
             assertNotNull(quiz);
-            assertEquals(1, quiz.getId().intValue());
+            assertEquals(1, quiz.getId());
 
             log.info("Quiz was found by id: " + quiz.getId());
 
@@ -54,7 +54,7 @@ class QuizServiceImplTest {
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void getAllQuizzesTest() {
         try {
-            List<Quiz> quizList = quizService.getAllQuizzes();
+            List<QuizSummary> quizList = quizService.getAllQuizzes();
 
             if (!quizList.isEmpty()) {
                 assertNotNull(quizList);
@@ -87,7 +87,7 @@ class QuizServiceImplTest {
     @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
     void getLastCreatedQuizzesTest() {
         try {
-            List<Quiz> quizList = quizService.getLastCreatedQuizzes(3);
+            List<QuizSummary> quizList = quizService.getLastCreatedQuizzes(3);
 
             if (!quizList.isEmpty()) {
                 assertNotNull(quizList);
@@ -13,7 +13,6 @@ import dev.marco.example.springboot.exception.*;
 import dev.marco.example.springboot.model.User;
 import dev.marco.example.springboot.service.UserService;
 
-import java.math.BigInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static dev.marco.example.springboot.exception.MessagesForException.DAO_LOGIC_EXCEPTION;
@@ -99,9 +98,9 @@ class UserServiceImplTest {
     try {
       String pass = "testPassword";
       String password = "$2a$04$UegxIC3EpNJVeL9WUGuvK.K6GTeCfSgbfVUoC9ZUt9J.6OZF1r8Mq";
-      userDAO.activateUser(BigInteger.TWO);
-      userDAO.updateUsersPassword(BigInteger.TWO, password);
-      User user = userDAO.getUserById(BigInteger.TWO);
+      userDAO.activateUser(2L);
+      userDAO.updateUsersPassword(2L, password);
+      User user = userDAO.getUserById(2L);
       user.setPassword(pass);
       assertNotNull(userService.authorize(user));
     } catch (DAOLogicException | UserException | UserDoesNotExistException e) {
@@ -113,9 +112,9 @@ class UserServiceImplTest {
   @Test
   void testAuthorizeNotActiveValidUser() {
     try {
-      userDAO.updateUsersPassword(BigInteger.TWO, "$2a$04$UegxIC3EpNJVeL9WUGuvK.K6GTeCfSgbfVUoC9ZUt9J.6OZF1r8Mq");
-      userDAO.disactivateUser(BigInteger.TWO);
-      User user = userDAO.getUserById(BigInteger.TWO);
+      userDAO.updateUsersPassword(2L, "$2a$04$UegxIC3EpNJVeL9WUGuvK.K6GTeCfSgbfVUoC9ZUt9J.6OZF1r8Mq");
+      userDAO.disactivateUser(2L);
+      User user = userDAO.getUserById(2L);
       user.setPassword("testPassword");
       userService.authorize(user);
       log.error(MessagesForException.USERS_DOESNT_EXIT);
@@ -128,12 +127,12 @@ class UserServiceImplTest {
   @Test
   void testRecoverPassword() {
     try {
-      userDAO.updateUsersPassword(BigInteger.TWO, "testPassword");
-      userDAO.activateUser(BigInteger.TWO);
+      userDAO.updateUsersPassword(2L, "testPassword");
+      userDAO.activateUser(2L);
 
-      userService.recoverPassword(userDAO.getUserById(BigInteger.TWO));
+      userService.recoverPassword(userDAO.getUserById(2L));
 
-      assertFalse(userDAO.comparisonOfPasswords(BigInteger.TWO, "testPassword"));
+      assertFalse(userDAO.comparisonOfPasswords(2L, "testPassword"));
     } catch (DAOLogicException | UserException | MailException | UserDoesNotExistException e) {
       e.printStackTrace();
     }
@@ -194,7 +193,7 @@ class UserServiceImplTest {
   @Test
   void testUserGetById() {
     try {
-      assertNotNull(userService.getUserById(BigInteger.ONE));
+      assertNotNull(userService.getUserById(1L));
     } catch (DAOLogicException | UserDoesNotExistException e) {
       fail();
     }
@@ -203,7 +202,7 @@ class UserServiceImplTest {
   @Test
   void testUserGetByInvalidId() {
     try {
-      userService.getUserById(null);
+      userService.getUserById(0L);
       fail();
     } catch (DAOLogicException | UserDoesNotExistException e) {
       assertTrue(true);
@@ -213,8 +212,8 @@ class UserServiceImplTest {
   @Test
   void testComparisonOfPasswrods() {
     try {
-      userDAO.updateUsersPassword(BigInteger.TWO, "testPassword");
-      assertTrue(userService.comparisonOfPasswords(BigInteger.TWO, "testPassword"));
+      userDAO.updateUsersPassword(2L, "testPassword");
+      assertTrue(userService.comparisonOfPasswords(2L, "testPassword"));
     } catch (DAOLogicException | UserDoesNotExistException e) {
       fail();
     }
@@ -223,8 +222,8 @@ class UserServiceImplTest {
   @Test
   void testActiveUser() {
     try {
-      userDAO.activateUser(BigInteger.TWO);
-      assertTrue(userDAO.getUserById(BigInteger.TWO).isActive());
+      userDAO.activateUser(2L);
+      assertTrue(userDAO.getUserById(2L).isActive());
     } catch (DAOLogicException | UserDoesNotExistException e) {
       fail();
     }
@@ -233,8 +232,8 @@ class UserServiceImplTest {
   @Test
   void testDisactiveUser() {
     try {
-      userDAO.disactivateUser(BigInteger.TWO);
-      assertFalse(userDAO.getUserById(BigInteger.TWO).isActive());
+      userDAO.disactivateUser(2L);
+      assertFalse(userDAO.getUserById(2L).isActive());
     } catch (DAOLogicException | UserDoesNotExistException e) {
       fail();
     }
@@ -243,8 +242,8 @@ class UserServiceImplTest {
   @Test
   void testGetAccomplishedQuizesByUser() {
     try {
-      userService.addAccomplishedQuiz(BigInteger.ONE, new QuizAccomplishedImpl(1, QuizImpl.QuizBuilder().setId(BigInteger.ONE).build()));
-      assertNotNull(userService.getAccomplishedQuizesByUser(BigInteger.ONE));
+      userService.addAccomplishedQuiz(1L, new QuizAccomplishedImpl(1, QuizImpl.QuizBuilder().setId(1L).build()));
+      assertNotNull(userService.getAccomplishedQuizesByUser(1L));
     } catch (DAOLogicException | QuizDoesNotExistException | UserDoesNotExistException | QuizException e) {
       fail();
     }
@@ -254,8 +253,8 @@ class UserServiceImplTest {
   void testGetFavoriteQuizes() {
     try {
       userService
-          .addAccomplishedQuiz(BigInteger.ONE, new QuizAccomplishedImpl(1, true, QuizImpl.QuizBuilder().setId(BigInteger.ONE).build()));
-      assertNotNull(userService.getFavoriteQuizesByUser(BigInteger.ONE));
+          .addAccomplishedQuiz(1L, new QuizAccomplishedImpl(1, true, QuizImpl.QuizBuilder().setId(1L).build()));
+      assertNotNull(userService.getFavoriteQuizesByUser(1L));
     } catch (DAOLogicException | UserDoesNotExistException | QuizDoesNotExistException | QuizException e) {
       e.printStackTrace();
       log.error(e.getMessage());
@@ -266,7 +265,7 @@ class UserServiceImplTest {
   @Test
   void testGetAccomplishedQuizById() {
     try {
-      assertNotNull(userService.getAccomplishedQuizById(BigInteger.ONE, BigInteger.ONE));
+      assertNotNull(userService.getAccomplishedQuizById(1L, 1L));
     } catch (QuizDoesNotExistException | DAOLogicException e) {
       log.error(e.getMessage());
       fail();
@@ -276,7 +275,7 @@ class UserServiceImplTest {
   @Test
   void testIsAccomplishedQuiz() {
     try {
-      assertTrue(userService.isAccomplishedQuiz(BigInteger.ONE, BigInteger.ONE));
+      assertTrue(userService.isAccomplishedQuiz(1L, 1L));
     } catch (DAOLogicException e) {
       log.error(e.getMessage());
       fail();
@@ -0,0 +1,129 @@
+package dev.marco.example.springboot.singleflight;
+
+import dev.marco.example.springboot.exception.DAOLogicException;
+import dev.marco.example.springboot.transaction.ReadYourWrites;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SingleFlightInterceptorTest {
+
+    private final SingleFlightInterceptor interceptor = new SingleFlightInterceptor(new ReadYourWrites(0), true);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void concurrentEqualCallsShareOneExecution() throws Throwable {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MethodInvocation leader = invocation("ZNO");
+        when(leader.proceed()).thenAnswer(call -> {
+            started.countDown();
+            release.await();
+            return "quiz";
+        });
+        MethodInvocation follower = invocation("ZNO");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> first = executor.submit(() -> invoke(leader));
+            started.await();
+            AtomicReference<Thread> waiting = new AtomicReference<>();
+            Future<Object> second = executor.submit(() -> {
+                waiting.set(Thread.currentThread());
+                return invoke(follower);
+            });
+            awaitParked(waiting);
+            release.countDown();
+
+            assertEquals("quiz", first.get(1, TimeUnit.SECONDS));
+            assertEquals("quiz", second.get(1, TimeUnit.SECONDS));
+            verify(follower, never()).proceed();
+            assertEquals(0, interceptor.inFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void waitingCallersGetTheFailure() throws Throwable {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MethodInvocation leader = invocation("ZNO");
+        when(leader.proceed()).thenAnswer(call -> {
+            started.countDown();
+            release.await();
+            throw new DAOLogicException("boom");
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Object> first = executor.submit(() -> invoke(leader));
+            started.await();
+            AtomicReference<Thread> waiting = new AtomicReference<>(Thread.currentThread());
+            new Thread(() -> {
+                awaitParked(waiting);
+                release.countDown();
+            }).start();
+
+            assertThrows(DAOLogicException.class, () -> interceptor.invoke(invocation("ZNO")));
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS));
+            assertTrue(failure.getCause() instanceof DAOLogicException);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void readWriteWorkIsNotShared() throws Throwable {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        MethodInvocation invocation = invocation("ZNO");
+        when(invocation.proceed()).thenAnswer(call -> interceptor.inFlight());
+
+        assertEquals(0, interceptor.invoke(invocation));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(1, interceptor.invoke(invocation));
+    }
+
+    private Object invoke(MethodInvocation invocation) throws Exception {
+        try {
+            return interceptor.invoke(invocation);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static MethodInvocation invocation(Object... arguments) throws NoSuchMethodException {
+        Method method = SingleFlightInterceptorTest.class.getDeclaredMethod("invocation", Object[].class);
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(method);
+        when(invocation.getArguments()).thenReturn(arguments);
+        return invocation;
+    }
+
+    private static void awaitParked(AtomicReference<Thread> thread) {
+        while (thread.get() == null || thread.get().getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package dev.marco.example.springboot.threads;
+
+import org.junit.jupiter.api.AfterEach;
+import dev.marco.example.springboot.transaction.HedgedReads;
+import dev.marco.example.springboot.transaction.ReadYourWrites;
+import dev.marco.example.springboot.transaction.UnitOfWorkDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JdbcGateTest {
+
+    @AfterEach
+    void tearDown() {
+        JdbcGate.open();
+    }
+
+    @Test
+    void openGateLeavesConnectionAlone() {
+        Connection connection = mock(Connection.class);
+
+        assertSame(connection, JdbcGate.guard(connection));
+    }
+
+    @Test
+    void nestedStatementsOfOneThreadShareAPermit() throws SQLException {
+        JdbcGate.limit(1);
+        Connection connection = JdbcGate.guard(connection());
+
+        try (PreparedStatement outer = connection.prepareStatement("SELECT 1 FROM DUAL");
+             PreparedStatement inner = connection.prepareStatement("SELECT 2 FROM DUAL")) {
+            assertNotSame(outer, inner);
+        }
+        try (PreparedStatement again = connection.prepareStatement("SELECT 3 FROM DUAL")) {
+            assertNotNull(again);
+        }
+    }
+
+    @Test
+    void secondThreadWaitsUntilStatementIsClosed() throws Exception {
+        JdbcGate.limit(1);
+        Connection connection = JdbcGate.guard(connection());
+        CountDownLatch entered = new CountDownLatch(1);
+
+        PreparedStatement held = connection.prepareStatement("SELECT 1 FROM DUAL");
+        Thread other = new Thread(() -> {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT 2 FROM DUAL")) {
+                entered.countDown();
+            } catch (SQLException e) {
+                fail(e);
+            }
+        });
+        other.start();
+
+        assertFalse(entered.await(100, TimeUnit.MILLISECONDS));
+        held.close();
+        held.close();
+        assertTrue(entered.await(1, TimeUnit.SECONDS));
+        other.join();
+    }
+
+    @Test
+    void hedgedReadsWaitAtTheGate() throws Exception {
+        JdbcGate.limit(1);
+        DataSource replica = mock(DataSource.class);
+        when(replica.getConnection()).thenAnswer(invocation -> replicaConnection());
+        HedgedReads hedgedReads = new HedgedReads(new UnitOfWorkDataSource(mock(DataSource.class),
+                Arrays.asList(replica, replica), mock(DataSource.class), Collections.emptyList(),
+                new ReadYourWrites(0)), true, 95, 100, 2);
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            PreparedStatement held = JdbcGate.guard(connection()).prepareStatement("SELECT 1 FROM DUAL");
+            Future<String> title = reader.submit(() -> {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+                return hedgedReads.query(mock(Connection.class), "SELECT TITLE FROM QUIZ",
+                        preparedStatement -> {
+                        }, resultSet -> resultSet.getString(1));
+            });
+
+            assertThrows(TimeoutException.class, () -> title.get(200, TimeUnit.MILLISECONDS));
+            held.close();
+            assertEquals("replica", title.get(1, TimeUnit.SECONDS));
+        } finally {
+            reader.shutdownNow();
+            hedgedReads.shutdown();
+        }
+    }
+
+    private static Connection replicaConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getString(1)).thenReturn("replica");
+        return connection;
+    }
+
+    private static Connection connection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        return connection;
+    }
+}
@@ -0,0 +1,71 @@
+package dev.marco.example.springboot.threads;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares platform and virtual request threads under high concurrency. Each simulated request
+ * does some blocking I/O that is not database work, such as reading the request or sending mail,
+ * and then holds one of {@value #CONNECTIONS} pooled connections for a query. Run it with
+ * {@code java -cp target/test-classes:target/classes dev.marco.example.springboot.threads.ThreadModeBenchmark};
+ * the virtual run needs JDK 21 or later.
+ */
+public final class ThreadModeBenchmark {
+
+    private static final int REQUESTS = 20_000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int CONNECTIONS = 10;
+    private static final long IO_MILLIS = 50;
+    private static final long QUERY_MILLIS = 1;
+
+    private ThreadModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        run("platform (" + PLATFORM_THREADS + " threads)", Executors.newFixedThreadPool(PLATFORM_THREADS));
+        if (VirtualThreads.isAvailable()) {
+            run("virtual", VirtualThreads.newThreadPerTaskExecutor("benchmark-"));
+        } else {
+            System.out.println("virtual: skipped, needs JDK 21 or later, running on " + Runtime.version());
+        }
+    }
+
+    private static void run(String mode, ExecutorService executor) throws InterruptedException {
+        Semaphore connections = new Semaphore(CONNECTIONS, true);
+        long[] latencies = new long[REQUESTS];
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            int request = i;
+            long submitted = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(IO_MILLIS);
+                    connections.acquire();
+                    try {
+                        Thread.sleep(QUERY_MILLIS);
+                    } finally {
+                        connections.release();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                latencies[request] = System.nanoTime() - submitted;
+                done.countDown();
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        Arrays.sort(latencies);
+        System.out.printf("%s: %.0f requests/s, p50 %d ms, p99 %d ms%n", mode,
+                REQUESTS / (elapsed / 1e9),
+                TimeUnit.NANOSECONDS.toMillis(latencies[REQUESTS / 2]),
+                TimeUnit.NANOSECONDS.toMillis(latencies[REQUESTS * 99 / 100]));
+    }
+}
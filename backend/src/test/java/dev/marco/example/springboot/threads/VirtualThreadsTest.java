@@ -0,0 +1,40 @@
+package dev.marco.example.springboot.threads;
+
+import dev.marco.example.springboot.bulkhead.Bulkheads;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsTest {
+
+    @Test
+    void tasksRunOnNamedVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreads.isAvailable(), "needs JDK 21 or later");
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("virtual-test-");
+
+        String name = executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+        boolean virtual = executor.submit(() -> (Boolean) Thread.class.getMethod("isVirtual")
+                .invoke(Thread.currentThread())).get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertTrue(name.startsWith("virtual-test-"));
+        assertTrue(virtual);
+    }
+
+    @Test
+    void bulkheadsStartInVirtualMode() {
+        assumeTrue(VirtualThreads.isAvailable(), "needs JDK 21 or later");
+        ThreadMode threadMode = new ThreadMode(true, 0, 10);
+
+        Bulkheads bulkheads = new Bulkheads(new MockEnvironment(), threadMode);
+
+        assertTrue(threadMode.isVirtual());
+        assertFalse(bulkheads.getStats().isEmpty());
+        bulkheads.shutdown();
+    }
+}
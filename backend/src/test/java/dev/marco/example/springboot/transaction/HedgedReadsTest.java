@@ -0,0 +1,150 @@
+package dev.marco.example.springboot.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class HedgedReadsTest {
+
+    private static final String SQL = "SELECT TITLE FROM QUIZ WHERE ID_QUIZ = ?";
+
+    private final PreparedStatement slowStatement = mock(PreparedStatement.class);
+    private final PreparedStatement fastStatement = mock(PreparedStatement.class);
+    private final DataSource slowReplica = replica(slowStatement, "slow", 2000);
+    private final DataSource fastReplica = replica(fastStatement, "fast", 0);
+
+    private final UnitOfWorkDataSource dataSource = new UnitOfWorkDataSource(
+            mock(DataSource.class), Arrays.asList(slowReplica, fastReplica),
+            mock(DataSource.class), Collections.emptyList(), new ReadYourWrites(0));
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void slowReplicaIsHedgedAndCancelled() throws SQLException {
+        HedgedReads hedgedReads = new HedgedReads(dataSource, true, 95, 100, 2);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            String title = hedgedReads.query(mock(Connection.class), SQL,
+                    preparedStatement -> preparedStatement.setLong(1, 1),
+                    resultSet -> resultSet.getString(1));
+
+            assertEquals("fast", title);
+            verify(slowStatement, timeout(1000)).cancel();
+        } finally {
+            hedgedReads.shutdown();
+        }
+    }
+
+    @Test
+    void readWriteWorkRunsOnGivenConnection() throws SQLException {
+        HedgedReads hedgedReads = new HedgedReads(dataSource, true, 95, 100, 2);
+        PreparedStatement ownStatement = mock(PreparedStatement.class);
+        Connection own = connection(ownStatement, "own", 0);
+        try {
+            String title = hedgedReads.query(own, SQL,
+                    preparedStatement -> preparedStatement.setLong(1, 1),
+                    resultSet -> resultSet.getString(1));
+
+            assertEquals("own", title);
+            verifyNoMoreInteractions(slowReplica, fastReplica);
+        } finally {
+            hedgedReads.shutdown();
+        }
+    }
+
+    @Test
+    void exhaustedBudgetWaitsForTheFirstReplica() throws SQLException {
+        DataSource lagging = replica(mock(PreparedStatement.class), "lagging", 300);
+        HedgedReads hedgedReads = new HedgedReads(dataSource(lagging, fastReplica), true, 95, 50, 2);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            String title = hedgedReads.query(mock(Connection.class), SQL,
+                    preparedStatement -> preparedStatement.setLong(1, 1),
+                    resultSet -> resultSet.getString(1));
+
+            assertEquals("lagging", title);
+            verify(fastReplica, never()).getConnection();
+        } finally {
+            hedgedReads.shutdown();
+        }
+    }
+
+    @Test
+    void failedFirstReplicaFailsOverToTheSecond() throws SQLException {
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("replica down"));
+        HedgedReads hedgedReads = new HedgedReads(dataSource(down, fastReplica), true, 95, 100, 2);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            String title = hedgedReads.query(mock(Connection.class), SQL,
+                    preparedStatement -> preparedStatement.setLong(1, 1),
+                    resultSet -> resultSet.getString(1));
+
+            assertEquals("fast", title);
+        } finally {
+            hedgedReads.shutdown();
+        }
+    }
+
+    @Test
+    void failoverIsPaidFromTheBudget() throws SQLException {
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("replica down"));
+        HedgedReads hedgedReads = new HedgedReads(dataSource(down, fastReplica), true, 95, 50, 2);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            SQLException e = assertThrows(SQLException.class, () -> hedgedReads.query(mock(Connection.class), SQL,
+                    preparedStatement -> preparedStatement.setLong(1, 1),
+                    resultSet -> resultSet.getString(1)));
+
+            assertEquals("replica down", e.getMessage());
+            verify(fastReplica, never()).getConnection();
+        } finally {
+            hedgedReads.shutdown();
+        }
+    }
+
+    private static UnitOfWorkDataSource dataSource(DataSource first, DataSource second) {
+        return new UnitOfWorkDataSource(mock(DataSource.class), Arrays.asList(first, second),
+                mock(DataSource.class), Collections.emptyList(), new ReadYourWrites(0));
+    }
+
+    private static DataSource replica(PreparedStatement statement, String title, long delayMillis) {
+        DataSource replica = mock(DataSource.class);
+        try {
+            Connection connection = connection(statement, title, delayMillis);
+            when(replica.getConnection()).thenReturn(connection);
+        } catch (SQLException e) {
+            fail(e);
+        }
+        return replica;
+    }
+
+    private static Connection connection(PreparedStatement statement, String title, long delayMillis)
+            throws SQLException {
+        Connection connection = mock(Connection.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(resultSet.getString(1)).thenReturn(title);
+        when(statement.executeQuery()).thenAnswer(invocation -> {
+            Thread.sleep(delayMillis);
+            return resultSet;
+        });
+        return connection;
+    }
+}
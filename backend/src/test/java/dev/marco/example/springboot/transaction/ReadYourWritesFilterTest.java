@@ -0,0 +1,67 @@
+package dev.marco.example.springboot.transaction;
+
+import dev.marco.example.springboot.security.JwtUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.*;
+
+class ReadYourWritesFilterTest {
+
+    private static final long USER_ID = 7;
+
+    private final ReadYourWrites readYourWrites = spy(new ReadYourWrites(60_000));
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(readYourWrites);
+
+    @BeforeEach
+    void setUp() {
+        JwtUser user = mock(JwtUser.class);
+        when(user.getId()).thenReturn(USER_ID);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readIsNotMarked() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/quiz"), new MockHttpServletResponse(),
+                (request, response) -> {
+                });
+
+        verify(readYourWrites, never()).markWrite(anyLong());
+    }
+
+    @Test
+    void synchronousWriteIsMarkedBeforeAndAfter() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/v1/quiz"), new MockHttpServletResponse(),
+                (request, response) -> verify(readYourWrites, times(1)).markWrite(USER_ID));
+
+        verify(readYourWrites, times(2)).markWrite(USER_ID);
+    }
+
+    @Test
+    void asyncWriteIsMarkedAgainWhenItCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/quiz/finish");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        verify(readYourWrites, times(1)).markWrite(USER_ID);
+
+        // Completes on another thread, without the writer's security context.
+        SecurityContextHolder.clearContext();
+        request.getAsyncContext().complete();
+
+        verify(readYourWrites, times(2)).markWrite(USER_ID);
+    }
+}
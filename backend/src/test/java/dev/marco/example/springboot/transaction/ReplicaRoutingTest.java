@@ -0,0 +1,88 @@
+package dev.marco.example.springboot.transaction;
+
+import dev.marco.example.springboot.security.JwtUser;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routing through real transactions, against two in-memory databases standing in for the
+ * primary and a replica. Each one answers with its own name.
+ */
+class ReplicaRoutingTest {
+
+    private static final String WHO_AM_I = "SELECT name FROM instance";
+
+    private final DataSource primary = database("primary");
+    private final DataSource replica = database("replica");
+    private final ReadYourWrites readYourWrites = new ReadYourWrites(60_000);
+    private final UnitOfWorkDataSource dataSource = new UnitOfWorkDataSource(
+            primary, Collections.singletonList(replica),
+            primary, Collections.singletonList(replica),
+            readYourWrites);
+    private final JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    private final TransactionTemplate readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    private final TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+    @BeforeEach
+    void setUp() {
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readWriteUnitOfWorkRunsOnPrimary() {
+        assertEquals("primary", readWrite.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void readOnlyUnitOfWorkRunsOnReplica() {
+        assertEquals("replica", readOnly.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void readOnlyUnitOfWorkStaysOnPrimaryAfterOwnWrite() {
+        JwtUser user = mock(JwtUser.class);
+        when(user.getId()).thenReturn(7L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList()));
+
+        readWrite.execute(status -> {
+            readYourWrites.markWrite();
+            return null;
+        });
+
+        assertEquals("primary", readOnly.execute(status -> whoAmI()));
+    }
+
+    private String whoAmI() {
+        return jdbc.queryForObject(WHO_AM_I, String.class);
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS instance (name VARCHAR(16))");
+        jdbc.update("DELETE FROM instance");
+        jdbc.update("INSERT INTO instance VALUES (?)", name);
+        return dataSource;
+    }
+}
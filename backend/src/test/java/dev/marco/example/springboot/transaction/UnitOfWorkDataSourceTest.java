@@ -0,0 +1,96 @@
+package dev.marco.example.springboot.transaction;
+
+import dev.marco.example.springboot.security.JwtUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UnitOfWorkDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource firstReplica = mock(DataSource.class);
+    private final DataSource secondReplica = mock(DataSource.class);
+    private final DataSource testPrimary = mock(DataSource.class);
+    private final DataSource testReplica = mock(DataSource.class);
+
+    private final ReadYourWrites readYourWrites = new ReadYourWrites(60_000);
+    private final UnitOfWorkDataSource dataSource = new UnitOfWorkDataSource(
+            primary, Arrays.asList(firstReplica, secondReplica),
+            testPrimary, Collections.singletonList(testReplica),
+            readYourWrites);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readWriteGoesToPrimary() {
+        assertSame(primary, dataSource.route());
+    }
+
+    @Test
+    void readOnlyGoesRoundRobinToReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(firstReplica, dataSource.route());
+        assertSame(secondReplica, dataSource.route());
+        assertSame(firstReplica, dataSource.route());
+    }
+
+    @Test
+    void readOnlyStaysOnPrimaryAfterOwnWrite() {
+        JwtUser user = mock(JwtUser.class);
+        when(user.getId()).thenReturn(7L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList()));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(firstReplica, dataSource.route());
+        readYourWrites.markWrite();
+        assertSame(primary, dataSource.route());
+    }
+
+    @Test
+    void readOnlyStaysOnPrimaryInsidePrimaryReadsScope() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (PrimaryReads.Scope outer = PrimaryReads.open()) {
+            try (PrimaryReads.Scope inner = PrimaryReads.open()) {
+                assertSame(primary, dataSource.route());
+            }
+            assertSame(primary, dataSource.route());
+            assertTrue(dataSource.hedgeTargets().isEmpty());
+        }
+        assertSame(firstReplica, dataSource.route());
+    }
+
+    @Test
+    void readOnlyWithoutReplicasGoesToPrimary() {
+        UnitOfWorkDataSource primaryOnly = new UnitOfWorkDataSource(
+                primary, Collections.emptyList(), testPrimary, Collections.emptyList(), readYourWrites);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(primary, primaryOnly.route());
+    }
+
+    @Test
+    void testSchemaRoutesToTestPools() {
+        dataSource.useTestSchema();
+
+        assertSame(testPrimary, dataSource.route());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(testReplica, dataSource.route());
+    }
+}
@@ -0,0 +1,191 @@
+package dev.marco.example.springboot.transaction;
+
+import dev.marco.example.springboot.exception.DAOLogicException;
+import dev.marco.example.springboot.util.DAOUtil;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs {@link UnitOfWork} methods through the transaction proxy against an in-memory H2 database.
+ */
+class UnitOfWorkTest {
+
+    private AnnotationConfigApplicationContext context;
+    private Steps steps;
+    private UnitOfWorkDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        context = new AnnotationConfigApplicationContext(Config.class);
+        steps = context.getBean(Steps.class);
+        dataSource = context.getBean(UnitOfWorkDataSource.class);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE STEP (ID NUMBER PRIMARY KEY)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE STEP");
+        }
+        context.close();
+    }
+
+    @Test
+    void everyStepCommitsTogether() throws Exception {
+        AtomicInteger afterCommit = new AtomicInteger();
+
+        steps.insert(afterCommit::incrementAndGet, false, 1, 2, 3);
+
+        assertEquals(3, count());
+        assertEquals(1, afterCommit.get());
+    }
+
+    @Test
+    void checkedExceptionRollsBackEveryStep() {
+        assertThrows(DAOLogicException.class,
+                () -> steps.insert(() -> {
+                }, true, 1, 2, 3));
+
+        assertEquals(0, count());
+    }
+
+    @Test
+    void afterCommitIsSkippedOnRollback() {
+        AtomicInteger afterCommit = new AtomicInteger();
+
+        assertThrows(DAOLogicException.class,
+                () -> steps.insert(afterCommit::incrementAndGet, true, 1));
+
+        assertEquals(0, afterCommit.get());
+    }
+
+    @Test
+    void nestedUnitOfWorkJoinsTheOuterOne() {
+        Outer outer = context.getBean(Outer.class);
+
+        assertThrows(DAOLogicException.class, () -> outer.insertThenFail(1, 2));
+
+        assertEquals(0, count());
+    }
+
+    @Test
+    void afterCommitOutsideAUnitOfWorkRunsAtOnce() {
+        AtomicInteger afterCommit = new AtomicInteger();
+
+        AfterCommit.run(afterCommit::incrementAndGet);
+
+        assertEquals(1, afterCommit.get());
+    }
+
+    private int count() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM STEP")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        UnitOfWorkDataSource unitOfWorkDataSource() {
+            JdbcDataSource h2 = new JdbcDataSource();
+            h2.setURL("jdbc:h2:mem:unit_of_work;DB_CLOSE_DELAY=-1");
+            return new UnitOfWorkDataSource(h2, Collections.emptyList(), h2, Collections.emptyList(),
+                    new ReadYourWrites(0));
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(UnitOfWorkDataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        Steps steps(UnitOfWorkDataSource dataSource) {
+            return new Steps(dataSource);
+        }
+
+        @Bean
+        Outer outer(Steps steps) {
+            return new Outer(steps);
+        }
+    }
+
+    /**
+     * Writes the way the DAOs do: each step takes the unit of work's connection on its own.
+     */
+    static class Steps {
+
+        private final UnitOfWorkDataSource dataSource;
+
+        Steps(UnitOfWorkDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @UnitOfWork
+        public void insert(Runnable afterCommit, boolean fail, long... ids) throws DAOLogicException {
+            AfterCommit.run(afterCommit);
+            for (long id : ids) {
+                step(id);
+            }
+            if (fail) {
+                throw new DAOLogicException("Failed after " + ids.length + " steps");
+            }
+        }
+
+        private void step(long id) throws DAOLogicException {
+            try (PreparedStatement statement = DAOUtil.currentConnection(dataSource, null)
+                    .prepareStatement("INSERT INTO STEP (ID) VALUES (?)")) {
+                statement.setLong(1, id);
+                statement.executeUpdate();
+            } catch (SQLException e) {
+                throw new DAOLogicException(e.getMessage(), e);
+            }
+        }
+    }
+
+    static class Outer {
+
+        private final Steps steps;
+
+        Outer(Steps steps) {
+            this.steps = steps;
+        }
+
+        @UnitOfWork
+        public void insertThenFail(long first, long second) throws DAOLogicException {
+            steps.insert(() -> {
+            }, false, first);
+            steps.insert(() -> {
+            }, false, second);
+            throw new DAOLogicException("Failed after two nested units of work");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package dev.marco.example.springboot.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlCatalogTest {
+
+    @Test
+    void entriesAreTrimmedAndServedFromOneLoad() {
+        String column = SqlCatalog.get("USER_ID");
+
+        assertEquals("id_usr", column);
+        // A reload would parse the file into new strings.
+        assertSame(column, SqlCatalog.get("USER_ID"));
+    }
+
+    @Test
+    void missingKeyFailsWithTheKeyName() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> SqlCatalog.get("NO_SUCH_STATEMENT"));
+
+        assertTrue(e.getMessage().contains("NO_SUCH_STATEMENT"), e.getMessage());
+    }
+}
@@ -0,0 +1,35 @@
+// Writes gzip and brotli variants next to the content-hashed bundles of the production build,
+// so the backend can serve them precompressed. Run after `ng build --prod`.
+
+const fs = require('fs');
+const path = require('path');
+const zlib = require('zlib');
+
+const outputPath = process.argv[2] || 'dist/frontend';
+// Angular names hashed output <name>.<20 hex digits>.<ext>; index.html and src/assets keep their names.
+const hashed = /^[\w-]+\.[0-9a-f]{16,}\.(js|css|svg|txt|json)$/;
+const minBytes = 1024;
+
+for (const name of fs.readdirSync(outputPath)) {
+  if (!hashed.test(name)) {
+    continue;
+  }
+  const file = path.join(outputPath, name);
+  const content = fs.readFileSync(file);
+  if (content.length < minBytes) {
+    continue;
+  }
+  write(file + '.gz', zlib.gzipSync(content, {level: zlib.constants.Z_BEST_COMPRESSION}), content);
+  write(file + '.br', zlib.brotliCompressSync(content, {
+    params: {
+      [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+      [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length
+    }
+  }), content);
+}
+
+function write(file, compressed, content) {
+  if (compressed.length < content.length) {
+    fs.writeFileSync(file, compressed);
+  }
+}
@@ -0,0 +1,31 @@
+package dev.marco.example.springboot.dao.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Column read into a {@link MappedRow} parameter. The getter is chosen from the parameter type:
+ * primitives, String, BigInteger, BigDecimal, java.sql and java.util dates, and enums stored
+ * by ordinal.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface Column {
+
+    /**
+     * Column label, resolved with findColumn.
+     */
+    String value() default "";
+
+    /**
+     * 1-based column position, for columns whose label is ambiguous in a join.
+     */
+    int index() default 0;
+
+    /**
+     * For a boolean parameter: true when the column is not null.
+     */
+    boolean present() default false;
+}
@@ -0,0 +1,22 @@
+package dev.marco.example.springboot.dao.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the public constructor or static factory that builds a model from one result set row.
+ * Every parameter is either a {@link Column} or a model that has a mapped row of its own.
+ * RowMappingProcessor generates a mapper class named {@link #value()} that resolves the column
+ * indexes once per result set and calls this factory for each row.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.CONSTRUCTOR, ElementType.METHOD})
+public @interface MappedRow {
+
+    /**
+     * Simple name of the generated mapper.
+     */
+    String value();
+}
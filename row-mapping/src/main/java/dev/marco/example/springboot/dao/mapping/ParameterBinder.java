@@ -0,0 +1,27 @@
+package dev.marco.example.springboot.dao.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a binder named {@link #name()} that sets consecutive statement parameters from the
+ * listed accessors of the annotated model, in order. Enums are bound by ordinal.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+@Repeatable(ParameterBinders.class)
+public @interface ParameterBinder {
+
+    /**
+     * Simple name of the generated binder.
+     */
+    String name();
+
+    /**
+     * No-argument accessor methods, in parameter order.
+     */
+    String[] value();
+}
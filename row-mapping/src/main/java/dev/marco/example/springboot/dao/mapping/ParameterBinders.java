@@ -0,0 +1,13 @@
+package dev.marco.example.springboot.dao.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ParameterBinders {
+
+    ParameterBinder[] value();
+}
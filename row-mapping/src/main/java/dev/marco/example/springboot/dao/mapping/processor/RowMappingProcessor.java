@@ -0,0 +1,425 @@
+package dev.marco.example.springboot.dao.mapping.processor;
+
+import dev.marco.example.springboot.dao.mapping.Column;
+import dev.marco.example.springboot.dao.mapping.MappedRow;
+import dev.marco.example.springboot.dao.mapping.ParameterBinder;
+import dev.marco.example.springboot.dao.mapping.ParameterBinders;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Generates the row mappers and parameter binders declared with {@link MappedRow} and
+ * {@link ParameterBinder}. The generated code only calls positional JDBC getters and setters
+ * and the annotated factories, so mapping needs no reflection and primitive columns are never
+ * boxed. Mappers go to the package given by the rowmapping.package option, or next to the model.
+ * <p>
+ * The processor lives in its own module so it is built before the backend, which has this
+ * module on its compile classpath only; the backend jar ships the generated classes, not the
+ * processor. Enum columns hold ordinals, and a NULL or unknown ordinal fails the row with an
+ * SQLException naming the column.
+ */
+@SupportedAnnotationTypes({
+        "dev.marco.example.springboot.dao.mapping.MappedRow",
+        "dev.marco.example.springboot.dao.mapping.ParameterBinder",
+        "dev.marco.example.springboot.dao.mapping.ParameterBinders"
+})
+@SupportedOptions(RowMappingProcessor.PACKAGE_OPTION)
+public class RowMappingProcessor extends AbstractProcessor {
+
+    static final String PACKAGE_OPTION = "rowmapping.package";
+
+    private static final String GENERATED = "@javax.annotation.processing.Generated(\""
+            + RowMappingProcessor.class.getName() + "\")";
+    private static final String SQL_EXCEPTION = "java.sql.SQLException";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(MappedRow.class)) {
+            try {
+                writeMapper((ExecutableElement) element);
+            } catch (MappingException e) {
+                error(e.element, e.getMessage());
+            } catch (IOException e) {
+                error(element, e.getMessage());
+            }
+        }
+        Set<Element> binderTypes = new LinkedHashSet<>(roundEnv.getElementsAnnotatedWith(ParameterBinder.class));
+        binderTypes.addAll(roundEnv.getElementsAnnotatedWith(ParameterBinders.class));
+        for (Element element : binderTypes) {
+            for (ParameterBinder binder : element.getAnnotationsByType(ParameterBinder.class)) {
+                try {
+                    writeBinder((TypeElement) element, binder);
+                } catch (MappingException e) {
+                    error(e.element, e.getMessage());
+                } catch (IOException e) {
+                    error(element, e.getMessage());
+                }
+            }
+        }
+        return true;
+    }
+
+    private void writeMapper(ExecutableElement factory) throws MappingException, IOException {
+        TypeElement owner = (TypeElement) factory.getEnclosingElement();
+        boolean constructor = factory.getKind() == ElementKind.CONSTRUCTOR;
+        if (!factory.getModifiers().contains(Modifier.PUBLIC)
+                || !constructor && !factory.getModifiers().contains(Modifier.STATIC)) {
+            throw new MappingException(factory, "@MappedRow needs a public constructor or public static method");
+        }
+        String packageName = targetPackage(owner);
+        String className = factory.getAnnotation(MappedRow.class).value();
+        String resultType = constructor ? erasure(owner.asType()) : erasure(factory.getReturnType());
+
+        StringBuilder constants = new StringBuilder();
+        StringBuilder fields = new StringBuilder();
+        StringBuilder resolve = new StringBuilder();
+        StringBuilder read = new StringBuilder();
+        StringBuilder arguments = new StringBuilder();
+        Set<String> thrown = new LinkedHashSet<>();
+        thrown.add(SQL_EXCEPTION);
+        factory.getThrownTypes().forEach(type -> thrown.add(erasure(type)));
+
+        for (VariableElement parameter : factory.getParameters()) {
+            String name = parameter.getSimpleName().toString();
+            TypeMirror type = parameter.asType();
+            Column column = parameter.getAnnotation(Column.class);
+            if (arguments.length() > 0) {
+                arguments.append(", ");
+            }
+            arguments.append(name);
+
+            if (column == null) {
+                ExecutableElement nested = nestedFactory(parameter);
+                String mapper = targetPackage((TypeElement) nested.getEnclosingElement()) + "."
+                        + nested.getAnnotation(MappedRow.class).value();
+                nested.getThrownTypes().forEach(thrownType -> thrown.add(erasure(thrownType)));
+                fields.append("    private final ").append(mapper).append(' ').append(name).append("Mapper;\n");
+                resolve.append("        ").append(name).append("Mapper = new ").append(mapper)
+                        .append("(resultSet);\n");
+                read.append("        ").append(erasure(type)).append(' ').append(name).append(" = ")
+                        .append(name).append("Mapper.mapRow(resultSet);\n");
+                continue;
+            }
+
+            String index = name + "Column";
+            fields.append("    private final int ").append(index).append(";\n");
+            resolve.append("        ").append(index).append(" = ");
+            if (column.index() > 0) {
+                resolve.append(column.index());
+            } else if (!column.value().isEmpty()) {
+                resolve.append("resultSet.findColumn(\"").append(column.value()).append("\")");
+            } else {
+                throw new MappingException(parameter, "@Column needs a label or an index");
+            }
+            resolve.append(";\n");
+
+            if (column.present()) {
+                if (type.getKind() != TypeKind.BOOLEAN) {
+                    throw new MappingException(parameter, "@Column(present = true) needs a boolean parameter");
+                }
+                read.append("        resultSet.getLong(").append(index).append(");\n")
+                        .append("        boolean ").append(name).append(" = !resultSet.wasNull();\n");
+            } else if (isEnum(type)) {
+                String values = constantName(name) + "_VALUES";
+                constants.append("    private static final ").append(erasure(type)).append("[] ")
+                        .append(values).append(" = ").append(erasure(type)).append(".values();\n");
+                String ordinal = name + "Ordinal";
+                String columnName = column.index() > 0 ? "Column " + column.index() : "Column " + column.value();
+                String enumName = ((DeclaredType) type).asElement().getSimpleName().toString();
+                read.append("        int ").append(ordinal).append(" = resultSet.getInt(").append(index).append(");\n")
+                        .append("        if (resultSet.wasNull()) {\n")
+                        .append("            throw new SQLException(\"").append(columnName).append(" is NULL, expected a ")
+                        .append(enumName).append(" ordinal\");\n")
+                        .append("        }\n")
+                        .append("        if (").append(ordinal).append(" < 0 || ").append(ordinal).append(" >= ")
+                        .append(values).append(".length) {\n")
+                        .append("            throw new SQLException(\"").append(columnName).append(" holds \" + ")
+                        .append(ordinal).append(" + \", not a ").append(enumName).append(" ordinal\");\n")
+                        .append("        }\n")
+                        .append("        ").append(erasure(type)).append(' ').append(name).append(" = ")
+                        .append(values).append('[').append(ordinal).append("];\n");
+            } else {
+                read.append("        ").append(erasure(type)).append(' ').append(name).append(" = ")
+                        .append(getter(parameter, type, index)).append(";\n");
+            }
+        }
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, factory).openWriter();
+        try (PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("import java.sql.ResultSet;");
+            out.println("import java.sql.SQLException;");
+            out.println();
+            out.println("/**");
+            out.println(" * Maps rows with {@link " + owner.getQualifiedName() + "#"
+                    + (constructor ? owner.getSimpleName() : factory.getSimpleName()) + "}.");
+            out.println(" */");
+            out.println(GENERATED);
+            out.println("public class " + className + " {");
+            out.println();
+            if (constants.length() > 0) {
+                out.print(constants);
+                out.println();
+            }
+            out.print(fields);
+            out.println();
+            out.println("    public " + className + "(ResultSet resultSet) throws SQLException {");
+            out.print(resolve);
+            out.println("    }");
+            out.println();
+            out.println("    public " + resultType + " mapRow(ResultSet resultSet) throws "
+                    + String.join(", ", simplify(thrown)) + " {");
+            out.print(read);
+            out.println("        return " + (constructor ? "new " + resultType
+                    : erasure(owner.asType()) + "." + factory.getSimpleName()) + "(" + arguments + ");");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private void writeBinder(TypeElement model, ParameterBinder binder) throws MappingException, IOException {
+        String packageName = targetPackage(model);
+        String className = binder.name();
+        String modelType = erasure(model.asType());
+
+        StringBuilder body = new StringBuilder();
+        for (String accessorName : binder.value()) {
+            ExecutableElement accessor = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(model))
+                    .stream()
+                    .filter(method -> method.getSimpleName().contentEquals(accessorName)
+                            && method.getParameters().isEmpty()
+                            && !method.getModifiers().contains(Modifier.STATIC))
+                    .findFirst()
+                    .orElseThrow(() -> new MappingException(model, "No accessor " + accessorName + "() on " + modelType));
+            TypeMirror type = ((ExecutableType) processingEnv.getTypeUtils()
+                    .asMemberOf((DeclaredType) model.asType(), accessor)).getReturnType();
+            String value = "value." + accessorName + "()";
+            body.append(setter(accessor, type, value));
+        }
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, model).openWriter();
+        try (PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("import java.sql.PreparedStatement;");
+            out.println("import java.sql.SQLException;");
+            out.println("import java.sql.Types;");
+            out.println();
+            out.println("/**");
+            out.println(" * Binds " + String.join(", ", binder.value()) + " of {@link "
+                    + model.getQualifiedName() + "}.");
+            out.println(" */");
+            out.println(GENERATED);
+            out.println("public final class " + className + " {");
+            out.println();
+            out.println("    private " + className + "() {");
+            out.println("    }");
+            out.println();
+            out.println("    public static int bind(PreparedStatement statement, " + modelType + " value)"
+                    + " throws SQLException {");
+            out.println("        return bind(statement, 1, value);");
+            out.println("    }");
+            out.println();
+            out.println("    /**");
+            out.println("     * Sets the parameters from index on and returns the index after the last one.");
+            out.println("     */");
+            out.println("    public static int bind(PreparedStatement statement, int index, " + modelType + " value)"
+                    + " throws SQLException {");
+            out.print(body);
+            out.println("        return index;");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private String getter(Element element, TypeMirror type, String index) throws MappingException {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "resultSet.getBoolean(" + index + ")";
+            case BYTE:
+                return "resultSet.getByte(" + index + ")";
+            case SHORT:
+                return "resultSet.getShort(" + index + ")";
+            case INT:
+                return "resultSet.getInt(" + index + ")";
+            case LONG:
+                return "resultSet.getLong(" + index + ")";
+            case FLOAT:
+                return "resultSet.getFloat(" + index + ")";
+            case DOUBLE:
+                return "resultSet.getDouble(" + index + ")";
+            case DECLARED:
+                switch (erasure(type)) {
+                    case "java.lang.String":
+                        return "resultSet.getString(" + index + ")";
+                    case "java.math.BigInteger":
+                        return "java.math.BigInteger.valueOf(resultSet.getLong(" + index + "))";
+                    case "java.math.BigDecimal":
+                        return "resultSet.getBigDecimal(" + index + ")";
+                    case "java.sql.Date":
+                        return "resultSet.getDate(" + index + ")";
+                    case "java.sql.Time":
+                        return "resultSet.getTime(" + index + ")";
+                    case "java.sql.Timestamp":
+                    case "java.util.Date":
+                        return "resultSet.getTimestamp(" + index + ")";
+                    default:
+                }
+            default:
+                throw new MappingException(element, "No column getter for " + type);
+        }
+    }
+
+    private String setter(Element element, TypeMirror type, String value) throws MappingException {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return set("Boolean", value);
+            case BYTE:
+                return set("Byte", value);
+            case SHORT:
+                return set("Short", value);
+            case INT:
+                return set("Int", value);
+            case LONG:
+                return set("Long", value);
+            case FLOAT:
+                return set("Float", value);
+            case DOUBLE:
+                return set("Double", value);
+            case DECLARED:
+                if (isEnum(type)) {
+                    return setNullable(erasure(type), value, "INTEGER", "Int", ".ordinal()");
+                }
+                switch (erasure(type)) {
+                    case "java.lang.String":
+                        return set("String", value);
+                    case "java.math.BigDecimal":
+                        return set("BigDecimal", value);
+                    case "java.sql.Date":
+                        return set("Date", value);
+                    case "java.sql.Time":
+                        return set("Time", value);
+                    case "java.sql.Timestamp":
+                        return set("Timestamp", value);
+                    case "java.math.BigInteger":
+                        return setNullable("java.math.BigInteger", value, "NUMERIC", "Long", ".longValue()");
+                    case "java.util.Date":
+                        return "        {\n"
+                                + "            java.util.Date date = " + value + ";\n"
+                                + "            if (date == null) {\n"
+                                + "                statement.setNull(index++, Types.DATE);\n"
+                                + "            } else {\n"
+                                + "                statement.setDate(index++, new java.sql.Date(date.getTime()));\n"
+                                + "            }\n"
+                                + "        }\n";
+                    default:
+                }
+            default:
+                throw new MappingException(element, "No parameter setter for " + type);
+        }
+    }
+
+    private static String set(String setter, String value) {
+        return "        statement.set" + setter + "(index++, " + value + ");\n";
+    }
+
+    private static String setNullable(String type, String value, String sqlType, String setter, String convert) {
+        return "        {\n"
+                + "            " + type + " parameter = " + value + ";\n"
+                + "            if (parameter == null) {\n"
+                + "                statement.setNull(index++, Types." + sqlType + ");\n"
+                + "            } else {\n"
+                + "                statement.set" + setter + "(index++, parameter" + convert + ");\n"
+                + "            }\n"
+                + "        }\n";
+    }
+
+    private ExecutableElement nestedFactory(VariableElement parameter) throws MappingException {
+        TypeMirror type = parameter.asType();
+        if (type.getKind() == TypeKind.DECLARED) {
+            TypeElement nested = (TypeElement) ((DeclaredType) type).asElement();
+            for (Element member : nested.getEnclosedElements()) {
+                if (member.getAnnotation(MappedRow.class) != null) {
+                    return (ExecutableElement) member;
+                }
+            }
+        }
+        throw new MappingException(parameter, "Parameter needs @Column or a type with a @MappedRow factory");
+    }
+
+    private String targetPackage(TypeElement owner) {
+        String option = processingEnv.getOptions().get(PACKAGE_OPTION);
+        if (option != null && !option.isEmpty()) {
+            return option;
+        }
+        return processingEnv.getElementUtils().getPackageOf(owner).getQualifiedName().toString();
+    }
+
+    private boolean isEnum(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM;
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private static Set<String> simplify(Set<String> thrown) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : thrown) {
+            names.add(SQL_EXCEPTION.equals(name) ? "SQLException" : name);
+        }
+        return names;
+    }
+
+    private static String constantName(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static class MappingException extends Exception {
+
+        private final transient Element element;
+
+        MappingException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+}